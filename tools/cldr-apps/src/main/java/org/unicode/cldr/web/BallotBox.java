@@ -1,7 +1,9 @@
 /** */
 package org.unicode.cldr.web;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.json.JSONObject;
@@ -73,6 +75,46 @@ public interface BallotBox<T> {
             T user, String distinguishingXpath, String value, Integer withVote, VoteType voteType)
             throws InvalidXPathException, VoteNotAcceptedException;
 
+    /** One vote of a bulk submission */
+    public class BulkVote {
+        public final String xpath;
+        /** raw (non-display) value, or null to abstain */
+        public final String value;
+
+        public final VoteType voteType;
+
+        public BulkVote(String xpath, String value, VoteType voteType) {
+            this.xpath = xpath;
+            this.value = value;
+            this.voteType = voteType;
+        }
+    }
+
+    /**
+     * Vote for many values at once, for example for an upload or import of a whole locale. Votes
+     * that are not accepted are skipped, and the others are still made.
+     *
+     * <p>Each vote is made at the user's own level, as by voteForValueWithType without withVote.
+     * There is no way to give a vote level here, so permanent votes and other vote level changes
+     * have to be made one at a time.
+     *
+     * @param user the user voting
+     * @param votes the votes, in order
+     * @return for each vote, null if it was accepted, else the reason it was not
+     */
+    public default List<SurveyException> voteForValues(T user, List<BulkVote> votes) {
+        List<SurveyException> errors = new ArrayList<>(votes.size());
+        for (BulkVote vote : votes) {
+            try {
+                voteForValueWithType(user, vote.xpath, vote.value, vote.voteType);
+                errors.add(null);
+            } catch (InvalidXPathException | VoteNotAcceptedException e) {
+                errors.add(e);
+            }
+        }
+        return errors;
+    }
+
     /**
      * Return a vote for a value, as a string
      *
@@ -115,6 +157,18 @@ public interface BallotBox<T> {
      */
     VoteResolver<String> getResolver(String path);
 
+    /**
+     * Get the vote resolver for this path, reusing the given one if possible. The result must not
+     * be kept once r is passed in again.
+     *
+     * @param path
+     * @param r if non-null, resolver to re-use
+     * @return the new or reused resolver
+     */
+    default VoteResolver<String> getResolver(String path, VoteResolver<String> r) {
+        return getResolver(path);
+    }
+
     /**
      * Whether the user voted at all. Returns false if user voted for null (no opinion).
      *
@@ -733,6 +733,10 @@ public class DBUtils {
 
     private final int db_max_open = 0;
 
+    /** If true, statements report their execution times to SurveyMetrics */
+    private static final boolean DB_TIMING =
+            CLDRConfig.getInstance().getProperty("CLDR_DB_TIMING", true);
+
     /**
      * Returns an AutoCommit=false connection. This connection MAY NOT be held in an object. Hold it
      * and then close it ( DBUtils.close() )
@@ -776,9 +780,10 @@ public class DBUtils {
             if (connectionUrl != null) {
                 Connection c = getDBConnectionFor(connectionUrl);
                 c.setAutoCommit(true);
-                return c;
+                return DB_TIMING ? TimedConnection.wrap(c) : c;
             }
-            return datasource.getConnection();
+            final Connection c = datasource.getConnection();
+            return DB_TIMING ? TimedConnection.wrap(c) : c;
         } catch (SQLException se) {
             se.printStackTrace();
             SurveyMain.busted("Fatal in getConnection()", se);
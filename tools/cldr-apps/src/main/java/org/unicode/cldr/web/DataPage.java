@@ -1287,6 +1287,37 @@ public class DataPage {
             CLDRLocale locale,
             String prefix,
             XPathMatcher matcher) {
+        if (session == null) {
+            throw new InternalError("session == null");
+        }
+        synchronized (session) {
+            DataPage page = make(pageId, getOptions(session, locale), locale, prefix, matcher);
+            if (session.user != null) {
+                page.setUserForVotelist(session.user);
+            }
+            return page;
+        }
+    }
+
+    /**
+     * Create, populate, and complete a DataPage for no particular user, as for make(PageId,
+     * CookieSession, ...) but with the given options. Until setUserForVotelist is called, the
+     * rows show no vote and the status actions of a user who is not logged in.
+     *
+     * @param pageId the PageId, or null
+     * @param options the options, such as the coverage level
+     * @param locale
+     * @param prefix the XPATH prefix, such as ...; or null
+     * @param matcher
+     * @return the DataPage
+     *     <p>Called by PageSnapshots, for a page shared by many users
+     */
+    public static DataPage make(
+            PageId pageId,
+            Options options,
+            CLDRLocale locale,
+            String prefix,
+            XPathMatcher matcher) {
 
         SurveyMain sm =
                 CookieSession
@@ -1299,37 +1330,27 @@ public class DataPage {
 
         ourSrc.setSupplementalDirectory(sm.getSupplementalDirectory());
 
-        if (session == null) {
-            throw new InternalError("session == null");
-        }
-        if (session.user != null) {
-            page.setUserForVotelist(session.user);
-        }
-
         if (ourSrc.getSupplementalDirectory() == null) {
             throw new InternalError("?!! ourSrc hsa no supplemental dir!");
         }
-        synchronized (session) {
-            TestResultBundle checkCldr =
-                    sm.getSTFactory().getTestResult(locale, getOptions(session, locale));
-            if (checkCldr == null) {
-                throw new InternalError("checkCldr == null");
-            }
-            page.comparisonValueFile = sm.getEnglishFile();
+        TestResultBundle checkCldr = sm.getSTFactory().getTestResult(locale, options);
+        if (checkCldr == null) {
+            throw new InternalError("checkCldr == null");
+        }
+        page.comparisonValueFile = sm.getEnglishFile();
 
-            page.nativeExampleGenerator =
-                    TestCache.getExampleGenerator(locale, ourSrc, page.comparisonValueFile);
+        page.nativeExampleGenerator =
+                TestCache.getExampleGenerator(locale, ourSrc, page.comparisonValueFile);
 
-            page.populateFrom(ourSrc, checkCldr);
-            /*
-             * Call ensureComplete if and only if pageId is null. TODO: Explain, why?
-             * pageId is null when called from submitVoteOrAbstention, and also
-             * when a user selects a "Fix" button in the Dashboard. Ordinarily
-             * when the user opens a page, pageId is not null.
-             */
-            if (pageId == null) {
-                page.ensureComplete(checkCldr);
-            }
+        page.populateFrom(ourSrc, checkCldr);
+        /*
+         * Call ensureComplete if and only if pageId is null. TODO: Explain, why?
+         * pageId is null when called from submitVoteOrAbstention, and also
+         * when a user selects a "Fix" button in the Dashboard. Ordinarily
+         * when the user opens a page, pageId is not null.
+         */
+        if (pageId == null) {
+            page.ensureComplete(checkCldr);
         }
         return page;
     }
@@ -1604,8 +1625,14 @@ public class DataPage {
         Set<String> extraXpaths = null;
 
         if (pageId != null) {
-            allXpaths = PathHeader.Factory.getCachedPaths(pageId.getSectionId(), pageId);
-            allXpaths.retainAll(stf.getPathsForFile(locale));
+            allXpaths = new HashSet<>();
+            Set<String> pathsForFile = stf.getPathsForFile(locale);
+            for (String xpath :
+                    PathHeader.Factory.getPageIndex().getPaths(pageId.getSectionId(), pageId)) {
+                if (pathsForFile.contains(xpath)) {
+                    allXpaths.add(xpath);
+                }
+            }
         } else {
             init(); // pay for the patterns
             extraXpaths = new HashSet<>();
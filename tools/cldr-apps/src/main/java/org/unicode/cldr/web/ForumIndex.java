@@ -0,0 +1,295 @@
+package org.unicode.cldr.web;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.web.SurveyForum.PostType;
+
+/**
+ * The forum posts of each locale, by xpath, kept in memory so that counting posts and finding the
+ * open posts on a path needs no SQL.
+ *
+ * <p>A locale is read with one query the first time it is used, and then kept up to date by
+ * SurveyForum as posts are saved and threads closed. Only the fields needed to match posts are
+ * kept; the text of the posts stays in the database.
+ */
+class ForumIndex {
+    private static final Logger logger = SurveyLog.forClass(ForumIndex.class);
+
+    /** An open post, with the fields that the auto-generated posts match on */
+    static final class OpenPost {
+        final int id;
+        final int root;
+        final int poster;
+        final PostType type;
+        final String subj;
+        final String value;
+
+        OpenPost(int id, int root, int poster, PostType type, String subj, String value) {
+            this.id = id;
+            this.root = root;
+            this.poster = poster;
+            this.type = type;
+            this.subj = subj;
+            this.value = value;
+        }
+
+        /** The id of the first post in this thread */
+        int getThreadId() {
+            return root == SurveyForum.NO_PARENT ? id : root;
+        }
+    }
+
+    /** The posts on one path of one locale */
+    private static final class PathPosts {
+        int count = 0;
+        final List<OpenPost> open = new ArrayList<>();
+    }
+
+    /** The posts of one locale. All access is synchronized on the instance. */
+    private static final class LocalePosts {
+        private boolean loaded = false;
+        private final Map<Integer, PathPosts> byXpath = new HashMap<>();
+
+        /** The xpath of every post, by post id; also tells whether a post was already added */
+        private final Map<Integer, Integer> postToXpath = new HashMap<>();
+
+        void add(
+                int id,
+                int xpath,
+                int root,
+                int poster,
+                PostType type,
+                boolean open,
+                String subj,
+                String value) {
+            if (postToXpath.putIfAbsent(id, xpath) != null) {
+                return; // already read from the database
+            }
+            final PathPosts posts = byXpath.computeIfAbsent(xpath, x -> new PathPosts());
+            posts.count++;
+            if (open) {
+                posts.open.add(new OpenPost(id, root, poster, type, subj, value));
+            }
+        }
+    }
+
+    private final Map<String, LocalePosts> locales = new ConcurrentHashMap<>();
+
+    /**
+     * Get the locale's posts, reading them if needed, and lock them
+     *
+     * @return the posts, which the caller must use while synchronized on them
+     */
+    private LocalePosts get(CLDRLocale locale) {
+        final LocalePosts posts =
+                locales.computeIfAbsent(locale.getBaseName(), l -> new LocalePosts());
+        synchronized (posts) {
+            if (!posts.loaded) {
+                load(locale, posts);
+            }
+        }
+        return posts;
+    }
+
+    private static void load(CLDRLocale locale, LocalePosts posts) {
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        try {
+            conn = DBUtils.getInstance().getAConnection();
+            if (conn == null) {
+                return; // no database; try again next time
+            }
+            ps =
+                    DBUtils.prepareForwardReadOnly(
+                            conn,
+                            "SELECT id,xpath,root,poster,type,is_open,subj,value FROM "
+                                    + DBUtils.Table.FORUM_POSTS
+                                    + " WHERE loc=?");
+            ps.setString(1, locale.getBaseName());
+            rs = ps.executeQuery();
+            while (rs.next()) {
+                posts.add(
+                        rs.getInt(1),
+                        rs.getInt(2),
+                        rs.getInt(3),
+                        rs.getInt(4),
+                        PostType.fromInt(rs.getInt(5), PostType.DISCUSS),
+                        rs.getBoolean(6),
+                        DBUtils.getStringUTF8(rs, 7),
+                        DBUtils.getStringUTF8(rs, 8));
+            }
+            posts.loaded = true;
+        } catch (SQLException e) {
+            SurveyLog.logException(logger, e, "Loading forum index for " + locale);
+        } finally {
+            DBUtils.close(rs, ps, conn);
+        }
+    }
+
+    /**
+     * How many posts are there for the given locale and xpath?
+     *
+     * @param locale
+     * @param xpathId
+     * @return the number of posts
+     */
+    int getPostCount(CLDRLocale locale, int xpathId) {
+        final LocalePosts posts = get(locale);
+        synchronized (posts) {
+            final PathPosts p = posts.byXpath.get(xpathId);
+            return p == null ? 0 : p.count;
+        }
+    }
+
+    /**
+     * Get the xpath of a post
+     *
+     * @param locale the locale of the post
+     * @param postId the post
+     * @return the xpath id, or XPathTable.NO_XPATH if the post is not known in this locale
+     */
+    int getXpathOfPost(CLDRLocale locale, int postId) {
+        final LocalePosts posts = get(locale);
+        synchronized (posts) {
+            return posts.postToXpath.getOrDefault(postId, XPathTable.NO_XPATH);
+        }
+    }
+
+    /**
+     * Get the open posts on a path that match a condition
+     *
+     * @param locale
+     * @param xpathId
+     * @param matches the condition
+     * @return a new list of the posts, in the order they were made
+     */
+    List<OpenPost> getOpenPosts(CLDRLocale locale, int xpathId, Predicate<OpenPost> matches) {
+        final LocalePosts posts = get(locale);
+        synchronized (posts) {
+            final PathPosts p = posts.byXpath.get(xpathId);
+            if (p == null) {
+                return Collections.emptyList();
+            }
+            final List<OpenPost> result = new ArrayList<>();
+            for (OpenPost post : p.open) {
+                if (matches.test(post)) {
+                    result.add(post);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Get the open requests by other users for the value just voted for, which the voter now
+     * agrees with. Matches "is_open AND type=REQUEST AND value=? AND NOT poster=?".
+     *
+     * @param locale
+     * @param xpathId
+     * @param userId the voter
+     * @param value the value voted for, not null
+     * @return the posts
+     */
+    List<OpenPost> getRequestsToAgree(CLDRLocale locale, int xpathId, int userId, String value) {
+        return getOpenPosts(
+                locale,
+                xpathId,
+                p -> p.type == PostType.REQUEST && value.equals(p.value) && p.poster != userId);
+    }
+
+    /**
+     * Get the voter's open agreements with another value than the one just voted for, which the
+     * voter now declines. Matches "is_open AND type=AGREE AND poster=? AND NOT value=?".
+     *
+     * @param locale
+     * @param xpathId
+     * @param userId the voter
+     * @param value the value voted for, or null for an abstention
+     * @return the posts
+     */
+    List<OpenPost> getAgreesToDecline(CLDRLocale locale, int xpathId, int userId, String value) {
+        return getOwnOpenPosts(locale, xpathId, userId, PostType.AGREE, value);
+    }
+
+    /**
+     * Get the voter's open requests for another value than the one just voted for, which are now
+     * closed. Matches "is_open AND type=REQUEST AND poster=? AND NOT value=?".
+     *
+     * @param locale
+     * @param xpathId
+     * @param userId the voter
+     * @param value the value voted for, or null for an abstention
+     * @return the posts
+     */
+    List<OpenPost> getRequestsToClose(CLDRLocale locale, int xpathId, int userId, String value) {
+        return getOwnOpenPosts(locale, xpathId, userId, PostType.REQUEST, value);
+    }
+
+    /** The user's open posts of the given type, with a value other than the given one */
+    private List<OpenPost> getOwnOpenPosts(
+            CLDRLocale locale, int xpathId, int userId, PostType type, String value) {
+        final String dbValue = value == null ? "" : value;
+        // a post without a value never matches, as "NOT value=?" is not true for NULL in SQL
+        return getOpenPosts(
+                locale,
+                xpathId,
+                p ->
+                        p.type == type
+                                && p.poster == userId
+                                && p.value != null
+                                && !p.value.equals(dbValue));
+    }
+
+    /** Record a post that has been committed to the database */
+    void addPost(
+            CLDRLocale locale,
+            int id,
+            int xpath,
+            int root,
+            int poster,
+            PostType type,
+            boolean open,
+            String subj,
+            String value) {
+        final LocalePosts posts = locales.get(locale.getBaseName());
+        if (posts == null) {
+            return; // not read yet, so it will be read with the post
+        }
+        synchronized (posts) {
+            if (posts.loaded) {
+                posts.add(id, xpath, root, poster, type, open, subj, value);
+            }
+        }
+    }
+
+    /** Record that a thread has been closed, on the path where its posts are */
+    void closeThread(CLDRLocale locale, int xpath, int threadId) {
+        final LocalePosts posts = locales.get(locale.getBaseName());
+        if (posts == null) {
+            return;
+        }
+        synchronized (posts) {
+            final PathPosts p = posts.byXpath.get(xpath);
+            if (p != null) {
+                p.open.removeIf(post -> post.getThreadId() == threadId);
+            }
+        }
+    }
+
+    /** Forget everything, for changes made without a locale, such as closing threads in bulk */
+    void clear() {
+        locales.clear();
+    }
+}
@@ -2,6 +2,7 @@ package org.unicode.cldr.web;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import java.util.concurrent.ExecutionException;
 import java.util.logging.Logger;
@@ -11,7 +12,6 @@ import org.unicode.cldr.util.CLDRFile;
 import org.unicode.cldr.util.CLDRLocale;
 import org.unicode.cldr.util.Level;
 import org.unicode.cldr.util.Organization;
-import org.unicode.cldr.util.Pair;
 import org.unicode.cldr.util.StandardCodes;
 import org.unicode.cldr.util.SupplementalDataInfo;
 
@@ -31,15 +31,20 @@ public class OrgCoverageLevelCounter {
     final STFactory factory;
     final SupplementalDataInfo sdi = CLDRConfig.getInstance().getSupplementalDataInfo();
     final StandardCodes sc = StandardCodes.make();
-    final LoadingCache<Pair<Organization, CLDRLocale>, Integer> cache =
+
+    /**
+     * For each locale, the number of paths at each coverage level or lower, indexed by
+     * Level.ordinal(). The paths of the disk file and their coverage levels do not change with
+     * votes, so one pass over a locale answers every organization.
+     */
+    final LoadingCache<CLDRLocale, int[]> cache =
             CacheBuilder.newBuilder()
+                    .recordStats()
                     .build(
-                            new CacheLoader<Pair<Organization, CLDRLocale>, Integer>() {
+                            new CacheLoader<CLDRLocale, int[]>() {
                                 @Override
-                                public Integer load(Pair<Organization, CLDRLocale> key)
-                                        throws Exception {
-                                    return handleCountPathsInCoverage(
-                                            key.getFirst(), key.getSecond());
+                                public int[] load(CLDRLocale key) throws Exception {
+                                    return handleCountPathsByLevel(key);
                                 }
                             });
 
@@ -48,27 +53,37 @@ public class OrgCoverageLevelCounter {
         this.factory = factory;
     }
 
-    public int countPathsInCoverage(final Organization org, final CLDRLocale loc)
-            throws ExecutionException {
-        return cache.get(Pair.of(org, loc));
+    /** Hit, miss and eviction counts for the cache of counts */
+    public CacheStats getStats() {
+        return cache.stats();
     }
 
-    private int handleCountPathsInCoverage(final Organization org, final CLDRLocale loc) {
-        logger.entering("OrgCoverageLevelCounter", "countPathsInCoverage", org + ":" + loc);
+    public int countPathsInCoverage(final Organization org, final CLDRLocale loc)
+            throws ExecutionException {
         Level orgLevel = sc.getLocaleCoverageLevel(org, loc.toString());
         if (orgLevel == null || orgLevel == Level.UNDETERMINED) {
             return 0; // out of coverage = zero paths
         }
-        int count = 0;
+        return cache.get(loc)[orgLevel.ordinal()];
+    }
+
+    /**
+     * Count the paths of a locale by coverage level
+     *
+     * @return the number of paths at each level or lower, indexed by Level.ordinal()
+     */
+    private int[] handleCountPathsByLevel(final CLDRLocale loc) {
+        logger.entering("OrgCoverageLevelCounter", "countPathsByLevel", loc);
+        final int[] counts = new int[Level.values().length];
         final CoverageLevel2 cov = CoverageLevel2.getInstance(sdi, loc.toString());
         final CLDRFile disk = factory.getDiskFile(loc);
         for (final String path : disk.fullIterable()) {
-            if (cov.getLevel(path).compareTo(orgLevel) <= 0) {
-                count++;
-                // could collect paths here
-            }
+            counts[cov.getLevel(path).ordinal()]++;
+        }
+        for (int i = 1; i < counts.length; i++) {
+            counts[i] += counts[i - 1]; // at this level or lower
         }
-        logger.exiting("OrgCoverageLevelCounter", "countPathsInCoverage");
-        return count;
+        logger.exiting("OrgCoverageLevelCounter", "countPathsByLevel");
+        return counts;
     }
 }
@@ -3,6 +3,7 @@ package org.unicode.cldr.web;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.ibm.icu.dev.util.ElapsedTimer;
 import com.ibm.icu.text.NumberFormat;
 import com.ibm.icu.util.VersionInfo;
@@ -19,6 +20,7 @@ import java.sql.Timestamp;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Logger;
 import org.unicode.cldr.test.CheckCLDR;
 import org.unicode.cldr.test.TestCache;
@@ -358,8 +360,23 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
         private final boolean readonly;
         private final MutableStamp stamp;
 
+        /** Stamp of the latest change to each path and page; see getPageVersion */
+        private final Map<String, Long> pathStamps = new ConcurrentHashMap<>();
+
+        private final Map<PathHeader.PageId, Long> pageStamps = new ConcurrentHashMap<>();
+
+        /** Stamp when the votes were loaded; earlier changes are not in pathStamps */
+        private volatile long loadStamp;
+
         /** The held XMLSource. */
         private DataBackedSource xmlsource = null;
+
+        /** Add a listener to the source, if it has been made; otherwise makeSource will */
+        private synchronized void addListener(XMLSource.Listener listener) {
+            if (xmlsource != null) {
+                xmlsource.addListener(listener);
+            }
+        }
         /** The on-disk data. May be == to xmlsource for readonly data. */
         private final XMLSource diskData;
 
@@ -590,6 +607,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             diskFile = sm.getDiskFactory().make(locale.getBaseName(), true).freeze();
             pathsForFile = phf.pathsForFile(diskFile);
             stamp = mintLocaleStamp(locale);
+            loadStamp = stamp.current();
         }
 
         public boolean isEmpty() {
@@ -609,6 +627,24 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             return stamp;
         }
 
+        /** Record a change to the given path, advancing the locale stamp */
+        private synchronized void touch(String xpath) {
+            final long now = stamp.next();
+            pathStamps.put(xpath, now);
+            final PathHeader ph = getPathHeader(xpath);
+            if (ph != null) {
+                pageStamps.put(ph.getPageId(), now);
+            }
+        }
+
+        private long getPageVersion(PathHeader.PageId pageId) {
+            return Math.max(loadStamp, pageStamps.getOrDefault(pageId, 0L));
+        }
+
+        private long getPathVersion(String xpath) {
+            return Math.max(loadStamp, pathStamps.getOrDefault(xpath, 0L));
+        }
+
         /**
          * @param user - The user voting on the path
          * @param xpath - The xpath being voted on.
@@ -631,6 +667,43 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             return true;
         }
 
+        /**
+         * Apply votes from the vote journal that are not in the db yet, after those from the db,
+         * checking them as loadVoteValues does
+         *
+         * @param journaled the votes for this locale, in the order they were made
+         * @return the number of votes applied
+         */
+        private int loadJournaledVotes(List<VoteJournal.Entry> journaled) {
+            int n = 0;
+            for (VoteJournal.Entry entry : journaled) {
+                final String xpath = sm.xpt.getById(entry.xpathId);
+                final User theSubmitter = sm.reg.getInfo(entry.submitter);
+                if (theSubmitter == null
+                        || !UserRegistry.countUserVoteForLocale(theSubmitter, locale)
+                        || !isValidSurveyToolVote(theSubmitter, xpath)) {
+                    continue;
+                }
+                try {
+                    internalSetVoteForValue(
+                            theSubmitter,
+                            xpath,
+                            entry.value,
+                            entry.withVote,
+                            new Timestamp(entry.when),
+                            VoteType.fromId(entry.voteType));
+                    n++;
+                } catch (BallotBox.InvalidXPathException e) {
+                    logger.warning(
+                            "InvalidXPathException: Ignoring journaled vote for "
+                                    + locale
+                                    + ":"
+                                    + xpath);
+                }
+            }
+            return n;
+        }
+
         /**
          * Load internal data (votes, etc.) for this PerLocaleData, and push it into the given
          * DataBackedSource.
@@ -652,6 +725,15 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             ResultSet rs = null;
             int n = 0;
             int del = 0;
+            /*
+             * Votes still in the vote journal are not in the db yet. Get them before reading the
+             * db, so that a vote committed in the meantime is not missed.
+             */
+            final VoteJournal journal = voteJournal;
+            final List<VoteJournal.Entry> journaled =
+                    journal == null
+                            ? Collections.emptyList()
+                            : journal.getUncommitted(locale.getBaseName());
 
             try {
                 /*
@@ -716,6 +798,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                 if (del > 0) {
                     logger.warning("Summary: delete of " + del + " invalid votes from " + locale);
                 }
+                n += loadJournaledVotes(journaled);
                 DBUtils.close(rs, ps);
                 ps = openPermVoteQuery(conn);
                 ps.setString(1, locale.getBaseName());
@@ -908,6 +991,11 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             return getResolver(peekXpathData(path), path, null);
         }
 
+        @Override
+        public VoteResolver<String> getResolver(String path, VoteResolver<String> r) {
+            return getResolver(peekXpathData(path), path, r);
+        }
+
         @Override
         public Set<String> getValues(String xpath) {
             PerXPathData xpd = peekXpathData(xpath); // peek - may be empty
@@ -1000,8 +1088,9 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                     if (xmlsource == null) {
                         xmlsource = new DataBackedSource(this);
                         loadVoteValues(xmlsource, VoteLoadingContext.ORDINARY_LOAD_VOTES);
-                        stamp.next();
+                        loadStamp = stamp.next();
                         xmlsource.addListener(gTestCache);
+                        sourceListeners.forEach(xmlsource::addListener);
                     }
                     return xmlsource;
                 }
@@ -1124,6 +1213,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
 
             internalSetVoteForValue(
                     user, distinguishingXpath, value, withVote, new Date(), voteType);
+            touch(distinguishingXpath);
 
             if (withVote != null && withVote == VoteResolver.Level.PERMANENT_VOTES) {
                 doPermanentVote(distinguishingXpath, xpathId, value);
@@ -1138,6 +1228,119 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             }
         }
 
+        /**
+         * Vote for many values at once. Each vote is checked as by voteForValueWithType, but all
+         * accepted votes are saved to the db in one transaction (or appended to the vote journal),
+         * and each affected path is resolved and its listeners notified only once, at the end.
+         *
+         * <p>As BulkVote has no withVote, the votes are made at the user's own level: this never
+         * makes a permanent vote, or needs the forum post that one requires.
+         */
+        @Override
+        public synchronized List<SurveyException> voteForValues(
+                User user, List<BulkVote> votes) {
+            final List<SurveyException> errors = new ArrayList<>(votes.size());
+            final ModifyDenial denial = UserRegistry.userCanModifyLocaleWhy(user, locale);
+            final List<BulkVote> accepted = new ArrayList<>();
+            for (BulkVote vote : votes) {
+                try {
+                    if (denial != null) {
+                        throw new VoteNotAcceptedException(
+                                ErrorCode.E_NO_PERMISSION,
+                                "User " + user + " cannot modify " + locale + " " + denial);
+                    }
+                    makeSureInPathsForFile(vote.xpath, user, vote.value);
+                    String value = reviseInheritanceAsNeeded(vote.xpath, vote.value);
+                    final int valueLimit = SurveyMain.localeSizer.getSize(locale, vote.xpath);
+                    if (value != null && value.length() > valueLimit) {
+                        NumberFormat nf = NumberFormat.getInstance();
+                        throw new VoteNotAcceptedException(
+                                ErrorCode.E_BAD_VALUE,
+                                "Length "
+                                        + nf.format(value.length())
+                                        + " exceeds limit of "
+                                        + nf.format(valueLimit)
+                                        + " - please file a bug if you need a longer value.");
+                    }
+                    accepted.add(new BulkVote(vote.xpath, value, vote.voteType));
+                    errors.add(null);
+                } catch (InvalidXPathException | VoteNotAcceptedException e) {
+                    errors.add(e);
+                }
+            }
+            if (accepted.isEmpty()) {
+                return errors;
+            }
+
+            final Map<String, String> oldValues = new LinkedHashMap<>();
+            for (BulkVote vote : accepted) {
+                // not computeIfAbsent, which would not record a null (missing) old value
+                if (!oldValues.containsKey(vote.xpath)) {
+                    oldValues.put(vote.xpath, xmlsource.getValueAtDPath(vote.xpath));
+                }
+            }
+            final List<VoteJournal.Entry> entries = new ArrayList<>(accepted.size());
+            if (!readonly) {
+                makeSource(false);
+                for (BulkVote vote : accepted) {
+                    entries.add(
+                            makeVoteEntry(
+                                    user,
+                                    vote.value,
+                                    null,
+                                    sm.xpt.getByXpath(vote.xpath),
+                                    vote.voteType));
+                }
+                if (voteJournal != null) {
+                    voteJournal.appendAll(entries);
+                } else {
+                    try {
+                        writeVoteBatch(entries);
+                    } catch (SQLException e) {
+                        SurveyLog.logException(logger, e, "Exception in voteForValues");
+                        SurveyMain.busted("Could not vote for values in locale " + locale, e);
+                        throw new InternalError(
+                                "Could not vote for values in locale "
+                                        + locale
+                                        + " : "
+                                        + DBUtils.unchainSqlException(e));
+                    }
+                }
+            } else {
+                readonly();
+            }
+
+            final Date now = new Date();
+            for (BulkVote vote : accepted) {
+                try {
+                    internalSetVoteForValue(user, vote.xpath, vote.value, null, now, vote.voteType);
+                    touch(vote.xpath);
+                } catch (InvalidXPathException e) {
+                    throw new InternalCldrException("Path checked above became invalid", e);
+                }
+            }
+            for (int i = 0; i < entries.size(); i++) {
+                BulkVote vote = accepted.get(i);
+                VoteJournal.Entry entry = entries.get(i);
+                doForumAfterVote(
+                        user,
+                        vote.xpath,
+                        vote.value,
+                        entry.xpathId,
+                        vote.voteType,
+                        entry.clearFlag);
+            }
+            for (Map.Entry<String, String> e : oldValues.entrySet()) {
+                final String xpath = e.getKey();
+                xmlsource.setValueFromResolver(xpath, null, VoteLoadingContext.SINGLE_VOTE);
+                final String newVal = xmlsource.getValueAtDPath(xpath);
+                if (newVal != null && !newVal.equals(e.getValue())) {
+                    xmlsource.notifyListeners(xpath);
+                }
+            }
+            return errors;
+        }
+
         /**
          * Get the possibly modified value. If value matches the bailey value or inheritance marker,
          * possibly change it from bailey value to inheritance marker, or vice-versa, as needed to
@@ -1180,6 +1383,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                         Set<String> set = new HashSet<>(pathsForFile);
                         set.add(xpath);
                         pathsForFile = Collections.unmodifiableSet(set);
+                        prefixToPaths = new ConcurrentHashMap<>();
                     }
                 } else {
                     throw new BallotBox.InvalidXPathException(xpath);
@@ -1203,6 +1407,10 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                 final Integer withVote,
                 final int xpathId,
                 VoteType voteType) {
+            if (voteJournal != null) {
+                journalVote(user, distinguishingXpath, value, withVote, xpathId, voteType);
+                return;
+            }
             boolean didClearFlag = false;
             makeSource(false);
             ElapsedTimer et =
@@ -1297,7 +1505,58 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                 DBUtils.close(saveOld, ps, conn);
             }
             SurveyLog.debug(et);
+            doForumAfterVote(user, distinguishingXpath, value, xpathId, voteType, didClearFlag);
+        }
+
+        /**
+         * Record the vote in the vote journal, to be saved to the database by its writer
+         *
+         * @see #saveVoteToDb(User, String, String, Integer, int, VoteType)
+         */
+        private void journalVote(
+                final User user,
+                final String distinguishingXpath,
+                final String value,
+                final Integer withVote,
+                final int xpathId,
+                VoteType voteType) {
+            makeSource(false);
+            VoteJournal.Entry entry = makeVoteEntry(user, value, withVote, xpathId, voteType);
+            voteJournal.append(entry);
+            doForumAfterVote(
+                    user, distinguishingXpath, value, xpathId, voteType, entry.clearFlag);
+        }
+
+        /**
+         * Make the db record of a vote. A TC vote clears the flag on the path; this is done in
+         * memory here, and in the db when the entry is written.
+         */
+        private VoteJournal.Entry makeVoteEntry(
+                User user, String value, Integer withVote, int xpathId, VoteType voteType) {
+            final boolean clearFlag = getFlag(locale, xpathId) && UserRegistry.userIsTC(user);
+            if (clearFlag) {
+                synchronized (STFactory.class) {
+                    loadFlag().remove(new Pair<>(locale, xpathId));
+                }
+            }
+            return new VoteJournal.Entry(
+                    locale.getBaseName(),
+                    xpathId,
+                    user.id,
+                    value,
+                    withVote,
+                    voteType.id(),
+                    clearFlag,
+                    System.currentTimeMillis());
+        }
 
+        private void doForumAfterVote(
+                User user,
+                String distinguishingXpath,
+                String value,
+                int xpathId,
+                VoteType voteType,
+                boolean didClearFlag) {
             // Voting can trigger adding a forum post (agree/decline) and/or closing a forum thread.
             // AUTO_IMPORT and MANUAL_IMPORT votes are excluded; DIRECT and BULK_UPLOAD are not
             // excluded.
@@ -1341,7 +1600,8 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
          * @param distinguishingXpath
          * @param value
          * @param when
-         *     <p>Called by loadVoteValues and voteForValue.
+         *     <p>Called by loadVoteValues and voteForValue. This does not touch the path: when
+         *     loading, the whole locale is stamped once, after all of the votes are loaded.
          */
         private void internalSetVoteForValue(
                 User user,
@@ -1361,7 +1621,6 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             makeSureInPathsForFile(distinguishingXpath, user, value);
             getXPathData(distinguishingXpath)
                     .setVoteForValue(user, value, voteOverride, when, voteType);
-            stamp.next();
         }
 
         @Override
@@ -1398,6 +1657,29 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
 
         private Set<String> pathsForFile;
 
+        /**
+         * Get the paths for file matching a prefix, computed once per prefix
+         *
+         * @param xpathPrefix
+         * @return an unmodifiable set
+         */
+        public Set<String> getPathsForFile(String xpathPrefix) {
+            return prefixToPaths.computeIfAbsent(
+                    xpathPrefix,
+                    prefix -> {
+                        Set<String> ret = new HashSet<>();
+                        for (String s : pathsForFile) {
+                            if (s.startsWith(prefix)) {
+                                ret.add(s);
+                            }
+                        }
+                        return Collections.unmodifiableSet(ret);
+                    });
+        }
+
+        /** Cache for getPathsForFile(xpathPrefix); replaced whenever pathsForFile changes */
+        private volatile Map<String, Set<String>> prefixToPaths = new ConcurrentHashMap<>();
+
         BitSet votesSometimeThisRelease = null;
 
         @Override
@@ -1594,9 +1876,34 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
     /** Test cache against disk. For rejecting items. */
     TestCache gDiskTestCache = new TestCache();
 
+    /** Other listeners added to the source of each locale, along with gTestCache */
+    private final List<XMLSource.Listener> sourceListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Notify the given listener of changes to the values of every locale, as for gTestCache.
+     * XMLSource only keeps a weak reference to its listeners, so the caller must keep one.
+     */
+    public void addSourceListener(XMLSource.Listener listener) {
+        sourceListeners.add(listener);
+        final List<PerLocaleData> existing = new ArrayList<>();
+        synchronized (this) {
+            for (Reference<PerLocaleData> ref : locales.values()) {
+                final PerLocaleData pld = ref.get();
+                if (pld != null) {
+                    existing.add(pld);
+                }
+            }
+        }
+        // not holding this lock, since makeSource calls get() while holding the locale's lock
+        existing.forEach(pld -> pld.addListener(listener));
+    }
+
     /** The infamous back-pointer. */
     public SurveyMain sm;
 
+    /** Stamp of the latest change to any user; see getPageVersion */
+    private volatile long usersStamp = 0;
+
     private final org.unicode.cldr.util.PathHeader.Factory phf;
 
     /** Construct one. */
@@ -1616,6 +1923,8 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             gDiskTestCache.setFactory(sm.getDiskFactory(), "(?!.*(CheckCoverage).*).*");
             progress.update("reload all users");
             sm.reg.getVoterInfoList();
+            // a user's level or organization changes the weight of their votes on every page
+            sm.reg.addListener(u -> usersStamp = Stamp.getInstance().current());
             progress.update("setup pathheader factory");
             phf = PathHeader.getFactory(sm.getEnglishFile());
         }
@@ -1653,7 +1962,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
     private final Map<CLDRLocale, Reference<PerLocaleData>> locales = new HashMap<>();
 
     private final Cache<CLDRLocale, PerLocaleData> rLocales =
-            CacheBuilder.newBuilder().softValues().build();
+            CacheBuilder.newBuilder().softValues().recordStats().build();
 
     private final Map<CLDRLocale, MutableStamp> localeStamps =
             new ConcurrentHashMap<>(SurveyMain.getLocales().length);
@@ -1683,6 +1992,83 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
         return get(loc).getStamp();
     }
 
+    /** The PerLocaleData for the locale and each of its parents, loading them if needed */
+    private List<PerLocaleData> getWithParents(CLDRLocale locale) {
+        final List<PerLocaleData> chain = new ArrayList<>();
+        for (CLDRLocale loc = locale; loc != null; loc = loc.getParent()) {
+            chain.add(get(loc));
+        }
+        return chain;
+    }
+
+    /**
+     * Get the version of a page: the stamp of the latest change to any path on the page, in the
+     * locale or any of its parents, or to any user. Versions come from the same increasing
+     * sequence of stamps for all locales, so they may be compared with the result of
+     * getPathsChangedSince.
+     *
+     * @param locale the locale
+     * @param pageId the page
+     * @return the version
+     */
+    public long getPageVersion(CLDRLocale locale, PathHeader.PageId pageId) {
+        long version = usersStamp;
+        for (PerLocaleData pld : getWithParents(locale)) {
+            version = Math.max(version, pld.getPageVersion(pageId));
+        }
+        return version;
+    }
+
+    /**
+     * Which of the given paths have changed, in the locale or any of its parents, after the given
+     * version? If the locale was reloaded since then, or any user changed, all of them are
+     * returned.
+     *
+     * @param locale the locale
+     * @param xpaths the paths to check
+     * @param since a version from getPageVersion
+     * @return the changed paths
+     */
+    public Set<String> getPathsChangedSince(
+            CLDRLocale locale, Collection<String> xpaths, long since) {
+        if (usersStamp > since) {
+            return new HashSet<>(xpaths);
+        }
+        final List<PerLocaleData> chain = getWithParents(locale);
+        final Set<String> changed = new HashSet<>();
+        for (String xpath : xpaths) {
+            for (PerLocaleData pld : chain) {
+                if (pld.getPathVersion(xpath) > since) {
+                    changed.add(xpath);
+                    break;
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Record a change to a path other than a vote, such as a forum post, so that the pages showing
+     * it are rebuilt. If the locale is not loaded, there is nothing to do: loading it advances the
+     * versions of all its pages.
+     *
+     * @param locale the locale
+     * @param xpathId the path
+     */
+    public void pathChanged(CLDRLocale locale, int xpathId) {
+        if (xpathId == XPathTable.NO_XPATH) {
+            return;
+        }
+        PerLocaleData pld = rLocales.getIfPresent(locale);
+        if (pld == null) {
+            final Reference<PerLocaleData> ref = locales.get(locale);
+            pld = (ref == null) ? null : ref.get();
+        }
+        if (pld != null) {
+            pld.touch(sm.xpt.getById(xpathId));
+        }
+    }
+
     /**
      * Fetch a locale from the per locale data, create if not there.
      *
@@ -1718,6 +2104,16 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
         return get(CLDRLocale.getInstance(locale));
     }
 
+    /** Hit, miss and eviction counts for the cache of loaded locales */
+    public CacheStats getLocaleCacheStats() {
+        return rLocales.stats();
+    }
+
+    /** Hit, miss and eviction counts for the cache of TestResultBundles */
+    public CacheStats getTestCacheStats() {
+        return gTestCache.getStats();
+    }
+
     public TestCache.TestResultBundle getTestResult(CLDRLocale loc, CheckCLDR.Options options) {
         return get(loc).getTestResultData(options);
     }
@@ -2077,6 +2473,135 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
         } finally {
             DBUtils.close(s);
         }
+        // replays any leftover votes, so this must happen before votes are loaded
+        voteJournal = VoteJournal.open(this::writeVoteBatch);
+    }
+
+    /** If not null, votes are saved to the db in batches by this journal */
+    private volatile VoteJournal voteJournal = null;
+
+    /**
+     * Save a batch of votes from the vote journal in one transaction. This has the same effect as
+     * saving each vote in turn as saveVoteToDb does, but with one round trip per statement type.
+     *
+     * @param batch the votes, in the order they were made
+     * @throws SQLException
+     */
+    private void writeVoteBatch(List<VoteJournal.Entry> batch) throws SQLException {
+        /*
+         * Only the last vote for each locale, path and submitter needs to be stored in VOTE_VALUE.
+         * The value it replaces is saved to VOTE_VALUE_ALT: for the first vote from the db, and
+         * for later votes from the previous vote in the batch.
+         */
+        List<VoteJournal.Entry> firsts = new ArrayList<>();
+        List<VoteJournal.Entry> replaced = new ArrayList<>();
+        Map<String, VoteJournal.Entry> lasts = new LinkedHashMap<>();
+        for (VoteJournal.Entry e : batch) {
+            String key = e.locale + "/" + e.xpathId + "/" + e.submitter;
+            VoteJournal.Entry previous = lasts.remove(key);
+            if (previous == null) {
+                firsts.add(e);
+            } else if (previous.value != null) {
+                replaced.add(previous);
+            }
+            lasts.put(key, e);
+        }
+        try (Connection conn = DBUtils.getInstance().getDBConnection();
+                PreparedStatement saveOld =
+                        DBUtils.prepareForwardReadOnly(
+                                conn,
+                                "INSERT IGNORE INTO "
+                                        + DBUtils.Table.VOTE_VALUE_ALT
+                                        + " SELECT locale,xpath,value FROM "
+                                        + DBUtils.Table.VOTE_VALUE
+                                        + " WHERE locale=? AND xpath=? AND submitter=? AND value IS NOT NULL");
+                PreparedStatement saveReplaced =
+                        DBUtils.prepareForwardReadOnly(
+                                conn,
+                                "INSERT IGNORE INTO "
+                                        + DBUtils.Table.VOTE_VALUE_ALT
+                                        + " (locale,xpath,value) VALUES (?,?,?)");
+                PreparedStatement saveVote =
+                        DBUtils.prepareForwardReadOnly(
+                                conn,
+                                "INSERT INTO "
+                                        + DBUtils.Table.VOTE_VALUE
+                                        + " (locale,xpath,submitter,value,last_mod,"
+                                        + VOTE_OVERRIDE
+                                        + ","
+                                        + VOTE_TYPE
+                                        + ") VALUES (?,?,?,?,?,?,?) "
+                                        + "ON DUPLICATE KEY UPDATE value=VALUES(value),last_mod=VALUES(last_mod),"
+                                        + VOTE_OVERRIDE
+                                        + "=VALUES("
+                                        + VOTE_OVERRIDE
+                                        + "),"
+                                        + VOTE_TYPE
+                                        + "=VALUES("
+                                        + VOTE_TYPE
+                                        + ")");
+                PreparedStatement clearFlags =
+                        DBUtils.prepareForwardReadOnly(
+                                conn,
+                                "DELETE FROM "
+                                        + DBUtils.Table.VOTE_FLAGGED
+                                        + " WHERE locale=? AND xpath=?")) {
+            for (VoteJournal.Entry e : firsts) {
+                saveOld.setString(1, e.locale);
+                saveOld.setInt(2, e.xpathId);
+                saveOld.setInt(3, e.submitter);
+                saveOld.addBatch();
+            }
+            for (VoteJournal.Entry e : replaced) {
+                saveReplaced.setString(1, e.locale);
+                saveReplaced.setInt(2, e.xpathId);
+                DBUtils.setStringUTF8(saveReplaced, 3, e.value);
+                saveReplaced.addBatch();
+            }
+            boolean anyFlags = false;
+            for (VoteJournal.Entry e : lasts.values()) {
+                saveVote.setString(1, e.locale);
+                saveVote.setInt(2, e.xpathId);
+                saveVote.setInt(3, e.submitter);
+                DBUtils.setStringUTF8(saveVote, 4, e.value);
+                // the time of the vote, not of the write, which may be a replay after a restart
+                saveVote.setTimestamp(5, new Timestamp(e.when));
+                DBUtils.setInteger(saveVote, 6, e.withVote);
+                DBUtils.setInteger(saveVote, 7, e.voteType);
+                saveVote.addBatch();
+            }
+            for (VoteJournal.Entry e : batch) {
+                if (e.clearFlag) {
+                    clearFlags.setString(1, e.locale);
+                    clearFlags.setInt(2, e.xpathId);
+                    clearFlags.addBatch();
+                    anyFlags = true;
+                }
+            }
+            saveOld.executeBatch();
+            if (!replaced.isEmpty()) {
+                saveReplaced.executeBatch();
+            }
+            saveVote.executeBatch();
+            if (anyFlags) {
+                clearFlags.executeBatch();
+            }
+            conn.commit();
+        }
+    }
+
+    /**
+     * Save any votes still in the vote journal to the db, and stop the journal. Called at shutdown.
+     */
+    public void shutdownVoteJournal() {
+        VoteJournal journal;
+        synchronized (this) {
+            journal = voteJournal;
+            voteJournal = null;
+        }
+        if (journal != null) {
+            journal.shutdown();
+        }
     }
 
     /**
@@ -2101,6 +2626,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                 }
                 m.add(theKey);
             } // make sure that the DB is loaded before we attempt to update.
+            get(locale).touch(sm.xpt.getById(xpath));
             if (DBUtils.db_Mysql) {
                 ps =
                         DBUtils.prepareStatementWithArgs(
@@ -2219,6 +2745,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
      * @return
      */
     public STFactory TESTING_shutdownAndRestart() {
+        shutdownVoteJournal();
         sm.TESTING_removeSTFactory();
         return sm.getSTFactory();
     }
@@ -2265,20 +2792,14 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
     }
 
     /**
-     * Get paths for file matching a prefix. Does not cache.
+     * Get paths for file matching a prefix. Cached per locale and prefix.
      *
      * @param locale
      * @param xpathPrefix
-     * @return
+     * @return an unmodifiable set
      */
     public Set<String> getPathsForFile(CLDRLocale locale, String xpathPrefix) {
-        Set<String> ret = new HashSet<>();
-        for (String s : getPathsForFile(locale)) {
-            if (s.startsWith(xpathPrefix)) {
-                ret.add(s);
-            }
-        }
-        return ret;
+        return get(locale).getPathsForFile(xpathPrefix);
     }
 
     /*
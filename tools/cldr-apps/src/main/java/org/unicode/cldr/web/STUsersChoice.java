@@ -8,6 +8,12 @@ import org.unicode.cldr.web.UserRegistry.User;
 public class STUsersChoice implements UsersChoice<Organization> {
     private final SurveyMain sm;
 
+    /**
+     * The Vetting Viewer asks about every path in a locale, from several threads, so each thread
+     * reuses one resolver for the answers that don't hand the resolver out.
+     */
+    private final ThreadLocal<VoteResolver<String>> resolvers = new ThreadLocal<>();
+
     public STUsersChoice(final SurveyMain msm) {
         this.sm = msm;
     }
@@ -17,7 +23,7 @@ public class STUsersChoice implements UsersChoice<Organization> {
             CLDRFile cldrFile, String path, Organization user) {
         CLDRLocale loc = CLDRLocale.getInstance(cldrFile.getLocaleID());
         BallotBox<User> ballotBox = getBox(sm, loc);
-        return ballotBox.getResolver(path).getOrgVote(user);
+        return getReusedResolver(ballotBox, path).getOrgVote(user);
     }
 
     @Override
@@ -25,7 +31,7 @@ public class STUsersChoice implements UsersChoice<Organization> {
             CLDRFile cldrFile, String path, Organization orgOfUser) {
         CLDRLocale loc = CLDRLocale.getInstance(cldrFile.getLocaleID());
         BallotBox<User> ballotBox = getBox(sm, loc);
-        return ballotBox.getResolver(path).getStatusForOrganization(orgOfUser);
+        return getReusedResolver(ballotBox, path).getStatusForOrganization(orgOfUser);
     }
 
     @Override
@@ -46,6 +52,12 @@ public class STUsersChoice implements UsersChoice<Organization> {
         return ballotBox.getUserVoteType(sm.reg.getInfo(userId), path);
     }
 
+    private VoteResolver<String> getReusedResolver(BallotBox<User> ballotBox, String path) {
+        final VoteResolver<String> r = ballotBox.getResolver(path, resolvers.get());
+        resolvers.set(r);
+        return r;
+    }
+
     private LruMap<CLDRLocale, BallotBox<UserRegistry.User>> ballotBoxes = new LruMap<>(8);
 
     private BallotBox<UserRegistry.User> getBox(SurveyMain sm, CLDRLocale loc) {
@@ -2467,6 +2467,21 @@ public class SurveyAjax extends HttpServlet {
         r.put("old_user_id", old_user_id);
     }
 
+    /** A row of the bulk submit table, less its result, held until its vote is submitted */
+    private static final class BulkRow {
+        final String html;
+        final int vote;
+        final String result;
+        final String resultIcon;
+
+        BulkRow(String html, int vote, String result, String resultIcon) {
+            this.html = html;
+            this.vote = vote;
+            this.result = result;
+            this.resultIcon = resultIcon;
+        }
+    }
+
     /**
      * Handle bulk submission upload when user chooses "Upload XML" from the gear menu.
      *
@@ -2636,6 +2651,10 @@ public class SurveyAjax extends HttpServlet {
         Set<String> allValidPaths = stf.getPathsForFile(loc);
         CLDRProgressTask progress = sm.openProgress("Bulk:" + loc, all.size());
         CLDRFile cldrUnresolved = cf.getUnresolved();
+        // votes are submitted together after the loop, so that they are stored and resolved once;
+        // the rows are held back until then, so that each shows whether its vote was accepted
+        final List<BallotBox.BulkVote> bulkVotes = new ArrayList<>();
+        final List<BulkRow> rows = new ArrayList<>();
         try {
             for (String x : all) {
                 String full = cf.getFullXPath(x);
@@ -2669,6 +2688,7 @@ public class SurveyAjax extends HttpServlet {
                 String result;
                 String resultStyle = "";
                 String resultIcon = "okay";
+                int vote = -1; // index into bulkVotes
 
                 PathHeader ph = stf.getPathHeader(base);
 
@@ -2732,9 +2752,10 @@ public class SurveyAjax extends HttpServlet {
                             resultIcon = "stop";
                         } else {
                             if (doFinal) {
-                                ballotBox.voteForValueWithType(u, base, val0, VoteType.BULK_UPLOAD);
-                                result = "Vote accepted";
-                                resultIcon = "vote";
+                                vote = bulkVotes.size();
+                                bulkVotes.add(
+                                        new BallotBox.BulkVote(base, val0, VoteType.BULK_UPLOAD));
+                                result = null; // set once the vote has been submitted
                             } else {
                                 result = "Ready to submit.";
                             }
@@ -2743,8 +2764,9 @@ public class SurveyAjax extends HttpServlet {
                     }
                 }
 
-                out.write("<tr class='r" + (r) % 2 + "'>\n");
-                out.write(
+                final StringBuilder row = new StringBuilder();
+                row.append("<tr class='r" + (r) % 2 + "'>\n");
+                row.append(
                         "<th title='"
                                 + base
                                 + " #"
@@ -2764,28 +2786,56 @@ public class SurveyAjax extends HttpServlet {
                                 + "'>"
                                 + ph.toString()
                                 + "</a>");
-                out.write("<br>");
-                out.write("<tt>" + base + "</tt></th>\n");
+                row.append("<br>");
+                row.append("<tt>" + base + "</tt></th>\n");
 
-                out.write("<td style='" + style + "'>" + val0 + "\n");
+                row.append("<td style='" + style + "'>" + val0 + "\n");
                 if (!val0.equals(valOrig)) {
-                    out.write("<div class='graybox' title='original text'>" + valOrig + "</div>\n");
+                    row.append(
+                            "<div class='graybox' title='original text'>" + valOrig + "</div>\n");
                 }
-                out.write("</td>\n");
-                out.write("<td title='vote:' style='" + resultStyle + "'>\n");
+                row.append("</td>\n");
+                row.append("<td title='vote:' style='" + resultStyle + "'>\n");
                 if (!checkResult.isEmpty()) {
-                    out.write("<script>\n");
+                    row.append("<script>\n");
                     String testsToHtml = "testsToHtml";
-                    out.write(
+                    row.append(
                             "document.write("
                                     + testsToHtml
                                     + "("
                                     + SurveyJSONWrapper.wrap(checkResult)
                                     + ")");
-                    out.write("</script>\n");
+                    row.append("</script>\n");
+                }
+                if (doFinal) {
+                    rows.add(new BulkRow(row.toString(), vote, result, resultIcon));
+                } else {
+                    out.write(row + WebContext.iconHtml(request, resultIcon, result) + result);
+                    out.write("</tr>\n");
+                }
+            }
+            if (doFinal) {
+                final List<SurveyException> errors =
+                        bulkVotes.isEmpty()
+                                ? Collections.emptyList()
+                                : ballotBox.voteForValues(u, bulkVotes);
+                for (BulkRow row : rows) {
+                    String result = row.result;
+                    String resultIcon = row.resultIcon;
+                    if (row.vote >= 0) {
+                        final SurveyException e = errors.get(row.vote);
+                        if (e == null) {
+                            result = "Vote accepted";
+                            resultIcon = "vote";
+                        } else {
+                            result = "Vote not accepted: " + e.getMessage();
+                            resultIcon = "stop";
+                            updCnt--;
+                        }
+                    }
+                    out.write(row.html + WebContext.iconHtml(request, resultIcon, result) + result);
+                    out.write("</tr>\n");
                 }
-                out.write(WebContext.iconHtml(request, resultIcon, result) + result);
-                out.write("</tr>\n");
             }
         } finally {
             progress.close();
@@ -7,6 +7,8 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.logging.Logger;
 import org.json.JSONException;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.Pair;
 import org.unicode.cldr.util.XMLSource;
 
 public class SurveyBulkClosePosts {
@@ -44,6 +46,9 @@ public class SurveyBulkClosePosts {
 
     private ArrayList<Integer> rootIdList = new ArrayList<>();
 
+    /** The locale and path of each thread in rootIdList */
+    private ArrayList<Pair<String, Integer>> rootPathList = new ArrayList<>();
+
     private Connection conn = null;
 
     private ResultSet rs = null;
@@ -106,6 +111,7 @@ public class SurveyBulkClosePosts {
         String value = DBUtils.getStringUTF8(rs, 4);
         if (matchesWinning(loc, xpath, value)) {
             rootIdList.add(id);
+            rootPathList.add(Pair.of(loc, xpath));
         }
     }
 
@@ -119,6 +125,13 @@ public class SurveyBulkClosePosts {
     private void doExecute() {
         try {
             postCount = SurveyForum.closeThreads(conn, rootIdList);
+            if (sm.fora != null) {
+                sm.fora.clearIndex();
+            }
+            for (Pair<String, Integer> path : rootPathList) {
+                sm.getSTFactory()
+                        .pathChanged(CLDRLocale.getInstance(path.getFirst()), path.getSecond());
+            }
         } catch (SQLException e) {
             SurveyLog.logException(logger, e, "doExecute");
             errCode = e.toString();
@@ -17,6 +17,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -77,7 +78,10 @@ public class SurveyForum {
                 .replaceAll("&amp;", "&");
     }
 
-    private final Hashtable<String, Integer> nameToNum = new Hashtable<>();
+    private final Map<String, Integer> nameToNum = new ConcurrentHashMap<>();
+
+    /** The posts of each locale, so that votes and page loads don't query the forum tables */
+    private final ForumIndex index = new ForumIndex();
 
     private static final int BAD_FORUM = -1;
     private static final int NO_FORUM = -2;
@@ -88,20 +92,22 @@ public class SurveyForum {
      */
     public static final int NO_PARENT = -1;
 
-    private synchronized int getForumNumber(CLDRLocale locale) {
+    private int getForumNumber(CLDRLocale locale) {
         String forum = localeToForum(locale);
         if (forum.length() == 0 || LocaleNames.ROOT.equals(forum)) {
             return NO_FORUM; // all forums
         }
+        Integer i = nameToNum.get(forum); // only valid forums are added
+        if (i != null) {
+            return i;
+        }
         // make sure it is a valid src!
         if (forum.indexOf('_') >= 0 || !sm.isValidLocale(CLDRLocale.getInstance(forum))) {
             return BAD_FORUM;
         }
-        Integer i = nameToNum.get(forum);
-        if (i == null) {
-            return createForum(forum);
-        } else {
-            return i;
+        synchronized (this) {
+            i = nameToNum.get(forum);
+            return (i != null) ? i : createForum(forum);
         }
     }
 
@@ -730,27 +736,7 @@ public class SurveyForum {
      *     (WHAT_FORUM_COUNT)
      */
     public int postCountFor(CLDRLocale locale, int xpathId) {
-        Connection conn = null;
-        PreparedStatement ps = null;
-        String tableName = DBUtils.Table.FORUM_POSTS.toString();
-        try {
-            conn = DBUtils.getInstance().getAConnection();
-            if (conn == null) {
-                return 0;
-            }
-            ps =
-                    DBUtils.prepareForwardReadOnly(
-                            conn, "select count(*) from " + tableName + " where loc=? and xpath=?");
-            ps.setString(1, locale.getBaseName());
-            ps.setInt(2, xpathId);
-            return DBUtils.sqlCount(ps);
-        } catch (SQLException e) {
-            SurveyLog.logException(
-                    logger, e, "postCountFor for " + tableName + " " + locale + ":" + xpathId);
-            return 0;
-        } finally {
-            DBUtils.close(ps, conn);
-        }
+        return index.getPostCount(locale, xpathId);
     }
 
     /**
@@ -996,10 +982,7 @@ public class SurveyForum {
         if (replyTo < 0) {
             base_xpath = sm.xpt.getXpathIdOrNoneFromStringID(postInfo.getPathStr());
         } else {
-            base_xpath =
-                    DBUtils.sqlCount(
-                            "select xpath from " + DBUtils.Table.FORUM_POSTS + " where id=?",
-                            replyTo); // default to -1
+            base_xpath = index.getXpathOfPost(locale, replyTo);
         }
         postInfo.setPath(base_xpath);
         final boolean couldFlag =
@@ -1087,40 +1070,12 @@ public class SurveyForum {
      * @param value
      */
     private void autoPostAgree(CLDRLocale locale, User user, int xpathId, String value) {
-        Connection conn = null;
-        PreparedStatement pList = null;
-        String tableName = DBUtils.Table.FORUM_POSTS.toString();
-        Map<Integer, String> posts = new HashMap<>();
-        try {
-            conn = sm.dbUtils.getAConnection();
-            if (conn == null) {
-                return;
-            }
-            pList =
-                    DBUtils.prepareStatement(
-                            conn,
-                            "pList",
-                            "SELECT id,subj FROM "
-                                    + tableName
-                                    + " WHERE is_open=true AND type=? AND loc=? AND xpath=? AND value=? AND NOT poster=?");
-            pList.setInt(1, PostType.REQUEST.toInt());
-            pList.setString(2, locale.toString());
-            pList.setInt(3, xpathId);
-            DBUtils.setStringUTF8(pList, 4, value);
-            pList.setInt(5, user.id);
-            ResultSet rs = pList.executeQuery();
-            while (rs.next()) {
-                posts.put(rs.getInt(1), DBUtils.getStringUTF8(rs, 2));
-            }
-            posts.forEach(
-                    (root, subject) ->
-                            autoPostReplyAgree(root, subject, locale, user, xpathId, value));
-        } catch (SQLException se) {
-            String complaint = "SurveyForum: autoPostAgree - " + DBUtils.unchainSqlException(se);
-            SurveyLog.logException(logger, se, complaint);
-        } finally {
-            DBUtils.close(pList, conn);
+        Map<Integer, String> posts = new LinkedHashMap<>();
+        for (ForumIndex.OpenPost post : index.getRequestsToAgree(locale, xpathId, user.id, value)) {
+            posts.put(post.id, post.subj);
         }
+        posts.forEach(
+                (root, subject) -> autoPostReplyAgree(root, subject, locale, user, xpathId, value));
     }
 
     private void autoPostReplyAgree(
@@ -1151,40 +1106,13 @@ public class SurveyForum {
      * @param value
      */
     private void autoPostDecline(CLDRLocale locale, User user, int xpathId, String value) {
-        String dbValue = value == null ? "" : value;
-        Connection conn = null;
-        PreparedStatement pList = null;
-        String tableName = DBUtils.Table.FORUM_POSTS.toString();
-        Map<Integer, String> posts = new HashMap<>();
-        try {
-            conn = sm.dbUtils.getAConnection();
-            if (conn != null) {
-                pList =
-                        DBUtils.prepareStatement(
-                                conn,
-                                "pList",
-                                "SELECT root,subj FROM "
-                                        + tableName
-                                        + " WHERE is_open=true AND type=? AND loc=? AND xpath=? AND poster=? AND NOT value=?");
-                pList.setInt(1, PostType.AGREE.toInt());
-                pList.setString(2, locale.toString());
-                pList.setInt(3, xpathId);
-                pList.setInt(4, user.id);
-                DBUtils.setStringUTF8(pList, 5, dbValue);
-                ResultSet rs = pList.executeQuery();
-                while (rs.next()) {
-                    posts.put(rs.getInt(1), DBUtils.getStringUTF8(rs, 2));
-                }
-                posts.forEach(
-                        (root, subject) ->
-                                autoPostReplyDecline(root, subject, locale, user, xpathId, value));
-            }
-        } catch (SQLException se) {
-            String complaint = "SurveyForum: autoPostDecline - " + DBUtils.unchainSqlException(se);
-            SurveyLog.logException(logger, se, complaint);
-        } finally {
-            DBUtils.close(pList, conn);
+        Map<Integer, String> posts = new LinkedHashMap<>();
+        for (ForumIndex.OpenPost post : index.getAgreesToDecline(locale, xpathId, user.id, value)) {
+            posts.put(post.root, post.subj);
         }
+        posts.forEach(
+                (root, subject) ->
+                        autoPostReplyDecline(root, subject, locale, user, xpathId, value));
     }
 
     private void autoPostReplyDecline(
@@ -1220,40 +1148,12 @@ public class SurveyForum {
      * @param value
      */
     private void autoPostClose(CLDRLocale locale, User user, int xpathId, String value) {
-        String dbValue = value == null ? "" : value;
-        Connection conn = null;
-        PreparedStatement pList = null;
-        String tableName = DBUtils.Table.FORUM_POSTS.toString();
-        Map<Integer, String> posts = new HashMap<>();
-        try {
-            conn = sm.dbUtils.getAConnection(); // readonly
-            if (conn != null) {
-                pList =
-                        DBUtils.prepareStatement(
-                                conn,
-                                "pList",
-                                "SELECT id,subj FROM "
-                                        + tableName
-                                        + " WHERE is_open=true AND type=? AND loc=? AND xpath=? AND poster=? AND NOT value=?");
-                pList.setInt(1, PostType.REQUEST.toInt());
-                pList.setString(2, locale.toString());
-                pList.setInt(3, xpathId);
-                pList.setInt(4, user.id);
-                DBUtils.setStringUTF8(pList, 5, dbValue);
-                ResultSet rs = pList.executeQuery();
-                while (rs.next()) {
-                    posts.put(rs.getInt(1), DBUtils.getStringUTF8(rs, 2));
-                }
-                posts.forEach(
-                        (root, subject) ->
-                                autoPostReplyClose(root, subject, locale, user, xpathId, value));
-            }
-        } catch (SQLException se) {
-            String complaint = "SurveyForum: autoPostClose - " + DBUtils.unchainSqlException(se);
-            SurveyLog.logException(logger, se, complaint);
-        } finally {
-            DBUtils.close(pList, conn);
+        Map<Integer, String> posts = new LinkedHashMap<>();
+        for (ForumIndex.OpenPost post : index.getRequestsToClose(locale, xpathId, user.id, value)) {
+            posts.put(post.id, post.subj);
         }
+        posts.forEach(
+                (root, subject) -> autoPostReplyClose(root, subject, locale, user, xpathId, value));
     }
 
     private void autoPostReplyClose(
@@ -1359,6 +1259,25 @@ public class SurveyForum {
                     throw new RuntimeException(
                             "Couldn't post to " + localeStr + " - update failed.");
                 }
+                if (type == PostType.CLOSE) {
+                    if (root == NO_PARENT) {
+                        // closeThreads matched every first post (root=-1), in all locales
+                        index.clear();
+                    } else {
+                        index.closeThread(locale, postInfo.getPath(), root);
+                    }
+                }
+                index.addPost(
+                        locale,
+                        postId,
+                        postInfo.getPath(),
+                        root,
+                        user.id,
+                        type,
+                        open,
+                        postInfo.getSubj(),
+                        postInfo.getValue());
+                sm.getSTFactory().pathChanged(locale, postInfo.getPath());
             } finally {
                 DBUtils.close(pAdd, conn);
             }
@@ -1414,6 +1333,11 @@ public class SurveyForum {
         return postCount;
     }
 
+    /** Forget the posts read into memory, after they were changed without going through here */
+    void clearIndex() {
+        index.clear();
+    }
+
     public class PostInfo {
         private final CLDRLocale locale;
         private final PostType type;
@@ -3610,6 +3610,9 @@ public class SurveyMain extends HttpServlet implements CLDRProgressIndicator, Ex
     private void doShutdownDB() {
         try {
             closeOpenUserLocaleStuff();
+            if (gSTFactory != null) {
+                gSTFactory.shutdownVoteJournal(); // before the db goes away
+            }
 
             // shut down other connections
             try {
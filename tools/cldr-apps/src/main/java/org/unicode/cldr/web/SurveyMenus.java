@@ -2,19 +2,15 @@ package org.unicode.cldr.web;
 
 import com.ibm.icu.impl.Relation;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
-import org.unicode.cldr.util.CLDRConfig;
 import org.unicode.cldr.util.CLDRFile;
 import org.unicode.cldr.util.CLDRLocale;
-import org.unicode.cldr.util.CoverageInfo;
 import org.unicode.cldr.util.Level;
 import org.unicode.cldr.util.PathHeader;
 import org.unicode.cldr.util.PathHeader.Factory;
@@ -131,31 +127,16 @@ public class SurveyMenus implements Iterable<SurveyMenus.Section> {
                 return pageKey.toString();
             }
 
-            public synchronized int getCoverageLevel(CLDRLocale loc) {
-                Integer ret = levs.get(loc);
-                if (ret == null) {
-                    int min = Level.OPTIONAL.getLevel();
-                    Iterable<String> iter = getPagePaths();
-                    if (iter != null) {
-                        CoverageInfo covInfo = CLDRConfig.getInstance().getCoverageInfo();
-                        for (String xp : iter) {
-                            int l = covInfo.getCoverageValue(xp, loc.getBaseName());
-                            if (l < min) {
-                                min = l;
-                            }
-                        }
-                    }
-                    ret = min;
-                    levs.put(loc, ret);
-                }
-                return ret;
+            /** The lowest coverage level of any path on this page, from the PathHeader index */
+            public int getCoverageLevel(CLDRLocale loc) {
+                return PathHeader.Factory.getPageIndex()
+                        .getMinimumLevel(sectionKey, pageKey, loc.getBaseName())
+                        .getLevel();
             }
 
             public Iterable<String> getPagePaths() {
-                return PathHeader.Factory.getCachedPaths(sectionKey, pageKey);
+                return PathHeader.Factory.getPageIndex().getPaths(sectionKey, pageKey);
             }
-
-            Map<CLDRLocale, Integer> levs = new HashMap<>();
         }
 
         @Override
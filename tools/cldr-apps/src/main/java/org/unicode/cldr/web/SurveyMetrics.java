@@ -1,19 +1,53 @@
 package org.unicode.cldr.web;
 
+import com.google.common.cache.CacheStats;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
 import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
 import org.eclipse.microprofile.metrics.annotation.Gauge;
 import org.eclipse.microprofile.metrics.annotation.Metric;
+import org.unicode.cldr.test.TestCache;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.PathHeader;
 
-/** Metrics availble from the /metrics endpoint */
+/**
+ * Metrics availble from the /metrics endpoint, in OpenMetrics (Prometheus) text format. JVM
+ * memory, threads and GC are in the "base" metrics provided by the server; the ones here are in
+ * "application".
+ */
 @ApplicationScoped
 public class SurveyMetrics {
     @Inject
     @Metric(name = "exceptions", description = "Number of SurveyTool Exceptions that happened")
     Counter surveyExceptions;
 
+    @Inject MetricRegistry registry;
+
+    private static final Metadata API_REQUEST =
+            Metadata.builder()
+                    .withName("api_request")
+                    .withDescription("Time to handle a REST API request, by endpoint")
+                    .withType(MetricType.TIMER)
+                    .withUnit(MetricUnits.NANOSECONDS)
+                    .build();
+
+    private static final Metadata DB_QUERY =
+            Metadata.builder()
+                    .withName("db_query")
+                    .withDescription("Time to execute a database statement, by kind and table")
+                    .withType(MetricType.TIMER)
+                    .withUnit(MetricUnits.NANOSECONDS)
+                    .build();
+
     /** Count an exception. Right now there is only one bucket. */
     public void countException(Throwable exception) {
         surveyExceptions.inc();
@@ -24,5 +58,87 @@ public class SurveyMetrics {
         return CookieSession.getUserCount();
     }
 
+    @Gauge(
+            name = "xpaths",
+            description = "Number of xpaths in the XPathTable",
+            unit = MetricUnits.NONE)
+    public int getXPaths() {
+        final SurveyMain sm = CookieSession.sm;
+        return (sm == null || sm.xpt == null) ? 0 : sm.xpt.count();
+    }
+
     public SurveyMetrics() {}
+
+    @PostConstruct
+    void registerCaches() {
+        registerCache("stfactory_locales", () -> getSTFactory().getLocaleCacheStats());
+        registerCache("test_results", () -> getSTFactory().getTestCacheStats());
+        registerCache("example_generators", TestCache::getExampleGeneratorStats);
+        registerCache("path_headers", PathHeader.Factory::getCacheStats);
+        registerCache(
+                "coverage_levels",
+                () -> CLDRConfig.getInstance().getSupplementalDataInfo().getCoverageCacheStats());
+        registerCache(
+                "org_coverage_counts", () -> OrgCoverageLevelCounter.getInstance().getStats());
+    }
+
+    private static STFactory getSTFactory() {
+        return CookieSession.sm.getSTFactory();
+    }
+
+    /**
+     * Register gauges for the hits, misses and evictions of a cache. The stats are only read once
+     * the Survey Tool is set up; until then they are zero.
+     */
+    private void registerCache(String name, Supplier<CacheStats> stats) {
+        registerCacheGauge("cache_hits", "Cache hits", name, stats, CacheStats::hitCount);
+        registerCacheGauge("cache_misses", "Cache misses", name, stats, CacheStats::missCount);
+        registerCacheGauge(
+                "cache_evictions", "Cache evictions", name, stats, CacheStats::evictionCount);
+    }
+
+    private void registerCacheGauge(
+            String metric,
+            String description,
+            String cache,
+            Supplier<CacheStats> stats,
+            ToLongFunction<CacheStats> count) {
+        final Metadata metadata =
+                Metadata.builder()
+                        .withName(metric)
+                        .withDescription(description)
+                        .withType(MetricType.GAUGE)
+                        .withUnit(MetricUnits.NONE)
+                        .build();
+        registry.register(
+                metadata,
+                (org.eclipse.microprofile.metrics.Gauge<Long>)
+                        () ->
+                                (CookieSession.sm == null || !SurveyMain.isSetup)
+                                        ? 0L
+                                        : count.applyAsLong(stats.get()),
+                new Tag("cache", cache));
+    }
+
+    /** Record the time taken by a REST API request */
+    public void timeApiRequest(String endpoint, long nanos) {
+        registry.timer(API_REQUEST, new Tag("endpoint", endpoint))
+                .update(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** Record the time taken by a database statement */
+    public void timeDbQuery(String query, long nanos) {
+        registry.timer(DB_QUERY, new Tag("query", query)).update(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the metrics, if available; they are not, for example, in unit tests or before the
+     * Survey Tool is started.
+     *
+     * @return the metrics, or null
+     */
+    public static SurveyMetrics get() {
+        final SurveyMain sm = CookieSession.sm;
+        return (sm == null) ? null : sm.surveyMetrics;
+    }
 }
@@ -0,0 +1,146 @@
+package org.unicode.cldr.web;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.unicode.cldr.util.PatternCache;
+
+/**
+ * Wraps a Connection so that every statement made from it reports its execution time to
+ * SurveyMetrics. Times are grouped by the kind of statement and the first table, such as "SELECT
+ * cldr_vote_value", to keep the number of metrics small.
+ */
+final class TimedConnection {
+    /** The first word of a statement, and the table after UPDATE, or else after FROM etc. */
+    private static final Pattern SQL_KIND =
+            PatternCache.get(
+                    "(?is)^\\s*(?:(UPDATE)\\s+`?(\\w+)"
+                            + "|(\\w+)(?:.*?\\b(?:FROM|INTO|TABLE)\\s+`?(\\w+))?)");
+
+    /** At most this many distinct statements are remembered in queryNames */
+    private static final int MAX_NAMES = 2000;
+
+    private static final Map<String, String> queryNames = new ConcurrentHashMap<>();
+
+    private TimedConnection() {}
+
+    /**
+     * Wrap the connection
+     *
+     * @param conn the connection, or null
+     * @return the wrapped connection, or null
+     */
+    static Connection wrap(Connection conn) {
+        if (conn == null) {
+            return null;
+        }
+        return (Connection)
+                Proxy.newProxyInstance(
+                        TimedConnection.class.getClassLoader(),
+                        new Class<?>[] {Connection.class},
+                        new ConnectionHandler(conn));
+    }
+
+    /** The metric name for some SQL */
+    static String getQueryName(String sql) {
+        String name = queryNames.get(sql);
+        if (name == null) {
+            final Matcher m = SQL_KIND.matcher(sql);
+            if (!m.find()) {
+                name = "other";
+            } else {
+                final String kind = m.group(1) != null ? m.group(1) : m.group(3);
+                final String table = m.group(1) != null ? m.group(2) : m.group(4);
+                name = kind.toUpperCase(Locale.ROOT);
+                if (table != null) {
+                    name += " " + table.toLowerCase(Locale.ROOT);
+                }
+            }
+            if (queryNames.size() < MAX_NAMES) {
+                queryNames.put(sql, name);
+            }
+        }
+        return name;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static class ConnectionHandler implements InvocationHandler {
+        private final Connection conn;
+
+        ConnectionHandler(Connection conn) {
+            this.conn = conn;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            final Object result = TimedConnection.invoke(conn, method, args);
+            if (result instanceof Statement) {
+                // prepareStatement(sql, ...) and prepareCall(sql, ...) have the sql first
+                final String sql =
+                        (args != null && args.length > 0 && args[0] instanceof String)
+                                ? (String) args[0]
+                                : null;
+                final Class<?> type =
+                        (result instanceof CallableStatement)
+                                ? CallableStatement.class
+                                : (result instanceof PreparedStatement)
+                                        ? PreparedStatement.class
+                                        : Statement.class;
+                return Proxy.newProxyInstance(
+                        TimedConnection.class.getClassLoader(),
+                        new Class<?>[] {type},
+                        new StatementHandler((Statement) result, sql));
+            }
+            return result;
+        }
+    }
+
+    private static class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final String sql;
+
+        StatementHandler(Statement statement, String sql) {
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return TimedConnection.invoke(statement, method, args);
+            }
+            final long start = System.nanoTime();
+            try {
+                return TimedConnection.invoke(statement, method, args);
+            } finally {
+                final SurveyMetrics metrics = SurveyMetrics.get();
+                if (metrics != null) {
+                    // Statement.execute(sql, ...) has the sql first
+                    final String s =
+                            (args != null && args.length > 0 && args[0] instanceof String)
+                                    ? (String) args[0]
+                                    : sql;
+                    metrics.timeDbQuery(
+                            s == null ? "other" : getQueryName(s), System.nanoTime() - start);
+                }
+            }
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import javax.json.bind.annotation.JsonbProperty;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
@@ -60,16 +61,21 @@ public class UserRegistry {
     }
 
     public interface UserChangedListener {
+        /**
+         * Called after a user is added or changed
+         *
+         * @param u the user, or null if it is not known which users changed
+         */
         void handleUserChanged(User u);
     }
 
-    private final List<UserChangedListener> listeners = new LinkedList<>();
+    private final List<UserChangedListener> listeners = new CopyOnWriteArrayList<>();
 
-    public synchronized void addListener(UserChangedListener l) {
+    public void addListener(UserChangedListener l) {
         listeners.add(l);
     }
 
-    private synchronized void notify(User u) {
+    private void notify(User u) {
         for (UserChangedListener l : listeners) {
             l.handleUserChanged(u);
         }
@@ -375,7 +381,7 @@ public class UserRegistry {
         }
 
         @Schema(name = "userLevelName", description = "VoteResolver.Level user level")
-        public synchronized VoteResolver.Level getLevel() {
+        public VoteResolver.Level getLevel() {
             // CAUTION: this name, like "VETTER", is uppercase when serialized for json response,
             // while
             // in some other http responses, lowercase levels like "vetter" are used -- we should be
@@ -393,14 +399,16 @@ public class UserRegistry {
             return getPassword();
         }
 
-        public synchronized Organization getOrganization() {
-            if (vr_org == null) {
-                vr_org = UserRegistry.computeVROrganization(this.org);
+        public Organization getOrganization() {
+            Organization o = vr_org;
+            if (o == null) {
+                // computing it twice is harmless, and gives the same result
+                vr_org = o = UserRegistry.computeVROrganization(this.org);
             }
-            return vr_org;
+            return o;
         }
 
-        private Organization vr_org = null;
+        private volatile Organization vr_org = null;
 
         private String voterOrg = null;
 
@@ -794,13 +802,12 @@ public class UserRegistry {
     }
 
     /**
-     * Mark the UserRegistry as changed, purging the VoterInfo map
+     * Mark the UserRegistry as changed, reloading the VoterInfo map
      *
      * @see #getVoterToInfo()
      */
     void userModified() {
-        voterInfo = null;
-        getVoterToInfo(); // reset maps
+        notify(null);
     }
 
     /**
@@ -1059,7 +1066,9 @@ public class UserRegistry {
     static SurveyMain sm = null; // static for static checking of defaultContent
 
     /** Public for tests */
-    public UserRegistry() {}
+    public UserRegistry() {
+        addListener(u -> reloadVoterInfo());
+    }
 
     // ------- special things for "list" mode:
 
@@ -1717,7 +1726,6 @@ public class UserRegistry {
             SurveyLog.logException(logger, t, "Adding User");
             logger.severe("UR: Adding  " + u + ": exception: " + t);
         } finally {
-            userModified(); // new user
             DBUtils.close(insertStmt, conn);
         }
 
@@ -2001,19 +2009,34 @@ public class UserRegistry {
         return getVoterToInfo().get(userid);
     }
 
-    public synchronized VoterInfoList getVoterInfoList() {
-        getVoterToInfo(); // to make sure voterInfoList is up to date
+    /**
+     * Get the voters, for VoteResolver. The same list is always returned; its contents are
+     * replaced whenever a user changes, so resolvers holding it see the change.
+     */
+    public VoterInfoList getVoterInfoList() {
+        if (!voterInfoLoaded) {
+            reloadVoterInfo();
+        }
         return voterInfoList;
     }
 
     // Interface for VoteResolver interface
     /**
-     * Fetch the user map in VoterInfo format.
+     * Fetch the user map in VoterInfo format. This does not lock, and the map is not modified
+     * once returned.
      *
      * @see #userModified()
      */
-    public synchronized Map<Integer, VoterInfo> getVoterToInfo() {
-        if (voterInfo == null) {
+    public Map<Integer, VoterInfo> getVoterToInfo() {
+        return getVoterInfoList().getVoterToInfo();
+    }
+
+    /**
+     * Reload the VoterInfo map from the database, and swap it into voterInfoList. Only one reload
+     * runs at a time; callers of getVoterInfoList are not held up by it, except for the first.
+     */
+    private void reloadVoterInfo() {
+        synchronized (voterInfoList) {
             Map<Integer, VoterInfo> map = new TreeMap<>();
 
             ResultSet rs = null;
@@ -2046,15 +2069,8 @@ public class UserRegistry {
 
                     map.put(u.id, v);
                 }
-                voterInfo = map;
-                VoterInfoList vil = voterInfoList;
-                if (voterInfoList == null) {
-                    vil = new VoterInfoList();
-                }
-                vil.setVoterToInfo(map);
-                if (voterInfoList != vil) {
-                    voterInfoList = vil;
-                }
+                voterInfoList.setVoterToInfo(map);
+                voterInfoLoaded = true;
             } catch (SQLException se) {
                 logger.log(
                         java.util.logging.Level.SEVERE,
@@ -2071,13 +2087,13 @@ public class UserRegistry {
                 DBUtils.close(rs, conn);
             } // end try
         }
-        return voterInfo;
     }
 
-    /** VoterInfo map */
-    private Map<Integer, VoterInfo> voterInfo = null;
+    /** The voters, replaced as a whole by reloadVoterInfo */
+    private final VoterInfoList voterInfoList = new VoterInfoList();
 
-    VoterInfoList voterInfoList = null;
+    /** True once voterInfoList has been loaded */
+    private volatile boolean voterInfoLoaded = false;
 
     /**
      * The list of organizations
@@ -112,8 +112,39 @@ public class VettingViewerQueue {
         private final Map<Organization, VVOutput> output = new TreeMap<>();
     }
 
-    /** Semaphore to ensure that only one vetter accesses VV at a time. */
-    private static final Semaphore OnlyOneVetter = new Semaphore(1);
+    /**
+     * Semaphore to limit how many vetters access VV at a time. The locales of all running tasks
+     * are computed in the common ForkJoinPool, so more tasks mostly means more work to steal.
+     */
+    private static final Semaphore vetterPermits =
+            new Semaphore(
+                    Math.max(
+                            CLDRConfig.getInstance()
+                                    .getProperty("CLDR_VETTINGVIEWER_CONCURRENT", 4),
+                            1));
+
+    /** How long per-locale check results are shared between tasks, in seconds */
+    private static final long SHARED_LOCALE_DATA_SECONDS =
+            CLDRConfig.getInstance().getProperty("CLDR_VETTINGVIEWER_SHARED_SECONDS", 300);
+
+    private VettingViewer.SharedLocaleData sharedLocaleData = null;
+
+    /**
+     * Get the per-locale check results shared by all tasks, so that summaries for different
+     * organizations check each locale only once
+     */
+    private synchronized VettingViewer.SharedLocaleData getSharedLocaleData(SurveyMain sm) {
+        if (sharedLocaleData == null) {
+            sharedLocaleData =
+                    new VettingViewer.SharedLocaleData(
+                            sm.getSTFactory(),
+                            sm.getSupplementalDataInfo(),
+                            SHARED_LOCALE_DATA_SECONDS);
+            // sharedLocaleData is held here, since sources only hold weak references to listeners
+            sm.getSTFactory().addSourceListener(sharedLocaleData);
+        }
+        return sharedLocaleData;
+    }
 
     private class Task implements Runnable {
 
@@ -143,7 +174,7 @@ public class VettingViewerQueue {
             }
 
             @Override
-            public void nudge() {
+            public synchronized void nudge() {
                 if (!myThread.isAlive()) {
                     throw new RuntimeException("Not Running- stop now.");
                 }
@@ -193,6 +224,7 @@ public class VettingViewerQueue {
         private long start = -1;
         private long last;
         private final Organization usersOrg;
+        private final boolean summarizeAllLocales;
         private String status = WAITING_IN_LINE_MESSAGE;
         private Status statusCode = Status.WAITING; // Need to start out as waiting.
 
@@ -207,14 +239,16 @@ public class VettingViewerQueue {
          *
          * @param entry the QueueEntry
          * @param usersOrg
+         * @param summarizeAllLocales true to include all locales, not only CLDR_LOCALES
          */
-        private Task(QueueEntry entry, Organization usersOrg) {
+        private Task(QueueEntry entry, Organization usersOrg, boolean summarizeAllLocales) {
             if (DEBUG) {
                 System.out.println("Creating task for Priority Items Summary");
             }
             this.sm = CookieSession.sm;
             this.entry = entry;
             this.usersOrg = usersOrg;
+            this.summarizeAllLocales = summarizeAllLocales;
         }
 
         @Override
@@ -236,11 +270,11 @@ public class VettingViewerQueue {
                 status = "Waiting...";
                 progress.update("Waiting...");
                 if (DEBUG) {
-                    System.out.println("Calling OnlyOneVetter.acquire(), " + taskDescription());
+                    System.out.println("Calling vetterPermits.acquire(), " + taskDescription());
                 }
-                OnlyOneVetter.acquire();
+                vetterPermits.acquire();
                 if (DEBUG) {
-                    System.out.println("Did call OnlyOneVetter.acquire(), " + taskDescription());
+                    System.out.println("Did call vetterPermits.acquire(), " + taskDescription());
                 }
                 try {
                     if (stop) {
@@ -258,9 +292,9 @@ public class VettingViewerQueue {
                 } finally {
                     // this happens sometimes six minutes after pressing Stop button
                     if (DEBUG) {
-                        System.out.println("Calling OnlyOneVetter.release(), " + taskDescription());
+                        System.out.println("Calling vetterPermits.release(), " + taskDescription());
                     }
-                    OnlyOneVetter.release();
+                    vetterPermits.release();
                 }
                 status = "Finished.";
                 statusCode = Status.READY;
@@ -293,6 +327,7 @@ public class VettingViewerQueue {
                     new VettingViewer<>(
                             sm.getSupplementalDataInfo(), sm.getSTFactory(), new STUsersChoice(sm));
             vv.setSummarizeAllLocales(summarizeAllLocales);
+            vv.setSharedLocaleData(getSharedLocaleData(sm));
             int localeCount = vv.getLocaleCount(usersOrg);
             int pathCount = getMax(sm.getEnglishFile());
             maxn = localeCount * pathCount;
@@ -317,7 +352,9 @@ public class VettingViewerQueue {
                             "Finished generation of Priority Items Summary, " + taskDescription());
                 }
                 aBuffer.append("<hr/>Processing time: " + ElapsedTimer.elapsedTime(start));
-                entry.output.put(usersOrg, new VVOutput(aBuffer));
+                synchronized (entry) {
+                    entry.output.put(usersOrg, new VVOutput(aBuffer));
+                }
             } else {
                 if (DEBUG) {
                     System.out.println(
@@ -344,11 +381,21 @@ public class VettingViewerQueue {
         private final QueueMemberId qmi;
         private final Organization usersOrg;
         private final LoadingPolicy loadingPolicy;
+        private final boolean summarizeAllLocales;
 
         public Args(QueueMemberId qmi, Organization usersOrg, LoadingPolicy loadingPolicy) {
+            this(qmi, usersOrg, loadingPolicy, false);
+        }
+
+        public Args(
+                QueueMemberId qmi,
+                Organization usersOrg,
+                LoadingPolicy loadingPolicy,
+                boolean summarizeAllLocales) {
             this.qmi = qmi;
             this.usersOrg = usersOrg;
             this.loadingPolicy = loadingPolicy;
+            this.summarizeAllLocales = summarizeAllLocales;
         }
     }
 
@@ -360,7 +407,9 @@ public class VettingViewerQueue {
      */
     public class Results {
         public Status status = Status.STOPPED;
-        public Appendable output = new StringBuilder();
+        /** The finished output, which is not copied */
+        public CharSequence output = "";
+        public int percent = 0;
     }
 
     /*
@@ -376,24 +425,35 @@ public class VettingViewerQueue {
     /**
      * Return the status of the vetting viewer output request
      *
+     * <p>Requests from different users do not block each other; only requests with the same
+     * QueueMemberId are serialized.
+     *
      * @param args the VettingViewerQueue.Args
      * @param results the VettingViewerQueue.Results
      * @return the status message, or null
      * @throws IOException
      * @throws JSONException
      */
-    public synchronized String getPriorityItemsSummaryOutput(
+    public String getPriorityItemsSummaryOutput(
             VettingViewerQueue.Args args, VettingViewerQueue.Results results)
             throws IOException, JSONException {
-        JSONObject debugStatus = DEBUG ? new JSONObject() : null;
         QueueEntry entry = getEntry(args.qmi);
+        synchronized (entry) {
+            return getPriorityItemsSummaryOutput(entry, args, results);
+        }
+    }
+
+    private String getPriorityItemsSummaryOutput(
+            QueueEntry entry, VettingViewerQueue.Args args, VettingViewerQueue.Results results)
+            throws IOException, JSONException {
+        JSONObject debugStatus = DEBUG ? new JSONObject() : null;
         Task t = entry.currentTask;
         if (args.loadingPolicy != LoadingPolicy.FORCESTOP) {
             VVOutput res = entry.output.get(args.usersOrg);
             if (res != null) {
-                setPercent(100);
+                results.percent = 100;
                 results.status = Status.READY;
-                results.output.append(res.output);
+                results.output = res.output;
                 if (DEBUG) {
                     final String desc = (t == null) ? "[null task]" : t.taskDescription();
                     System.out.println(
@@ -431,23 +491,23 @@ public class VettingViewerQueue {
                 if (results.status != Status.WAITING) {
                     waiting = "";
                 }
-                setPercent(t.getPercent());
+                results.percent = t.getPercent();
                 return SUM_MESSAGE_PROGRESS + ": " + waiting + t.status;
             } else {
-                setPercent(0);
+                results.percent = 0;
                 return SUM_MESSAGE_STOPPED_STUCK + " " + t.status;
             }
         }
         if (args.loadingPolicy == LoadingPolicy.NOSTART) {
             results.status = Status.STOPPED;
-            setPercent(0);
+            results.percent = 0;
             return SUM_MESSAGE_NOT_LOADING;
         }
 
         // TODO: May be better to use SurveyThreadManager.getExecutorService().invoke() (rather than
         // a raw thread) but would require
         // some restructuring
-        t = entry.currentTask = new Task(entry, args.usersOrg);
+        t = entry.currentTask = new Task(entry, args.usersOrg, args.summarizeAllLocales);
         t.myThread = SurveyThreadManager.getThreadFactory().newThread(t);
         if (DEBUG) {
             System.out.println(
@@ -459,7 +519,7 @@ public class VettingViewerQueue {
         if (DEBUG) {
             putTaskStatus(debugStatus, t);
         }
-        setPercent(0);
+        results.percent = 0;
         final String waitStr = waitingString();
         if (WAITING_IN_LINE_MESSAGE.equals(t.status) && waitStr.isEmpty()) {
             // Simplify “Started new task: Waiting in line” to "Waiting in line"
@@ -517,7 +577,7 @@ public class VettingViewerQueue {
         }
     }
 
-    private QueueEntry getEntry(QueueMemberId qmi) {
+    private static synchronized QueueEntry getEntry(QueueMemberId qmi) {
         QueueEntry entry = (QueueEntry) qmi.get(KEY);
         if (entry == null) {
             entry = new QueueEntry();
@@ -527,17 +587,7 @@ public class VettingViewerQueue {
     }
 
     private static int totalUsersWaiting() {
-        return (OnlyOneVetter.getQueueLength());
-    }
-
-    private int percent = 0;
-
-    private void setPercent(int p) {
-        percent = p;
-    }
-
-    public int getPercent() {
-        return percent;
+        return (vetterPermits.getQueueLength());
     }
 
     private static class VVQueueLocaleBaselineCount implements VettingViewer.LocaleBaselineCount {
@@ -546,10 +596,4 @@ public class VettingViewerQueue {
             return LocaleCompletion.getBaselineCount(cldrLocale);
         }
     }
-
-    private boolean summarizeAllLocales = false;
-
-    public void setSummarizeAllLocales(boolean b) {
-        summarizeAllLocales = b;
-    }
 }
@@ -0,0 +1,493 @@
+package org.unicode.cldr.web;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.unicode.cldr.util.CLDRConfig;
+
+/**
+ * Write-ahead journal for votes.
+ *
+ * <p>A vote is appended to the journal file and then returns; the caller has already applied it
+ * to the in-memory PerXPathData. A background writer takes the queued votes in batches and hands
+ * each batch to a {@link BatchWriter}, which writes them to the database in one transaction. Once
+ * everything queued has been committed, the journal file is emptied. On startup, any votes left
+ * in the journal (for example after a crash) are written before votes are loaded from the
+ * database. Each vote keeps the time when it was made, which is stored as its last_mod.
+ *
+ * <p>Until the journal is emptied, the number of votes at the start of it that have been committed
+ * is kept in a ".committed" file next to it, so that a replay only writes the votes that were not.
+ * Votes that are not committed yet can be read back with {@link #getUncommitted}, so that a
+ * locale that is loaded from the database again can include them.
+ *
+ * <p>A batch that still can't be written after CLDR_VOTE_JOURNAL_TRIES attempts (default 10) is
+ * written one vote at a time, and the votes that fail on their own are moved to a ".failed" file
+ * next to the journal, so that they don't hold up the others.
+ *
+ * <p>Enabled by CLDR_VOTE_JOURNAL=true. CLDR_VOTE_JOURNAL_BATCH (default 500) is the largest
+ * batch, and CLDR_VOTE_JOURNAL_FILE overrides the location of the journal file.
+ */
+public class VoteJournal {
+    static final Logger logger = SurveyLog.forClass(VoteJournal.class);
+
+    /** Seconds to wait before retrying a batch that could not be written */
+    private static final int RETRY_SECONDS = 5;
+
+    /** One vote, as it will be written to the database */
+    public static final class Entry {
+        public final String locale;
+        public final int xpathId;
+        public final int submitter;
+        public final String value;
+        public final Integer withVote;
+        public final int voteType;
+        /** True if the vote also clears the flag on this path */
+        public final boolean clearFlag;
+        /** When the vote was made, in milliseconds since the epoch */
+        public final long when;
+
+        public Entry(
+                String locale,
+                int xpathId,
+                int submitter,
+                String value,
+                Integer withVote,
+                int voteType,
+                boolean clearFlag,
+                long when) {
+            this.locale = locale;
+            this.xpathId = xpathId;
+            this.submitter = submitter;
+            this.value = value;
+            this.withVote = withVote;
+            this.voteType = voteType;
+            this.clearFlag = clearFlag;
+            this.when = when;
+        }
+
+        String toJSONString() throws JSONException {
+            return new JSONObject()
+                    .put("locale", locale)
+                    .put("xpath", xpathId)
+                    .put("submitter", submitter)
+                    .put("value", value == null ? JSONObject.NULL : value)
+                    .put("override", withVote == null ? JSONObject.NULL : withVote)
+                    .put("type", voteType)
+                    .put("clearFlag", clearFlag)
+                    .put("when", when)
+                    .toString();
+        }
+
+        static Entry fromJSONString(String line) throws JSONException {
+            JSONObject o = new JSONObject(line);
+            return new Entry(
+                    o.getString("locale"),
+                    o.getInt("xpath"),
+                    o.getInt("submitter"),
+                    o.isNull("value") ? null : o.getString("value"),
+                    o.isNull("override") ? null : o.getInt("override"),
+                    o.getInt("type"),
+                    o.getBoolean("clearFlag"),
+                    // journals written by older versions have no time
+                    o.optLong("when", System.currentTimeMillis()));
+        }
+    }
+
+    /** Writes a batch of votes, in order, to the database in a single transaction */
+    public interface BatchWriter {
+        void write(List<Entry> batch) throws SQLException;
+    }
+
+    /**
+     * Open the journal if it is enabled, first writing any votes left over from a previous run
+     *
+     * @param writer the BatchWriter
+     * @return the journal, or null if CLDR_VOTE_JOURNAL is not set
+     */
+    public static VoteJournal open(BatchWriter writer) {
+        final CLDRConfig config = CLDRConfig.getInstance();
+        if (!config.getProperty("CLDR_VOTE_JOURNAL", false)) {
+            return null;
+        }
+        final File file =
+                new File(
+                        config.getProperty(
+                                "CLDR_VOTE_JOURNAL_FILE",
+                                SurveyMain.getSurveyHome() + "/votejournal.jsonl"));
+        final int batchSize = Math.max(config.getProperty("CLDR_VOTE_JOURNAL_BATCH", 500), 1);
+        final int maxTries = Math.max(config.getProperty("CLDR_VOTE_JOURNAL_TRIES", 10), 1);
+        try {
+            return new VoteJournal(
+                    file, batchSize, maxTries, TimeUnit.SECONDS.toMillis(RETRY_SECONDS), writer);
+        } catch (IOException e) {
+            SurveyMain.busted("Could not open vote journal " + file.getAbsolutePath(), e);
+            throw new InternalError("Could not open vote journal: " + e);
+        }
+    }
+
+    private final File file;
+    /** Votes that could not be written to the database on their own */
+    private final File failedFile;
+    /** The number of votes at the start of the journal file that have been committed */
+    private final File progressFile;
+    private final int batchSize;
+    private final int maxTries;
+    private final long retryMillis;
+    private final BatchWriter writer;
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private final Thread writerThread;
+    private FileOutputStream outStream;
+    private Writer out;
+    /**
+     * Appended votes not yet committed, in order; synchronized with this. The writer commits them
+     * in the same order.
+     */
+    private final Deque<Entry> uncommitted = new ArrayDeque<>();
+    /** Number of votes in the journal file that have been committed; synchronized with this */
+    private int committedInFile = 0;
+
+    private volatile boolean shutdown = false;
+
+    /**
+     * Open a journal, first writing any votes left over in the file
+     *
+     * @param file the journal file
+     * @param batchSize the largest number of votes to write at once
+     * @param maxTries how many times to try a batch before writing its votes one at a time
+     * @param retryMillis how long to wait before trying a batch again
+     * @param writer the BatchWriter
+     */
+    VoteJournal(File file, int batchSize, int maxTries, long retryMillis, BatchWriter writer)
+            throws IOException {
+        this.file = file;
+        this.failedFile = new File(file.getPath() + ".failed");
+        this.progressFile = new File(file.getPath() + ".committed");
+        this.batchSize = batchSize;
+        this.maxTries = maxTries;
+        this.retryMillis = retryMillis;
+        this.writer = writer;
+        replay();
+        openEmpty();
+        writerThread = SurveyThreadManager.getThreadFactory().newThread(this::runWriter);
+        writerThread.setName("VoteJournal writer");
+        writerThread.start();
+    }
+
+    /** Open the journal file for writing, emptying it, and forget the committed count */
+    private void openEmpty() throws IOException {
+        outStream = new FileOutputStream(file, false);
+        out = new OutputStreamWriter(outStream, StandardCharsets.UTF_8);
+        outStream.getFD().sync();
+        committedInFile = 0;
+        Files.deleteIfExists(progressFile.toPath());
+    }
+
+    /** Write, in batches, the votes left in the journal file that were not committed */
+    private void replay() throws IOException {
+        if (!file.exists()) {
+            return;
+        }
+        committedInFile = readProgress();
+        int toSkip = committedInFile;
+        List<Entry> batch = new ArrayList<>();
+        int count = 0;
+        try (BufferedReader in = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                final Entry entry;
+                try {
+                    entry = Entry.fromJSONString(line);
+                } catch (JSONException e) {
+                    // most likely a vote cut off by a crash while it was being appended
+                    logger.warning("Skipping unreadable vote journal line: " + line);
+                    continue;
+                }
+                if (toSkip > 0) {
+                    toSkip--; // already committed
+                    continue;
+                }
+                batch.add(entry);
+                if (batch.size() >= batchSize) {
+                    writeReplayed(batch);
+                    count += batch.size();
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeReplayed(batch);
+            count += batch.size();
+        }
+        if (count > 0) {
+            logger.warning("Replayed " + count + " votes from " + file.getAbsolutePath());
+        }
+    }
+
+    /**
+     * @return the number of votes at the start of the journal file that were committed, or 0 if
+     *     this isn't known
+     */
+    private int readProgress() {
+        if (!progressFile.exists()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(Files.readString(progressFile.toPath()).trim());
+        } catch (IOException | NumberFormatException e) {
+            SurveyLog.logException(
+                    logger, e, "Reading " + progressFile + "; replaying all of the vote journal");
+            return 0;
+        }
+    }
+
+    /** Record how many votes at the start of the journal file have been committed */
+    private void writeProgress() throws IOException {
+        final File tmp = new File(progressFile.getPath() + ".tmp");
+        try (FileOutputStream progressOut = new FileOutputStream(tmp, false)) {
+            progressOut.write(Integer.toString(committedInFile).getBytes(StandardCharsets.UTF_8));
+            progressOut.getFD().sync();
+        }
+        Files.move(
+                tmp.toPath(),
+                progressFile.toPath(),
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Write a replayed batch, falling back to one vote at a time as the writer thread does, and
+     * record that it was committed, in case the replay itself is cut short
+     */
+    private void writeReplayed(List<Entry> batch) throws IOException {
+        try {
+            writer.write(batch);
+        } catch (SQLException e) {
+            SurveyLog.logException(
+                    logger, e, "Replaying " + batch.size() + " votes from the vote journal");
+            writeOneAtATime(batch);
+        }
+        committedInFile += batch.size();
+        writeProgress();
+    }
+
+    /**
+     * Record a vote. It is written and synced to the journal file before returning, and to the
+     * database later.
+     *
+     * @param entry the vote
+     */
+    public void append(Entry entry) {
+        appendAll(Collections.singletonList(entry));
+    }
+
+    /**
+     * Record several votes, in order. They are written to the journal file and synced once before
+     * returning, and to the database later.
+     *
+     * @param entries the votes
+     */
+    public synchronized void appendAll(List<Entry> entries) {
+        if (shutdown) {
+            throw new IllegalStateException("Vote journal is shut down");
+        }
+        try {
+            for (Entry entry : entries) {
+                out.write(entry.toJSONString());
+                out.write('\n');
+            }
+            out.flush();
+            outStream.getFD().sync(); // on disk before the votes are acknowledged
+        } catch (IOException | JSONException e) {
+            SurveyMain.busted("Could not write to vote journal " + file.getAbsolutePath(), e);
+            throw new InternalError("Could not write to vote journal: " + e);
+        }
+        uncommitted.addAll(entries);
+        queue.addAll(entries);
+    }
+
+    /**
+     * Get the votes for a locale that have been appended but not committed to the database yet
+     *
+     * @param locale the locale, as in Entry.locale
+     * @return the votes, in the order they were made
+     */
+    public synchronized List<Entry> getUncommitted(String locale) {
+        final List<Entry> result = new ArrayList<>();
+        for (Entry entry : uncommitted) {
+            if (entry.locale.equals(locale)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private void runWriter() {
+        final List<Entry> batch = new ArrayList<>();
+        int tries = 0;
+        while (!shutdown) { // anything left over stays in the journal, for replay
+            try {
+                if (batch.isEmpty()) {
+                    tries = 0;
+                    Entry first = queue.poll(1, TimeUnit.SECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+                writer.write(batch);
+                committed(batch.size());
+                batch.clear();
+            } catch (SQLException e) {
+                SurveyLog.logException(
+                        logger, e, "Writing " + batch.size() + " votes from the vote journal");
+                if (++tries < maxTries) {
+                    // keep the batch, and the journal, and try again
+                    sleepBeforeRetry();
+                } else {
+                    writeOneAtATime(batch);
+                    committed(batch.size());
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                if (!shutdown) {
+                    // stopping would leave the votes queued for good, so carry on
+                    logger.warning("Vote journal writer interrupted; continuing");
+                }
+            }
+        }
+    }
+
+    /**
+     * Write each vote of a batch that failed as a whole on its own, so that one bad vote does not
+     * hold up the others. Votes that still fail are moved to the failed file.
+     */
+    private void writeOneAtATime(List<Entry> batch) {
+        int failed = 0;
+        for (Entry entry : batch) {
+            try {
+                writer.write(Collections.singletonList(entry));
+            } catch (SQLException e) {
+                SurveyLog.logException(
+                        logger,
+                        e,
+                        "Moving vote for xpath #"
+                                + entry.xpathId
+                                + " in "
+                                + entry.locale
+                                + " to "
+                                + failedFile.getAbsolutePath());
+                setAside(entry);
+                failed++;
+            }
+        }
+        if (failed > 0) {
+            logger.severe(
+                    failed
+                            + " of "
+                            + batch.size()
+                            + " votes could not be written; see "
+                            + failedFile.getAbsolutePath());
+        }
+    }
+
+    /** Append a vote that could not be written to the failed file, to be looked at by hand */
+    private synchronized void setAside(Entry entry) {
+        try (FileOutputStream failedOut = new FileOutputStream(failedFile, true)) {
+            failedOut.write((entry.toJSONString() + "\n").getBytes(StandardCharsets.UTF_8));
+            failedOut.getFD().sync();
+        } catch (IOException | JSONException e) {
+            SurveyMain.busted("Could not set aside a vote in " + failedFile.getAbsolutePath(), e);
+            throw new InternalError("Could not set aside a vote: " + e);
+        }
+    }
+
+    private void sleepBeforeRetry() {
+        try {
+            Thread.sleep(retryMillis);
+        } catch (InterruptedException e) {
+            // retry now
+        }
+    }
+
+    /**
+     * Called after the first count uncommitted votes are committed. Empty the journal if nothing
+     * else is pending, otherwise record how much of it has been committed.
+     */
+    private synchronized void committed(int count) {
+        for (int i = 0; i < count; i++) {
+            uncommitted.removeFirst();
+        }
+        committedInFile += count;
+        try {
+            if (uncommitted.isEmpty()) {
+                out.close();
+                openEmpty();
+            } else {
+                writeProgress();
+            }
+        } catch (IOException e) {
+            SurveyLog.logException(logger, e, "Recording progress of vote journal " + file);
+        }
+        notifyAll();
+    }
+
+    /**
+     * Wait until every vote appended so far has been committed to the database
+     *
+     * @param timeoutMillis the maximum time to wait
+     * @return true if everything was committed
+     */
+    public synchronized boolean flush(long timeoutMillis) throws InterruptedException {
+        final long end = System.currentTimeMillis() + timeoutMillis;
+        while (!uncommitted.isEmpty()) {
+            long remaining = end - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return false;
+            }
+            wait(remaining);
+        }
+        return true;
+    }
+
+    /** Stop accepting votes, write what is queued, and stop the writer */
+    public void shutdown() {
+        try {
+            if (!flush(TimeUnit.MINUTES.toMillis(1))) {
+                logger.warning("Vote journal not empty at shutdown; it will be replayed");
+            }
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while flushing the vote journal");
+        }
+        synchronized (this) {
+            shutdown = true;
+            try {
+                out.close();
+            } catch (IOException e) {
+                SurveyLog.logException(logger, e, "Closing vote journal " + file);
+            }
+        }
+        writerThread.interrupt();
+    }
+}
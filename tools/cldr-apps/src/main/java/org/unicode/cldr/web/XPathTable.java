@@ -18,9 +18,10 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Hashtable;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import org.unicode.cldr.icu.LDMLConstants;
 import org.unicode.cldr.util.CLDRConfig;
@@ -33,8 +34,8 @@ import org.unicode.cldr.util.XPathParts;
 
 /**
  * This class maps between full and partial xpaths, and the small integers (xpids) which are
- * actually stored in the database. It keeps an in-memory cache which is populated as ids are
- * requested.
+ * actually stored in the database. The whole table is loaded into memory at startup, and lookups
+ * never lock or go to the database. New xpaths are inserted in batches by one writer at a time.
  *
  * <p>Definitions: xpath: an XPath, such as "//ldml/shoeSize" xpid / int: an integer 'token' value,
  * such as 123. This is old and deprecated. Specific to this instance of SurveyTool. This is usually
@@ -49,6 +50,9 @@ public class XPathTable {
 
     private PrettyPath ppath = new PrettyPath();
 
+    /** Results of ppath, so that only misses need to lock it */
+    private final Map<String, String> prettyPaths = new ConcurrentHashMap<>();
+
     private static final boolean DEBUG = false;
 
     /**
@@ -149,10 +153,20 @@ public class XPathTable {
         }
     }
 
-    public Hashtable<String, Integer> stringToId =
-            new Hashtable<>(4096); // public for statistics only
-    public Hashtable<Long, String> sidToString =
-            new Hashtable<>(4096); // public for statistics only
+    /** xpath to xpid, for every xpath in the database */
+    private final Map<String, Integer> stringToId = new ConcurrentHashMap<>(4096);
+
+    /** StringID to xpath */
+    private final Map<Long, String> sidToString = new ConcurrentHashMap<>(4096);
+
+    /**
+     * New xpaths waiting to be inserted. Whoever next holds writeLock inserts all of them in one
+     * batch.
+     */
+    private final Set<String> pendingXpaths = ConcurrentHashMap.newKeySet();
+
+    /** Held while inserting xpaths into the database, and updating the maps to match */
+    private final Object writeLock = new Object();
 
     public String statistics() {
         return "DB: "
@@ -189,16 +203,20 @@ public class XPathTable {
     /** END specialtable implementation */
 
     /**
-     * Loads all xpath-id mappings from the database. If there are any xpaths in the specified
-     * XMLSource which are not already in the database, they will be created here.
+     * Make sure that all of the xpaths in the specified XMLSource have ids. Any which are not
+     * already in the database will be created here.
      */
-    public synchronized void loadXPaths(XMLSource source) {
+    public void loadXPaths(XMLSource source) {
         // Get list of xpaths that aren't already loaded.
         Set<String> unloadedXpaths = new HashSet<>();
         for (String xpath : source) {
-            unloadedXpaths.add(xpath);
+            if (!stringToId.containsKey(xpath)) {
+                unloadedXpaths.add(xpath);
+            }
+        }
+        if (unloadedXpaths.isEmpty()) {
+            return;
         }
-        unloadedXpaths.removeAll(stringToId.keySet());
 
         Connection conn = null;
         PreparedStatement queryStmt = null;
@@ -226,13 +244,43 @@ public class XPathTable {
     }
 
     /**
-     * Add a set of xpaths to the database.
+     * Add a set of xpaths to the database, if not already there. The xpaths are queued; whoever
+     * gets writeLock next inserts everything queued so far, so that concurrent callers share one
+     * batch rather than each inserting their own.
+     *
+     * @param xpaths
+     * @param conn
+     * @throws SQLException
+     */
+    private void addXpaths(Set<String> xpaths, Connection conn) throws SQLException {
+        pendingXpaths.addAll(xpaths);
+        synchronized (writeLock) {
+            final Set<String> batch = new HashSet<>();
+            for (Iterator<String> i = pendingXpaths.iterator(); i.hasNext(); ) {
+                final String xpath = i.next();
+                i.remove();
+                if (!stringToId.containsKey(xpath)) {
+                    batch.add(xpath);
+                }
+            }
+            // in case an earlier batch with these in it failed
+            for (String xpath : xpaths) {
+                if (!stringToId.containsKey(xpath)) {
+                    batch.add(xpath);
+                }
+            }
+            insertXpaths(batch, conn);
+        }
+    }
+
+    /**
+     * Insert xpaths into the database, and add them to the maps. Called with writeLock held.
      *
      * @param xpaths
      * @param conn
      * @throws SQLException
      */
-    private synchronized void addXpaths(Set<String> xpaths, Connection conn) throws SQLException {
+    private void insertXpaths(Set<String> xpaths, Connection conn) throws SQLException {
         if (xpaths.size() == 0) return;
 
         PreparedStatement queryStmt = null;
@@ -267,63 +315,29 @@ public class XPathTable {
     }
 
     /**
-     * @return the xpath's id (as an Integer)
+     * @return the xpath's id (as an Integer), -1 if not found and not added, or null on error
      */
-    private synchronized Integer addXpath(String xpath, boolean addIfNotFound, Connection inConn) {
+    private Integer addXpath(String xpath, boolean addIfNotFound, Connection inConn) {
         Integer nid = stringToId.get(xpath); // double check
         if (nid != null) {
             return nid;
         }
+        if (!addIfNotFound) {
+            return -1; // the whole table was loaded, so it is not in the database
+        }
 
         Connection conn = null;
-        PreparedStatement queryStmt = null;
-        PreparedStatement insertStmt = null;
         try {
             if (inConn != null) {
                 conn = inConn;
             } else {
                 conn = DBUtils.getInstance().getDBConnection();
             }
-            queryStmt =
-                    conn.prepareStatement(
-                            "SELECT id FROM " + CLDR_XPATHS + "   " + " where XPATH=" + " ? ");
-            queryStmt.setString(1, Utility.escape(xpath));
-            // First, try to query it back from the DB.
-            ResultSet rs = queryStmt.executeQuery();
-            if (!rs.next()) {
-                if (!addIfNotFound) {
-                    return -1;
-                } else {
-                    // add it
-                    insertStmt =
-                            conn.prepareStatement(
-                                    "INSERT INTO "
-                                            + CLDR_XPATHS
-                                            + " (xpath ) "
-                                            + " values ("
-                                            + " ?)",
-                                    Statement.RETURN_GENERATED_KEYS);
-
-                    insertStmt.setString(1, Utility.escape(xpath));
-                    insertStmt.execute();
-                    conn.commit();
-                    rs = insertStmt.getGeneratedKeys();
-                    if (!rs.next()) {
-                        SurveyLog.errln("Couldn't retrieve newly added xpath " + xpath);
-                    } else {
-                        stat_dbAdd++;
-                    }
-                }
-            } else {
-                stat_dbFetch++;
+            addXpaths(Collections.singleton(xpath), conn);
+            nid = stringToId.get(xpath);
+            if (nid == null) {
+                SurveyLog.errln("Couldn't retrieve newly added xpath " + xpath);
             }
-
-            int id = rs.getInt(1);
-            nid = Integer.valueOf(id);
-            setById(id, xpath);
-            // logger.info("Mapped " + id + " back to " + xpath);
-            rs.close();
-            conn.commit();
             return nid;
         } catch (SQLException sqe) {
             logger.warning("xpath [" + xpath + "] len " + xpath.length());
@@ -341,7 +355,7 @@ public class XPathTable {
             if (inConn != null) {
                 conn = null; // don't close
             }
-            DBUtils.close(insertStmt, queryStmt, conn);
+            DBUtils.close(conn);
         }
         return null; // an exception occured.
     }
@@ -365,16 +379,17 @@ public class XPathTable {
     }
 
     /**
-     * Adds an xpathid-xpath value pair to the XPathTable. This method is used by classes to cache
-     * the values obtained by using their own queries.
+     * Adds an xpathid-xpath value pair to the XPathTable. Called while loading, or with writeLock
+     * held.
      *
      * @param id an integer like 24600
      * @param xpath a string like
      *     //ldml/dates/timeZoneNames/zone[@type="America/Guadeloupe"]/short/daylight
      */
     public final void setById(int id, String xpath) {
-        stringToId.put(idToString_put(id, xpath), id);
+        idToString_put(id, xpath);
         sidToString.put(getStringID(xpath), xpath);
+        stringToId.put(xpath, id); // last, since a reader may check this first
     }
 
     /**
@@ -638,7 +653,7 @@ public class XPathTable {
         }
     }
 
-    // re export PrettyPath API but synchronized
+    // re export PrettyPath API but thread-safe
     /**
      * Gets sortable form of the pretty path, and caches the mapping for faster later mapping.
      *
@@ -651,9 +666,14 @@ public class XPathTable {
         if (path == null) {
             return null;
         }
-        synchronized (ppath) {
-            return ppath.getPrettyPath(path);
+        String result = prettyPaths.get(path);
+        if (result == null) {
+            synchronized (ppath) {
+                result = ppath.getPrettyPath(path);
+            }
+            prettyPaths.put(path, result);
         }
+        return result;
     }
 
     /**
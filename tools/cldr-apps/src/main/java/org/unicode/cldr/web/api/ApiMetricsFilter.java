@@ -0,0 +1,61 @@
+package org.unicode.cldr.web.api;
+
+import java.lang.reflect.Method;
+import javax.ws.rs.Path;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.ext.Provider;
+import org.unicode.cldr.web.SurveyMetrics;
+
+/**
+ * Times every request to the REST API, recording it in SurveyMetrics under the resource's path
+ * template, such as "GET /voting/{locale}/page/{page}".
+ */
+@Provider
+public class ApiMetricsFilter implements ContainerRequestFilter, ContainerResponseFilter {
+    private static final String START_PROPERTY = ApiMetricsFilter.class.getName() + ".start";
+
+    @Context ResourceInfo resourceInfo;
+
+    @Override
+    public void filter(ContainerRequestContext request) {
+        request.setProperty(START_PROPERTY, System.nanoTime());
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        final Object start = request.getProperty(START_PROPERTY);
+        final SurveyMetrics metrics = SurveyMetrics.get();
+        if (start == null || metrics == null) {
+            return;
+        }
+        metrics.timeApiRequest(
+                request.getMethod() + " " + getPathTemplate(), System.nanoTime() - (Long) start);
+    }
+
+    /** The path template of the matched resource method, or "unmatched" */
+    private String getPathTemplate() {
+        if (resourceInfo == null) {
+            return "unmatched";
+        }
+        final Class<?> resourceClass = resourceInfo.getResourceClass();
+        final Method method = resourceInfo.getResourceMethod();
+        if (resourceClass == null || method == null) {
+            return "unmatched"; // for example a 404, which must not add a metric per URL
+        }
+        final StringBuilder sb = new StringBuilder();
+        final Path classPath = resourceClass.getAnnotation(Path.class);
+        if (classPath != null) {
+            sb.append(classPath.value());
+        }
+        final Path methodPath = method.getAnnotation(Path.class);
+        if (methodPath != null) {
+            sb.append(methodPath.value());
+        }
+        return sb.toString();
+    }
+}
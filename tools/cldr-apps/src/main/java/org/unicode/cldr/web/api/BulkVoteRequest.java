@@ -0,0 +1,22 @@
+package org.unicode.cldr.web.api;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+public class BulkVoteRequest {
+    public static final class BulkVoteItem {
+        @Schema(description = "XPath string ID", example = "132345490064d839")
+        public String xpstrid;
+
+        @Schema(description = "String value for vote, or null to abstain", nullable = true)
+        public String value;
+
+        @Schema(
+                description = "Vote type, DIRECT or BULK_UPLOAD",
+                nullable = true,
+                defaultValue = "BULK_UPLOAD")
+        public String voteType;
+    }
+
+    @Schema(description = "Votes to submit, in order")
+    public BulkVoteItem[] votes;
+}
@@ -0,0 +1,199 @@
+package org.unicode.cldr.web.api;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.core.EntityTag;
+import org.unicode.cldr.test.CheckCLDR;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.Organization;
+import org.unicode.cldr.util.PathHeader.PageId;
+import org.unicode.cldr.web.CookieSession;
+import org.unicode.cldr.web.DataPage;
+import org.unicode.cldr.web.DataPage.DataRow;
+import org.unicode.cldr.web.Stamp;
+import org.unicode.cldr.web.UserRegistry.User;
+import org.unicode.cldr.web.api.VoteAPI.RowResponse;
+
+/**
+ * The rows of whole pages, as returned by VoteAPI, kept until the page changes.
+ *
+ * <p>A snapshot is shared by everyone with the same locale, page, options (coverage level) and
+ * organization. It is rebuilt when the page's version from STFactory.getPageVersion advances, or
+ * after CLDR_PAGE_SNAPSHOT_SECONDS (default 120), since the checks on a row may also depend on
+ * paths on other pages. It is built once, for no particular user, however many requests find it
+ * stale at the same time. The fields of a row that depend on the user (hasVoted, voteVhash,
+ * statusAction) are filled in on a copy of the row for each request.
+ */
+class PageSnapshots {
+    private static final class Key {
+        private final CLDRLocale locale;
+        private final PageId pageId;
+        private final CheckCLDR.Options options;
+        private final Organization organization;
+
+        Key(
+                CLDRLocale locale,
+                PageId pageId,
+                CheckCLDR.Options options,
+                Organization organization) {
+            this.locale = locale;
+            this.pageId = pageId;
+            this.options = options;
+            this.organization = organization;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return locale.equals(other.locale)
+                    && pageId == other.pageId
+                    && options.equals(other.options)
+                    && organization == other.organization;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(locale, pageId, options, organization);
+        }
+    }
+
+    static final class Snapshot {
+        /** The page version when this snapshot was started */
+        final long version;
+
+        /** Different for every snapshot */
+        private final long created = Stamp.getInstance().current();
+
+        final RowResponse.DisplaySets displaySets;
+
+        private final DataPage page;
+
+        /** The rows, by DataRow.fieldHash, without the per-user fields */
+        private final Map<String, RowResponse.Row> rows = new HashMap<>();
+
+        private final List<String> xpaths = new ArrayList<>();
+
+        private Snapshot(long version, Key key) {
+            this.version = version;
+            this.page = DataPage.make(key.pageId, key.options, key.locale, null, null);
+            final Collection<DataRow> dataRows = page.getAll();
+            for (DataRow r : dataRows) {
+                rows.put(r.fieldHash(), VoteAPIHelper.calculateRow(r));
+                xpaths.add(r.getXpath());
+            }
+            displaySets = VoteAPIHelper.makeDisplaySets(dataRows);
+        }
+
+        /** The paths of all the rows */
+        Collection<String> getXpaths() {
+            return xpaths;
+        }
+
+        /**
+         * Get the rows as seen by the given user
+         *
+         * @param user the user, or null
+         * @param onlyXpaths if not null, only return the rows for these paths
+         * @return the rows, by DataRow.fieldHash
+         */
+        synchronized Map<String, RowResponse.Row> getRows(User user, Set<String> onlyXpaths) {
+            page.setUserForVotelist(user);
+            final Map<String, RowResponse.Row> result = new HashMap<>();
+            for (DataRow r : page.getAll()) {
+                if (onlyXpaths != null && !onlyXpaths.contains(r.getXpath())) {
+                    continue;
+                }
+                final RowResponse.Row row = rows.get(r.fieldHash()).copy();
+                row.hasVoted = r.userHasVoted();
+                row.voteVhash = r.getVoteVHash();
+                row.statusAction = r.getStatusAction();
+                result.put(r.fieldHash(), row);
+            }
+            return result;
+        }
+
+        /**
+         * The entity tag for this snapshot as seen by the given user. It includes the user level,
+         * since that changes the status actions.
+         */
+        EntityTag getEntityTag(User user) {
+            return new EntityTag(
+                    Long.toString(created)
+                            + (user == null ? "" : "-" + user.id + "-" + user.userlevel));
+        }
+    }
+
+    /** A snapshot being built, or built */
+    private static final class Pending {
+        final long version;
+        final FutureTask<Snapshot> task;
+
+        Pending(long version, FutureTask<Snapshot> task) {
+            this.version = version;
+            this.task = task;
+        }
+    }
+
+    private static final Cache<Key, Pending> snapshots =
+            CacheBuilder.newBuilder()
+                    .maximumSize(CLDRConfig.getInstance().getProperty("CLDR_PAGE_SNAPSHOTS", 200))
+                    .expireAfterWrite(
+                            CLDRConfig.getInstance()
+                                    .getProperty("CLDR_PAGE_SNAPSHOT_SECONDS", 120),
+                            TimeUnit.SECONDS)
+                    .build();
+
+    /**
+     * Get the current snapshot of a page, building it if needed
+     *
+     * @param session the session, which determines the options and organization
+     * @param locale the locale
+     * @param pageId the page
+     * @return the snapshot
+     */
+    static Snapshot get(CookieSession session, CLDRLocale locale, PageId pageId) {
+        // get the version first, so that a change while building makes this snapshot stale
+        final long version = CookieSession.sm.getSTFactory().getPageVersion(locale, pageId);
+        final Key key =
+                new Key(
+                        locale,
+                        pageId,
+                        DataPage.getOptions(session, locale),
+                        session.user == null ? null : session.user.getOrganization());
+        Pending pending;
+        synchronized (snapshots) {
+            pending = snapshots.getIfPresent(key);
+            if (pending == null || pending.version < version) {
+                pending = new Pending(version, new FutureTask<>(() -> new Snapshot(version, key)));
+                snapshots.put(key, pending);
+            }
+        }
+        pending.task.run(); // does nothing if another request is running or has run it
+        try {
+            return pending.task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            snapshots.asMap().remove(key, pending); // so that the next request tries again
+            throw new RuntimeException(e.getCause());
+        }
+    }
+}
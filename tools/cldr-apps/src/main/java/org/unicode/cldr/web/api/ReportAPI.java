@@ -1,11 +1,15 @@
 package org.unicode.cldr.web.api;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.GET;
 import javax.ws.rs.HeaderParam;
@@ -16,6 +20,7 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
@@ -178,26 +183,65 @@ public class ReportAPI {
             onlyLoc = CLDRLocale.getInstance(locale);
             locales = Collections.singleton(onlyLoc);
         }
-        LocaleReportVettingResults r = new LocaleReportVettingResults();
         // make a copy of the DB subset here, for performance.
-        VoterReportStatus<Integer> db = ReportsDB.getInstance().clone(null, onlyLoc);
-        VoteResolver<ReportAcceptability> res =
+        final VoterReportStatus<Integer> db = ReportsDB.getInstance().clone(null, onlyLoc);
+        final VoteResolver<ReportAcceptability> res =
                 new VoteResolver<>(CookieSession.sm.reg.getVoterInfoList()); // create
 
         // set of all valid userids
         final Set<Integer> allUsers = CookieSession.sm.reg.getVoterToInfo().keySet();
-        for (final CLDRLocale loc : locales) {
-            LocaleReportVettingResult rr = new LocaleReportVettingResult();
-            rr.locale = loc.toString();
-            for (final ReportId report : ReportId.getReportsAvailable()) {
-                Map<ReportAcceptability, Set<Integer>> statistics =
-                        db.updateResolver(loc, report, allUsers, res);
-                rr.reports.add(new ReportVettingResult(report, res, statistics));
-                statistics.values().forEach(s -> rr.addVoters(s));
+        final Iterable<CLDRLocale> toWrite = locales;
+        // Write each locale as it is computed, in the same form as LocaleReportVettingResults,
+        // so that all locales are never held at once.
+        final StreamingOutput stream =
+                out -> {
+                    final Writer w =
+                            new BufferedWriter(
+                                    new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                    writeLocales(
+                            w,
+                            toWrite,
+                            loc -> {
+                                LocaleReportVettingResult rr = new LocaleReportVettingResult();
+                                rr.locale = loc.toString();
+                                for (final ReportId report : ReportId.getReportsAvailable()) {
+                                    Map<ReportAcceptability, Set<Integer>> statistics =
+                                            db.updateResolver(loc, report, allUsers, res);
+                                    rr.reports.add(
+                                            new ReportVettingResult(report, res, statistics));
+                                    statistics.values().forEach(s -> rr.addVoters(s));
+                                }
+                                // not toJson(rr, w), which would close w
+                                return jsonb.toJson(rr);
+                            });
+                };
+        return Response.ok(stream, MediaType.APPLICATION_JSON).build();
+    }
+
+    /** For writing streamed responses */
+    private static final Jsonb jsonb = JsonbBuilder.create();
+
+    /**
+     * Write {"locales":[...]} in the form of LocaleReportVettingResults, converting and flushing
+     * one locale at a time.
+     *
+     * @param toJson computes the JSON for one locale
+     */
+    static <T> void writeLocales(Writer w, Iterable<T> locales, Function<T, String> toJson)
+            throws IOException {
+        w.write("{\"locales\":[");
+        boolean first = true;
+        for (final T loc : locales) {
+            final String json = toJson.apply(loc);
+            if (!first) {
+                w.write(',');
             }
-            r.locales.add(rr);
+            first = false;
+            w.write(json);
+            w.flush(); // send this locale now
         }
-        return Response.ok(r).build();
+        w.write("]}");
+        w.flush();
     }
 
     public static class LocaleReportVettingResults {
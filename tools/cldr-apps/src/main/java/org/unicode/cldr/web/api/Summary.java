@@ -132,9 +132,10 @@ public class Summary {
         }
         Organization usersOrg = cs.user.vrOrg();
         VettingViewerQueue vvq = VettingViewerQueue.getInstance();
-        vvq.setSummarizeAllLocales(request.summarizeAllLocales);
         QueueMemberId qmi = new QueueMemberId(cs);
-        SummaryResponse sr = getSummaryResponse(vvq, qmi, usersOrg, request.loadingPolicy);
+        SummaryResponse sr =
+                getSummaryResponse(
+                        vvq, qmi, usersOrg, request.loadingPolicy, request.summarizeAllLocales);
         if (SurveySnapshot.SNAP_CREATE.equals(request.snapshotPolicy)
                 && sr.status == VettingViewerQueue.Status.READY) {
             saveSnapshot(sr);
@@ -149,6 +150,7 @@ public class Summary {
      * @param qmi the QueueMemberId
      * @param usersOrg the user's organization
      * @param loadingPolicy the LoadingPolicy
+     * @param summarizeAllLocales true to include all locales, not only CLDR_LOCALES
      * @return the SummaryResponse
      * @throws IOException
      * @throws JSONException
@@ -157,13 +159,15 @@ public class Summary {
             VettingViewerQueue vvq,
             QueueMemberId qmi,
             Organization usersOrg,
-            LoadingPolicy loadingPolicy)
+            LoadingPolicy loadingPolicy,
+            boolean summarizeAllLocales)
             throws IOException, JSONException {
         SummaryResponse sr = new SummaryResponse();
-        VettingViewerQueue.Args args = vvq.new Args(qmi, usersOrg, loadingPolicy);
+        VettingViewerQueue.Args args =
+                vvq.new Args(qmi, usersOrg, loadingPolicy, summarizeAllLocales);
         VettingViewerQueue.Results results = vvq.new Results();
         sr.message = vvq.getPriorityItemsSummaryOutput(args, results);
-        sr.percent = vvq.getPercent();
+        sr.percent = results.percent;
         sr.status = results.status;
         sr.output = results.output.toString();
         return sr;
@@ -338,7 +342,6 @@ public class Summary {
                     (phase == SurveyMain.Phase.VETTING || phase == SurveyMain.Phase.VETTING_CLOSED);
         }
         final VettingViewerQueue vvq = VettingViewerQueue.getInstance();
-        vvq.setSummarizeAllLocales(summarizeAllLocales);
         final QueueMemberId qmi = new QueueMemberId();
         final Organization usersOrg = VettingViewer.getNeutralOrgForSummary();
         LoadingPolicy loadingPolicy = LoadingPolicy.START;
@@ -349,7 +352,7 @@ public class Summary {
         boolean finished = false;
         final long startMillis = System.currentTimeMillis();
         do {
-            sr = getSummaryResponse(vvq, qmi, usersOrg, loadingPolicy);
+            sr = getSummaryResponse(vvq, qmi, usersOrg, loadingPolicy, summarizeAllLocales);
             loadingPolicy = LoadingPolicy.NOSTART;
             ++count;
             log("Automatic Summary Snapshot, got response " + count + "; percent = " + sr.percent);
@@ -3,6 +3,7 @@ package org.unicode.cldr.web.api;
 import java.util.List;
 import java.util.Map;
 import javax.ws.rs.*;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -89,6 +90,9 @@ public class VoteAPI {
                                 @Content(
                                         mediaType = "application/json",
                                         schema = @Schema(implementation = RowResponse.class))),
+                @APIResponse(
+                        responseCode = "304",
+                        description = "Not modified since the version given by If-None-Match"),
                 @APIResponse(
                         responseCode = "401",
                         description = "Authorization required, send a valid session id"),
@@ -122,6 +126,14 @@ public class VoteAPI {
                     @Schema(description = "Xpath string ID if page is auto")
                     @DefaultValue("")
                     String xpstrid,
+            @QueryParam("since")
+                    @Schema(
+                            description =
+                                    "Stamp from an earlier response; if set, only return rows"
+                                            + " changed after it")
+                    @DefaultValue("0")
+                    long since,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
             @HeaderParam(Auth.SESSION_HEADER) String session) {
 
         /*
@@ -132,12 +144,12 @@ public class VoteAPI {
          * can be used instead of
          *    https://cldr-smoke.unicode.org/cldr-apps/v#/zh_Hant/Alphabetic_Information/2703e9d07ab2ef3a
          */
-        return VoteAPIHelper.handleGetOnePage(loc, session, page, xpstrid);
+        return VoteAPIHelper.handleGetOnePage(loc, session, page, xpstrid, since, ifNoneMatch);
     }
 
     public static final class RowResponse {
 
-        public static final class Row {
+        public static final class Row implements Cloneable {
 
             public static final class Candidate {
                 public String displayValue;
@@ -206,6 +218,15 @@ public class VoteAPI {
 
             @Schema(description = "prose description of voting outcome")
             public String voteTranscript;
+
+            /** A shallow copy, so that per-user fields can be set on a shared row */
+            Row copy() {
+                try {
+                    return (Row) clone();
+                } catch (CloneNotSupportedException e) {
+                    throw new InternalError(e);
+                }
+            }
         }
 
         public static final class Page {
@@ -230,6 +251,15 @@ public class VoteAPI {
         public Dashboard.ReviewNotification[] notifications;
         public Page page;
         public String pageId;
+
+        @Schema(
+                description =
+                        "Version of the page. Pass it as 'since' to get only the rows changed"
+                                + " after it.")
+        public long stamp;
+
+        @Schema(description = "True if page.rows only has the rows changed since the given stamp")
+        public boolean delta;
     }
 
     @POST
@@ -290,6 +320,62 @@ public class VoteAPI {
                 true /* forbiddenIsOk */);
     }
 
+    @POST
+    @Path("/{locale}/bulk")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Submit many votes",
+            description =
+                    "Submit many votes in one locale at once; they are checked like single votes, "
+                            + "then stored and resolved together")
+    @APIResponses(
+            value = {
+                @APIResponse(
+                        responseCode = "200",
+                        description = "Votes processed (but check each result status)",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = BulkVoteResponse.class))),
+                @APIResponse(responseCode = "400", description = "Malformed request"),
+                @APIResponse(
+                        responseCode = "401",
+                        description = "Authorization required, send a valid session id"),
+                @APIResponse(
+                        responseCode = "403",
+                        description = "Forbidden, no access to vote in this locale"),
+                @APIResponse(responseCode = "404", description = "An XPath was not found"),
+                @APIResponse(
+                        responseCode = "500",
+                        description = "Internal Server Error",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = STError.class))),
+            })
+    public Response bulkVote(
+            @Parameter(required = true, example = "br", schema = @Schema(type = SchemaType.STRING))
+                    @PathParam("locale")
+                    String loc,
+            @HeaderParam(Auth.SESSION_HEADER) String session,
+            BulkVoteRequest request) {
+        // Verify session
+        final CookieSession mySession = Auth.getSession(session);
+        if (mySession == null) {
+            return Auth.noSessionResponse();
+        }
+        return VoteAPIHelper.handleBulkVote(loc, request, mySession);
+    }
+
+    public static final class BulkVoteResponse {
+        @Schema(description = "Number of votes that were accepted.")
+        public int accepted;
+
+        @Schema(description = "Result of each vote, in the order submitted.")
+        public VoteResponse[] results;
+    }
+
     public static final class VoteResponse {
         @Schema(description = "True if voting succeeded.")
         public boolean didVote;
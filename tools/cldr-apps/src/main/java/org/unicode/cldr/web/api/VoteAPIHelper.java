@@ -3,7 +3,9 @@ package org.unicode.cldr.web.api;
 import java.io.PrintWriter;
 import java.util.*;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 import javax.json.bind.spi.JsonbProvider;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 import org.unicode.cldr.test.CheckCLDR;
@@ -23,6 +25,7 @@ import org.unicode.cldr.web.DataPage.DataRow;
 import org.unicode.cldr.web.DataPage.DataRow.CandidateItem;
 import org.unicode.cldr.web.SurveyException.ErrorCode;
 import org.unicode.cldr.web.UserRegistry.User;
+import org.unicode.cldr.web.api.VoteAPI.BulkVoteResponse;
 import org.unicode.cldr.web.api.VoteAPI.RowResponse;
 import org.unicode.cldr.web.api.VoteAPI.RowResponse.Row.Candidate;
 import org.unicode.cldr.web.api.VoteAPI.VoteResponse;
@@ -62,6 +65,8 @@ public class VoteAPIHelper {
         String page = null;
         String xpstrid = null;
         Boolean getDashboard = false;
+        long since = 0;
+        String ifNoneMatch = null;
 
         public ArgsForGet(String loc, String session) {
             this.localeId = loc;
@@ -77,8 +82,16 @@ public class VoteAPIHelper {
         return handleGetRows(args);
     }
 
-    static Response handleGetOnePage(String loc, String session, String page, String xpstrid) {
+    static Response handleGetOnePage(
+            String loc,
+            String session,
+            String page,
+            String xpstrid,
+            long since,
+            String ifNoneMatch) {
         ArgsForGet args = new ArgsForGet(loc, session);
+        args.since = since;
+        args.ifNoneMatch = ifNoneMatch;
         if ("auto".equals(page) && xpstrid != null && !xpstrid.isEmpty()) {
             args.page = getPageFromXpathStringId(xpstrid);
         } else {
@@ -146,8 +159,6 @@ public class VoteAPIHelper {
                                 "handleGetRows: need xpstrid or page, but not both")
                         .build();
             }
-            final DataPage pageData = DataPage.make(pageId, mySession, locale, xp, matcher);
-            pageData.setUserForVotelist(mySession.user);
             r.page = new RowResponse.Page();
 
             // don't return default content
@@ -160,11 +171,30 @@ public class VoteAPIHelper {
                 r.canModify = UserRegistry.userCanModifyLocale(mySession.user, locale);
                 r.localeDisplayName = locale.getDisplayName();
                 r.page.nocontent = false;
-                Collection<DataRow> dataRows = pageData.getAll();
-                r.page.rows = makePageRows(dataRows);
-                if (args.page != null) {
-                    r.displaySets = makeDisplaySets(dataRows);
+                if (pageId != null) {
+                    final PageSnapshots.Snapshot snapshot =
+                            PageSnapshots.get(mySession, locale, pageId);
+                    final EntityTag tag = snapshot.getEntityTag(mySession.user);
+                    if (matchesEntityTag(args.ifNoneMatch, tag)) {
+                        return Response.notModified(tag).build();
+                    }
+                    r.stamp = snapshot.version;
+                    Set<String> onlyXpaths = null;
+                    if (args.since > 0) {
+                        onlyXpaths =
+                                sm.getSTFactory()
+                                        .getPathsChangedSince(
+                                                locale, snapshot.getXpaths(), args.since);
+                        r.delta = true;
+                    } else {
+                        r.displaySets = snapshot.displaySets;
+                    }
+                    r.page.rows = snapshot.getRows(mySession.user, onlyXpaths);
+                    return Response.ok(r).tag(tag).build();
                 }
+                final DataPage pageData = DataPage.make(pageId, mySession, locale, xp, matcher);
+                pageData.setUserForVotelist(mySession.user);
+                r.page.rows = makePageRows(pageData.getAll());
             }
             if (args.getDashboard) {
                 r.notifications =
@@ -192,7 +222,25 @@ public class VoteAPIHelper {
         }
     }
 
-    private static RowResponse.DisplaySets makeDisplaySets(Collection<DataRow> dataRows) {
+    /** Does an If-None-Match header match the given tag? */
+    private static boolean matchesEntityTag(String ifNoneMatch, EntityTag tag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        final String tagString = tag.toString();
+        for (String t : ifNoneMatch.split(",")) {
+            t = t.trim();
+            if (t.startsWith("W/")) {
+                t = t.substring(2);
+            }
+            if (t.equals("*") || t.equals(tagString)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static RowResponse.DisplaySets makeDisplaySets(Collection<DataRow> dataRows) {
         final RowResponse.DisplaySets displaySets = new RowResponse.DisplaySets();
         final SortMode sortMode = new PathHeaderSort();
         displaySets.ph = sortMode.createDisplaySet(null, dataRows);
@@ -207,7 +255,7 @@ public class VoteAPIHelper {
         return rows;
     }
 
-    private static RowResponse.Row calculateRow(final DataRow r) {
+    static RowResponse.Row calculateRow(final DataRow r) {
         final RowResponse.Row row = new RowResponse.Row();
         final VoteResolver<String> resolver = r.getResolver();
         final String xpath = r.getXpath();
@@ -440,6 +488,186 @@ public class VoteAPIHelper {
         return Response.ok(r).build();
     }
 
+    /** Number of threads checking votes in handleBulkVote; each has its own CheckCLDR */
+    private static final int BULK_WORKERS = Runtime.getRuntime().availableProcessors();
+
+    /** One vote being processed by handleBulkVote */
+    private static final class BulkItem {
+        final String xp;
+        final String origValue;
+        final VoteType voteType;
+        final VoteResponse r = new VoteResponse();
+        final List<CheckStatus> result = new ArrayList<>();
+        String val;
+
+        BulkItem(String xp, String origValue, VoteType voteType) {
+            this.xp = xp;
+            this.origValue = origValue;
+            this.voteType = voteType;
+        }
+    }
+
+    /**
+     * Submit many votes at once. As for handleVote, each value is run through the DAIP and the
+     * checks, and its status action is computed, but the checks run in parallel, each DataPage is
+     * built once per page rather than once per vote, and the accepted votes go to the BallotBox in
+     * one call, so that they are stored and resolved together.
+     */
+    static Response handleBulkVote(
+            String loc, BulkVoteRequest request, final CookieSession mySession) {
+        mySession.userDidAction();
+        CLDRLocale locale = CLDRLocale.getInstance(loc);
+        if (!UserRegistry.userCanModifyLocale(mySession.user, locale)) {
+            return Response.status(Status.FORBIDDEN).build();
+        }
+        if (request == null || request.votes == null) {
+            return Response.status(Status.BAD_REQUEST).build();
+        }
+        loc = locale.getBaseName(); // sanitized
+        final SurveyMain sm = CookieSession.sm;
+        final List<BulkItem> items = new ArrayList<>(request.votes.length);
+        for (BulkVoteRequest.BulkVoteItem v : request.votes) {
+            final String xp = (v == null) ? null : sm.xpt.getByStringID(v.xpstrid);
+            if (xp == null) {
+                return Response.status(Status.NOT_FOUND)
+                        .entity(new STError("XPath not found: " + (v == null ? null : v.xpstrid)))
+                        .build();
+            }
+            final VoteType voteType;
+            if (v.voteType == null) {
+                voteType = VoteType.BULK_UPLOAD;
+            } else if (v.voteType.equals(VoteType.DIRECT.name())) {
+                voteType = VoteType.DIRECT;
+            } else if (v.voteType.equals(VoteType.BULK_UPLOAD.name())) {
+                voteType = VoteType.BULK_UPLOAD;
+            } else {
+                return Response.status(Status.BAD_REQUEST)
+                        .entity(new STError("Vote type not allowed: " + v.voteType))
+                        .build();
+            }
+            items.add(new BulkItem(xp, v.value, voteType));
+        }
+        CheckCLDR.Options options = DataPage.getOptions(mySession, locale);
+        final STFactory stf = sm.getSTFactory();
+        final BulkVoteResponse response = new BulkVoteResponse();
+        synchronized (mySession) {
+            try {
+                final CLDRFile cldrFile = stf.make(loc, true, true);
+                final TestResultBundle cc = stf.getTestResult(locale, options);
+                final String baseName = loc;
+                // One contiguous slice of the votes per worker, so that each CheckCLDR (costly
+                // to set up) is created once per worker rather than once per chunk
+                final int workers = Math.max(1, Math.min(BULK_WORKERS, items.size()));
+                IntStream.range(0, workers)
+                        .parallel()
+                        .forEach(
+                                worker -> {
+                                    final CheckCLDR checker = cc.newConfinedCheck();
+                                    final int start = worker * items.size() / workers;
+                                    final int end = (worker + 1) * items.size() / workers;
+                                    for (int i = start; i < end; i++) {
+                                        checkBulkItem(
+                                                baseName,
+                                                locale,
+                                                cldrFile,
+                                                cc,
+                                                checker,
+                                                items.get(i));
+                                    }
+                                });
+
+                final Map<PageId, DataPage> pages = new HashMap<>();
+                final List<BallotBox.BulkVote> votes = new ArrayList<>();
+                final List<BulkItem> voted = new ArrayList<>();
+                for (BulkItem item : items) {
+                    final PathHeader ph = stf.getPathHeader(item.xp);
+                    final DataPage page;
+                    if (ph == null) {
+                        page = DataPage.make(null, mySession, locale, item.xp, null);
+                        page.setUserForVotelist(mySession.user);
+                    } else {
+                        page =
+                                pages.computeIfAbsent(
+                                        ph.getPageId(),
+                                        id -> {
+                                            DataPage p =
+                                                    DataPage.make(
+                                                            id, mySession, locale, null, null);
+                                            p.setUserForVotelist(mySession.user);
+                                            return p;
+                                        });
+                    }
+                    final DataRow dataRow = page.getDataRow(item.xp);
+                    final VoteResponse r = item.r;
+                    if (r.statusAction == null) {
+                        r.statusAction =
+                                calculateShowRowAction(cldrFile, item.xp, item.val, dataRow);
+                    }
+                    if (!r.statusAction.isForbidden()) {
+                        CandidateInfo ci = calculateCandidateItem(item.result, item.val, dataRow);
+                        r.statusAction =
+                                CLDRConfig.getInstance()
+                                        .getPhase()
+                                        .getAcceptNewItemAction(
+                                                ci,
+                                                dataRow,
+                                                item.voteType == VoteType.DIRECT
+                                                        ? CheckCLDR.InputMethod.DIRECT
+                                                        : CheckCLDR.InputMethod.BULK,
+                                                ph,
+                                                mySession.user);
+                        if (!r.statusAction.isForbidden()) {
+                            votes.add(new BallotBox.BulkVote(item.xp, item.val, item.voteType));
+                            voted.add(item);
+                        }
+                    }
+                }
+                if (!votes.isEmpty()) {
+                    final BallotBox<UserRegistry.User> ballotBox = stf.ballotBoxForLocale(locale);
+                    final List<SurveyException> errors =
+                            ballotBox.voteForValues(mySession.user, votes);
+                    for (int i = 0; i < voted.size(); i++) {
+                        final VoteResponse r = voted.get(i).r;
+                        if (errors.get(i) == null) {
+                            r.didVote = true;
+                            response.accepted++;
+                        } else {
+                            r.didNotSubmit = errors.get(i).getMessage();
+                        }
+                    }
+                }
+            } catch (Throwable t) {
+                SurveyLog.logException(logger, t, "Processing bulk submission " + locale);
+                return (new STError(t).build());
+            }
+        }
+        response.results = new VoteResponse[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            response.results[i] = items.get(i).r;
+        }
+        return Response.ok(response).build();
+    }
+
+    /** DAIP and checks for one bulk vote; called concurrently, one checker per thread */
+    private static void checkBulkItem(
+            String loc,
+            CLDRLocale locale,
+            CLDRFile cldrFile,
+            TestResultBundle cc,
+            CheckCLDR checker,
+            BulkItem item) {
+        final Exception[] exceptionList = new Exception[1];
+        item.val = processValue(locale, item.xp, exceptionList, item.origValue, cldrFile);
+        if (item.val == null && item.origValue != null && !item.origValue.isEmpty()) {
+            normalizedToZeroLengthError(item.r, item.result);
+        }
+        if (item.val != null) {
+            cc.check(item.xp, item.result, item.val, checker);
+        }
+        addDaipException(loc, item.xp, item.result, exceptionList, item.val, item.origValue);
+        item.r.setTestResults(item.result);
+    }
+
     private static void normalizedToZeroLengthError(VoteResponse r, List<CheckStatus> result) {
         final String message = "DAIP returned a 0 length string";
         r.didNotSubmit = message;
@@ -25,6 +25,7 @@ import org.unicode.cldr.util.SupplementalDataInfo;
 import org.unicode.cldr.web.CLDRProgressIndicator;
 import org.unicode.cldr.web.DBUtils;
 import org.unicode.cldr.web.SurveyLog;
+import org.unicode.cldr.web.TestForumIndex;
 
 /** Top level test used to run all other tests as a batch. */
 public class TestAll extends TestGroup {
@@ -117,6 +118,7 @@ public class TestAll extends TestGroup {
                     TestUserSettingsData.class.getName(),
                     TestAnnotationVotes.class.getName(),
                     TestUserRegistry.class.getName(),
+                    TestForumIndex.class.getName(),
                 },
                 "All tests in CLDR Web");
     }
@@ -7,9 +7,16 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import javax.ws.rs.core.Response;
 import org.unicode.cldr.draft.FileUtilities;
 import org.unicode.cldr.unittest.web.TestAll.WebTestInfo;
 import org.unicode.cldr.util.CLDRFile;
@@ -18,14 +25,17 @@ import org.unicode.cldr.util.CLDRLocale;
 import org.unicode.cldr.util.CLDRPaths;
 import org.unicode.cldr.util.CldrUtility;
 import org.unicode.cldr.util.Organization;
+import org.unicode.cldr.util.PathHeader;
 import org.unicode.cldr.util.SpecialLocales;
 import org.unicode.cldr.util.StackTracker;
 import org.unicode.cldr.util.VoteResolver;
 import org.unicode.cldr.util.VoteResolver.Level;
 import org.unicode.cldr.util.VoteResolver.Status;
+import org.unicode.cldr.util.VoteType;
 import org.unicode.cldr.util.XMLFileReader;
 import org.unicode.cldr.util.XPathParts;
 import org.unicode.cldr.web.BallotBox;
+import org.unicode.cldr.web.BallotBox.BulkVote;
 import org.unicode.cldr.web.BallotBox.InvalidXPathException;
 import org.unicode.cldr.web.BallotBox.VoteNotAcceptedException;
 import org.unicode.cldr.web.CookieSession;
@@ -37,6 +47,11 @@ import org.unicode.cldr.web.UserRegistry;
 import org.unicode.cldr.web.UserRegistry.LogoutException;
 import org.unicode.cldr.web.UserRegistry.User;
 import org.unicode.cldr.web.XPathTable;
+import org.unicode.cldr.web.api.BulkVoteRequest;
+import org.unicode.cldr.web.api.BulkVoteRequest.BulkVoteItem;
+import org.unicode.cldr.web.api.VoteAPI;
+import org.unicode.cldr.web.api.VoteAPI.BulkVoteResponse;
+import org.unicode.cldr.web.api.VoteAPI.RowResponse;
 
 public class TestSTFactory extends TestFmwk {
 
@@ -295,6 +310,305 @@ public class TestSTFactory extends TestFmwk {
         }
     }
 
+    /**
+     * Several votes for the same path in one batch: only the last is stored, and the values it
+     * replaced are kept as proposals in VOTE_VALUE_ALT
+     */
+    public void TestVoteBatch()
+            throws SQLException, IOException, InvalidXPathException, VoteNotAcceptedException {
+        if (TestAll.skipIfNoDb()) return;
+        STFactory fac = getFactory();
+        final CLDRLocale locale = CLDRLocale.getInstance("fr");
+        final String somePath = "//ldml/localeDisplayNames/keys/key[@type=\"collation\"]";
+        final int xpathId = fac.sm.xpt.getByXpath(somePath);
+        final String first = "first batch value";
+        final String second = "second batch value";
+        final String last = "last batch value";
+
+        BallotBox<User> box = fac.ballotBoxForLocale(locale);
+        List<SurveyException> errors =
+                box.voteForValues(
+                        getMyUser(),
+                        Arrays.asList(
+                                new BulkVote(somePath, first, VoteType.DIRECT),
+                                new BulkVote(somePath, second, VoteType.DIRECT),
+                                new BulkVote(somePath, last, VoteType.DIRECT)));
+        assertEquals("errors", Arrays.asList(null, null, null), errors);
+        expect(somePath, last, true, fac.make(locale, false), box);
+
+        Object[][] stored =
+                DBUtils.queryToArrayArrayObj(
+                        "SELECT value FROM "
+                                + DBUtils.Table.VOTE_VALUE
+                                + " WHERE locale=? AND xpath=? AND submitter=?",
+                        locale.getBaseName(),
+                        xpathId,
+                        getMyUser().id);
+        assertEquals("stored votes", 1, stored.length);
+        assertEquals("stored vote", last, stored[0][0]);
+        Object[][] proposals =
+                DBUtils.queryToArrayArrayObj(
+                        "SELECT value FROM "
+                                + DBUtils.Table.VOTE_VALUE_ALT
+                                + " WHERE locale=? AND xpath=?",
+                        locale.getBaseName(),
+                        xpathId);
+        List<Object> proposed = new ArrayList<>();
+        for (Object[] row : proposals) {
+            proposed.add(row[0]);
+        }
+        assertTrue("first value kept as a proposal", proposed.contains(first));
+        assertTrue("second value kept as a proposal", proposed.contains(second));
+        assertFalse("last value is the vote", proposed.contains(last));
+
+        fac = resetFactory();
+        box = fac.ballotBoxForLocale(locale);
+        expect(somePath, last, true, fac.make(locale, false), box);
+        box.voteForValue(getMyUser(), somePath, null); // clean up
+    }
+
+    /**
+     * Bulk votes: each vote that is not accepted is reported and skipped, the others are made, and
+     * the result is the same as voting for each value in turn
+     */
+    public void TestVoteForValues()
+            throws SQLException, InvalidXPathException, VoteNotAcceptedException {
+        if (TestAll.skipIfNoDb()) return;
+        STFactory fac = getFactory();
+        final CLDRLocale locale = CLDRLocale.getInstance("fr");
+        final String keyPath = "//ldml/localeDisplayNames/keys/key[@type=\"collation\"]";
+        final String languagePath = "//ldml/localeDisplayNames/languages/language[@type=\"nl\"]";
+        final String tooLong = "x".repeat(STFactory.LocaleMaxSizer.MAX_VAL_LEN + 1);
+        final String keyValue = "bulk key";
+        final String languageValue = "bulk language";
+
+        BallotBox<User> box = fac.ballotBoxForLocale(locale);
+        CLDRFile file = fac.make(locale, false);
+        final String originalKey = expect(keyPath, ANY, false, file, box);
+
+        // rejected
+        List<SurveyException> errors =
+                box.voteForValues(
+                        getMyUser(),
+                        Arrays.asList(new BulkVote(keyPath, tooLong, VoteType.DIRECT)));
+        assertEquals("rejected batch results", 1, errors.size());
+        assertNotNull("too long", errors.get(0));
+        expect(keyPath, originalKey, false, file, box);
+
+        // mixed
+        errors =
+                box.voteForValues(
+                        getMyUser(),
+                        Arrays.asList(
+                                new BulkVote(keyPath, keyValue, VoteType.DIRECT),
+                                new BulkVote(languagePath, tooLong, VoteType.DIRECT),
+                                new BulkVote(languagePath, languageValue, VoteType.DIRECT)));
+        assertEquals("mixed batch results", 3, errors.size());
+        assertNull("key accepted", errors.get(0));
+        assertNotNull("too long", errors.get(1));
+        assertNull("language accepted", errors.get(2));
+        expect(keyPath, keyValue, true, file, box);
+        expect(languagePath, languageValue, true, file, box);
+        final String bulkKeyVote = box.getVoteValue(getMyUser(), keyPath);
+        final String bulkLanguageVote = box.getVoteValue(getMyUser(), languagePath);
+
+        // accepted: abstain from both
+        errors =
+                box.voteForValues(
+                        getMyUser(),
+                        Arrays.asList(
+                                new BulkVote(keyPath, null, VoteType.DIRECT),
+                                new BulkVote(languagePath, null, VoteType.DIRECT)));
+        assertEquals("accepted batch results", Arrays.asList(null, null), errors);
+        expect(keyPath, originalKey, false, file, box);
+        expect(languagePath, ANY, false, file, box);
+
+        // the same votes, one at a time
+        box.voteForValue(getMyUser(), keyPath, keyValue);
+        box.voteForValue(getMyUser(), languagePath, languageValue);
+        expect(keyPath, keyValue, true, file, box);
+        expect(languagePath, languageValue, true, file, box);
+        assertEquals("key vote", bulkKeyVote, box.getVoteValue(getMyUser(), keyPath));
+        assertEquals(
+                "language vote", bulkLanguageVote, box.getVoteValue(getMyUser(), languagePath));
+        assertEquals("vote type", VoteType.DIRECT, box.getUserVoteType(getMyUser(), keyPath));
+
+        box.voteForValues(
+                getMyUser(),
+                Arrays.asList(
+                        new BulkVote(keyPath, null, VoteType.DIRECT),
+                        new BulkVote(languagePath, null, VoteType.DIRECT))); // clean up
+    }
+
+    /** The bulk vote API: a result for each vote, on different pages, and the votes made */
+    public void TestBulkVoteAPI() throws SQLException {
+        if (TestAll.skipIfNoDb()) return;
+        STFactory fac = getFactory();
+        final CLDRLocale locale = CLDRLocale.getInstance("fr");
+        final String keyPath = "//ldml/localeDisplayNames/keys/key[@type=\"collation\"]";
+        final String languagePath = "//ldml/localeDisplayNames/languages/language[@type=\"nl\"]";
+        final String tooLong = "x".repeat(STFactory.LocaleMaxSizer.MAX_VAL_LEN + 1);
+        fac.sm.xpt.getByXpath(keyPath); // so that the string ids are known
+        fac.sm.xpt.getByXpath(languagePath);
+        final CookieSession session = CookieSession.newSession(getMyUser(), "[::1]");
+
+        BulkVoteRequest request = new BulkVoteRequest();
+        request.votes =
+                new BulkVoteItem[] {
+                    bulkVoteItem(keyPath, "api key"),
+                    bulkVoteItem(languagePath, "api language"),
+                    bulkVoteItem(languagePath, tooLong)
+                };
+        Response response = new VoteAPI().bulkVote(locale.getBaseName(), session.id, request);
+        assertEquals("status", 200, response.getStatus());
+        BulkVoteResponse result = (BulkVoteResponse) response.getEntity();
+        assertEquals("accepted", 2, result.accepted);
+        assertEquals("results", 3, result.results.length);
+        assertTrue("key voted", result.results[0].didVote);
+        assertTrue("language voted", result.results[1].didVote);
+        assertFalse("too long not voted", result.results[2].didVote);
+
+        BallotBox<User> box = fac.ballotBoxForLocale(locale);
+        CLDRFile file = fac.make(locale, false);
+        expect(keyPath, "api key", true, file, box);
+        expect(languagePath, "api language", true, file, box);
+
+        BulkVoteItem unknown = new BulkVoteItem();
+        unknown.xpstrid = "0";
+        request.votes = new BulkVoteItem[] {bulkVoteItem(keyPath, "x"), unknown};
+        response = new VoteAPI().bulkVote(locale.getBaseName(), session.id, request);
+        assertEquals("unknown path", 404, response.getStatus());
+        expect(keyPath, "api key", true, file, box);
+
+        box.voteForValues(
+                getMyUser(),
+                Arrays.asList(
+                        new BulkVote(keyPath, null, VoteType.DIRECT),
+                        new BulkVote(languagePath, null, VoteType.DIRECT))); // clean up
+        session.remove();
+    }
+
+    /** Page versions advance on votes, forum posts and user changes, and not otherwise */
+    public void TestPageVersion()
+            throws SQLException, InvalidXPathException, VoteNotAcceptedException {
+        if (TestAll.skipIfNoDb()) return;
+        STFactory fac = getFactory();
+        final CLDRLocale locale = CLDRLocale.getInstance("fr");
+        final CLDRLocale child = CLDRLocale.getInstance("fr_CA");
+        final String keyPath = "//ldml/localeDisplayNames/keys/key[@type=\"collation\"]";
+        final String languagePath = "//ldml/localeDisplayNames/languages/language[@type=\"nl\"]";
+        final PathHeader.PageId keyPage = fac.getPathHeader(keyPath).getPageId();
+        final PathHeader.PageId languagePage = fac.getPathHeader(languagePath).getPageId();
+        final List<String> paths = Arrays.asList(keyPath, languagePath);
+        BallotBox<User> box = fac.ballotBoxForLocale(locale);
+        fac.ballotBoxForLocale(child); // load it
+
+        final long keyVersion = fac.getPageVersion(locale, keyPage);
+        final long languageVersion = fac.getPageVersion(locale, languagePage);
+        assertEquals("unchanged", keyVersion, fac.getPageVersion(locale, keyPage));
+        assertTrue(
+                "nothing changed", fac.getPathsChangedSince(locale, paths, keyVersion).isEmpty());
+
+        box.voteForValue(getMyUser(), keyPath, "version key");
+        final long votedVersion = fac.getPageVersion(locale, keyPage);
+        assertTrue("vote advances the page", votedVersion > keyVersion);
+        assertTrue("and the child's page", fac.getPageVersion(child, keyPage) > keyVersion);
+        assertEquals("not other pages", languageVersion, fac.getPageVersion(locale, languagePage));
+        assertEquals(
+                "changed since",
+                Collections.singleton(keyPath),
+                fac.getPathsChangedSince(locale, paths, keyVersion));
+        assertTrue("none since", fac.getPathsChangedSince(locale, paths, votedVersion).isEmpty());
+
+        fac.pathChanged(locale, fac.sm.xpt.getByXpath(languagePath)); // as by a forum post
+        assertTrue(
+                "post advances the page",
+                fac.getPageVersion(locale, languagePage) > languageVersion);
+        assertEquals("not other pages", votedVersion, fac.getPageVersion(locale, keyPage));
+        assertEquals(
+                "changed since",
+                Collections.singleton(languagePath),
+                fac.getPathsChangedSince(locale, paths, votedVersion));
+
+        final long postedVersion = fac.getPageVersion(locale, languagePage);
+        fac.sm.reg.userModified(getMyUser().id);
+        assertTrue(
+                "user change advances all pages",
+                fac.getPageVersion(locale, keyPage) > postedVersion);
+        assertEquals(
+                "all changed",
+                new HashSet<>(paths),
+                fac.getPathsChangedSince(locale, paths, postedVersion));
+
+        box.voteForValue(getMyUser(), keyPath, null); // clean up
+    }
+
+    /** Whole pages from VoteAPI: entity tags, and the rows changed since a stamp */
+    public void TestPageSnapshots()
+            throws SQLException, InvalidXPathException, VoteNotAcceptedException {
+        if (TestAll.skipIfNoDb()) return;
+        STFactory fac = getFactory();
+        final CLDRLocale locale = CLDRLocale.getInstance("fr");
+        final String keyPath = "//ldml/localeDisplayNames/keys/key[@type=\"collation\"]";
+        final String languagePath = "//ldml/localeDisplayNames/languages/language[@type=\"nl\"]";
+        final String page = fac.getPathHeader(keyPath).getPageId().name();
+        final CookieSession session = CookieSession.newSession(getMyUser(), "[::1]");
+        final VoteAPI api = new VoteAPI();
+
+        Response response = api.getPage("fr", page, "", 0, null, session.id);
+        assertEquals("status", 200, response.getStatus());
+        RowResponse rows = (RowResponse) response.getEntity();
+        assertFalse("whole page", rows.delta);
+        final Set<String> pagePaths = rowPaths(rows);
+        final long stamp = rows.stamp;
+        final String tag = response.getEntityTag().toString();
+        response = api.getPage("fr", page, "", 0, tag, session.id);
+        assertEquals("not modified", 304, response.getStatus());
+
+        BallotBox<User> box = fac.ballotBoxForLocale(locale);
+        box.voteForValue(getMyUser(), keyPath, "snapshot key");
+        response = api.getPage("fr", page, "", 0, tag, session.id);
+        assertEquals("modified by a vote", 200, response.getStatus());
+        response = api.getPage("fr", page, "", stamp, null, session.id);
+        rows = (RowResponse) response.getEntity();
+        assertTrue("delta", rows.delta);
+        assertTrue("newer", rows.stamp > stamp);
+        final Set<String> expected = new HashSet<>(pagePaths);
+        expected.retainAll(Collections.singleton(keyPath));
+        assertEquals("only the voted row", expected, rowPaths(rows));
+
+        final long votedStamp = rows.stamp;
+        final String votedTag = response.getEntityTag().toString();
+        fac.pathChanged(locale, fac.sm.xpt.getByXpath(languagePath)); // on another page
+        response = api.getPage("fr", page, "", 0, votedTag, session.id);
+        assertEquals("not modified by another page", 304, response.getStatus());
+
+        fac.sm.reg.userModified(getMyUser().id);
+        response = api.getPage("fr", page, "", votedStamp, votedTag, session.id);
+        assertEquals("modified by a user change", 200, response.getStatus());
+        rows = (RowResponse) response.getEntity();
+        assertEquals("all rows", pagePaths, rowPaths(rows));
+
+        box.voteForValue(getMyUser(), keyPath, null); // clean up
+        session.remove();
+    }
+
+    private static Set<String> rowPaths(RowResponse rows) {
+        final Set<String> paths = new HashSet<>();
+        for (RowResponse.Row row : rows.page.rows.values()) {
+            paths.add(row.xpath);
+        }
+        return paths;
+    }
+
+    private static BulkVoteItem bulkVoteItem(String xpath, String value) {
+        BulkVoteItem item = new BulkVoteItem();
+        item.xpstrid = XPathTable.getStringIDString(xpath);
+        item.value = value;
+        item.voteType = VoteType.DIRECT.name();
+        return item;
+    }
+
     public void TestDenyVote() throws SQLException, IOException {
         if (TestAll.skipIfNoDb()) return;
         STFactory fac = getFactory();
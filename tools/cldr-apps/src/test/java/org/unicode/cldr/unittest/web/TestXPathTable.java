@@ -4,7 +4,9 @@ package org.unicode.cldr.unittest.web;
 import com.ibm.icu.dev.test.TestFmwk;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import org.unicode.cldr.web.CookieSession;
@@ -68,6 +70,46 @@ public class TestXPathTable extends TestFmwk {
                 xpt.getByStringID("Not Really Hex")); // null, parse failure
     }
 
+    /** Threads adding the same new xpaths at once must all get the same ids */
+    public void TestConcurrentAdd() throws SQLException, InterruptedException {
+        if (TestAll.skipIfNoDb()) return;
+        Connection conn = DBUtils.getInstance().getDBConnection();
+        XPathTable xpt = XPathTable.createTable(conn);
+        DBUtils.closeDBConnection(conn);
+        final int THREADS = 8;
+        final String prefix = "//test/concurrent/" + System.currentTimeMillis() + "/";
+        final List<Map<String, Integer>> results = new ArrayList<>();
+        final Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            final Map<String, Integer> result = new HashMap<>();
+            results.add(result);
+            threads[t] =
+                    new Thread(
+                            () -> {
+                                for (int i = 0; i < TEST_COUNT; i++) {
+                                    final String str = prefix + i;
+                                    result.put(str, xpt.getByXpath(str));
+                                }
+                            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        final Map<Integer, String> idToXpath = new HashMap<>();
+        for (Map.Entry<String, Integer> e : results.get(0).entrySet()) {
+            final String other = idToXpath.put(e.getValue(), e.getKey());
+            if (other != null) {
+                errln("Duplicate id " + e.getValue() + " for " + e.getKey() + " and " + other);
+            }
+            assertEquals("xpath for " + e.getValue(), e.getKey(), xpt.getById(e.getValue()));
+        }
+        for (int t = 1; t < THREADS; t++) {
+            assertEquals("ids from thread " + t, results.get(0), results.get(t));
+        }
+        assertEquals("not found", -1, xpt.peekByXpath(prefix + "missing"));
+    }
+
     public void TestRemoveDraftAltProposed() {
         String inout[] = {
             "//ldml/foo/bar[@draft=\"true\"]",
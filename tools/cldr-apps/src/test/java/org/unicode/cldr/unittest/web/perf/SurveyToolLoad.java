@@ -0,0 +1,448 @@
+package org.unicode.cldr.unittest.web.perf;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.ws.rs.core.Response;
+import org.unicode.cldr.unittest.web.TestAll;
+import org.unicode.cldr.unittest.web.TestSTFactory;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.CldrUtility;
+import org.unicode.cldr.util.PathHeader;
+import org.unicode.cldr.util.PathHeader.SurveyToolStatus;
+import org.unicode.cldr.util.VoteResolver;
+import org.unicode.cldr.web.CookieSession;
+import org.unicode.cldr.web.STFactory;
+import org.unicode.cldr.web.SearchManager.SearchRequest;
+import org.unicode.cldr.web.SearchManager.SearchResponse;
+import org.unicode.cldr.web.UserRegistry.User;
+import org.unicode.cldr.web.XPathTable;
+import org.unicode.cldr.web.api.SearchAPI;
+import org.unicode.cldr.web.api.Summary;
+import org.unicode.cldr.web.api.VoteAPI;
+import org.unicode.cldr.web.api.VoteRequest;
+
+/**
+ * Generates Survey Tool load in-process, to find capacity regressions without a live server.
+ *
+ * <p>The STFactory, UserRegistry and XPathTable are set up as for TestSTFactory, against the test
+ * database given by -Dorg.unicode.cldr.unittest.web.jdbcurl, which may be any MySQL-compatible
+ * server, such as a local MariaDB. A population of vetters then calls the JAX-RS resources
+ * directly, as the front end would: voting, loading pages, searching and reading the dashboard.
+ *
+ * <p>At the end, the throughput and latency percentiles of each kind of request are printed,
+ * with the errors counted by HTTP status or exception class, along with the time that the vetter
+ * threads spent blocked or waiting, and the locks they were most often blocked on.
+ *
+ * <p>Options, all -D properties:
+ *
+ * <ul>
+ *   <li>LOAD_VETTERS: number of concurrent vetters (default 16)
+ *   <li>LOAD_LOCALES: comma-separated locales to vote in (default de,fr,ja)
+ *   <li>LOAD_SECONDS: how long to generate load (default 60)
+ *   <li>LOAD_MIX: relative weights of the actions (default vote=50,page=30,search=10,dashboard=10)
+ *   <li>LOAD_THINK_MS: pause after each action, per vetter (default 0)
+ *   <li>LOAD_SEED: random seed, for repeatable runs (default 0)
+ * </ul>
+ *
+ * <p>Run with -DCLDR_ENVIRONMENT=UNITTEST. Note that the votes are written to the test database.
+ */
+public class SurveyToolLoad {
+    private static final int VETTERS =
+            Integer.parseInt(CldrUtility.getProperty("LOAD_VETTERS", "16"));
+    private static final String LOCALES = CldrUtility.getProperty("LOAD_LOCALES", "de,fr,ja");
+    private static final int SECONDS =
+            Integer.parseInt(CldrUtility.getProperty("LOAD_SECONDS", "60"));
+    private static final String MIX =
+            CldrUtility.getProperty("LOAD_MIX", "vote=50,page=30,search=10,dashboard=10");
+    private static final int THINK_MS =
+            Integer.parseInt(CldrUtility.getProperty("LOAD_THINK_MS", "0"));
+    private static final int SEED = Integer.parseInt(CldrUtility.getProperty("LOAD_SEED", "0"));
+
+    /** How often the vetter threads are sampled for the locks they are blocked on */
+    private static final int SAMPLE_MS = 50;
+
+    /** How often a search is polled until it is done */
+    private static final int SEARCH_POLL_MS = 100;
+
+    /** The organizations that the vetters are spread over */
+    private static final String[] ORGS = {"apple", "google", "meta", "microsoft", "mozilla"};
+
+    /** Paths voted on in each page; enough for a realistic spread of ballot boxes */
+    private static final int PATHS_PER_PAGE = 20;
+
+    enum Action {
+        vote,
+        page,
+        search,
+        dashboard
+    }
+
+    /** The latencies and errors of one kind of request */
+    static final class Recorder {
+        private long[] nanos = new long[1024];
+        private int count = 0;
+        private int errors = 0;
+        // error (HTTP status or exception class) to count, and to its first message
+        private final Map<String, Integer> errorCounts = new TreeMap<>();
+        private final Map<String, String> errorMessages = new TreeMap<>();
+
+        /**
+         * @param error null if the request succeeded, otherwise the HTTP status or exception class
+         * @param message the detail of the error, kept for the first of each kind
+         */
+        synchronized void add(long elapsed, String error, String message) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = elapsed;
+            if (error != null) {
+                ++errors;
+                errorCounts.merge(error, 1, Integer::sum);
+                errorMessages.putIfAbsent(error, message);
+            }
+        }
+
+        synchronized String report(double seconds) {
+            if (count == 0) {
+                return "none";
+            }
+            final long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return String.format(
+                    "%7d req %5d err %8.1f/s   p50 %8.1f ms   p90 %8.1f ms   p99 %8.1f ms"
+                            + "   max %8.1f ms",
+                    count,
+                    errors,
+                    count / seconds,
+                    millis(sorted, 0.50),
+                    millis(sorted, 0.90),
+                    millis(sorted, 0.99),
+                    sorted[count - 1] / 1e6);
+        }
+
+        synchronized void reportErrors() {
+            errorCounts.forEach(
+                    (error, n) ->
+                            System.out.println(
+                                    String.format(
+                                            "\t%7d\t%s\t%s", n, error, errorMessages.get(error))));
+        }
+
+        private static double millis(long[] sorted, double fraction) {
+            final int index = (int) Math.ceil(fraction * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    /** A page of one locale, with some of its paths */
+    static final class Page {
+        final String locale;
+        final String pageId;
+        final List<String> xpaths = new ArrayList<>();
+
+        Page(String locale, String pageId) {
+            this.locale = locale;
+            this.pageId = pageId;
+        }
+    }
+
+    private final STFactory fac;
+    private final Map<Action, Integer> weights = new EnumMap<>(Action.class);
+    private final Map<Action, Recorder> recorders = new EnumMap<>(Action.class);
+    private final List<Page> pages = new ArrayList<>();
+    private final Map<String, Long> blockedOn = new ConcurrentHashMap<>();
+    private final AtomicLong samples = new AtomicLong();
+    // totals of the vetters' contention counts, recorded as each vetter finishes
+    private final AtomicLong blockedCount = new AtomicLong();
+    private final AtomicLong blockedMillis = new AtomicLong();
+    private final AtomicLong waitedMillis = new AtomicLong();
+    // the part of the waiting that is the vetters' own sleeping: think time and search polling
+    private final AtomicLong sleptNanos = new AtomicLong();
+
+    public static void main(String[] args) throws Exception {
+        TestAll.doResetDb(args);
+        if (TestAll.skipIfNoDb()) {
+            return;
+        }
+        new SurveyToolLoad(TestSTFactory.createFactory()).run();
+        System.exit(0); // the Survey Tool leaves non-daemon threads running
+    }
+
+    SurveyToolLoad(STFactory fac) {
+        this.fac = fac;
+        for (String item : MIX.split(",")) {
+            final String[] parts = item.trim().split("=");
+            weights.put(Action.valueOf(parts[0]), Integer.parseInt(parts[1]));
+        }
+        for (Action action : Action.values()) {
+            recorders.put(action, new Recorder());
+        }
+    }
+
+    void run() throws Exception {
+        for (String locale : LOCALES.split(",")) {
+            addPages(locale.trim());
+        }
+        final List<CookieSession> sessions = makeVetters();
+        System.out.println(
+                "Load: "
+                        + VETTERS
+                        + " vetters, "
+                        + pages.size()
+                        + " pages in "
+                        + LOCALES
+                        + ", "
+                        + SECONDS
+                        + "s, mix "
+                        + weights);
+
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads.isThreadContentionMonitoringSupported()) {
+            threads.setThreadContentionMonitoringEnabled(true);
+        }
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS);
+        final CountDownLatch done = new CountDownLatch(VETTERS);
+        final List<Thread> vetters = new ArrayList<>();
+        for (int i = 0; i < VETTERS; i++) {
+            final CookieSession session = sessions.get(i);
+            final Random random = new Random(SEED * 1000L + i);
+            final Thread vetter =
+                    new Thread(
+                            () -> {
+                                try {
+                                    while (System.nanoTime() < deadline) {
+                                        doOneAction(session, random);
+                                        if (THINK_MS > 0) {
+                                            sleep(THINK_MS);
+                                        }
+                                    }
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                } finally {
+                                    recordContention(threads);
+                                    done.countDown();
+                                }
+                            },
+                            "vetter-" + i);
+            vetters.add(vetter);
+        }
+        final long start = System.nanoTime();
+        vetters.forEach(Thread::start);
+        final long[] ids = vetters.stream().mapToLong(Thread::getId).toArray();
+        while (!done.await(SAMPLE_MS, TimeUnit.MILLISECONDS)) {
+            sampleBlocked(threads, ids);
+        }
+        final double seconds = (System.nanoTime() - start) / 1e9;
+        report(seconds);
+    }
+
+    /** Collect the pages of the locale that can be voted on, with some paths of each */
+    private void addPages(String locale) {
+        final CLDRFile file = fac.make(CLDRLocale.getInstance(locale), true);
+        final Map<String, Page> idToPage = new TreeMap<>();
+        for (String xpath : file) {
+            final PathHeader ph = fac.getPathHeader(xpath);
+            if (ph == null
+                    || ph.getSurveyToolStatus() != SurveyToolStatus.READ_WRITE
+                    || file.getStringValue(xpath) == null) {
+                continue;
+            }
+            final Page page =
+                    idToPage.computeIfAbsent(ph.getPageId().name(), id -> new Page(locale, id));
+            if (page.xpaths.size() < PATHS_PER_PAGE) {
+                fac.sm.xpt.getByXpath(xpath); // so that its string id is known
+                page.xpaths.add(xpath);
+            }
+        }
+        pages.addAll(idToPage.values());
+    }
+
+    /** Register the vetters, spread over the organizations, and log each of them in */
+    private List<CookieSession> makeVetters() {
+        final List<CookieSession> sessions = new ArrayList<>();
+        for (int i = 0; i < VETTERS; i++) {
+            final String org = ORGS[i % ORGS.length];
+            final String name = "load" + i;
+            final String email = name + "@" + org + ".example.com";
+            User user = fac.sm.reg.get(email);
+            if (user == null) {
+                user =
+                        fac.sm.reg.createTestUser(
+                                name,
+                                org,
+                                LOCALES.replace(',', ' '),
+                                VoteResolver.Level.vetter,
+                                email);
+            }
+            sessions.add(CookieSession.newSession(user, "127.0.0." + (i % 250 + 1)));
+        }
+        return sessions;
+    }
+
+    private void doOneAction(CookieSession session, Random random) throws InterruptedException {
+        final Action action = pickAction(random);
+        final Page page = pages.get(random.nextInt(pages.size()));
+        final String xpath = page.xpaths.get(random.nextInt(page.xpaths.size()));
+        final long start = System.nanoTime();
+        String error = null;
+        String message = null;
+        try {
+            final Response response = perform(action, session, page, xpath, random);
+            if (!isOk(response)) {
+                error = "HTTP " + response.getStatus();
+                message = String.valueOf(response.getEntity());
+            }
+        } catch (RuntimeException e) {
+            error = e.getClass().getName();
+            message = String.valueOf(e.getMessage());
+        }
+        recorders.get(action).add(System.nanoTime() - start, error, message);
+    }
+
+    /** Sleep, counting the time so that it can be taken out of the vetters' waiting time */
+    private void sleep(long millis) throws InterruptedException {
+        final long start = System.nanoTime();
+        try {
+            Thread.sleep(millis);
+        } finally {
+            sleptNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    private Action pickAction(Random random) {
+        final int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        int pick = random.nextInt(total);
+        for (Map.Entry<Action, Integer> entry : weights.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalArgumentException("Bad LOAD_MIX " + MIX);
+    }
+
+    private Response perform(
+            Action action, CookieSession session, Page page, String xpath, Random random)
+            throws InterruptedException {
+        switch (action) {
+            case vote:
+                {
+                    // Vote either for the current value or for one of a few alternatives, so
+                    // that the vetters of a locale agree and disagree with each other
+                    final String value =
+                            fac.make(CLDRLocale.getInstance(page.locale), true)
+                                    .getStringValue(xpath);
+                    final int variant = random.nextInt(3);
+                    final VoteRequest request = new VoteRequest();
+                    request.value = variant == 0 ? value : value + " " + variant;
+                    return new VoteAPI()
+                            .vote(
+                                    page.locale,
+                                    XPathTable.getStringIDString(xpath),
+                                    session.id,
+                                    request);
+                }
+            case page:
+                return new VoteAPI().getPage(page.locale, page.pageId, "", 0, null, session.id);
+            case search:
+                {
+                    final String value =
+                            fac.make(CLDRLocale.getInstance(page.locale), true)
+                                    .getStringValue(xpath);
+                    Response response =
+                            new SearchAPI()
+                                    .newSearch(page.locale, session.id, new SearchRequest(value));
+                    if (!isOk(response)) {
+                        return response;
+                    }
+                    final String token = ((SearchResponse) response.getEntity()).token;
+                    // poll until the search is done, as the front end would
+                    while (isOk(response) && ((SearchResponse) response.getEntity()).isOngoing) {
+                        sleep(SEARCH_POLL_MS);
+                        response = new SearchAPI().searchStatus(token, session.id);
+                    }
+                    return response;
+                }
+            case dashboard:
+                return new Summary().getDashboard(page.locale, "modern", session.id);
+            default:
+                throw new IllegalArgumentException("Unknown action " + action);
+        }
+    }
+
+    private static boolean isOk(Response response) {
+        return response.getStatus() < 400;
+    }
+
+    /** Count the locks that the vetters are blocked on right now */
+    private void sampleBlocked(ThreadMXBean threads, long[] ids) {
+        samples.incrementAndGet();
+        for (ThreadInfo info : threads.getThreadInfo(ids)) {
+            if (info != null && info.getThreadState() == Thread.State.BLOCKED) {
+                blockedOn.merge(String.valueOf(info.getLockName()), 1L, Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Add the contention counts of the current thread to the totals. Called by each vetter as it
+     * finishes, since there is no ThreadInfo for a thread once it has exited.
+     */
+    private void recordContention(ThreadMXBean threads) {
+        final ThreadInfo info = threads.getThreadInfo(Thread.currentThread().getId());
+        if (info != null) {
+            blockedCount.addAndGet(info.getBlockedCount());
+            blockedMillis.addAndGet(Math.max(0, info.getBlockedTime()));
+            waitedMillis.addAndGet(Math.max(0, info.getWaitedTime()));
+        }
+    }
+
+    private void report(double seconds) {
+        long total = 0;
+        System.out.println();
+        System.out.println(String.format("Ran for %.1fs", seconds));
+        for (Action action : Action.values()) {
+            System.out.println(
+                    String.format("%-10s %s", action, recorders.get(action).report(seconds)));
+            recorders.get(action).reportErrors();
+            total += recorders.get(action).count;
+        }
+        System.out.println(String.format("Throughput: %.1f requests/s", total / seconds));
+
+        final double slept = sleptNanos.get() / 1e9;
+        System.out.println(
+                String.format(
+                        "Lock contention: blocked %d times, %.1fs blocked and %.1fs waiting in"
+                                + " all, not counting %.1fs of think time and search polling,"
+                                + " %.1f%% of vetter time blocked",
+                        blockedCount.get(),
+                        blockedMillis.get() / 1000.0,
+                        Math.max(0, waitedMillis.get() / 1000.0 - slept),
+                        slept,
+                        100.0 * blockedMillis.get() / (VETTERS * seconds * 1000)));
+        System.out.println("Most contended locks (share of " + samples + " samples):");
+        blockedOn.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(10)
+                .forEach(
+                        e ->
+                                System.out.println(
+                                        String.format(
+                                                "\t%6.1f%%\t%s",
+                                                100.0 * e.getValue() / samples.get(),
+                                                e.getKey())));
+    }
+}
@@ -0,0 +1,300 @@
+package org.unicode.cldr.web;
+
+import com.ibm.icu.dev.test.TestFmwk;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import org.unicode.cldr.unittest.web.TestAll;
+import org.unicode.cldr.unittest.web.TestSTFactory;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.web.SurveyForum.PostType;
+
+/**
+ * Test the ForumIndex against the forum table: everything it returns should be what the SQL
+ * queries that it replaced return.
+ */
+public class TestForumIndex extends TestFmwk {
+    public static void main(String[] args) {
+        new TestForumIndex().run(args);
+    }
+
+    private static final CLDRLocale LOCALE = CLDRLocale.getInstance("fr");
+    private static final int ALICE = 2801;
+    private static final int BOB = 2802;
+    private static final int NO_ROOT = SurveyForum.NO_PARENT;
+
+    private int xpathId;
+    private final List<Integer> inserted = new ArrayList<>();
+
+    public TestForumIndex() {
+        if (TestAll.skipIfNoDb()) return;
+        TestAll.setupTestDb();
+    }
+
+    @Override
+    protected void init() throws Exception {
+        super.init();
+        if (TestAll.skipIfNoDb()) return;
+        if (CookieSession.sm == null) {
+            TestSTFactory.createFactory();
+        }
+        final SurveyMain sm = CookieSession.sm;
+        if (sm.fora == null) {
+            sm.fora = SurveyForum.createTable(DBUtils.getInstance().getDBConnection(), sm);
+        }
+        xpathId = sm.xpt.getByXpath("//ldml/localeDisplayNames/languages/language[@type=\"nl\"]");
+    }
+
+    /** Load a locale, and count the posts and find their paths */
+    public void TestLoad() throws SQLException {
+        if (TestAll.skipIfNoDb()) return;
+        try {
+            final int request = insert(NO_ROOT, ALICE, PostType.REQUEST, true, "a");
+            insert(request, BOB, PostType.AGREE, true, "a");
+            insert(NO_ROOT, BOB, PostType.DISCUSS, false, null);
+            final ForumIndex index = new ForumIndex();
+            assertEquals("count", sqlCount(), index.getPostCount(LOCALE, xpathId));
+            assertEquals("path", xpathId, index.getXpathOfPost(LOCALE, request));
+            assertEquals("unknown post", XPathTable.NO_XPATH, index.getXpathOfPost(LOCALE, -2));
+            assertEquals("other path", 0, index.getPostCount(LOCALE, XPathTable.NO_XPATH - 1));
+            checkMatching(index);
+        } finally {
+            deleteInserted();
+        }
+    }
+
+    /** The auto Agree, Decline and Close posts find the same posts as the old queries */
+    public void TestMatching() throws SQLException {
+        if (TestAll.skipIfNoDb()) return;
+        try {
+            final int aliceA = insert(NO_ROOT, ALICE, PostType.REQUEST, true, "a");
+            final int aliceB = insert(NO_ROOT, ALICE, PostType.REQUEST, true, "b");
+            insert(NO_ROOT, ALICE, PostType.REQUEST, false, "c"); // closed
+            insert(NO_ROOT, ALICE, PostType.REQUEST, true, null); // no value
+            final int bobA = insert(NO_ROOT, BOB, PostType.REQUEST, true, "a");
+            insert(aliceA, BOB, PostType.AGREE, true, "a");
+            insert(aliceB, BOB, PostType.AGREE, true, "b");
+            insert(aliceB, ALICE, PostType.DISCUSS, true, "b");
+            insert(bobA, ALICE, PostType.AGREE, true, "a");
+            checkMatching(new ForumIndex());
+        } finally {
+            deleteInserted();
+        }
+    }
+
+    /** Posts added and threads closed after loading are seen as if they were loaded */
+    public void TestAddPostAndCloseThread() throws SQLException {
+        if (TestAll.skipIfNoDb()) return;
+        try {
+            final ForumIndex index = new ForumIndex();
+            final int before = index.getPostCount(LOCALE, xpathId); // load
+            final int request = insert(NO_ROOT, ALICE, PostType.REQUEST, true, "a");
+            index.addPost(
+                    LOCALE, request, xpathId, NO_ROOT, ALICE, PostType.REQUEST, true, "s", "a");
+            final int agree = insert(request, BOB, PostType.AGREE, true, "a");
+            index.addPost(LOCALE, agree, xpathId, request, BOB, PostType.AGREE, true, "s", "a");
+            index.addPost(LOCALE, agree, xpathId, request, BOB, PostType.AGREE, true, "s", "a");
+            assertEquals("added once", before + 2, index.getPostCount(LOCALE, xpathId));
+            assertEquals("count", sqlCount(), index.getPostCount(LOCALE, xpathId));
+            assertEquals("path", xpathId, index.getXpathOfPost(LOCALE, agree));
+            checkMatching(index);
+
+            closeThread(request);
+            index.closeThread(LOCALE, xpathId, request);
+            assertEquals(
+                    "closed posts still count", sqlCount(), index.getPostCount(LOCALE, xpathId));
+            assertEquals(
+                    "closed",
+                    0,
+                    index.getOpenPosts(LOCALE, xpathId, p -> p.getThreadId() == request).size());
+            checkMatching(index);
+        } finally {
+            deleteInserted();
+        }
+    }
+
+    /** A post added before the locale is loaded is read from the database, once */
+    public void TestAddBeforeLoad() throws SQLException {
+        if (TestAll.skipIfNoDb()) return;
+        try {
+            final ForumIndex index = new ForumIndex();
+            final int request = insert(NO_ROOT, ALICE, PostType.REQUEST, true, "a");
+            index.addPost(
+                    LOCALE, request, xpathId, NO_ROOT, ALICE, PostType.REQUEST, true, "s", "a");
+            assertEquals("count", sqlCount(), index.getPostCount(LOCALE, xpathId));
+            checkMatching(index);
+        } finally {
+            deleteInserted();
+        }
+    }
+
+    /** After changes made behind its back, clear makes the index read the database again */
+    public void TestClear() throws SQLException {
+        if (TestAll.skipIfNoDb()) return;
+        try {
+            final ForumIndex index = new ForumIndex();
+            final int before = index.getPostCount(LOCALE, xpathId); // load
+            final int request = insert(NO_ROOT, ALICE, PostType.REQUEST, true, "a");
+            assertEquals("not seen yet", before, index.getPostCount(LOCALE, xpathId));
+            closeThread(request);
+            index.clear();
+            assertEquals("count", sqlCount(), index.getPostCount(LOCALE, xpathId));
+            assertEquals("path", xpathId, index.getXpathOfPost(LOCALE, request));
+            checkMatching(index);
+        } finally {
+            deleteInserted();
+        }
+    }
+
+    /** Compare the posts matched for the auto posts with those matched by the old queries */
+    private void checkMatching(ForumIndex index) throws SQLException {
+        for (int user : new int[] {ALICE, BOB}) {
+            for (String value : Arrays.asList("a", "b", "c", null)) {
+                final String what = " for #" + user + " voting for " + value;
+                if (value != null) {
+                    assertEquals(
+                            "agree" + what,
+                            sqlIds(
+                                    "SELECT id FROM "
+                                            + DBUtils.Table.FORUM_POSTS
+                                            + " WHERE is_open=true AND type=? AND loc=? AND xpath=?"
+                                            + " AND value=? AND NOT poster=?",
+                                    PostType.REQUEST,
+                                    value,
+                                    user),
+                            ids(index.getRequestsToAgree(LOCALE, xpathId, user, value)));
+                }
+                final String dbValue = value == null ? "" : value;
+                assertEquals(
+                        "decline" + what,
+                        sqlIds(
+                                "SELECT id FROM "
+                                        + DBUtils.Table.FORUM_POSTS
+                                        + " WHERE is_open=true AND type=? AND loc=? AND xpath=?"
+                                        + " AND poster=? AND NOT value=?",
+                                PostType.AGREE,
+                                user,
+                                dbValue),
+                        ids(index.getAgreesToDecline(LOCALE, xpathId, user, value)));
+                assertEquals(
+                        "close" + what,
+                        sqlIds(
+                                "SELECT id FROM "
+                                        + DBUtils.Table.FORUM_POSTS
+                                        + " WHERE is_open=true AND type=? AND loc=? AND xpath=?"
+                                        + " AND poster=? AND NOT value=?",
+                                PostType.REQUEST,
+                                user,
+                                dbValue),
+                        ids(index.getRequestsToClose(LOCALE, xpathId, user, value)));
+            }
+        }
+    }
+
+    private static Set<Integer> ids(List<ForumIndex.OpenPost> posts) {
+        final Set<Integer> ids = new TreeSet<>();
+        for (ForumIndex.OpenPost post : posts) {
+            ids.add(post.id);
+        }
+        return ids;
+    }
+
+    /** Run a query on the test path with the given type, then the other arguments */
+    private Set<Integer> sqlIds(String sql, PostType type, Object arg4, Object arg5)
+            throws SQLException {
+        final Set<Integer> ids = new TreeSet<>();
+        try (Connection conn = DBUtils.getInstance().getAConnection();
+                PreparedStatement ps =
+                        DBUtils.prepareStatementWithArgs(
+                                conn, sql, type.toInt(), LOCALE.getBaseName(), xpathId, arg4, arg5);
+                ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        }
+        return ids;
+    }
+
+    private int sqlCount() throws SQLException {
+        try (Connection conn = DBUtils.getInstance().getAConnection();
+                PreparedStatement ps =
+                        DBUtils.prepareStatementWithArgs(
+                                conn,
+                                "SELECT COUNT(*) FROM "
+                                        + DBUtils.Table.FORUM_POSTS
+                                        + " WHERE loc=? AND xpath=?",
+                                LOCALE.getBaseName(),
+                                xpathId)) {
+            return DBUtils.sqlCount(ps);
+        }
+    }
+
+    /** Add a post on the test path straight to the database, as SurveyForum does */
+    private int insert(int root, int poster, PostType type, boolean open, String value)
+            throws SQLException {
+        try (Connection conn = DBUtils.getInstance().getDBConnection();
+                PreparedStatement ps =
+                        DBUtils.prepareStatement(
+                                conn,
+                                "pAdd",
+                                "INSERT INTO "
+                                        + DBUtils.Table.FORUM_POSTS
+                                        + " (poster,subj,text,forum,parent,loc,xpath,root,type,"
+                                        + "is_open,value) values (?,?,?,?,?,?,?,?,?,?,?)")) {
+            ps.setInt(1, poster);
+            DBUtils.setStringUTF8(ps, 2, "TestForumIndex");
+            DBUtils.setStringUTF8(ps, 3, type.toName());
+            ps.setInt(4, 1);
+            ps.setInt(5, root);
+            ps.setString(6, LOCALE.getBaseName());
+            ps.setInt(7, xpathId);
+            ps.setInt(8, root);
+            ps.setInt(9, type.toInt());
+            ps.setBoolean(10, open);
+            DBUtils.setStringUTF8(ps, 11, value);
+            ps.executeUpdate();
+            conn.commit();
+            final int id = DBUtils.getLastId(ps);
+            inserted.add(id);
+            return id;
+        }
+    }
+
+    /** Close a thread in the database, as SurveyForum.closeThreads does */
+    private static void closeThread(int root) throws SQLException {
+        try (Connection conn = DBUtils.getInstance().getDBConnection();
+                PreparedStatement ps =
+                        DBUtils.prepareStatementWithArgs(
+                                conn,
+                                "UPDATE "
+                                        + DBUtils.Table.FORUM_POSTS
+                                        + " SET is_open=FALSE WHERE id=? OR root=?",
+                                root,
+                                root)) {
+            ps.executeUpdate();
+            conn.commit();
+        }
+    }
+
+    private void deleteInserted() throws SQLException {
+        try (Connection conn = DBUtils.getInstance().getDBConnection()) {
+            for (int id : inserted) {
+                try (PreparedStatement ps =
+                        DBUtils.prepareStatementWithArgs(
+                                conn,
+                                "DELETE FROM " + DBUtils.Table.FORUM_POSTS + " WHERE id=?",
+                                id)) {
+                    ps.executeUpdate();
+                }
+            }
+            conn.commit();
+        }
+        inserted.clear();
+    }
+}
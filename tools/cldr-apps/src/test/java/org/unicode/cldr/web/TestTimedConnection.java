@@ -0,0 +1,29 @@
+package org.unicode.cldr.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class TestTimedConnection {
+    @Test
+    void TestQueryNames() {
+        assertEquals(
+                "SELECT cldr_vote_value",
+                TimedConnection.getQueryName(
+                        "SELECT xpath,value FROM cldr_vote_value WHERE locale=?"));
+        assertEquals(
+                "INSERT cldr_vote_value_alt",
+                TimedConnection.getQueryName(
+                        "insert ignore into CLDR_VOTE_VALUE_ALT SELECT * FROM cldr_vote_value"));
+        assertEquals(
+                "UPDATE cldr_users",
+                TimedConnection.getQueryName(
+                        "UPDATE cldr_users SET x=(SELECT 1 FROM cldr_other) WHERE id=?"));
+        assertEquals(
+                "DELETE cldr_vote_flagged",
+                TimedConnection.getQueryName(
+                        "DELETE FROM cldr_vote_flagged\n WHERE locale=? AND xpath=?"));
+        assertEquals("CREATE cldr_x", TimedConnection.getQueryName("CREATE TABLE cldr_x (id INT)"));
+        assertEquals("SELECT", TimedConnection.getQueryName("SELECT 1"));
+    }
+}
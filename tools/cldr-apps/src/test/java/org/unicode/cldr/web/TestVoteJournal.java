@@ -0,0 +1,169 @@
+package org.unicode.cldr.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+
+public class TestVoteJournal {
+    private static final long TIMEOUT = 10000;
+
+    /** Records the xpath ids of the votes written, failing for the ids in failing */
+    private static class RecordingWriter implements VoteJournal.BatchWriter {
+        final List<Integer> written = new ArrayList<>();
+        final List<Integer> failing;
+
+        RecordingWriter(Integer... failing) {
+            this.failing = Arrays.asList(failing);
+        }
+
+        @Override
+        public synchronized void write(List<VoteJournal.Entry> batch) throws SQLException {
+            for (VoteJournal.Entry e : batch) {
+                if (failing.contains(e.xpathId)) {
+                    throw new SQLException("Can't write xpath #" + e.xpathId);
+                }
+            }
+            for (VoteJournal.Entry e : batch) {
+                written.add(e.xpathId);
+            }
+        }
+
+        synchronized List<Integer> getWritten() {
+            return new ArrayList<>(written);
+        }
+    }
+
+    private static VoteJournal.Entry entry(int xpathId) {
+        return new VoteJournal.Entry("fr", xpathId, 1, "v" + xpathId, null, 1, false, 1000);
+    }
+
+    @Test
+    void TestAppendAndEmpty() throws IOException, InterruptedException {
+        File dir = Files.createTempDirectory("TestVoteJournal").toFile();
+        try {
+            File file = new File(dir, "votejournal.jsonl");
+            RecordingWriter writer = new RecordingWriter();
+            VoteJournal journal = new VoteJournal(file, 2, 3, 1, writer);
+            journal.appendAll(Arrays.asList(entry(1), entry(2), entry(3)));
+            journal.append(entry(4));
+            assertTrue(journal.flush(TIMEOUT), "flushed");
+            assertEquals(Arrays.asList(1, 2, 3, 4), writer.getWritten());
+            assertTrue(journal.getUncommitted("fr").isEmpty(), "nothing uncommitted");
+            assertEquals(0, file.length(), "journal emptied");
+            assertFalse(new File(dir, file.getName() + ".committed").exists(), "no progress");
+            journal.shutdown();
+        } finally {
+            deleteDirectory(dir);
+        }
+    }
+
+    @Test
+    void TestReplaySkipsCommitted() throws IOException, JSONException, InterruptedException {
+        File dir = Files.createTempDirectory("TestVoteJournal").toFile();
+        try {
+            File file = new File(dir, "votejournal.jsonl");
+            // as left by a crash: the first two votes committed, and the last one cut off
+            Files.writeString(
+                    file.toPath(),
+                    entry(1).toJSONString()
+                            + "\n"
+                            + entry(2).toJSONString()
+                            + "\n"
+                            + entry(3).toJSONString()
+                            + "\n"
+                            + entry(4).toJSONString()
+                            + "\n"
+                            + "{\"locale\":\"fr\",\"xpa",
+                    StandardCharsets.UTF_8);
+            Files.writeString(new File(dir, file.getName() + ".committed").toPath(), "2");
+
+            RecordingWriter writer = new RecordingWriter();
+            VoteJournal journal = new VoteJournal(file, 500, 3, 1, writer);
+            assertEquals(Arrays.asList(3, 4), writer.getWritten(), "only uncommitted replayed");
+            assertEquals(0, file.length(), "journal emptied");
+            assertFalse(new File(dir, file.getName() + ".committed").exists(), "no progress");
+            journal.shutdown();
+        } finally {
+            deleteDirectory(dir);
+        }
+    }
+
+    @Test
+    void TestFailedVotesSetAside() throws IOException, JSONException, InterruptedException {
+        File dir = Files.createTempDirectory("TestVoteJournal").toFile();
+        try {
+            File file = new File(dir, "votejournal.jsonl");
+            RecordingWriter writer = new RecordingWriter(2);
+            VoteJournal journal = new VoteJournal(file, 500, 2, 1, writer);
+            journal.appendAll(Arrays.asList(entry(1), entry(2), entry(3)));
+            assertTrue(journal.flush(TIMEOUT), "flushed");
+            assertEquals(Arrays.asList(1, 3), writer.getWritten(), "the others are written");
+            List<String> failed =
+                    Files.readAllLines(
+                                    new File(dir, file.getName() + ".failed").toPath(),
+                                    StandardCharsets.UTF_8)
+                            .stream()
+                            .filter(line -> !line.isBlank())
+                            .collect(Collectors.toList());
+            assertEquals(1, failed.size(), "one vote set aside");
+            assertEquals(2, VoteJournal.Entry.fromJSONString(failed.get(0)).xpathId);
+            assertEquals(0, file.length(), "journal emptied");
+            journal.shutdown();
+        } finally {
+            deleteDirectory(dir);
+        }
+    }
+
+    @Test
+    void TestUncommitted() throws IOException, InterruptedException {
+        File dir = Files.createTempDirectory("TestVoteJournal").toFile();
+        try {
+            File file = new File(dir, "votejournal.jsonl");
+            final CountDownLatch release = new CountDownLatch(1);
+            VoteJournal.BatchWriter blocked =
+                    batch -> {
+                        try {
+                            release.await(); // until the test has looked at the votes
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new SQLException(e);
+                        }
+                    };
+            VoteJournal journal = new VoteJournal(file, 500, 3, 1, blocked);
+            journal.append(entry(1));
+            journal.append(new VoteJournal.Entry("de", 2, 1, "v2", null, 1, false, 1000));
+            journal.append(entry(3));
+            assertEquals(
+                    Arrays.asList(1, 3),
+                    journal.getUncommitted("fr").stream()
+                            .map(e -> e.xpathId)
+                            .collect(Collectors.toList()));
+            release.countDown();
+            assertTrue(journal.flush(TIMEOUT), "flushed");
+            assertTrue(journal.getUncommitted("fr").isEmpty(), "nothing uncommitted");
+            journal.shutdown();
+        } finally {
+            deleteDirectory(dir);
+        }
+    }
+
+    private static void deleteDirectory(File dir) {
+        for (File file : dir.listFiles()) {
+            file.delete();
+        }
+        dir.delete();
+    }
+}
@@ -0,0 +1,33 @@
+package org.unicode.cldr.web.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+public class TestReportAPI {
+    @Test
+    void TestWriteLocales() throws IOException {
+        final StringWriter w = new StringWriter();
+        ReportAPI.writeLocales(
+                w,
+                List.of("en", "fr", "de"),
+                loc -> new JSONObject().put("locale", loc).put("totalVoters", 0).toString());
+        final JSONArray locales = new JSONObject(w.toString()).getJSONArray("locales");
+        assertEquals(3, locales.length());
+        assertEquals("en", locales.getJSONObject(0).getString("locale"));
+        assertEquals("fr", locales.getJSONObject(1).getString("locale"));
+        assertEquals("de", locales.getJSONObject(2).getString("locale"));
+    }
+
+    @Test
+    void TestWriteNoLocales() throws IOException {
+        final StringWriter w = new StringWriter();
+        ReportAPI.writeLocales(w, List.<String>of(), loc -> "{}");
+        assertEquals(0, new JSONObject(w.toString()).getJSONArray("locales").length());
+    }
+}
@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -29,11 +30,16 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 import org.unicode.cldr.util.CLDRPaths;
@@ -155,6 +161,9 @@ public class TestFmwk extends AbstractTestLog {
      * <p>Class names are resolved to classes when getTargets or getSubtest is called. This allows
      * instances of TestGroup to be compiled and run without all the targets they would normally
      * invoke being available.
+     *
+     * <p>With -threads:n, the tests of the group are run concurrently, on n threads. See
+     * runConcurrently.
      */
     public abstract static class TestGroup extends TestFmwk {
         private String defaultPackage;
@@ -287,6 +296,88 @@ public class TestFmwk extends AbstractTestLog {
             return null;
         }
 
+        /**
+         * Called before the tests of this group are run concurrently, to load the shared data that
+         * they use, so that it is loaded once rather than by several tests at the same time.
+         */
+        protected void warmUp() {}
+
+        /**
+         * Run the targets of this group on params.threads threads. Each test is run with its own
+         * params, whose output is kept until the test is done, then written and added to these
+         * params in the original order. The time printed for each test is the wall time of that
+         * test.
+         *
+         * <p>Tests that declare RUN_SERIALLY, and any targets that aren't tests, keep their place:
+         * the tests before them finish first, then they are run on this thread, then the tests
+         * after them are started.
+         */
+        private void runConcurrently(Target first) throws Exception {
+            warmUp();
+            final List<TestParams> concurrentParams = new ArrayList<>();
+            final List<StringWriter> buffers = new ArrayList<>();
+            final List<Future<?>> results = new ArrayList<>();
+            final ExecutorService pool = Executors.newFixedThreadPool(params.threads);
+            try {
+                for (Target target = first; target != null; target = target.getNext()) {
+                    if (!(target instanceof ClassTarget)
+                            || runsSerially(((ClassTarget) target).getTest().getClass())) {
+                        finishConcurrent(concurrentParams, buffers, results);
+                        target.run();
+                        continue;
+                    }
+                    final StringWriter buffer = new StringWriter();
+                    final TestParams targetParams = params.forConcurrentTarget(buffer);
+                    ((ClassTarget) target).getTest().params = targetParams;
+                    final Target toRun = target;
+                    concurrentParams.add(targetParams);
+                    buffers.add(buffer);
+                    results.add(
+                            pool.submit(
+                                    () -> {
+                                        toRun.run();
+                                        return null;
+                                    }));
+                }
+                finishConcurrent(concurrentParams, buffers, results);
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+
+        /**
+         * Wait for the given tests, add their results to these params in order, and clear the
+         * lists.
+         *
+         * @throws Exception the first exception thrown by one of the tests
+         */
+        private void finishConcurrent(
+                List<TestParams> concurrentParams,
+                List<StringWriter> buffers,
+                List<Future<?>> results)
+                throws Exception {
+            Exception failure = null;
+            for (int i = 0; i < results.size(); ++i) {
+                try {
+                    results.get(i).get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure =
+                                e.getCause() instanceof Exception
+                                        ? (Exception) e.getCause()
+                                        : new RuntimeException(e.getCause());
+                    }
+                }
+                params.addConcurrentResults(concurrentParams.get(i), buffers.get(i).toString());
+            }
+            concurrentParams.clear();
+            buffers.clear();
+            results.clear();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
         private void finishInit() {
             if (tests == null) {
                 tests = new Class[names.length];
@@ -465,13 +556,22 @@ public class TestFmwk extends AbstractTestLog {
             return TestFmwk.this.getDescription();
         }
 
+        /** The test whose targets this runs */
+        TestFmwk getTest() {
+            return TestFmwk.this;
+        }
+
         @Override
         protected void execute() throws Exception {
             params.indentLevel++;
             Target target = randomize(getTargets(targetName));
-            while (target != null) {
-                target.run();
-                target = target.next;
+            if (params.threads > 1 && TestFmwk.this instanceof TestGroup && !params.inDocMode()) {
+                ((TestGroup) TestFmwk.this).runConcurrently(target);
+            } else {
+                while (target != null) {
+                    target.run();
+                    target = target.next;
+                }
             }
             params.indentLevel--;
         }
@@ -952,6 +1052,10 @@ public class TestFmwk extends AbstractTestLog {
                         + "       be in alphabetical order to ensure cross-platform consistency.");
         pw.println(" -s[ilent] No output except error summary or exceptions.");
         pw.println(" -tfilter:<str> Transliterator Test filter of ids.");
+        pw.println(
+                " -threads:<n> Run the tests of each test group concurrently, on n threads.\n"
+                        + "       Tests that declare RUN_SERIALLY are run alone, in their\n"
+                        + "       usual place.");
         pw.println(" -t[ime]:<n> Print elapsed time only for tests exceeding n milliseconds.");
         pw.println(" -v[erbose] Show log messages");
         pw.println(" -u[nicode] Don't escape error or log messages (Default on ICU 55+)");
@@ -1168,6 +1272,7 @@ public class TestFmwk extends AbstractTestLog {
         private NumberFormat tformat;
         public Random random;
         public int maxTargetSec = 10;
+        public int threads = 1;
         public HashMap props;
         private UnicodeKnownIssues knownIssues;
 
@@ -1267,6 +1372,18 @@ public class TestFmwk extends AbstractTestLog {
                                 usageError = true;
                                 break;
                             }
+                        } else if (arg.startsWith("-threads:")) {
+                            try {
+                                params.threads = Integer.parseInt(arg.substring(9));
+                            } catch (NumberFormatException e) {
+                                params.threads = 0;
+                            }
+                            if (params.threads < 1) {
+                                log.println(
+                                        "*** Error: could not parse thread count '" + arg + "'");
+                                usageError = true;
+                                break;
+                            }
                         } else if (arg.startsWith("-tfilter:")) {
                             params.tfilter = arg.substring(8);
                         } else if (arg.startsWith("-time") || arg.startsWith("-t")) {
@@ -1353,6 +1470,69 @@ public class TestFmwk extends AbstractTestLog {
             return errorSummary == null ? "" : errorSummary.toString();
         }
 
+        /**
+         * Make params with the same options as these, for running one target of a group
+         * concurrently with the others. Its output goes to the buffer, and its counts start at
+         * zero; see addConcurrentResults. Groups within the target are run on a single thread.
+         */
+        TestParams forConcurrentTarget(StringWriter buffer) {
+            TestParams result = new TestParams();
+            result.prompt = prompt;
+            result.verbose = verbose;
+            result.quiet = quiet;
+            result.listlevel = listlevel;
+            result.describe = describe;
+            result.warnings = warnings;
+            result.nodata = nodata;
+            result.timing = timing;
+            result.memusage = memusage;
+            result.allKnownIssues = allKnownIssues;
+            result.inclusion = inclusion;
+            result.filter = filter;
+            result.seed = seed;
+            result.tfilter = tfilter;
+            result.tformat = (NumberFormat) tformat.clone();
+            result.maxTargetSec = maxTargetSec;
+            result.props = props;
+            result.log = new PrintWriter(buffer);
+            result.init();
+            result.knownIssues = knownIssues;
+            result.indentLevel = indentLevel;
+            result.stack = stack;
+            if (stack != null) {
+                stack.flush(); // so that the target doesn't write to our log
+            }
+            return result;
+        }
+
+        /**
+         * Write the output of a target that was run with params from forConcurrentTarget, and add
+         * its counts to these.
+         */
+        void addConcurrentResults(TestParams other, String output) {
+            if (!output.isEmpty()) {
+                if (needLineFeed) {
+                    log.println(inDocMode() ? "" : " {");
+                    needLineFeed = false;
+                }
+                log.print(output);
+                log.flush();
+            }
+            errorCount += other.errorCount;
+            warnCount += other.warnCount;
+            invalidCount += other.invalidCount;
+            testCount += other.testCount;
+            if (errorSummary != null && other.errorSummary != null) {
+                errorSummary.append(other.errorSummary);
+            }
+            if (other.timeLog != null) {
+                if (timeLog == null) {
+                    timeLog = new StringBuffer();
+                }
+                timeLog.append(other.timeLog);
+            }
+        }
+
         public void init() {
             indentLevel = 0;
             needLineFeed = false;
@@ -1748,6 +1928,22 @@ public class TestFmwk extends AbstractTestLog {
         return name;
     }
 
+    /**
+     * Return true if a test class must not run at the same time as other tests, for example
+     * because it changes global state. A class declares this with a public static boolean field
+     * RUN_SERIALLY that is true.
+     */
+    private static boolean runsSerially(Class testClass) {
+        try {
+            Field f = testClass.getField("RUN_SERIALLY");
+            return f.getBoolean(null);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("static field RUN_SERIALLY must be accessible");
+        } catch (NoSuchFieldException e) {
+            return false;
+        }
+    }
+
     /**
      * Check the given array to see that all the strings in the expected array are present.
      *
@@ -54,7 +54,7 @@ public class UnicodeKnownIssues {
      *     use "CLDR-12345". For compatibility, "1234" -> ICU-1234 and "cldrbug:456" -> CLDR-456
      * @param comment Additional comment, or null
      */
-    public void logKnownIssue(String path, String ticket, String comment) {
+    public synchronized void logKnownIssue(String path, String ticket, String comment) {
         StringBuilder descBuf = new StringBuilder(path);
 
         if (comment != null && comment.length() > 0) {
@@ -91,7 +91,7 @@ public class UnicodeKnownIssues {
      * @param logFn consumer for Strings (e.g. System.out::println)
      * @return true if (!allKnownIssues) and we had to curtail
      */
-    boolean printKnownIssues(Consumer<String> logFn) {
+    synchronized boolean printKnownIssues(Consumer<String> logFn) {
         if (knownIssues.isEmpty()) {
             return false;
         }
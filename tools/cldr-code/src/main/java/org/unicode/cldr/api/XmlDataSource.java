@@ -30,6 +30,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.unicode.cldr.util.XMLFileReader;
 import org.xml.sax.Attributes;
 import org.xml.sax.ErrorHandler;
 import org.xml.sax.InputSource;
@@ -37,7 +38,6 @@ import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 import org.xml.sax.XMLReader;
 import org.xml.sax.helpers.DefaultHandler;
-import org.xml.sax.helpers.XMLReaderFactory;
 
 /** Serializes a set of LDML XML files as a sequence of {@code CldrValue}s. */
 final class XmlDataSource implements CldrData {
@@ -194,14 +194,8 @@ final class XmlDataSource implements CldrData {
     }
 
     private static XMLReader createXmlReader(boolean validating) {
-        XMLReader xmlReader;
-        try {
-            xmlReader = XMLReaderFactory.createXMLReader();
-            xmlReader.setFeature("http://xml.org/sax/features/validation", validating);
-        } catch (SAXException e) {
-            throw new RuntimeException(e);
-        }
-        return xmlReader;
+        // This shares the cache of DTD contents with the rest of the CLDR tools.
+        return XMLFileReader.createXMLReader(validating);
     }
 
     private final class PathValueHandler extends DefaultHandler {
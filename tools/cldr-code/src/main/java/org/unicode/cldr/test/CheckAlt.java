@@ -63,4 +63,15 @@ public class CheckAlt extends CheckCLDR {
         seenSoFar.clear();
         return this;
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        // a change to a path without alt can affect its proposed variants
+        return changedPath.contains("[@alt=") ? Dependency.NONE : Dependency.PATHS;
+    }
+
+    @Override
+    public boolean dependsOn(String checkedPath, String changedPath) {
+        return CLDRFile.getNondraftNonaltXPath(checkedPath).equals(changedPath);
+    }
 }
@@ -68,4 +68,15 @@ public class CheckAltOnly extends FactoryCheckCLDR {
         result.add(item);
         return this;
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        // a change to a path without alt can affect the paths with alt
+        return changedPath.contains("[@alt=") ? Dependency.NONE : Dependency.PATHS;
+    }
+
+    @Override
+    public boolean dependsOn(String checkedPath, String changedPath) {
+        return XPathParts.getPathWithoutAlt(checkedPath).equals(changedPath);
+    }
 }
@@ -22,6 +22,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus.Subtype;
@@ -585,6 +586,81 @@ public abstract class CheckCLDR implements CheckAccessor {
         this.skipTest = skipTest;
     }
 
+    /**
+     * How a change to the winning value of one path affects the results of a check for the other
+     * paths of the locale. Used by TestCache to only discard the cached results that are affected.
+     */
+    public enum Dependency {
+        /** Results for other paths are not affected. */
+        NONE,
+        /** Results for the paths for which {@link CheckCLDR#dependsOn} is true are affected. */
+        PATHS,
+        /** Data computed in setCldrFileToCheck is affected, so the check must be set up again. */
+        SETUP
+    }
+
+    /**
+     * Get the dependency of this check on the given path. The result for the changed path itself
+     * is always considered affected, so it doesn't need to be declared here.
+     *
+     * <p>The default, SETUP, is always safe. Checks that are added to getCheckAll should override
+     * this to declare which values they actually read, since a single SETUP for a path means that
+     * all of the cached results of the locale are discarded when that path changes.
+     *
+     * @param changedPath the path whose winning value has changed
+     * @return the dependency
+     */
+    public Dependency getDependency(String changedPath) {
+        return Dependency.SETUP;
+    }
+
+    /**
+     * Note that the winning value of the given path in the file being checked has changed. Called
+     * by TestCache once for each change, before getDependency, so that checks which keep data
+     * derived from the file can update it without being set up again. By default, does nothing.
+     *
+     * @param changedPath the path whose winning value has changed
+     */
+    public void pathValueChanged(String changedPath) {}
+
+    /**
+     * Could the result of this check for checkedPath change when the winning value of changedPath
+     * changes? Only called when getDependency(changedPath) is PATHS. By default, paths depend on
+     * the other paths of the same section, such as //ldml/units.
+     *
+     * @param checkedPath the path that was checked
+     * @param changedPath the path whose winning value has changed
+     * @return true if the cached result for checkedPath must be discarded
+     */
+    public boolean dependsOn(String checkedPath, String changedPath) {
+        return getSection(checkedPath).equals(getSection(changedPath));
+    }
+
+    /**
+     * Get dependsOn for a single changed path, for testing each of the cached results when it
+     * changes. Checks whose dependsOn has to compute something from the changed path override
+     * this, so that it is computed once per change rather than once per cached result.
+     *
+     * @param changedPath the path whose winning value has changed
+     * @return true for the checked paths whose cached results must be discarded
+     */
+    public Predicate<String> getDependentPaths(String changedPath) {
+        return checkedPath -> dependsOn(checkedPath, changedPath);
+    }
+
+    /**
+     * Get the section of a path, such as "//ldml/units" for any path starting with
+     * "//ldml/units/".
+     */
+    protected static String getSection(String path) {
+        int start = path.indexOf('/', 2); // skip the initial "//"
+        if (start < 0) {
+            return path;
+        }
+        int end = path.indexOf('/', start + 1);
+        return end < 0 ? path : path.substring(0, end);
+    }
+
     /**
      * Here is where the list of all checks is found.
      *
@@ -1409,6 +1485,51 @@ public abstract class CheckCLDR implements CheckAccessor {
             return this;
         }
 
+        @Override
+        public Dependency getDependency(String changedPath) {
+            Dependency result = Dependency.NONE;
+            for (CheckCLDR item : filteredCheckList) {
+                Dependency itemDependency = item.getDependency(changedPath);
+                if (itemDependency.compareTo(result) > 0) {
+                    result = itemDependency;
+                    if (result == Dependency.SETUP) {
+                        break;
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void pathValueChanged(String changedPath) {
+            for (CheckCLDR item : checkList) {
+                item.pathValueChanged(changedPath);
+            }
+        }
+
+        @Override
+        public boolean dependsOn(String checkedPath, String changedPath) {
+            return getDependentPaths(changedPath).test(checkedPath);
+        }
+
+        @Override
+        public Predicate<String> getDependentPaths(String changedPath) {
+            final List<Predicate<String>> itemDependents = new ArrayList<>();
+            for (CheckCLDR item : filteredCheckList) {
+                if (item.getDependency(changedPath) != Dependency.NONE) {
+                    itemDependents.add(item.getDependentPaths(changedPath));
+                }
+            }
+            return checkedPath -> {
+                for (Predicate<String> dependents : itemDependents) {
+                    if (dependents.test(checkedPath)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+
         public Matcher getFilter() {
             return filter;
         }
@@ -104,4 +104,9 @@ public class CheckCasing extends CheckCLDR {
         return UCharacter.toTitleCase(uLocale, value.substring(0, endOfFirstWord), breaker)
                 + value.substring(endOfFirstWord);
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        return Dependency.NONE; // the casing comes from the full path being checked
+    }
 }
@@ -108,4 +108,9 @@ public class CheckChildren extends FactoryCheckCLDR {
         }
         return this;
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        return Dependency.NONE; // compares with the same path in the child locales
+    }
 }
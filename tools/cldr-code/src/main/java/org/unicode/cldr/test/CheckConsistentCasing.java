@@ -398,4 +398,9 @@ public class CheckConsistentCasing extends FactoryCheckCLDR {
             }
         }
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        return Dependency.NONE; // the casing info is not computed from the values being voted on
+    }
 }
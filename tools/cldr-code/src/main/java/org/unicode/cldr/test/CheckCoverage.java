@@ -169,4 +169,9 @@ public class CheckCoverage extends FactoryCheckCLDR {
     public Level getRequiredLevel() {
         return requiredLevel;
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        return Dependency.NONE; // coverage depends on the path and locale, not on other values
+    }
 }
@@ -64,4 +64,9 @@ public class CheckCurrencies extends CheckCLDR {
         }
         return this;
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        return Dependency.NONE; // only reads the source locale of the path being checked
+    }
 }
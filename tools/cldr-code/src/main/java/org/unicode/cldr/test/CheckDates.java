@@ -1442,4 +1442,13 @@ public class CheckDates extends FactoryCheckCLDR {
             }
         }
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        // setCldrFileToCheck collects the flexible date information from the date patterns and the
+        // decimal separator
+        return changedPath.startsWith("//ldml/dates/") || changedPath.equals(DECIMAL_XPATH)
+                ? Dependency.SETUP
+                : Dependency.NONE;
+    }
 }
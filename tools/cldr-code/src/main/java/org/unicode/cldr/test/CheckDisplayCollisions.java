@@ -1,9 +1,12 @@
 package org.unicode.cldr.test;
 
+import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multimap;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -734,8 +737,22 @@ public class CheckDisplayCollisions extends FactoryCheckCLDR {
             int debug = 0;
         }
 
+        // The index only covers the file being checked; other files, such as English, are
+        // searched directly.
+        final CollisionIndex index =
+                file == getResolvedCldrFileToCheck() ? getCollisionIndex() : null;
         Set<String> retrievedPaths = new HashSet<>();
-        if (myType.matchType == MatchType.PREFIX) {
+        if (index != null) {
+            for (String pathName : index.getPaths(myType, value)) {
+                if (myType.matchType == MatchType.PREFIX && !pathName.startsWith(myPrefix)) {
+                    continue;
+                }
+                if (matcher != null && !matcher.reset(pathName).matches()) {
+                    continue;
+                }
+                retrievedPaths.add(pathName);
+            }
+        } else if (myType.matchType == MatchType.PREFIX) {
             file.getPathsWithValue(value, myPrefix, matcher, retrievedPaths);
         } else {
             file.getPathsWithValue(
@@ -785,7 +802,10 @@ public class CheckDisplayCollisions extends FactoryCheckCLDR {
                 }
             }
             // clean up the pat
-            String newPath = currentAttributesToIgnore.reset(pathName).replaceAll("");
+            String newPath =
+                    index != null
+                            ? index.strip(pathName, currentAttributesToIgnore)
+                            : currentAttributesToIgnore.reset(pathName).replaceAll("");
             paths.add(newPath);
         }
         //   System.out.println("Paths has a size of:"+paths.size());
@@ -796,6 +816,94 @@ public class CheckDisplayCollisions extends FactoryCheckCLDR {
         return paths;
     }
 
+    /**
+     * The paths of a locale that can collide, by type and normalized value, so that the paths with
+     * a given value are found without filtering all of the paths with that value in the locale for
+     * each type. The attribute-stripped form of each path is also kept, since it is needed each
+     * time the path is found.
+     *
+     * <p>The index is built once for the file being checked, then updated for each path whose
+     * value changes, as reported through {@link CheckDisplayCollisions#pathValueChanged}. Like
+     * CLDRFile.getPathsWithValue, it has the resolved values of the paths, leaving out the paths
+     * whose value is the inheritance marker.
+     */
+    private static final class CollisionIndex {
+        private final CLDRFile file;
+        private final Map<Type, Multimap<String, String>> typeToValueToPaths =
+                new EnumMap<>(Type.class);
+        private final Map<String, String> pathToValue = new HashMap<>();
+        private final Set<String> changedPaths = new HashSet<>();
+        private final Map<Pattern, Map<String, String>> strippedPaths = new HashMap<>();
+
+        CollisionIndex(CLDRFile file) {
+            this.file = file;
+            for (String path : file) {
+                add(path);
+            }
+        }
+
+        private void add(String path) {
+            final Type type = Type.getType(path);
+            if (type == null) {
+                return;
+            }
+            final String value = file.getStringValue(path);
+            if (value == null || value.equals(CldrUtility.INHERITANCE_MARKER)) {
+                return;
+            }
+            final String normalized = SimpleXMLSource.normalize(value);
+            pathToValue.put(path, normalized);
+            typeToValueToPaths
+                    .computeIfAbsent(type, t -> HashMultimap.create())
+                    .put(normalized, path);
+        }
+
+        /** Note that the value of the path has changed; it is read again on the next lookup */
+        synchronized void valueChanged(String path) {
+            changedPaths.add(path);
+        }
+
+        /**
+         * @return the paths of the given type whose values are the same as the given value, once
+         *     normalized
+         */
+        synchronized Set<String> getPaths(Type type, String value) {
+            if (!changedPaths.isEmpty()) {
+                for (String path : changedPaths) {
+                    final String oldValue = pathToValue.remove(path);
+                    if (oldValue != null) {
+                        typeToValueToPaths.get(Type.getType(path)).remove(oldValue, path);
+                    }
+                    add(path);
+                }
+                changedPaths.clear();
+            }
+            final Multimap<String, String> valueToPaths = typeToValueToPaths.get(type);
+            return valueToPaths == null
+                    ? ImmutableSet.of()
+                    : ImmutableSet.copyOf(valueToPaths.get(SimpleXMLSource.normalize(value)));
+        }
+
+        /**
+         * @return the path with the attributes matched by attributesToIgnore removed
+         */
+        synchronized String strip(String path, Matcher attributesToIgnore) {
+            return strippedPaths
+                    .computeIfAbsent(attributesToIgnore.pattern(), p -> new HashMap<>())
+                    .computeIfAbsent(path, p -> attributesToIgnore.reset(p).replaceAll(""));
+        }
+    }
+
+    /** The index for the file being checked, built the first time it is needed */
+    private CollisionIndex collisionIndex = null;
+
+    private synchronized CollisionIndex getCollisionIndex() {
+        if (collisionIndex == null) {
+            collisionIndex = new CollisionIndex(getResolvedCldrFileToCheck());
+        }
+        return collisionIndex;
+    }
+
     private boolean isCodeFallback(String dpath) {
         String locale = getResolvedCldrFileToCheck().getSourceLocaleID(dpath, null);
         return locale.equals(XMLSource.CODE_FALLBACK_ID);
@@ -808,6 +916,9 @@ public class CheckDisplayCollisions extends FactoryCheckCLDR {
             CLDRFile cldrFileToCheck, Options options, List<CheckStatus> possibleErrors) {
         if (cldrFileToCheck == null) return this;
         super.setCldrFileToCheck(cldrFileToCheck, options, possibleErrors);
+        synchronized (this) {
+            collisionIndex = null;
+        }
         // pick up the 3 subdivisions
         //        nameToSubdivisionId =
         // EmojiSubdivisionNames.getNameToSubdivisionPath(cldrFileToCheck.getLocaleID());
@@ -894,4 +1005,35 @@ public class CheckDisplayCollisions extends FactoryCheckCLDR {
         exceptions.put(exemplarCity, territory);
         exceptions.put(territory, exemplarCity);
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        return Type.getType(changedPath) == null ? Dependency.NONE : Dependency.PATHS;
+    }
+
+    @Override
+    public synchronized void pathValueChanged(String changedPath) {
+        if (collisionIndex != null && Type.getType(changedPath) != null) {
+            collisionIndex.valueChanged(changedPath);
+        }
+    }
+
+    /**
+     * Collisions are checked among paths of the same type, and between the other types that
+     * handleCheck compares: territories with exemplar cities, and annotations with territories.
+     */
+    @Override
+    public boolean dependsOn(String checkedPath, String changedPath) {
+        final Type checkedType = Type.getType(checkedPath);
+        final Type changedType = Type.getType(changedPath);
+        if (checkedType == changedType) {
+            return true;
+        } else if (checkedType == Type.TERRITORY || checkedType == Type.ZONE) {
+            return changedType == Type.TERRITORY || changedType == Type.ZONE;
+        } else {
+            return CHECK_FLAG_AND_EMOJI
+                    && checkedType == Type.ANNOTATIONS
+                    && changedType == Type.TERRITORY;
+        }
+    }
 }
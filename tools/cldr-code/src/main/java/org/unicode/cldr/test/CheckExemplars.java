@@ -508,4 +508,14 @@ public class CheckExemplars extends FactoryCheckCLDR {
             }
         }
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        // exemplars are compared with each other and with the delimiters and character order
+        return changedPath.startsWith("//ldml/characters/")
+                        || changedPath.startsWith("//ldml/delimiters/")
+                        || changedPath.startsWith("//ldml/layout/")
+                ? Dependency.SETUP
+                : Dependency.NONE;
+    }
 }
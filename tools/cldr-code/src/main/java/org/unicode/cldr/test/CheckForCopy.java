@@ -318,4 +318,9 @@ public class CheckForCopy extends FactoryCheckCLDR {
         super.setCldrFileToCheck(cldrFileToCheck, options, possibleErrors);
         return this;
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        return Dependency.NONE; // compares with English and the code for the same path
+    }
 }
@@ -898,4 +898,14 @@ public class CheckForExemplars extends FactoryCheckCLDR {
         }
         return result;
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        // every value is checked against the exemplars computed in setCldrFileToCheck
+        return changedPath.startsWith("//ldml/characters/")
+                        || changedPath.startsWith("//ldml/layout/")
+                        || changedPath.equals("//ldml/numbers/defaultNumberingSystem")
+                ? Dependency.SETUP
+                : Dependency.NONE;
+    }
 }
@@ -26,4 +26,9 @@ public class CheckForInheritanceMarkers extends CheckCLDR {
         }
         return this;
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        return Dependency.NONE; // only looks at the value itself
+    }
 }
@@ -13,6 +13,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import org.unicode.cldr.util.CLDRFile;
 import org.unicode.cldr.util.CLDRFile.DraftStatus;
 import org.unicode.cldr.util.Factory;
@@ -170,4 +171,24 @@ public class CheckLogicalGroupings extends FactoryCheckCLDR {
             return showInvisibles(codePointCounts);
         }
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        return LogicalGrouping.PathType.getPathTypeFromPath(changedPath)
+                        == LogicalGrouping.PathType.SINGLETON
+                ? Dependency.NONE
+                : Dependency.PATHS;
+    }
+
+    /** The paths of a logical group are checked together. */
+    @Override
+    public boolean dependsOn(String checkedPath, String changedPath) {
+        return getDependentPaths(changedPath).test(checkedPath);
+    }
+
+    @Override
+    public Predicate<String> getDependentPaths(String changedPath) {
+        final Set<String> group = LogicalGrouping.getPaths(getCldrFileToCheck(), changedPath);
+        return group::contains;
+    }
 }
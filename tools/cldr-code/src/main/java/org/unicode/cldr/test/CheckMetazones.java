@@ -80,4 +80,9 @@ public class CheckMetazones extends CheckCLDR {
     public static boolean metazoneUsesDST(String name) {
         return LogicalGrouping.metazonesDSTSet.contains(name);
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        return Dependency.NONE; // only reads the source locale of the path being checked
+    }
 }
@@ -51,4 +51,9 @@ public class CheckNames extends CheckCLDR {
         return value.lastIndexOf(startBrace, matcher.start()) > -1
                 && value.indexOf(endBrace, matcher.end()) >= -1;
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        return Dependency.NONE; // only reads the bailey value of the path being checked
+    }
 }
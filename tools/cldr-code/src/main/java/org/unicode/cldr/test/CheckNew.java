@@ -93,4 +93,9 @@ public class CheckNew extends FactoryCheckCLDR {
         }
         return false;
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        return Dependency.NONE; // modification dates and outdated paths are per path
+    }
 }
@@ -784,4 +784,14 @@ public class CheckNumbers extends FactoryCheckCLDR {
             }
         }
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        // setCldrFileToCheck reads the number symbols and the Hm pattern
+        return changedPath.startsWith("//ldml/numbers/")
+                        || changedPath.startsWith(
+                                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/")
+                ? Dependency.SETUP
+                : Dependency.NONE;
+    }
 }
@@ -300,4 +300,17 @@ public class CheckPersonNames extends CheckCLDR {
                             .setMessage("Valid values are: {0}", okValues));
         }
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        if (!changedPath.startsWith("//ldml/personNames/")) {
+            return Dependency.NONE;
+        }
+        // these are read in setCldrFileToCheck
+        if (changedPath.startsWith("//ldml/personNames/initialPattern")
+                || changedPath.startsWith("//ldml/personNames/nativeSpaceReplacement")) {
+            return Dependency.SETUP;
+        }
+        return Dependency.PATHS;
+    }
 }
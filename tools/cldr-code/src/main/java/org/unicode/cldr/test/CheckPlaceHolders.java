@@ -848,4 +848,13 @@ public class CheckPlaceHolders extends CheckCLDR {
                                             + "», no text can come before {0}."));
         }
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        // person name and list patterns are compared with related patterns
+        return changedPath.startsWith("//ldml/personNames/")
+                        || changedPath.startsWith("//ldml/listPatterns/")
+                ? Dependency.PATHS
+                : Dependency.NONE;
+    }
 }
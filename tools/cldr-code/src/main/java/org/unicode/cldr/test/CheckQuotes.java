@@ -61,4 +61,9 @@ public class CheckQuotes extends CheckCLDR {
         }
         return this;
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        return Dependency.NONE; // only looks at the value itself
+    }
 }
@@ -228,4 +228,10 @@ public class CheckUnits extends CheckCLDR {
         }
         return this;
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        // composed unit patterns are compared with the other unit patterns
+        return changedPath.startsWith("//ldml/units/") ? Dependency.PATHS : Dependency.NONE;
+    }
 }
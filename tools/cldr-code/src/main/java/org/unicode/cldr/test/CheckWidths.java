@@ -647,4 +647,9 @@ public class CheckWidths extends CheckCLDR {
             }
         }
     }
+
+    @Override
+    public Dependency getDependency(String changedPath) {
+        return Dependency.NONE; // widths are per path
+    }
 }
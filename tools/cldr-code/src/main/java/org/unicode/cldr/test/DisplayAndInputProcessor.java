@@ -5,6 +5,11 @@ package org.unicode.cldr.test;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.myanmartools.ZawgyiDetector;
 import com.ibm.icu.lang.UCharacter;
 import com.ibm.icu.text.Collator;
@@ -12,6 +17,7 @@ import com.ibm.icu.text.DateIntervalInfo;
 import com.ibm.icu.text.DateTimePatternGenerator;
 import com.ibm.icu.text.DecimalFormat;
 import com.ibm.icu.text.Normalizer;
+import com.ibm.icu.text.Normalizer2;
 import com.ibm.icu.text.Transform;
 import com.ibm.icu.text.Transliterator;
 import com.ibm.icu.text.UnicodeSet;
@@ -19,13 +25,17 @@ import com.ibm.icu.text.UnicodeSetIterator;
 import com.ibm.icu.util.Output;
 import com.ibm.icu.util.ULocale;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.unicode.cldr.test.CheckExemplars.ExemplarType;
@@ -39,6 +49,7 @@ import org.unicode.cldr.util.ComparatorUtilities;
 import org.unicode.cldr.util.DateTimeCanonicalizer;
 import org.unicode.cldr.util.DateTimeCanonicalizer.DateTimePatternType;
 import org.unicode.cldr.util.Emoji;
+import org.unicode.cldr.util.Factory;
 import org.unicode.cldr.util.LocaleNames;
 import org.unicode.cldr.util.PatternCache;
 import org.unicode.cldr.util.SimpleUnicodeSetFormatter;
@@ -118,6 +129,9 @@ public class DisplayAndInputProcessor {
                             + "dateTimeFormats/availableFormats/dateFormatItem\\[@id=\"[A-XZa-xz]*y[A-Za-z]*\"].*|"
                             + "dateTimeFormats/intervalFormats/intervalFormatItem\\[@id=\"[A-XZa-xz]*y[A-Za-z]*\"].*)");
 
+    // Scripts whose time formats get a narrow NBSP between the time and the AM/PM marker
+    private static final Set<String> SCRIPTS_WITH_AMPM_SPACING = Set.of("Latn", "Cyrl", "Grek");
+
     // Cyrillic year markers are or begin with (in various languages) \u0430 \u0433 \u0435 \u0436
     // \u043E \u0440 \u0441
     private static final Pattern YEAR_SPACE_YEARMARKER =
@@ -172,6 +186,8 @@ public class DisplayAndInputProcessor {
     // The following includes (among others) \u0009, \u0020, \u00A0, \u2007, \u2009, \u202F, \u3000
     private static final UnicodeSet UNICODE_WHITESPACE = new UnicodeSet("[:whitespace:]").freeze();
 
+    private static final Normalizer2 NFC = Normalizer2.getNFCInstance();
+
     private static final CLDRLocale MALAYALAM = CLDRLocale.getInstance("ml");
     private static final CLDRLocale ROMANIAN = CLDRLocale.getInstance("ro");
     private static final CLDRLocale CATALAN = CLDRLocale.getInstance("ca");
@@ -233,15 +249,104 @@ public class DisplayAndInputProcessor {
     private static final Transliterator zawgyiUnicodeTransliterator =
             Transliterator.getInstance("Zawgyi-my");
 
-    private SimpleUnicodeSetFormatter pp = new SimpleUnicodeSetFormatter(); // default collator
-    private UnicodeSetPrettyPrinter rawFormatter = new UnicodeSetPrettyPrinter(); // default
+    private SimpleUnicodeSetFormatter pp; // set by init
+    private UnicodeSetPrettyPrinter rawFormatter; // set by init
 
     private final CLDRLocale locale;
-    private String scriptCode; // actual or default script code (not null after init)
-    private boolean isPosix;
+    private LocaleData localeData; // set by init
 
     private CLDRFile cldrFileForBailey = null;
 
+    /** The locale-specific conversions made on input, at most one per locale */
+    private enum LocaleConversion {
+        NONE,
+        MALAYALAM,
+        ROMANIAN,
+        CATALAN,
+        NGOMBA,
+        KWASIO,
+        HEBREW,
+        SWISS_GERMAN,
+        MYANMAR,
+        KYRGYZ,
+        URDU_PLUS,
+        ADLAM;
+
+        static LocaleConversion of(CLDRLocale locale) {
+            if (locale.childOf(DisplayAndInputProcessor.MALAYALAM)) {
+                return MALAYALAM;
+            } else if (locale.childOf(DisplayAndInputProcessor.ROMANIAN)) {
+                return ROMANIAN;
+            } else if (locale.childOf(DisplayAndInputProcessor.CATALAN)) {
+                return CATALAN;
+            } else if (locale.childOf(DisplayAndInputProcessor.NGOMBA)) {
+                return NGOMBA;
+            } else if (locale.childOf(DisplayAndInputProcessor.KWASIO)) {
+                return KWASIO;
+            } else if (locale.childOf(DisplayAndInputProcessor.HEBREW)) {
+                return HEBREW;
+            } else if (locale.childOf(DisplayAndInputProcessor.SWISS_GERMAN)
+                    || locale.childOf(GERMAN_SWITZERLAND)) {
+                return SWISS_GERMAN;
+            } else if (locale.childOf(DisplayAndInputProcessor.MYANMAR)) {
+                return MYANMAR;
+            } else if (locale.childOf(DisplayAndInputProcessor.KYRGYZ)) {
+                return KYRGYZ;
+            } else if (locale.childOf(URDU) || locale.childOf(PASHTO) || locale.childOf(FARSI)) {
+                return URDU_PLUS;
+            } else if (locale.childOf(FF_ADLAM)) {
+                return ADLAM;
+            }
+            return NONE;
+        }
+    }
+
+    /**
+     * What the processing of a locale's input needs that depends only on the locale, worked out
+     * once per locale and shared by all the processors for it. It is immutable; the collators are
+     * frozen, and only made the first time a processor needing them is made.
+     */
+    private static final class LocaleData {
+        final String scriptCode; // actual or default script code
+        final boolean isPosix;
+        final LocaleConversion conversion;
+        final boolean usesModifierApostrophe;
+        final boolean removesZeroWidthSpace;
+        final Supplier<Collator[]> collators; // IDENTICAL, PRIMARY
+
+        LocaleData(CLDRLocale locale) {
+            isPosix = locale.toString().contains("POSIX");
+            conversion = LocaleConversion.of(locale);
+            usesModifierApostrophe =
+                    LANGUAGES_USING_MODIFIER_APOSTROPHE.contains(locale.getLanguage());
+            removesZeroWidthSpace = LOCALES_NOT_ALLOWING_ZWS.contains(locale.getBaseName());
+            collators =
+                    Suppliers.memoize(
+                            () ->
+                                    new Collator[] {
+                                        ComparatorUtilities.getCldrCollator(
+                                                locale.toString(), Collator.IDENTICAL),
+                                        ComparatorUtilities.getCldrCollator(
+                                                locale.toString(), Collator.PRIMARY)
+                                    });
+            String script = locale.getScript();
+            if (script == null || script.length() < 4) {
+                SupplementalDataInfo sdi = CLDRConfig.getInstance().getSupplementalDataInfo();
+                script = sdi.getDefaultScript(locale.getBaseName());
+                if (script == null || script.length() < 4 || script.equals("Zzzz")) {
+                    script = sdi.getDefaultScript(locale.getLanguage());
+                }
+                if (script == null || script.length() < 4) {
+                    script = "Zzzz";
+                }
+            }
+            scriptCode = script;
+        }
+    }
+
+    private static final LoadingCache<CLDRLocale, LocaleData> LOCALE_DATA =
+            CacheBuilder.newBuilder().softValues().build(CacheLoader.from(LocaleData::new));
+
     /**
      * Constructor, taking cldrFile.
      *
@@ -256,30 +361,17 @@ public class DisplayAndInputProcessor {
     }
 
     void init(CLDRLocale locale, boolean needsCollator) {
-        isPosix = locale.toString().contains("POSIX");
+        localeData = LOCALE_DATA.getUnchecked(locale);
         if (needsCollator) {
-            Collator col =
-                    ComparatorUtilities.getCldrCollator(locale.toString(), Collator.IDENTICAL);
-            Collator spaceCol =
-                    ComparatorUtilities.getCldrCollator(locale.toString(), Collator.PRIMARY);
-            pp = new SimpleUnicodeSetFormatter((Comparator) col);
-            rawFormatter = UnicodeSetPrettyPrinter.from((Comparator) col, (Comparator) spaceCol);
+            Collator[] collators = localeData.collators.get();
+            pp = new SimpleUnicodeSetFormatter((Comparator) collators[0]);
+            rawFormatter =
+                    UnicodeSetPrettyPrinter.from(
+                            (Comparator) collators[0], (Comparator) collators[1]);
         } else {
-            pp = new SimpleUnicodeSetFormatter(); // default collator
+            pp = SimpleUnicodeSetFormatter.getDefault(); // default collator
             rawFormatter = new UnicodeSetPrettyPrinter(); // default
         }
-        String script = locale.getScript();
-        if (script == null || script.length() < 4) {
-            SupplementalDataInfo sdi = CLDRConfig.getInstance().getSupplementalDataInfo();
-            script = sdi.getDefaultScript(locale.getBaseName());
-            if (script == null || script.length() < 4 || script.equals("Zzzz")) {
-                script = sdi.getDefaultScript(locale.getLanguage());
-            }
-            if (script == null || script.length() < 4) {
-                script = "Zzzz";
-            }
-        }
-        scriptCode = script;
     }
 
     public SimpleUnicodeSetFormatter getPrettyPrinter() {
@@ -351,7 +443,7 @@ public class DisplayAndInputProcessor {
                 // Canonicalize existing values that aren't canonicalized yet.
                 // New values will be canonicalized on input using processInput().
                 try {
-                    value = getCanonicalPattern(value, numericType, isPosix);
+                    value = getCanonicalPattern(value, numericType, localeData.isPosix);
                 } catch (IllegalArgumentException e) {
                     if (DEBUG_DAIP) System.err.println("Illegal pattern: " + value);
                 }
@@ -392,7 +484,8 @@ public class DisplayAndInputProcessor {
                 || path.startsWith("//ldml/characters/parseLenients");
     }
 
-    static final DateTimeCanonicalizer dtc = new DateTimeCanonicalizer(FIX_YEARS);
+    // not shared, since it keeps the pattern being parsed
+    private final DateTimeCanonicalizer dtc = new DateTimeCanonicalizer(FIX_YEARS);
 
     private static final String BAR_VL = "\\|"; // U+007C VERTICAL LINE (pipe, bar) literal
     private static final String BAR_EL = "\\s+l\\s+"; // U+006C LATIN SMALL LETTER L with space
@@ -423,7 +516,9 @@ public class DisplayAndInputProcessor {
         }
         final String original = value;
         value = stripProblematicControlCharacters(value);
-        value = Normalizer.compose(value, false); // Always normalize all input to NFC.
+        if (!NFC.isNormalized(value)) {
+            value = Normalizer.compose(value, false); // Always normalize all input to NFC.
+        }
         value = value.replace('\u00B5', '\u03BC'); // use the right Greek mu character
         if (internalException != null) {
             internalException[0] = null;
@@ -512,7 +607,7 @@ public class DisplayAndInputProcessor {
                     value = value.replaceAll("0\\.0+", "0");
                 }
             }
-            value = getCanonicalPattern(value, numericType, isPosix);
+            value = getCanonicalPattern(value, numericType, localeData.isPosix);
         }
 
         // fix [,]
@@ -577,35 +672,38 @@ public class DisplayAndInputProcessor {
     }
 
     private String processLocaleSpecificInput(String path, String value, boolean isUnicodeSet) {
-        if (locale.childOf(MALAYALAM)) {
-            String newvalue = normalizeMalayalam(value);
-            if (DEBUG_DAIP)
-                System.out.println(
-                        "DAIP: Normalized Malayalam '" + value + "' to '" + newvalue + "'");
-            value = newvalue;
-        } else if (locale.childOf(ROMANIAN) && !isUnicodeSet) {
-            value = standardizeRomanian(value);
-        } else if (locale.childOf(CATALAN) && !isUnicodeSet) {
-            value = standardizeCatalan(value);
-        } else if (locale.childOf(NGOMBA) && !isUnicodeSet) {
-            value = standardizeNgomba(value);
-        } else if (locale.childOf(KWASIO) && !isUnicodeSet) {
-            value = standardizeKwasio(value);
-        } else if (locale.childOf(HEBREW) && !APOSTROPHE_SKIP_PATHS.matcher(path).matches()) {
-            value = replaceChars(path, value, HEBREW_CONVERSIONS, false);
-        } else if ((locale.childOf(SWISS_GERMAN) || locale.childOf(GERMAN_SWITZERLAND))
-                && !isUnicodeSet) {
-            value = standardizeSwissGerman(value);
-        } else if (locale.childOf(MYANMAR) && !isUnicodeSet) {
-            value = standardizeMyanmar(value);
-        } else if (locale.childOf(KYRGYZ)) {
-            value = replaceChars(path, value, KYRGYZ_CONVERSIONS, false);
-        } else if (locale.childOf(URDU) || locale.childOf(PASHTO) || locale.childOf(FARSI)) {
-            value = replaceChars(path, value, URDU_PLUS_CONVERSIONS, true);
-        } else if (locale.childOf(FF_ADLAM) && !isUnicodeSet) {
-            value = fixAdlamNasalization(value);
+        switch (localeData.conversion) {
+            case MALAYALAM:
+                String newvalue = normalizeMalayalam(value);
+                if (DEBUG_DAIP)
+                    System.out.println(
+                            "DAIP: Normalized Malayalam '" + value + "' to '" + newvalue + "'");
+                return newvalue;
+            case ROMANIAN:
+                return isUnicodeSet ? value : standardizeRomanian(value);
+            case CATALAN:
+                return isUnicodeSet ? value : standardizeCatalan(value);
+            case NGOMBA:
+                return isUnicodeSet ? value : standardizeNgomba(value);
+            case KWASIO:
+                return isUnicodeSet ? value : standardizeKwasio(value);
+            case HEBREW:
+                return APOSTROPHE_SKIP_PATHS.matcher(path).matches()
+                        ? value
+                        : replaceChars(path, value, HEBREW_CONVERSIONS, false);
+            case SWISS_GERMAN:
+                return isUnicodeSet ? value : standardizeSwissGerman(value);
+            case MYANMAR:
+                return isUnicodeSet ? value : standardizeMyanmar(value);
+            case KYRGYZ:
+                return replaceChars(path, value, KYRGYZ_CONVERSIONS, false);
+            case URDU_PLUS:
+                return replaceChars(path, value, URDU_PLUS_CONVERSIONS, true);
+            case ADLAM:
+                return isUnicodeSet ? value : fixAdlamNasalization(value);
+            default:
+                return value;
         }
-        return value;
     }
 
     private String processAnnotations(String path, String value) {
@@ -641,6 +739,9 @@ public class DisplayAndInputProcessor {
         return JOIN_SPACE.join(result);
     }
 
+    private static final UnicodeSet PROBLEMATIC_CONTROL_CHARACTERS =
+            new UnicodeSet(0, 0x1F).remove(9).remove(0xA).remove(0xD).freeze();
+
     /**
      * Strip out all code points less than U+0020 except for U+0009 tab, U+000A line feed, and
      * U+000D carriage return.
@@ -649,7 +750,7 @@ public class DisplayAndInputProcessor {
      * @return the resulting string
      */
     private String stripProblematicControlCharacters(String s) {
-        if (s == null || s.isEmpty()) {
+        if (s == null || !PROBLEMATIC_CONTROL_CHARACTERS.containsSome(s)) {
             return s;
         }
         return s.codePoints()
@@ -765,7 +866,9 @@ public class DisplayAndInputProcessor {
         // If our DAIP always had a CLDRFile to work with, then we could just check the exemplar set
         // in it to see.
         // But since we don't, we just maintain the list internally and use it.
-        if (LANGUAGES_USING_MODIFIER_APOSTROPHE.contains(locale.getLanguage())) {
+        if (value.indexOf('\'') < 0) {
+            return value;
+        } else if (localeData.usesModifierApostrophe) {
             return value.replace('\'', '\u02bc');
         } else {
             char prev = 0;
@@ -789,15 +892,14 @@ public class DisplayAndInputProcessor {
     private String normalizeIntervalHyphensAndSpaces(String value) {
         if (value.contains("{0}")) {
             // intervalFormatFallback pattern, not handled by DateTimePatternGenerator.FormatParser
-            if (scriptCode.equals("Latn")) {
+            if (localeData.scriptCode.equals("Latn")) {
                 value = INTERVAL_FALLBACK_RANGE.matcher(value).replaceAll("}\u2009\u2013\u2009{");
             }
             return value;
         }
+        DateIntervalInfo.PatternInfo patternInfo = DateIntervalInfo.genPatternInfo(value, false);
         DateTimePatternGenerator.FormatParser fp = new DateTimePatternGenerator.FormatParser();
-        fp.set(
-                DateIntervalInfo.genPatternInfo(value, false)
-                        .getFirstPart()); // first format & separator including spaces
+        fp.set(patternInfo.getFirstPart()); // first format & separator including spaces
         List<Object> items = fp.getItems();
         Object last = items.get(items.size() - 1);
         if (last instanceof String) {
@@ -805,7 +907,7 @@ public class DisplayAndInputProcessor {
                     last.toString(); // separator including spaces, and possibly preceding
             // literal text (. or quoted)
             String replacement = separator;
-            if (scriptCode.equals("Latn")
+            if (localeData.scriptCode.equals("Latn")
                     && (separator.endsWith(" - ") || separator.endsWith(" \u2013 "))) {
                 replacement =
                         separator.substring(0, separator.length() - 3)
@@ -815,13 +917,11 @@ public class DisplayAndInputProcessor {
             }
             if (!replacement.equals(separator)) {
                 StringBuilder sb = new StringBuilder();
-                sb.append(DateIntervalInfo.genPatternInfo(value, false).getFirstPart());
+                sb.append(patternInfo.getFirstPart());
                 if (sb.lastIndexOf(separator) >= 0) {
                     sb.delete(sb.lastIndexOf(separator), sb.length());
                     sb.append(replacement);
-                    sb.append(
-                            DateIntervalInfo.genPatternInfo(value, false)
-                                    .getSecondPart()); // second format only
+                    sb.append(patternInfo.getSecondPart()); // second format only
                     return sb.toString();
                 }
             }
@@ -994,6 +1094,11 @@ public class DisplayAndInputProcessor {
         return value;
     }
 
+    private static final UnicodeSet ARABIC_PRESENTATION_FORMS =
+            new UnicodeSet(
+                            "[[:block=Arabic_Presentation_Forms_A:][:block=Arabic_Presentation_Forms_B:]]")
+                    .freeze();
+
     static final Transform<String, String> fixArabicPresentation =
             Transliterator.getInstance(
                     "[[:block=Arabic_Presentation_Forms_A:][:block=Arabic_Presentation_Forms_B:]] nfkc");
@@ -1005,7 +1110,9 @@ public class DisplayAndInputProcessor {
      * @return
      */
     private String replaceArabicPresentationForms(String value) {
-        value = fixArabicPresentation.transform(value);
+        if (ARABIC_PRESENTATION_FORMS.containsSome(value)) {
+            value = fixArabicPresentation.transform(value);
+        }
         return value;
     }
 
@@ -1123,6 +1230,56 @@ public class DisplayAndInputProcessor {
         cldrFileForBailey = cldrFile;
     }
 
+    /**
+     * Process the input of each value in a file, as if it had been entered; for example, to find
+     * the values that the input-processor pass of CLDRModify would change.
+     *
+     * @param cldrFile the file, normally the unresolved file for the locale of this processor
+     * @return the paths whose values the processing changes, in the order of the file, with the
+     *     new values
+     */
+    public Map<String, String> processInput(CLDRFile cldrFile) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (String path : cldrFile) {
+            String value = cldrFile.getStringValue(path);
+            if (value == null) {
+                continue;
+            }
+            String newValue = processInput(path, value, null);
+            if (!value.equals(newValue)) {
+                result.put(path, newValue);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Process the input of each value in each of the locales, one locale per task on the common
+     * pool. Each locale gets its own processor, and those share what is worked out once per locale.
+     *
+     * @param factory the factory for the files of the locales
+     * @param localeIds the locales
+     * @param replaceInheritance true to replace values equal to the inherited value with the
+     *     inheritance marker, as after {@link #enableInheritanceReplacement(CLDRFile)}
+     * @return for each locale, the changes returned by {@link #processInput(CLDRFile)}
+     */
+    public static Map<String, Map<String, String>> processInput(
+            Factory factory, Collection<String> localeIds, boolean replaceInheritance) {
+        Map<String, Map<String, String>> result = new ConcurrentHashMap<>();
+        localeIds.parallelStream()
+                .forEach(
+                        localeId -> {
+                            CLDRFile cldrFile = factory.make(localeId, false);
+                            DisplayAndInputProcessor daip =
+                                    new DisplayAndInputProcessor(cldrFile, true);
+                            if (replaceInheritance) {
+                                daip.enableInheritanceReplacement(factory.make(localeId, true));
+                            }
+                            result.put(localeId, daip.processInput(cldrFile));
+                        });
+        return new TreeMap<>(result);
+    }
+
     /*
      * This tests what type a numeric pattern is.
      */
@@ -1233,7 +1390,7 @@ public class DisplayAndInputProcessor {
         }
 
         // Further whitespace adjustments per CLDR-14032
-        if ((scriptCode.equals("Latn") || scriptCode.equals("Cyrl") || scriptCode.equals("Grek"))
+        if (SCRIPTS_WITH_AMPM_SPACING.contains(localeData.scriptCode)
                 && HOUR_FORMAT_XPATHS.matcher(path).matches()) {
             String test = AMPM_SPACE_BEFORE.matcher(value).replaceAll("$1$2"); // value without a+
             String spaceReplace = path.contains("ascii") ? "$1\u0020$3" : "$1\u202F$3";
@@ -1245,7 +1402,7 @@ public class DisplayAndInputProcessor {
                 value = AMPM_SPACE_AFTER.matcher(value).replaceAll(spaceReplace);
             }
         }
-        if (scriptCode.equals("Cyrl") && YEAR_FORMAT_XPATHS.matcher(path).matches()) {
+        if (localeData.scriptCode.equals("Cyrl") && YEAR_FORMAT_XPATHS.matcher(path).matches()) {
             value = YEAR_SPACE_YEARMARKER.matcher(value).replaceAll("y\u202F$1");
         }
         if (UNIT_NARROW_XPATHS.matcher(path).matches()) {
@@ -1357,11 +1514,8 @@ public class DisplayAndInputProcessor {
      *     " Reference: https://unicode-org.atlassian.net/browse/CLDR-15976
      */
     private String normalizeZeroWidthSpace(String value) {
-        if (ZERO_WIDTH_SPACES.matcher(value).find()) {
-            final String localeId = locale.getBaseName();
-            if (LOCALES_NOT_ALLOWING_ZWS.contains(localeId)) {
-                value = ZERO_WIDTH_SPACES.matcher(value).replaceAll("");
-            }
+        if (localeData.removesZeroWidthSpace) {
+            value = ZERO_WIDTH_SPACES.matcher(value).replaceAll("");
         }
         return value;
     }
@@ -2,11 +2,14 @@ package org.unicode.cldr.test;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus;
 import org.unicode.cldr.test.CheckCLDR.Options;
 import org.unicode.cldr.util.CLDRConfig;
@@ -30,6 +33,11 @@ public class TestCache implements XMLSource.Listener {
         final CLDRFile file;
         private final CheckCLDR.Options options;
         private final ConcurrentHashMap<Pair<String, String>, List<CheckStatus>> pathCache;
+        /**
+         * Advanced by each invalidate, before it discards results, so that a result computed
+         * while it ran is not stored afterwards
+         */
+        private final AtomicLong generation = new AtomicLong();
         protected final List<CheckStatus> possibleProblems = new ArrayList<>();
 
         protected TestResultBundle(CheckCLDR.Options cldrOptions) {
@@ -49,6 +57,16 @@ public class TestCache implements XMLSource.Listener {
          * @param value the value to be checked
          */
         public void check(String path, List<CheckStatus> result, String value) {
+            check(path, result, value, cc);
+        }
+
+        /**
+         * Check the given value for the given path, like {@link #check(String, List, String)}, but
+         * using the given CheckCLDR on a cache miss.
+         *
+         * @param checker a CheckCLDR from {@link #newConfinedCheck()}, used only by this thread
+         */
+        public void check(String path, List<CheckStatus> result, String value, CheckCLDR checker) {
             /*
              * result.clear() is needed to avoid phantom warnings in the Info Panel, if we're called
              * with non-empty result (leftover from another row) and we get cachedResult != null.
@@ -61,11 +79,29 @@ public class TestCache implements XMLSource.Listener {
             if (cachedResult != null) {
                 result.addAll(cachedResult);
             } else {
-                cc.check(path, file.getFullXPath(path), value, options, result);
-                pathCache.put(key, ImmutableList.copyOf(result));
+                final long startGeneration = generation.get();
+                checker.check(path, file.getFullXPath(path), value, options, result);
+                final List<CheckStatus> newResult = ImmutableList.copyOf(result);
+                if (generation.get() == startGeneration) {
+                    pathCache.put(key, newResult);
+                    if (generation.get() != startGeneration) {
+                        // an invalidate started meanwhile, and may already have looked for key
+                        pathCache.remove(key, newResult);
+                    }
+                }
             }
         }
 
+        /**
+         * Create a CheckCLDR set up like this bundle's own. CheckCLDR is not thread-safe, so
+         * callers checking many values in parallel use one of these per thread.
+         */
+        public CheckCLDR newConfinedCheck() {
+            CheckCLDR checker = CheckCLDR.getCheckAll(getFactory(), nameMatcher);
+            checker.setCldrFileToCheck(file, options, new ArrayList<>());
+            return checker;
+        }
+
         public void getExamples(String path, String value, List<CheckStatus> result) {
             cc.getExamples(path, file.getFullXPath(path), value, options, result);
         }
@@ -73,6 +109,34 @@ public class TestCache implements XMLSource.Listener {
         public List<CheckStatus> getPossibleProblems() {
             return possibleProblems;
         }
+
+        /**
+         * Discard the cached results that may be affected by a change to the winning value of the
+         * given path, according to the dependencies declared by the checks.
+         *
+         * @param xpath the path whose value has changed
+         * @return false if the checks themselves are affected, in which case this bundle must not
+         *     be used any more
+         */
+        boolean invalidate(String xpath) {
+            generation.incrementAndGet();
+            cc.pathValueChanged(xpath);
+            final CheckCLDR.Dependency dependency = cc.getDependency(xpath);
+            if (dependency == CheckCLDR.Dependency.SETUP) {
+                return false;
+            }
+            final Predicate<String> dependentPaths =
+                    dependency == CheckCLDR.Dependency.PATHS
+                            ? cc.getDependentPaths(xpath)
+                            : path -> false;
+            pathCache
+                    .keySet()
+                    .removeIf(
+                            key ->
+                                    key.getFirst().equals(xpath)
+                                            || dependentPaths.test(key.getFirst()));
+            return true;
+        }
     }
 
     private static final boolean DEBUG = false;
@@ -86,12 +150,18 @@ public class TestCache implements XMLSource.Listener {
             CacheBuilder.newBuilder()
                     .maximumSize(CLDRConfig.getInstance().getProperty("CLDR_TESTCACHE_SIZE", 12))
                     .softValues()
+                    .recordStats()
                     .build();
 
     private Factory factory = null;
 
     private String nameMatcher = null;
 
+    /** Hit, miss and eviction counts for the TestResultBundle cache */
+    public CacheStats getStats() {
+        return testResultCache.stats();
+    }
+
     /** Get the bundle for this test */
     public TestResultBundle getBundle(CheckCLDR.Options options) {
         TestResultBundle b = testResultCache.getIfPresent(options);
@@ -205,18 +275,22 @@ public class TestCache implements XMLSource.Listener {
     /**
      * Update the cache of TestResultBundle objects, per valueChanged
      *
+     * <p>Bundles are kept if their checks declare that they don't depend on the changed path; then
+     * only the cached results for the changed path, and for the paths that depend on it, are
+     * discarded.
+     *
      * @param xpath the xpath whose value has changed
      * @param locale the CLDRLocale
      *     <p>Called by valueChangedInvalidateRecursively
      */
-    private void updateTestResultCache(
-            @SuppressWarnings("unused") String xpath, CLDRLocale locale) {
+    private void updateTestResultCache(String xpath, CLDRLocale locale) {
         if (!testResultCache.asMap().isEmpty()) {
-            // Filter the testResultCache to only remove the items where the locale matches
+            // Filter the testResultCache to only remove the items where the locale matches,
+            // and where the bundle can't just drop the affected results
             List<Options> toRemove = new ArrayList<>();
-            for (Options k : testResultCache.asMap().keySet()) {
-                if (k.getLocale().equals(locale)) {
-                    toRemove.add(k);
+            for (Entry<Options, TestResultBundle> e : testResultCache.asMap().entrySet()) {
+                if (e.getKey().getLocale().equals(locale) && !e.getValue().invalidate(xpath)) {
+                    toRemove.add(e.getKey());
                 }
             }
             if (!DEBUG) {
@@ -250,7 +324,12 @@ public class TestCache implements XMLSource.Listener {
      * <p>Reference: https://unicode-org.atlassian.net/browse/CLDR-12020
      */
     private static Cache<String, ExampleGenerator> exampleGeneratorCache =
-            CacheBuilder.newBuilder().softValues().build();
+            CacheBuilder.newBuilder().softValues().recordStats().build();
+
+    /** Hit, miss and eviction counts for the ExampleGenerator cache */
+    public static CacheStats getExampleGeneratorStats() {
+        return exampleGeneratorCache.stats();
+    }
 
     /**
      * Get an ExampleGenerator for the given locale, etc.
@@ -19,10 +19,15 @@ import com.ibm.icu.text.UnicodeSet;
 import com.ibm.icu.util.ICUException;
 import com.ibm.icu.util.Output;
 import com.ibm.icu.util.ULocale;
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -36,6 +41,12 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.unicode.cldr.draft.FileUtilities;
@@ -236,7 +247,8 @@ public class CLDRModify {
             ALL_DIRS = 13,
             CHECK = 14,
             KONFIG = 15,
-            RETAIN = 16;
+            RETAIN = 16,
+            THREADS = 17;
 
     private static final UOption[] options = {
         UOption.HELP_H(),
@@ -256,6 +268,7 @@ public class CLDRModify {
         UOption.create("check", 'c', UOption.NO_ARG),
         UOption.create("konfig", 'k', UOption.OPTIONAL_ARG).setDefault("modify_config.txt"),
         UOption.create("Retain", 'R', UOption.NO_ARG),
+        UOption.create("Threads", 'T', UOption.REQUIRES_ARG).setDefault("1"),
     };
 
     private static final UnicodeSet allMergeOptions = new UnicodeSet("[rcd]");
@@ -309,6 +322,8 @@ public class CLDRModify {
                     + XPathParts.NEWLINE
                     + "-R\t retain unchanged files"
                     + XPathParts.NEWLINE
+                    + "-T<n>\t fix the locales of each directory on n threads. Default = -T1"
+                    + XPathParts.NEWLINE
                     + "-f\t to perform various fixes on the files (add following arguments to specify which ones, eg -fxi)"
                     + XPathParts.NEWLINE;
 
@@ -438,115 +453,46 @@ public class CLDRModify {
                 new CldrUtility.MatcherFilter(options[MATCH].value).retainAll(locales);
 
                 fixList.handleSetup();
-
-                long lastTime = System.currentTimeMillis();
-                int spin = 0;
+                fixList.totalChanged = 0; // the total of each directory, as with several threads
+
+                final int threads = Integer.parseInt(options[THREADS].value);
+                final LocaleFixer fixer =
+                        new LocaleFixer(
+                                cldrFactory,
+                                makeResolved,
+                                mergeFactory,
+                                join_prefix,
+                                join_postfix,
+                                sourceDir,
+                                targetDir,
+                                retainUnchangedFiles);
                 System.out.format(locales.size() + " Locales:\t%s\n", locales.toString());
                 int totalRemoved = 0;
-                for (String test : locales) {
-                    spin++;
-                    if (SHOW_PROCESSING) {
-                        long now = System.currentTimeMillis();
-                        if (now - lastTime > 5000) {
-                            System.out.println(
-                                    " .. still processing "
-                                            + test
-                                            + " ["
-                                            + spin
-                                            + "/"
-                                            + locales.size()
-                                            + "]");
-                            lastTime = now;
-                        }
-                    }
-
-                    // TODO parameterize the directory and filter
-
-                    final CLDRFile originalCldrFile = cldrFactory.make(test, makeResolved);
-                    CLDRFile k = originalCldrFile.cloneAsThawed();
-                    if (DEBUG_PATHS != null) {
-                        System.out.println("Debug1 (" + test + "):\t" + k.toString(DEBUG_PATHS));
-                    }
-                    if (mergeFactory != null) {
-                        int mergeOption = CLDRFile.MERGE_ADD_ALTERNATE;
-                        CLDRFile toMergeIn =
-                                mergeFactory
-                                        .make(join_prefix + test + join_postfix, false)
-                                        .cloneAsThawed();
-                        if (toMergeIn != null) {
-                            if (options[JOIN_ARGS].doesOccur) {
-                                if (options[JOIN_ARGS].value.indexOf("r") >= 0)
-                                    mergeOption = CLDRFile.MERGE_REPLACE_MY_DRAFT;
-                                if (options[JOIN_ARGS].value.indexOf("d") >= 0)
-                                    mergeOption = CLDRFile.MERGE_REPLACE_MINE;
-                                if (options[JOIN_ARGS].value.indexOf("c") >= 0)
-                                    toMergeIn.clearComments();
-                                if (options[JOIN_ARGS].value.indexOf("x") >= 0)
-                                    removePosix(toMergeIn);
+                if (threads > 1) {
+                    fixer.fixConcurrently(locales, threads);
+                } else {
+                    long lastTime = System.currentTimeMillis();
+                    int spin = 0;
+                    for (String test : locales) {
+                        spin++;
+                        if (SHOW_PROCESSING) {
+                            long now = System.currentTimeMillis();
+                            if (now - lastTime > 5000) {
+                                System.out.println(
+                                        " .. still processing "
+                                                + test
+                                                + " ["
+                                                + spin
+                                                + "/"
+                                                + locales.size()
+                                                + "]");
+                                lastTime = now;
                             }
-                            toMergeIn.makeDraft(DraftStatus.contributed);
-                            k.putAll(toMergeIn, mergeOption);
                         }
-                        // special fix
-                        k.removeComment(
-                                " The following are strings that are not found in the locale (currently), but need valid translations for localizing timezones. ");
-                    }
-                    if (DEBUG_PATHS != null) {
-                        System.out.println("Debug2 (" + test + "):\t" + k.toString(DEBUG_PATHS));
-                    }
-                    if (options[FIX].doesOccur) {
-                        fix(k, options[FIX].value, options[KONFIG].value, cldrFactory);
-                        System.out.println("#TOTAL\tItems changed: " + fixList.totalChanged);
-                    }
-                    if (DEBUG_PATHS != null) {
-                        System.out.println("Debug3 (" + test + "):\t" + k.toString(DEBUG_PATHS));
-                    }
-                    if (DEBUG_PATHS != null) {
-                        System.out.println("Debug4 (" + test + "):\t" + k.toString(DEBUG_PATHS));
-                    }
-
-                    PrintWriter pw = FileUtilities.openUTF8Writer(targetDir, test + ".xml");
-                    String testPath =
-                            "//ldml/dates/calendars/calendar[@type=\"persian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"1\"]";
-                    if (false) {
-                        System.out.println("Printing Raw File:");
-                        testPath =
-                                "//ldml/dates/calendars/calendar[@type=\"persian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"abbreviated\"]/alias";
-                        System.out.println(k.getStringValue(testPath));
-                        TreeSet s = new TreeSet();
-                        k.forEach(s::add);
-
-                        System.out.println(k.getStringValue(testPath));
-                        Set orderedSet = new TreeSet(k.getComparator());
-                        k.forEach(orderedSet::add);
-                        for (Iterator it3 = orderedSet.iterator(); it3.hasNext(); ) {
-                            String path = (String) it3.next();
-                            if (path.equals(testPath)) {
-                                System.out.println("huh?");
-                            }
-                            String value = k.getStringValue(path);
-                            String fullpath = k.getFullXPath(path);
-                            System.out.println("\t=\t" + fullpath);
-                            System.out.println("\t=\t" + value);
+                        fixer.fix(test, fixList);
+                        if (options[FIX].doesOccur) {
+                            System.out.println("#TOTAL\tItems changed: " + fixList.totalChanged);
                         }
-                        System.out.println("Done Printing Raw File:");
-                    }
-
-                    k.write(pw);
-                    pw.close();
-
-                    File oldFile = new File(sourceDir, test + ".xml");
-                    File newFile = new File(targetDir, test + ".xml");
-                    if (!retainUnchangedFiles
-                            && !oldFile.equals(
-                                    newFile) // only skip if the source & target are different.
-                            && equalsSkippingCopyright(oldFile, newFile)) {
-                        newFile.delete();
-                        continue;
-                    }
-
-                    if (options[CHECK].doesOccur) {
-                        QuickCheck.check(new File(targetDir, test + ".xml"));
                     }
                 }
                 if (totalSkeletons.size() != 0) {
@@ -565,9 +511,197 @@ public class CLDRModify {
         }
     }
 
+    /** Fixes the locales of one source directory, writing them to the target directory */
+    static class LocaleFixer {
+        private final Factory cldrFactory;
+        private final boolean makeResolved;
+        private final Factory mergeFactory;
+        private final String joinPrefix;
+        private final String joinPostfix;
+        private final String sourceDir;
+        private final String targetDir;
+        private final boolean retainUnchangedFiles;
+
+        LocaleFixer(
+                Factory cldrFactory,
+                boolean makeResolved,
+                Factory mergeFactory,
+                String joinPrefix,
+                String joinPostfix,
+                String sourceDir,
+                String targetDir,
+                boolean retainUnchangedFiles) {
+            this.cldrFactory = cldrFactory;
+            this.makeResolved = makeResolved;
+            this.mergeFactory = mergeFactory;
+            this.joinPrefix = joinPrefix;
+            this.joinPostfix = joinPostfix;
+            this.sourceDir = sourceDir;
+            this.targetDir = targetDir;
+            this.retainUnchangedFiles = retainUnchangedFiles;
+        }
+
+        /**
+         * Fix one locale, applying all of the selected fixes in one pass over its paths. The
+         * result is only written if it differs from the source file (other than in the copyright
+         * line), or if unchanged files are retained.
+         *
+         * @param test the locale
+         * @param fixes the fixes, used by no other thread at the same time
+         */
+        void fix(String test, FixList fixes) throws IOException {
+            // TODO parameterize the directory and filter
+
+            final CLDRFile originalCldrFile = cldrFactory.make(test, makeResolved);
+            CLDRFile k = originalCldrFile.cloneAsThawed();
+            if (DEBUG_PATHS != null) {
+                System.out.println("Debug1 (" + test + "):\t" + k.toString(DEBUG_PATHS));
+            }
+            if (mergeFactory != null) {
+                int mergeOption = CLDRFile.MERGE_ADD_ALTERNATE;
+                CLDRFile toMergeIn =
+                        mergeFactory.make(joinPrefix + test + joinPostfix, false).cloneAsThawed();
+                if (toMergeIn != null) {
+                    if (options[JOIN_ARGS].doesOccur) {
+                        if (options[JOIN_ARGS].value.indexOf("r") >= 0)
+                            mergeOption = CLDRFile.MERGE_REPLACE_MY_DRAFT;
+                        if (options[JOIN_ARGS].value.indexOf("d") >= 0)
+                            mergeOption = CLDRFile.MERGE_REPLACE_MINE;
+                        if (options[JOIN_ARGS].value.indexOf("c") >= 0) toMergeIn.clearComments();
+                        if (options[JOIN_ARGS].value.indexOf("x") >= 0) removePosix(toMergeIn);
+                    }
+                    toMergeIn.makeDraft(DraftStatus.contributed);
+                    k.putAll(toMergeIn, mergeOption);
+                }
+                // special fix
+                k.removeComment(
+                        " The following are strings that are not found in the locale (currently), but need valid translations for localizing timezones. ");
+            }
+            if (DEBUG_PATHS != null) {
+                System.out.println("Debug2 (" + test + "):\t" + k.toString(DEBUG_PATHS));
+            }
+            if (options[FIX].doesOccur) {
+                CLDRModify.fix(k, options[FIX].value, options[KONFIG].value, cldrFactory, fixes);
+            }
+            if (DEBUG_PATHS != null) {
+                System.out.println("Debug3 (" + test + "):\t" + k.toString(DEBUG_PATHS));
+            }
+
+            // Write to memory first, so that an unchanged locale never touches the target
+            StringWriter written = new StringWriter();
+            PrintWriter pw = new PrintWriter(written);
+            k.write(pw);
+            pw.flush();
+
+            File oldFile = new File(sourceDir, test + ".xml");
+            File newFile = new File(targetDir, test + ".xml");
+            if (!retainUnchangedFiles
+                    && !oldFile.equals(newFile) // only skip if the source & target are different.
+                    && equalsSkippingCopyright(oldFile, written.toString())) {
+                newFile.delete(); // from an earlier run
+                return;
+            }
+            try (PrintWriter out = FileUtilities.openUTF8Writer(targetDir, test + ".xml")) {
+                out.write(written.toString());
+            }
+
+            if (options[CHECK].doesOccur) {
+                QuickCheck.check(newFile);
+            }
+        }
+
+        /**
+         * Fix the locales on a pool of threads. Each thread gets its own list of fixes, since the
+         * filters keep the state of the locale they are fixing; it is set up before the first
+         * locale of the thread and cleaned up once all of the threads have finished.
+         *
+         * @throws Exception the first failure
+         */
+        void fixConcurrently(Set<String> locales, int threads) throws Exception {
+            final List<FixList> threadFixes = Collections.synchronizedList(new ArrayList<>());
+            final ThreadLocal<FixList> fixes =
+                    ThreadLocal.withInitial(
+                            () -> {
+                                FixList result = new FixList();
+                                addFixes(result);
+                                result.handleSetup();
+                                threadFixes.add(result);
+                                return result;
+                            });
+            final ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                final List<Future<?>> futures = new ArrayList<>();
+                for (String test : locales) {
+                    futures.add(
+                            pool.submit(
+                                    () -> {
+                                        fix(test, fixes.get());
+                                        return null;
+                                    }));
+                }
+                for (Future<?> future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        pool.shutdownNow();
+                        if (e.getCause() instanceof Exception) {
+                            throw (Exception) e.getCause();
+                        }
+                        throw (Error) e.getCause();
+                    }
+                }
+            } finally {
+                pool.shutdown();
+                if (awaitFixes(pool)) {
+                    int totalChanged = 0;
+                    for (FixList threadFix : threadFixes) {
+                        threadFix.handleCleanup();
+                        totalChanged += threadFix.totalChanged;
+                    }
+                    if (options[FIX].doesOccur) {
+                        System.out.println("#TOTAL\tItems changed: " + totalChanged);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Wait until no fix is running, since a running fix still uses its list. After a failure,
+         * the fixes already started run to the end of their locale.
+         *
+         * @return false if interrupted while waiting, in which case the lists can't be cleaned up
+         */
+        private static boolean awaitFixes(ExecutorService pool) {
+            try {
+                while (!pool.awaitTermination(1, TimeUnit.MINUTES)) {
+                    System.err.println("Waiting for the running fixes to finish");
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                System.err.println("Interrupted; the fixes are not cleaned up");
+                return false;
+            }
+        }
+    }
+
     public static boolean equalsSkippingCopyright(File oldFile, File newFile) {
-        Iterator<String> oldIterator = FileUtilities.in(oldFile).iterator();
-        Iterator<String> newIterator = FileUtilities.in(newFile).iterator();
+        return equalsSkippingCopyright(
+                FileUtilities.in(oldFile).iterator(), FileUtilities.in(newFile).iterator());
+    }
+
+    /**
+     * Compare a file with the contents of a new one, like {@link #equalsSkippingCopyright(File,
+     * File)}
+     */
+    public static boolean equalsSkippingCopyright(File oldFile, String newContents) {
+        return equalsSkippingCopyright(
+                FileUtilities.in(oldFile).iterator(),
+                FileUtilities.in(new BufferedReader(new StringReader(newContents))).iterator());
+    }
+
+    private static boolean equalsSkippingCopyright(
+            Iterator<String> oldIterator, Iterator<String> newIterator) {
         while (true) {
             boolean oldHasNext = oldIterator.hasNext();
             boolean newHasNext = newIterator.hasNext();
@@ -1029,7 +1163,7 @@ public class CLDRModify {
         }
     }
 
-    static Set<String> totalSkeletons = new HashSet<>();
+    static Set<String> totalSkeletons = ConcurrentHashMap.newKeySet();
 
     static Map<String, String> rootUnitMap = new HashMap<>();
 
@@ -1042,6 +1176,14 @@ public class CLDRModify {
         rootUnitMap.put("month", "m");
         rootUnitMap.put("year", "y");
 
+        addFixes(fixList);
+    }
+
+    /**
+     * Add all of the fixes to the list, each with a new filter. Since the filters keep the state of
+     * the locale they are fixing, each thread fixing locales needs a list of its own.
+     */
+    private static void addFixes(FixList fixList) {
         fixList.add(
                 'z',
                 "Remove deprecated elements",
@@ -3080,7 +3222,8 @@ public class CLDRModify {
     }
 
     /** Perform various fixes TODO add options to pick which one. */
-    private static void fix(CLDRFile k, String inputOptions, String config, Factory cldrFactory) {
+    private static void fix(
+            CLDRFile k, String inputOptions, String config, Factory cldrFactory, FixList fixList) {
 
         // TODO before modifying, make sure that it is fully resolved.
         // then minimize against the NEW parents
@@ -4,6 +4,9 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.TreeMultimap;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
 import com.ibm.icu.impl.Relation;
 import com.ibm.icu.impl.Row.R2;
 import com.ibm.icu.impl.Row.R3;
@@ -19,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -430,6 +434,12 @@ public class ChartDelta extends Chart {
                             System.out.println(nameAndLocale);
                         }
                         CLDRFile current = makeWithFallback(factory, locale, resolving);
+                        if (!highLevelOnly
+                                && SKIP_REFORMAT_ANNOTATIONS
+                                && sameSources(sourceDir, oldFactory, locale, resolving)) {
+                            addUnchanged(sourceDir, current, locale, currentStatus);
+                            continue;
+                        }
                         CLDRFile old = makeWithFallback(oldFactory, locale, resolving);
                         DisplayAndInputProcessor daip = new DisplayAndInputProcessor(old);
 
@@ -538,6 +548,79 @@ public class ChartDelta extends Chart {
         }
     }
 
+    /** Hashes of the source files read so far; root and other parents are shared by many locales */
+    private final Map<File, HashCode> fileHashes = new HashMap<>();
+
+    /**
+     * Are the files of this locale, and of each locale it inherits from, the same in both
+     * versions? If so, the resolved values of the locale are the same too.
+     *
+     * @param sourceDir the current directory
+     * @param oldFactory the old factory, or null if there is none
+     * @param locale the locale
+     * @param resolving whether the locale is resolved, and so depends on its parents
+     */
+    private boolean sameSources(
+            File sourceDir, Factory oldFactory, String locale, boolean resolving)
+            throws IOException {
+        if (oldFactory == null) {
+            return false;
+        }
+        final File oldDir = oldFactory.getSourceDirectories()[0];
+        for (String l = locale; l != null; l = resolving ? LocaleIDParser.getParent(l) : null) {
+            final File currentFile = new File(sourceDir, l + ".xml");
+            final File oldFile = new File(oldDir, l + ".xml");
+            if (!currentFile.exists()) {
+                if (oldFile.exists() || l.equals(locale)) {
+                    return false;
+                }
+                continue; // in neither version
+            }
+            if (!oldFile.exists() || !getHash(currentFile).equals(getHash(oldFile))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private HashCode getHash(File file) throws IOException {
+        HashCode hash = fileHashes.get(file);
+        if (hash == null) {
+            hash = Files.asByteSource(file).hash(Hashing.sha256());
+            fileHashes.put(file, hash);
+        }
+        return hash;
+    }
+
+    /**
+     * Count the values of a locale whose files are unchanged, as the comparison in writeLdml
+     * would, but without reading the old version: every value is the same.
+     */
+    private void addUnchanged(File sourceDir, CLDRFile current, String locale, Status status) {
+        for (String path : current.fullIterable()) {
+            if (!allowPath(locale, path)
+                    || path.startsWith("//ldml/identity")
+                    || path.endsWith("/alias")
+                    || path.startsWith("//ldml/segmentations")
+                    || path.startsWith("//ldml/rbnf")) {
+                continue;
+            }
+            PathHeader ph = getPathHeader(path);
+            if (ph == null) {
+                continue;
+            }
+            if (!current.getSourceLocaleID(path, status).equals(locale)
+                    || !path.equals(status.pathWhereFound)) {
+                continue;
+            }
+            String value = current.getStringValue(path);
+            if (CldrUtility.INHERITANCE_MARKER.equals(value)) {
+                value = current.getBaileyValue(path, null, null);
+            }
+            addValueDiff(sourceDir, value, value, locale, ph, null, null);
+        }
+    }
+
     public boolean dontDaipValue(String oldRawValue, String path) {
         return oldRawValue == null || path.startsWith("//ldml/collations");
     }
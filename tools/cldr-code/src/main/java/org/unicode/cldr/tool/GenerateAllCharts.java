@@ -1,8 +1,21 @@
 package org.unicode.cldr.tool;
 
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.unicode.cldr.util.CLDRPaths;
+import org.unicode.cldr.util.CldrUtility;
 import org.unicode.cldr.util.DateTimeFormats;
 import org.unicode.cldr.util.FileCopier;
+import org.unicode.cldr.util.PathHeader;
 import org.unicode.cldr.util.VerifyCompactNumbers;
 import org.unicode.cldr.util.VerifyZones;
 
@@ -12,9 +25,16 @@ import org.unicode.cldr.util.VerifyZones;
  * release, but before the final data is in cldr-archive) -DCHART_STATUS=release (only uses the
  * cldr-archive, no β)
  *
+ * <p>By default, the charts are generated one after another, in the order listed here.
+ * -DCHART_THREADS=4 (for example) generates them concurrently, on that many threads. Not all of the
+ * chart generators have been checked for shared state yet, so use that only to try it out.
+ *
  * @author markdavis
  */
 public class GenerateAllCharts {
+    private static final int CHART_THREADS =
+            Integer.parseInt(CldrUtility.getProperty("CHART_THREADS", "1"));
+
     public static void main(String[] args) throws Exception {
         FileCopier.copy(GenerateAllCharts.class, "index.css", CLDRPaths.CHART_DIRECTORY);
         FileCopier.copy(
@@ -24,29 +44,151 @@ public class GenerateAllCharts {
                 "index.html");
         FormattedFileWriter.copyIncludeHtmls(CLDRPaths.CHART_DIRECTORY);
 
+        // Load the shared inputs once, before the charts start using them from several threads
+        Chart.CONFIG.getCldrFactory();
+        PathHeader.getFactory(Chart.ENGLISH);
+
+        final ChartScheduler charts = new ChartScheduler(CHART_THREADS);
         if (ToolConstants.CHART_VERSION.compareTo("37") >= 0) {
-            new ChartGrammaticalForms().writeChart(null);
+            charts.add(
+                    "ChartGrammaticalForms", () -> new ChartGrammaticalForms().writeChart(null));
         }
 
-        ShowLanguages.main(args);
+        charts.add("ShowLanguages", () -> ShowLanguages.main(args));
 
-        new ChartAnnotations().writeChart(null);
-        new ChartSubdivisionNames().writeChart(null);
-        GenerateBcp47Text.main(args);
-        GenerateSidewaysView.main(args);
-        ShowData.main(args);
+        charts.add("ChartAnnotations", () -> new ChartAnnotations().writeChart(null));
+        charts.add("ChartSubdivisionNames", () -> new ChartSubdivisionNames().writeChart(null));
+        charts.add("GenerateBcp47Text", () -> GenerateBcp47Text.main(args));
+        charts.add("GenerateSidewaysView", () -> GenerateSidewaysView.main(args));
+        charts.add("ShowData", () -> ShowData.main(args));
 
         // GenerateTransformCharts.main(args);
-        ChartDelta.main(args);
-        ChartDelta.main(args, true); // churn
-        ChartCollation.main(args);
+        charts.add("ChartDelta", () -> ChartDelta.main(args));
+        charts.add("ChartDelta churn", () -> ChartDelta.main(args, true), "ChartDelta");
+        charts.add("ChartCollation", () -> ChartCollation.main(args));
 
-        VerifyCompactNumbers.main(args);
-        VerifyZones.main(args);
-        DateTimeFormats.main(args);
-        new ChartPersonNames().writeChart(null);
+        charts.add("VerifyCompactNumbers", () -> VerifyCompactNumbers.main(args));
+        charts.add("VerifyZones", () -> VerifyZones.main(args));
+        charts.add("DateTimeFormats", () -> DateTimeFormats.main(args));
+        charts.add("ChartPersonNames", () -> new ChartPersonNames().writeChart(null));
 
         // put this at the end, since it currently fails.
-        ShowKeyboards.main(args);
+        charts.add("ShowKeyboards", () -> ShowKeyboards.main(args));
+
+        charts.await();
+    }
+
+    /** Generates one chart */
+    interface ChartTask {
+        void run() throws Exception;
+    }
+
+    /**
+     * Runs chart tasks on a bounded pool, each once the tasks it depends on have finished, and
+     * reports how long each took.
+     *
+     * <p>Tasks are started in the order they are added, and a task whose dependencies are still
+     * running waits for them on its own thread. Since a task can only depend on tasks added before
+     * it, which have already started, this can't deadlock, and with one thread the tasks run in
+     * exactly the order they were added.
+     */
+    static final class ChartScheduler {
+        private final ExecutorService pool;
+        private final Map<String, CompletableFuture<Void>> tasks = new LinkedHashMap<>();
+        private final Map<String, Long> nanos = new ConcurrentHashMap<>();
+        private final PrintStream out;
+
+        ChartScheduler(int threads) {
+            this(threads, System.out);
+        }
+
+        /**
+         * @param threads the number of tasks to run at once
+         * @param out where to report the progress and times
+         */
+        ChartScheduler(int threads, PrintStream out) {
+            pool = Executors.newFixedThreadPool(Math.max(1, threads));
+            this.out = out;
+        }
+
+        /**
+         * Add a task, to be run once the named tasks have finished successfully
+         *
+         * @param name the name of the task, for reporting
+         * @param task the task
+         * @param after the names of tasks already added, which must finish first
+         */
+        void add(String name, ChartTask task, String... after) {
+            final CompletableFuture<?>[] dependencies = new CompletableFuture<?>[after.length];
+            for (int i = 0; i < after.length; i++) {
+                dependencies[i] = tasks.get(after[i]);
+                if (dependencies[i] == null) {
+                    throw new IllegalArgumentException(name + " depends on unknown " + after[i]);
+                }
+            }
+            final CompletableFuture<Void> allDependencies = CompletableFuture.allOf(dependencies);
+            tasks.put(
+                    name,
+                    CompletableFuture.runAsync(
+                            () -> {
+                                allDependencies.join(); // fails this task if one of them failed
+                                run(name, task);
+                            },
+                            pool));
+        }
+
+        private void run(String name, ChartTask task) {
+            final long start = System.nanoTime();
+            try {
+                task.run();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            } finally {
+                nanos.put(name, System.nanoTime() - start);
+                out.println("Finished " + name + " in " + seconds(nanos.get(name)));
+            }
+        }
+
+        /**
+         * Wait for all of the tasks, then print the time of each one
+         *
+         * @throws Exception the first failure, with any others suppressed
+         */
+        void await() throws Exception {
+            final List<Throwable> failures = new ArrayList<>();
+            try {
+                for (Map.Entry<String, CompletableFuture<Void>> entry : tasks.entrySet()) {
+                    try {
+                        entry.getValue().join();
+                    } catch (CompletionException e) {
+                        final Throwable failure = e.getCause() == null ? e : e.getCause();
+                        if (!failures.contains(failure)) { // a dependent fails the same way
+                            failures.add(failure);
+                        }
+                    }
+                }
+            } finally {
+                pool.shutdown();
+            }
+            out.println("Chart times:");
+            for (String name : tasks.keySet()) {
+                final Long time = nanos.get(name);
+                out.println("\t" + name + "\t" + (time == null ? "not run" : seconds(time)));
+            }
+            if (!failures.isEmpty()) {
+                final Throwable first = failures.get(0);
+                for (Throwable other : failures.subList(1, failures.size())) {
+                    first.addSuppressed(other);
+                }
+                if (first instanceof Exception) {
+                    throw (Exception) first;
+                }
+                throw (Error) first;
+            }
+        }
+
+        private static String seconds(long nanos) {
+            return TimeUnit.NANOSECONDS.toMillis(nanos) / 1000.0 + "s";
+        }
     }
 }
@@ -1,9176 +1,160 @@
 package org.unicode.cldr.tool;
 
-import java.util.HashMap;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import org.unicode.cldr.util.CldrUtility;
 
-/** Autogenerated by GenerateXMB for use by ConvertXTB. Do not manually edit this file. */
+/**
+ * The ids of the messages made by GenerateXMB, with their paths and English values, for use by
+ * ConvertXTB.
+ *
+ * <p>The table is in the resource IdToPath.data, which is only read the first time an id is looked
+ * up. It holds the ids as sorted longs, for binary search, and the strings as one UTF-8 pool with
+ * an offset table, so that a string is only made for an id that is used. The resource is written
+ * by {@link #write(Map, OutputStream)}.
+ */
 public class IdToPath {
-    static final HashMap<String, String> map = new HashMap<>();
+    static final String DATA_FILE = "IdToPath.data";
+    static final String FORMAT_KEY = "itp-1";
 
+    /** The loaded table, read the first time it is used */
+    static final class Table {
+        static final Table INSTANCE = load();
+
+        /** The ids, sorted */
+        final long[] ids;
+
+        /** For the id at index i, the path is at offsets[2i] and the English at offsets[2i+1] */
+        final int[] offsets;
+
+        final byte[] pool;
+
+        Table(long[] ids, int[] offsets, byte[] pool) {
+            this.ids = ids;
+            this.offsets = offsets;
+            this.pool = pool;
+        }
+
+        private static Table load() {
+            try (InputStream in = CldrUtility.getInputStream(IdToPath.class, DATA_FILE)) {
+                return read(in);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Can't read " + DATA_FILE, e);
+            }
+        }
+
+        /**
+         * Read a table in the form written by {@link IdToPath#write(Map, OutputStream)}
+         *
+         * @param stream the stream; not closed
+         * @return the table
+         */
+        static Table read(InputStream stream) throws IOException {
+            final DataInputStream in = new DataInputStream(stream);
+            final String key = in.readUTF();
+            if (!FORMAT_KEY.equals(key)) {
+                throw new IllegalArgumentException(
+                        "Wanted format " + FORMAT_KEY + " in " + DATA_FILE + ", got " + key);
+            }
+            final int count = in.readInt();
+            final long[] ids = new long[count];
+            for (int i = 0; i < count; i++) {
+                ids[i] = in.readLong();
+            }
+            final int[] offsets = new int[2 * count + 1];
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = in.readInt();
+            }
+            final byte[] pool = new byte[offsets[offsets.length - 1]];
+            in.readFully(pool);
+            return new Table(ids, offsets, pool);
+        }
+
+        /** The number of ids */
+        int size() {
+            return ids.length;
+        }
+
+        String get(String id, int which) {
+            final long longId;
+            try {
+                longId = Long.parseLong(id);
+            } catch (NumberFormatException e) {
+                return null; // not one of ours
+            }
+            final int index = Arrays.binarySearch(ids, longId);
+            if (index < 0) {
+                return null;
+            }
+            final int start = offsets[2 * index + which];
+            return new String(
+                    pool, start, offsets[2 * index + which + 1] - start, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Get the path for a message id
+     *
+     * @param id the id, as in the XTB file
+     * @return the path, or null if the id is not known
+     */
     public static String getPath(String id) {
-        return map.get(id);
+        return Table.INSTANCE.get(id, 0);
+    }
+
+    /**
+     * Get the English value for a message id
+     *
+     * @param id the id, as in the XTB file
+     * @return the English value, or null if the id is not known
+     */
+    public static String getEnglish(String id) {
+        return Table.INSTANCE.get(id, 1);
     }
 
-    static {
-        String[][] data = {
-            {"8185172660664561036", "//ldml/characters/ellipsis[@type=\"final\"]", "{0}…"},
-            {"4862514304103369633", "//ldml/characters/ellipsis[@type=\"initial\"]", "…{0}"},
-            {"6271151634807937467", "//ldml/characters/ellipsis[@type=\"medial\"]", "{0}…{1}"},
-            {"933827032928213208", "//ldml/characters/ellipsis[@type=\"word-final\"]", "{0} …"},
-            {"1869068311908289204", "//ldml/characters/ellipsis[@type=\"word-initial\"]", "… {0}"},
-            {
-                "5355674984773872977",
-                "//ldml/characters/ellipsis[@type=\"word-medial\"]",
-                "{0} … {1}"
-            },
-            {
-                "9140199787568256493",
-                "//ldml/characters/exemplarCharacters",
-                "[a b c d e f g h i j k l m n o p q r s t u v w x y z]"
-            },
-            {
-                "2811347674030337850",
-                "//ldml/characters/exemplarCharacters[@type=\"auxiliary\"]",
-                "[á à ă â å ä ã ā æ ç é è ĕ ê ë ē í ì ĭ î ï ī ñ ó ò ŏ ô ö ø ō œ ú ù ŭ û ü ū ÿ]"
-            },
-            {
-                "7205786997640825427",
-                "//ldml/characters/exemplarCharacters[@type=\"index\"]",
-                "[A B C D E F G H I J K L M N O P Q R S T U V W X Y Z]"
-            },
-            {
-                "7852382081805980792",
-                "//ldml/characters/exemplarCharacters[@type=\"punctuation\"]",
-                "[\\- ‐ – — , ; \\: ! ? . … ' ‘ ’ \" “ ” ( ) \\[ \\] § @ * / \\& # † ‡ ′ ″]"
-            },
-            {"421611067904725230", "//ldml/characters/moreInformation", "?"},
-            {
-                "6210350382081827617",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateFormats/dateFormatLength[@type=\"full\"]/dateFormat[@type=\"standard\"]/pattern[@type=\"standard\"]",
-                "EEEE, MMMM d, y"
-            },
-            {
-                "6732504890397537339",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateFormats/dateFormatLength[@type=\"long\"]/dateFormat[@type=\"standard\"]/pattern[@type=\"standard\"]",
-                "MMMM d, y"
-            },
-            {
-                "1447427380805567966",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateFormats/dateFormatLength[@type=\"medium\"]/dateFormat[@type=\"standard\"]/pattern[@type=\"standard\"]",
-                "MMM d, y"
-            },
-            {
-                "6330584233113555553",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateFormats/dateFormatLength[@type=\"short\"]/dateFormat[@type=\"standard\"]/pattern[@type=\"standard\"]",
-                "M/d/yy"
-            },
-            {
-                "5913090267940338125",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"EHm\"]",
-                "E HH:mm"
-            },
-            {
-                "8518492767207758743",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"EHms\"]",
-                "E HH:mm:ss"
-            },
-            {
-                "8536199760610249826",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"Ed\"]",
-                "d E"
-            },
-            {
-                "8158644661629993725",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"Ehm\"]",
-                "E h:mm a"
-            },
-            {
-                "8081644201950764758",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"Ehms\"]",
-                "E h:mm:ss a"
-            },
-            {
-                "6005507362218957195",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"Gy\"]",
-                "y G"
-            },
-            {
-                "4037231058513667058",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"GyMMM\"]",
-                "MMM y G"
-            },
-            {
-                "6032556529112271243",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"GyMMMEd\"]",
-                "E, MMM d, y G"
-            },
-            {
-                "4515458213904834784",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"GyMMMd\"]",
-                "MMM d, y G"
-            },
-            {
-                "4001057923010278347",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"H\"]",
-                "HH"
-            },
-            {
-                "4151110772708638059",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"Hm\"]",
-                "HH:mm"
-            },
-            {
-                "2854320925378519795",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"Hms\"]",
-                "HH:mm:ss"
-            },
-            {
-                "673793593956275759",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"M\"]",
-                "L"
-            },
-            {
-                "3247726803356129266",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"MEd\"]",
-                "E, M/d"
-            },
-            {
-                "1013768162887057512",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"MMM\"]",
-                "LLL"
-            },
-            {
-                "9186177300426181649",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"MMMEd\"]",
-                "E, MMM d"
-            },
-            {
-                "221321083177551305",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"MMMd\"]",
-                "MMM d"
-            },
-            {
-                "6538040223709988217",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"Md\"]",
-                "M/d"
-            },
-            {
-                "8557845258546098365",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"d\"]",
-                "d"
-            },
-            {
-                "8679350314963209201",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"h\"]",
-                "h a"
-            },
-            {
-                "4773242185769283699",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"hm\"]",
-                "h:mm a"
-            },
-            {
-                "7843817634035465858",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"hms\"]",
-                "h:mm:ss a"
-            },
-            {
-                "459920444600419621",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"ms\"]",
-                "mm:ss"
-            },
-            {
-                "1904668687439282446",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"y\"]",
-                "y"
-            },
-            {
-                "1954174190818570532",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"yM\"]",
-                "M/y"
-            },
-            {
-                "7592896315352840199",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"yMEd\"]",
-                "E, M/d/y"
-            },
-            {
-                "8064333019529688760",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"yMMM\"]",
-                "MMM y"
-            },
-            {
-                "9179429504910909742",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"yMMMEd\"]",
-                "E, MMM d, y"
-            },
-            {
-                "5987369100060187529",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"yMMMd\"]",
-                "MMM d, y"
-            },
-            {
-                "5400248832742034911",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"yMd\"]",
-                "M/d/y"
-            },
-            {
-                "6001295352976118387",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"yQQQ\"]",
-                "QQQ y"
-            },
-            {
-                "4292396456933607390",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"yQQQQ\"]",
-                "QQQQ y"
-            },
-            {
-                "345353161840063720",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/dateTimeFormatLength[@type=\"full\"]/dateTimeFormat[@type=\"standard\"]/pattern[@type=\"standard\"]",
-                "{1} 'at' {0}"
-            },
-            {
-                "81519248169835085",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/dateTimeFormatLength[@type=\"long\"]/dateTimeFormat[@type=\"standard\"]/pattern[@type=\"standard\"]",
-                "{1} 'at' {0}"
-            },
-            {
-                "8806325220916789543",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/dateTimeFormatLength[@type=\"medium\"]/dateTimeFormat[@type=\"standard\"]/pattern[@type=\"standard\"]",
-                "{1}, {0}"
-            },
-            {
-                "1243485341831938657",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/dateTimeFormatLength[@type=\"short\"]/dateTimeFormat[@type=\"standard\"]/pattern[@type=\"standard\"]",
-                "{1}, {0}"
-            },
-            {
-                "7941881824230976478",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatFallback",
-                "{0} – {1}"
-            },
-            {
-                "8226759644531048511",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"H\"]/greatestDifference[@id=\"H\"]",
-                "HH – HH"
-            },
-            {
-                "5523312428350772189",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"Hm\"]/greatestDifference[@id=\"H\"]",
-                "HH:mm – HH:mm"
-            },
-            {
-                "6905520558889120030",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"Hm\"]/greatestDifference[@id=\"m\"]",
-                "HH:mm – HH:mm"
-            },
-            {
-                "4534830485308994256",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"Hmv\"]/greatestDifference[@id=\"H\"]",
-                "HH:mm – HH:mm v"
-            },
-            {
-                "4164370099861076374",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"Hmv\"]/greatestDifference[@id=\"m\"]",
-                "HH:mm – HH:mm v"
-            },
-            {
-                "7257953848295141003",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"Hv\"]/greatestDifference[@id=\"H\"]",
-                "HH – HH v"
-            },
-            {
-                "6729053935477713243",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"M\"]/greatestDifference[@id=\"M\"]",
-                "M – M"
-            },
-            {
-                "7526182999354469817",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"MEd\"]/greatestDifference[@id=\"M\"]",
-                "E, M/d – E, M/d"
-            },
-            {
-                "1731720509380344511",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"MEd\"]/greatestDifference[@id=\"d\"]",
-                "E, M/d – E, M/d"
-            },
-            {
-                "2778619793343455572",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"MMM\"]/greatestDifference[@id=\"M\"]",
-                "MMM – MMM"
-            },
-            {
-                "47497705236295273",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"MMMEd\"]/greatestDifference[@id=\"M\"]",
-                "E, MMM d – E, MMM d"
-            },
-            {
-                "7035773951901417047",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"MMMEd\"]/greatestDifference[@id=\"d\"]",
-                "E, MMM d – E, MMM d"
-            },
-            {
-                "1873849101000351808",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"MMMd\"]/greatestDifference[@id=\"M\"]",
-                "MMM d – MMM d"
-            },
-            {
-                "3077085102806850482",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"MMMd\"]/greatestDifference[@id=\"d\"]",
-                "MMM d – d"
-            },
-            {
-                "5746913512507971763",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"Md\"]/greatestDifference[@id=\"M\"]",
-                "M/d – M/d"
-            },
-            {
-                "331592232836796987",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"Md\"]/greatestDifference[@id=\"d\"]",
-                "M/d – M/d"
-            },
-            {
-                "2538393037643417038",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"d\"]/greatestDifference[@id=\"d\"]",
-                "d – d"
-            },
-            {
-                "5721456602226051372",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"h\"]/greatestDifference[@id=\"a\"]",
-                "h a – h a"
-            },
-            {
-                "9185519074943851240",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"h\"]/greatestDifference[@id=\"h\"]",
-                "h – h a"
-            },
-            {
-                "8497942894859464681",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"hm\"]/greatestDifference[@id=\"a\"]",
-                "h:mm a – h:mm a"
-            },
-            {
-                "9105164770007123739",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"hm\"]/greatestDifference[@id=\"h\"]",
-                "h:mm – h:mm a"
-            },
-            {
-                "5784417778574165775",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"hm\"]/greatestDifference[@id=\"m\"]",
-                "h:mm – h:mm a"
-            },
-            {
-                "7870133274672603237",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"hmv\"]/greatestDifference[@id=\"a\"]",
-                "h:mm a – h:mm a v"
-            },
-            {
-                "7690751392052311723",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"hmv\"]/greatestDifference[@id=\"h\"]",
-                "h:mm – h:mm a v"
-            },
-            {
-                "7836477155486787849",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"hmv\"]/greatestDifference[@id=\"m\"]",
-                "h:mm – h:mm a v"
-            },
-            {
-                "5586095693337638425",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"hv\"]/greatestDifference[@id=\"a\"]",
-                "h a – h a v"
-            },
-            {
-                "3954107021645421790",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"hv\"]/greatestDifference[@id=\"h\"]",
-                "h – h a v"
-            },
-            {
-                "7220378199266486682",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"y\"]/greatestDifference[@id=\"y\"]",
-                "y – y"
-            },
-            {
-                "4354713533892381025",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yM\"]/greatestDifference[@id=\"M\"]",
-                "M/y – M/y"
-            },
-            {
-                "8816954728402339852",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yM\"]/greatestDifference[@id=\"y\"]",
-                "M/y – M/y"
-            },
-            {
-                "9113253010456902905",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yMEd\"]/greatestDifference[@id=\"M\"]",
-                "E, M/d/y – E, M/d/y"
-            },
-            {
-                "1529612823641510100",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yMEd\"]/greatestDifference[@id=\"d\"]",
-                "E, M/d/y – E, M/d/y"
-            },
-            {
-                "2680532718867290860",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yMEd\"]/greatestDifference[@id=\"y\"]",
-                "E, M/d/y – E, M/d/y"
-            },
-            {
-                "8081573986808154265",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yMMM\"]/greatestDifference[@id=\"M\"]",
-                "MMM – MMM y"
-            },
-            {
-                "7773930594487085669",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yMMM\"]/greatestDifference[@id=\"y\"]",
-                "MMM y – MMM y"
-            },
-            {
-                "7445846284654719633",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yMMMEd\"]/greatestDifference[@id=\"M\"]",
-                "E, MMM d – E, MMM d, y"
-            },
-            {
-                "2112232047631083817",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yMMMEd\"]/greatestDifference[@id=\"d\"]",
-                "E, MMM d – E, MMM d, y"
-            },
-            {
-                "4996741801728575456",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yMMMEd\"]/greatestDifference[@id=\"y\"]",
-                "E, MMM d, y – E, MMM d, y"
-            },
-            {
-                "4606568472491930595",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yMMMM\"]/greatestDifference[@id=\"M\"]",
-                "MMMM – MMMM y"
-            },
-            {
-                "8112095349409889996",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yMMMM\"]/greatestDifference[@id=\"y\"]",
-                "MMMM y – MMMM y"
-            },
-            {
-                "2500495364967980029",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yMMMd\"]/greatestDifference[@id=\"M\"]",
-                "MMM d – MMM d, y"
-            },
-            {
-                "6213874575169439582",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yMMMd\"]/greatestDifference[@id=\"d\"]",
-                "MMM d – d, y"
-            },
-            {
-                "4945007882860935911",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yMMMd\"]/greatestDifference[@id=\"y\"]",
-                "MMM d, y – MMM d, y"
-            },
-            {
-                "1210189487135051538",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yMd\"]/greatestDifference[@id=\"M\"]",
-                "M/d/y – M/d/y"
-            },
-            {
-                "1817001914956791735",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yMd\"]/greatestDifference[@id=\"d\"]",
-                "M/d/y – M/d/y"
-            },
-            {
-                "3915884768505328084",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/intervalFormats/intervalFormatItem[@id=\"yMd\"]/greatestDifference[@id=\"y\"]",
-                "M/d/y – M/d/y"
-            },
-            {
-                "6660041643079783390",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dayPeriods/dayPeriodContext[@type=\"format\"]/dayPeriodWidth[@type=\"wide\"]/dayPeriod[@type=\"am\"]",
-                "AM"
-            },
-            {
-                "8270848922064685929",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dayPeriods/dayPeriodContext[@type=\"format\"]/dayPeriodWidth[@type=\"wide\"]/dayPeriod[@type=\"pm\"]",
-                "PM"
-            },
-            {
-                "4323731632769979923",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"abbreviated\"]/day[@type=\"fri\"]",
-                "Fri"
-            },
-            {
-                "9173969453281594256",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"abbreviated\"]/day[@type=\"mon\"]",
-                "Mon"
-            },
-            {
-                "7396612695440105407",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"abbreviated\"]/day[@type=\"sat\"]",
-                "Sat"
-            },
-            {
-                "1241396413330328545",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"abbreviated\"]/day[@type=\"sun\"]",
-                "Sun"
-            },
-            {
-                "2448307229176693993",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"abbreviated\"]/day[@type=\"thu\"]",
-                "Thu"
-            },
-            {
-                "5631257003118995070",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"abbreviated\"]/day[@type=\"tue\"]",
-                "Tue"
-            },
-            {
-                "1094983510417105355",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"abbreviated\"]/day[@type=\"wed\"]",
-                "Wed"
-            },
-            {
-                "227164511518355351",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"narrow\"]/day[@type=\"fri\"]",
-                "F"
-            },
-            {
-                "8416607013939292620",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"narrow\"]/day[@type=\"mon\"]",
-                "M"
-            },
-            {
-                "5966199683452716003",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"narrow\"]/day[@type=\"sat\"]",
-                "S"
-            },
-            {
-                "8592007897989642560",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"narrow\"]/day[@type=\"sun\"]",
-                "S"
-            },
-            {
-                "8619801443728124416",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"narrow\"]/day[@type=\"thu\"]",
-                "T"
-            },
-            {
-                "2540910838191043730",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"narrow\"]/day[@type=\"tue\"]",
-                "T"
-            },
-            {
-                "5382895611694335590",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"narrow\"]/day[@type=\"wed\"]",
-                "W"
-            },
-            {
-                "6929534434425173435",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"short\"]/day[@type=\"fri\"]",
-                "Fr"
-            },
-            {
-                "1235483398775259783",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"short\"]/day[@type=\"mon\"]",
-                "Mo"
-            },
-            {
-                "4348112942584315800",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"short\"]/day[@type=\"sat\"]",
-                "Sa"
-            },
-            {
-                "4242123171209617524",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"short\"]/day[@type=\"sun\"]",
-                "Su"
-            },
-            {
-                "4964518504551333683",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"short\"]/day[@type=\"thu\"]",
-                "Th"
-            },
-            {
-                "1203305392250166604",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"short\"]/day[@type=\"tue\"]",
-                "Tu"
-            },
-            {
-                "2228581123592988903",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"short\"]/day[@type=\"wed\"]",
-                "We"
-            },
-            {
-                "7322877090602110667",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"wide\"]/day[@type=\"fri\"]",
-                "Friday"
-            },
-            {
-                "1074937514802248285",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"wide\"]/day[@type=\"mon\"]",
-                "Monday"
-            },
-            {
-                "2224042677012771307",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"wide\"]/day[@type=\"sat\"]",
-                "Saturday"
-            },
-            {
-                "1003638523248650765",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"wide\"]/day[@type=\"sun\"]",
-                "Sunday"
-            },
-            {
-                "2318426871423143544",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"wide\"]/day[@type=\"thu\"]",
-                "Thursday"
-            },
-            {
-                "1378868843214487685",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"wide\"]/day[@type=\"tue\"]",
-                "Tuesday"
-            },
-            {
-                "4925819845638053190",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"format\"]/dayWidth[@type=\"wide\"]/day[@type=\"wed\"]",
-                "Wednesday"
-            },
-            {
-                "633855164308911404",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"abbreviated\"]/day[@type=\"fri\"]",
-                "Fri"
-            },
-            {
-                "3001798955666911307",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"abbreviated\"]/day[@type=\"mon\"]",
-                "Mon"
-            },
-            {
-                "8907789919638281240",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"abbreviated\"]/day[@type=\"sat\"]",
-                "Sat"
-            },
-            {
-                "3481114200164740239",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"abbreviated\"]/day[@type=\"sun\"]",
-                "Sun"
-            },
-            {
-                "6230475782102517041",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"abbreviated\"]/day[@type=\"thu\"]",
-                "Thu"
-            },
-            {
-                "3464439955371622109",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"abbreviated\"]/day[@type=\"tue\"]",
-                "Tue"
-            },
-            {
-                "6028999136724172846",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"abbreviated\"]/day[@type=\"wed\"]",
-                "Wed"
-            },
-            {
-                "4784287947386738350",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"narrow\"]/day[@type=\"fri\"]",
-                "F"
-            },
-            {
-                "2009642286556900698",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"narrow\"]/day[@type=\"mon\"]",
-                "M"
-            },
-            {
-                "5727683204865779047",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"narrow\"]/day[@type=\"sat\"]",
-                "S"
-            },
-            {
-                "1410093559614837936",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"narrow\"]/day[@type=\"sun\"]",
-                "S"
-            },
-            {
-                "249147760402355374",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"narrow\"]/day[@type=\"thu\"]",
-                "T"
-            },
-            {
-                "7407945955526461892",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"narrow\"]/day[@type=\"tue\"]",
-                "T"
-            },
-            {
-                "9006085014758260772",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"narrow\"]/day[@type=\"wed\"]",
-                "W"
-            },
-            {
-                "781331672224339347",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"short\"]/day[@type=\"fri\"]",
-                "Fr"
-            },
-            {
-                "2090360245373261702",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"short\"]/day[@type=\"mon\"]",
-                "Mo"
-            },
-            {
-                "3619681541944602537",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"short\"]/day[@type=\"sat\"]",
-                "Sa"
-            },
-            {
-                "8793940429083260182",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"short\"]/day[@type=\"sun\"]",
-                "Su"
-            },
-            {
-                "5589325877770721452",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"short\"]/day[@type=\"thu\"]",
-                "Th"
-            },
-            {
-                "8457467298690892665",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"short\"]/day[@type=\"tue\"]",
-                "Tu"
-            },
-            {
-                "854181883914322461",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"short\"]/day[@type=\"wed\"]",
-                "We"
-            },
-            {
-                "7275569838261636556",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"wide\"]/day[@type=\"fri\"]",
-                "Friday"
-            },
-            {
-                "8211187374889392640",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"wide\"]/day[@type=\"mon\"]",
-                "Monday"
-            },
-            {
-                "7509261771607371652",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"wide\"]/day[@type=\"sat\"]",
-                "Saturday"
-            },
-            {
-                "4850626952996757393",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"wide\"]/day[@type=\"sun\"]",
-                "Sunday"
-            },
-            {
-                "5383078737573114510",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"wide\"]/day[@type=\"thu\"]",
-                "Thursday"
-            },
-            {
-                "4067705627797646016",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"wide\"]/day[@type=\"tue\"]",
-                "Tuesday"
-            },
-            {
-                "3697195808036687054",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/days/dayContext[@type=\"stand-alone\"]/dayWidth[@type=\"wide\"]/day[@type=\"wed\"]",
-                "Wednesday"
-            },
-            {
-                "3624517886639893827",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/eras/eraAbbr/era[@type=\"0\"]",
-                "BC"
-            },
-            {
-                "1080356083010137890",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/eras/eraAbbr/era[@type=\"0\"][@alt=\"variant\"]",
-                "BCE"
-            },
-            {
-                "9013899870063280835",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/eras/eraAbbr/era[@type=\"1\"]",
-                "AD"
-            },
-            {
-                "9076884836082317404",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/eras/eraAbbr/era[@type=\"1\"][@alt=\"variant\"]",
-                "CE"
-            },
-            {
-                "3894524108174667909",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"1\"]",
-                "Jan"
-            },
-            {
-                "413954884757337879",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"10\"]",
-                "Oct"
-            },
-            {
-                "3129220561028262701",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"11\"]",
-                "Nov"
-            },
-            {
-                "3419692350264812675",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"12\"]",
-                "Dec"
-            },
-            {
-                "1711641907438029654",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"2\"]",
-                "Feb"
-            },
-            {
-                "913597746329806852",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"3\"]",
-                "Mar"
-            },
-            {
-                "1311804840083880551",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"4\"]",
-                "Apr"
-            },
-            {
-                "2663939439752977660",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"5\"]",
-                "May"
-            },
-            {
-                "4429942512089107898",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"6\"]",
-                "Jun"
-            },
-            {
-                "7116542364795120615",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"7\"]",
-                "Jul"
-            },
-            {
-                "4374587101959736918",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"8\"]",
-                "Aug"
-            },
-            {
-                "7839002170599481421",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"9\"]",
-                "Sep"
-            },
-            {
-                "7114739633748762946",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"narrow\"]/month[@type=\"1\"]",
-                "J"
-            },
-            {
-                "458773696822106756",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"narrow\"]/month[@type=\"10\"]",
-                "O"
-            },
-            {
-                "8199659197023942782",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"narrow\"]/month[@type=\"11\"]",
-                "N"
-            },
-            {
-                "805130295498321760",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"narrow\"]/month[@type=\"12\"]",
-                "D"
-            },
-            {
-                "1679306290505858237",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"narrow\"]/month[@type=\"2\"]",
-                "F"
-            },
-            {
-                "5813710400546304967",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"narrow\"]/month[@type=\"3\"]",
-                "M"
-            },
-            {
-                "6590864996142932198",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"narrow\"]/month[@type=\"4\"]",
-                "A"
-            },
-            {
-                "5213493090229662228",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"narrow\"]/month[@type=\"5\"]",
-                "M"
-            },
-            {
-                "2585736629158058671",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"narrow\"]/month[@type=\"6\"]",
-                "J"
-            },
-            {
-                "2404195332400138049",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"narrow\"]/month[@type=\"7\"]",
-                "J"
-            },
-            {
-                "6114203077157047092",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"narrow\"]/month[@type=\"8\"]",
-                "A"
-            },
-            {
-                "5292424539973109188",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"narrow\"]/month[@type=\"9\"]",
-                "S"
-            },
-            {
-                "696434395932865643",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"wide\"]/month[@type=\"1\"]",
-                "January"
-            },
-            {
-                "5423943001471399329",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"wide\"]/month[@type=\"10\"]",
-                "October"
-            },
-            {
-                "4931106081867872666",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"wide\"]/month[@type=\"11\"]",
-                "November"
-            },
-            {
-                "7456752237970448227",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"wide\"]/month[@type=\"12\"]",
-                "December"
-            },
-            {
-                "356136287403055282",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"wide\"]/month[@type=\"2\"]",
-                "February"
-            },
-            {
-                "2052470906046334767",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"wide\"]/month[@type=\"3\"]",
-                "March"
-            },
-            {
-                "7117180748525306928",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"wide\"]/month[@type=\"4\"]",
-                "April"
-            },
-            {
-                "7973237662684623474",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"wide\"]/month[@type=\"5\"]",
-                "May"
-            },
-            {
-                "509055165199664344",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"wide\"]/month[@type=\"6\"]",
-                "June"
-            },
-            {
-                "1265161103942792479",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"wide\"]/month[@type=\"7\"]",
-                "July"
-            },
-            {
-                "3157212041297152472",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"wide\"]/month[@type=\"8\"]",
-                "August"
-            },
-            {
-                "3997426563303796958",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"wide\"]/month[@type=\"9\"]",
-                "September"
-            },
-            {
-                "8420566603436326332",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"1\"]",
-                "Jan"
-            },
-            {
-                "8875612056888339045",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"10\"]",
-                "Oct"
-            },
-            {
-                "8734160282648386668",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"11\"]",
-                "Nov"
-            },
-            {
-                "6528761791647570722",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"12\"]",
-                "Dec"
-            },
-            {
-                "4173291599491227192",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"2\"]",
-                "Feb"
-            },
-            {
-                "113183029428867854",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"3\"]",
-                "Mar"
-            },
-            {
-                "2394313971903713130",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"4\"]",
-                "Apr"
-            },
-            {
-                "3021441180751491732",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"5\"]",
-                "May"
-            },
-            {
-                "1706891023848259314",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"6\"]",
-                "Jun"
-            },
-            {
-                "1829041561446555499",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"7\"]",
-                "Jul"
-            },
-            {
-                "383831129447159107",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"8\"]",
-                "Aug"
-            },
-            {
-                "2017673535718269364",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"9\"]",
-                "Sep"
-            },
-            {
-                "3572016377477797842",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"narrow\"]/month[@type=\"1\"]",
-                "J"
-            },
-            {
-                "7872511152388726953",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"narrow\"]/month[@type=\"10\"]",
-                "O"
-            },
-            {
-                "4767970710646272619",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"narrow\"]/month[@type=\"11\"]",
-                "N"
-            },
-            {
-                "2254506793544258817",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"narrow\"]/month[@type=\"12\"]",
-                "D"
-            },
-            {
-                "4923128540036033747",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"narrow\"]/month[@type=\"2\"]",
-                "F"
-            },
-            {
-                "631024620905884517",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"narrow\"]/month[@type=\"3\"]",
-                "M"
-            },
-            {
-                "6728133245119286599",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"narrow\"]/month[@type=\"4\"]",
-                "A"
-            },
-            {
-                "7239114563888885792",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"narrow\"]/month[@type=\"5\"]",
-                "M"
-            },
-            {
-                "8038454509073518820",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"narrow\"]/month[@type=\"6\"]",
-                "J"
-            },
-            {
-                "1891351836419164110",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"narrow\"]/month[@type=\"7\"]",
-                "J"
-            },
-            {
-                "1636272508639714478",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"narrow\"]/month[@type=\"8\"]",
-                "A"
-            },
-            {
-                "1249692307402596148",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"narrow\"]/month[@type=\"9\"]",
-                "S"
-            },
-            {
-                "5188221724834790308",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"wide\"]/month[@type=\"1\"]",
-                "January"
-            },
-            {
-                "1198176312245345803",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"wide\"]/month[@type=\"10\"]",
-                "October"
-            },
-            {
-                "1944502188029361501",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"wide\"]/month[@type=\"11\"]",
-                "November"
-            },
-            {
-                "8817050388043864727",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"wide\"]/month[@type=\"12\"]",
-                "December"
-            },
-            {
-                "2130898245196023293",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"wide\"]/month[@type=\"2\"]",
-                "February"
-            },
-            {
-                "377597532760315271",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"wide\"]/month[@type=\"3\"]",
-                "March"
-            },
-            {
-                "4923291034890740983",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"wide\"]/month[@type=\"4\"]",
-                "April"
-            },
-            {
-                "7246719175792622807",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"wide\"]/month[@type=\"5\"]",
-                "May"
-            },
-            {
-                "2919525336170106223",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"wide\"]/month[@type=\"6\"]",
-                "June"
-            },
-            {
-                "8260378898758166305",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"wide\"]/month[@type=\"7\"]",
-                "July"
-            },
-            {
-                "4629188596381649583",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"wide\"]/month[@type=\"8\"]",
-                "August"
-            },
-            {
-                "4909373607438124758",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"stand-alone\"]/monthWidth[@type=\"wide\"]/month[@type=\"9\"]",
-                "September"
-            },
-            {
-                "4327802528771719785",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"format\"]/quarterWidth[@type=\"abbreviated\"]/quarter[@type=\"1\"]",
-                "Q1"
-            },
-            {
-                "6490014727993933435",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"format\"]/quarterWidth[@type=\"abbreviated\"]/quarter[@type=\"2\"]",
-                "Q2"
-            },
-            {
-                "5851840389932004722",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"format\"]/quarterWidth[@type=\"abbreviated\"]/quarter[@type=\"3\"]",
-                "Q3"
-            },
-            {
-                "1019734701153998355",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"format\"]/quarterWidth[@type=\"abbreviated\"]/quarter[@type=\"4\"]",
-                "Q4"
-            },
-            {
-                "4543763711485115182",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"format\"]/quarterWidth[@type=\"narrow\"]/quarter[@type=\"1\"]",
-                "1"
-            },
-            {
-                "4020674616638648390",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"format\"]/quarterWidth[@type=\"narrow\"]/quarter[@type=\"2\"]",
-                "2"
-            },
-            {
-                "2474994572622223627",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"format\"]/quarterWidth[@type=\"narrow\"]/quarter[@type=\"3\"]",
-                "3"
-            },
-            {
-                "9054322588493392672",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"format\"]/quarterWidth[@type=\"narrow\"]/quarter[@type=\"4\"]",
-                "4"
-            },
-            {
-                "8613828630258959262",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"format\"]/quarterWidth[@type=\"wide\"]/quarter[@type=\"1\"]",
-                "1st quarter"
-            },
-            {
-                "3730565806778621232",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"format\"]/quarterWidth[@type=\"wide\"]/quarter[@type=\"2\"]",
-                "2nd quarter"
-            },
-            {
-                "5429470643612233731",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"format\"]/quarterWidth[@type=\"wide\"]/quarter[@type=\"3\"]",
-                "3rd quarter"
-            },
-            {
-                "4790373053747100380",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"format\"]/quarterWidth[@type=\"wide\"]/quarter[@type=\"4\"]",
-                "4th quarter"
-            },
-            {
-                "2706301276299071791",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"stand-alone\"]/quarterWidth[@type=\"abbreviated\"]/quarter[@type=\"1\"]",
-                "Q1"
-            },
-            {
-                "6107934246971072098",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"stand-alone\"]/quarterWidth[@type=\"abbreviated\"]/quarter[@type=\"2\"]",
-                "Q2"
-            },
-            {
-                "3846385103703842636",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"stand-alone\"]/quarterWidth[@type=\"abbreviated\"]/quarter[@type=\"3\"]",
-                "Q3"
-            },
-            {
-                "6893613829187836893",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"stand-alone\"]/quarterWidth[@type=\"abbreviated\"]/quarter[@type=\"4\"]",
-                "Q4"
-            },
-            {
-                "2338254014606021039",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"stand-alone\"]/quarterWidth[@type=\"narrow\"]/quarter[@type=\"1\"]",
-                "1"
-            },
-            {
-                "4713895388103970600",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"stand-alone\"]/quarterWidth[@type=\"narrow\"]/quarter[@type=\"2\"]",
-                "2"
-            },
-            {
-                "6532470615741151947",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"stand-alone\"]/quarterWidth[@type=\"narrow\"]/quarter[@type=\"3\"]",
-                "3"
-            },
-            {
-                "5790177951450582964",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"stand-alone\"]/quarterWidth[@type=\"narrow\"]/quarter[@type=\"4\"]",
-                "4"
-            },
-            {
-                "6087364258924283414",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"stand-alone\"]/quarterWidth[@type=\"wide\"]/quarter[@type=\"1\"]",
-                "1st quarter"
-            },
-            {
-                "601610738338241952",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"stand-alone\"]/quarterWidth[@type=\"wide\"]/quarter[@type=\"2\"]",
-                "2nd quarter"
-            },
-            {
-                "6667338810644747541",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"stand-alone\"]/quarterWidth[@type=\"wide\"]/quarter[@type=\"3\"]",
-                "3rd quarter"
-            },
-            {
-                "9208529130218025376",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/quarters/quarterContext[@type=\"stand-alone\"]/quarterWidth[@type=\"wide\"]/quarter[@type=\"4\"]",
-                "4th quarter"
-            },
-            {
-                "1984354342632094410",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/timeFormats/timeFormatLength[@type=\"full\"]/timeFormat[@type=\"standard\"]/pattern[@type=\"standard\"]",
-                "h:mm:ss a zzzz"
-            },
-            {
-                "658881580176139998",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/timeFormats/timeFormatLength[@type=\"long\"]/timeFormat[@type=\"standard\"]/pattern[@type=\"standard\"]",
-                "h:mm:ss a z"
-            },
-            {
-                "2115059814682151130",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/timeFormats/timeFormatLength[@type=\"medium\"]/timeFormat[@type=\"standard\"]/pattern[@type=\"standard\"]",
-                "h:mm:ss a"
-            },
-            {
-                "2547615504367885280",
-                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/timeFormats/timeFormatLength[@type=\"short\"]/timeFormat[@type=\"standard\"]/pattern[@type=\"standard\"]",
-                "h:mm a"
-            },
-            {"4628537402888819570", "//ldml/dates/fields/field[@type=\"day\"]/displayName", "Day"},
-            {
-                "4919672438226968320",
-                "//ldml/dates/fields/field[@type=\"day\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"0\"]",
-                "In {0} days"
-            },
-            {
-                "3960225996045326058",
-                "//ldml/dates/fields/field[@type=\"day\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"1\"]",
-                "In {0} days"
-            },
-            {
-                "4773980793872501435",
-                "//ldml/dates/fields/field[@type=\"day\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"one\"]",
-                "In {0} day"
-            },
-            {
-                "1229777890680278679",
-                "//ldml/dates/fields/field[@type=\"day\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"other\"]",
-                "In {0} days"
-            },
-            {
-                "2564162067147357324",
-                "//ldml/dates/fields/field[@type=\"day\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"0\"]",
-                "{0} days ago"
-            },
-            {
-                "6307008224289108394",
-                "//ldml/dates/fields/field[@type=\"day\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"1\"]",
-                "{0} days ago"
-            },
-            {
-                "3729691452725255212",
-                "//ldml/dates/fields/field[@type=\"day\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"one\"]",
-                "{0} day ago"
-            },
-            {
-                "3770258743655403745",
-                "//ldml/dates/fields/field[@type=\"day\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"other\"]",
-                "{0} days ago"
-            },
-            {
-                "6473950366269310126",
-                "//ldml/dates/fields/field[@type=\"day\"]/relative[@type=\"-1\"]",
-                "yesterday"
-            },
-            {
-                "9069830641106126988",
-                "//ldml/dates/fields/field[@type=\"day\"]/relative[@type=\"0\"]",
-                "today"
-            },
-            {
-                "575345086090258766",
-                "//ldml/dates/fields/field[@type=\"day\"]/relative[@type=\"1\"]",
-                "tomorrow"
-            },
-            {
-                "7723571986580779944",
-                "//ldml/dates/fields/field[@type=\"dayperiod\"]/displayName",
-                "AM/PM"
-            },
-            {"6126371036425425704", "//ldml/dates/fields/field[@type=\"era\"]/displayName", "Era"},
-            {
-                "4080579393516094194",
-                "//ldml/dates/fields/field[@type=\"fri\"]/relative[@type=\"-1\"]",
-                "last Friday"
-            },
-            {
-                "6712554171875679676",
-                "//ldml/dates/fields/field[@type=\"fri\"]/relative[@type=\"0\"]",
-                "this Friday"
-            },
-            {
-                "1180482094860851749",
-                "//ldml/dates/fields/field[@type=\"fri\"]/relative[@type=\"1\"]",
-                "next Friday"
-            },
-            {
-                "2314561543588042256",
-                "//ldml/dates/fields/field[@type=\"hour\"]/displayName",
-                "Hour"
-            },
-            {
-                "1055716753000968821",
-                "//ldml/dates/fields/field[@type=\"hour\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"0\"]",
-                "In {0} hours"
-            },
-            {
-                "6759632314763126663",
-                "//ldml/dates/fields/field[@type=\"hour\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"1\"]",
-                "In {0} hours"
-            },
-            {
-                "7735315435052007911",
-                "//ldml/dates/fields/field[@type=\"hour\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"one\"]",
-                "In {0} hour"
-            },
-            {
-                "1913600963530990019",
-                "//ldml/dates/fields/field[@type=\"hour\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"other\"]",
-                "In {0} hours"
-            },
-            {
-                "5196684462734714508",
-                "//ldml/dates/fields/field[@type=\"hour\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"0\"]",
-                "{0} hours ago"
-            },
-            {
-                "5525990145184837131",
-                "//ldml/dates/fields/field[@type=\"hour\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"1\"]",
-                "{0} hours ago"
-            },
-            {
-                "8160505960242173549",
-                "//ldml/dates/fields/field[@type=\"hour\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"one\"]",
-                "{0} hour ago"
-            },
-            {
-                "752716869044905796",
-                "//ldml/dates/fields/field[@type=\"hour\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"other\"]",
-                "{0} hours ago"
-            },
-            {
-                "1803170618262742133",
-                "//ldml/dates/fields/field[@type=\"minute\"]/displayName",
-                "Minute"
-            },
-            {
-                "916834037801121864",
-                "//ldml/dates/fields/field[@type=\"minute\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"0\"]",
-                "In {0} minutes"
-            },
-            {
-                "8638967499250842260",
-                "//ldml/dates/fields/field[@type=\"minute\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"1\"]",
-                "In {0} minutes"
-            },
-            {
-                "4283684423227522362",
-                "//ldml/dates/fields/field[@type=\"minute\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"one\"]",
-                "In {0} minute"
-            },
-            {
-                "1350808358867563153",
-                "//ldml/dates/fields/field[@type=\"minute\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"other\"]",
-                "In {0} minutes"
-            },
-            {
-                "4165904956254695019",
-                "//ldml/dates/fields/field[@type=\"minute\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"0\"]",
-                "{0} minutes ago"
-            },
-            {
-                "2213314084477773689",
-                "//ldml/dates/fields/field[@type=\"minute\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"1\"]",
-                "{0} minutes ago"
-            },
-            {
-                "3563585323856485293",
-                "//ldml/dates/fields/field[@type=\"minute\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"one\"]",
-                "{0} minute ago"
-            },
-            {
-                "3317649743337434953",
-                "//ldml/dates/fields/field[@type=\"minute\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"other\"]",
-                "{0} minutes ago"
-            },
-            {
-                "6241305528081455643",
-                "//ldml/dates/fields/field[@type=\"mon\"]/relative[@type=\"-1\"]",
-                "last Monday"
-            },
-            {
-                "449827361127579738",
-                "//ldml/dates/fields/field[@type=\"mon\"]/relative[@type=\"0\"]",
-                "this Monday"
-            },
-            {
-                "8552820656793225426",
-                "//ldml/dates/fields/field[@type=\"mon\"]/relative[@type=\"1\"]",
-                "next Monday"
-            },
-            {
-                "2713376419448799341",
-                "//ldml/dates/fields/field[@type=\"month\"]/displayName",
-                "Month"
-            },
-            {
-                "7055023467291011295",
-                "//ldml/dates/fields/field[@type=\"month\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"0\"]",
-                "In {0} months"
-            },
-            {
-                "6874922375601312024",
-                "//ldml/dates/fields/field[@type=\"month\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"1\"]",
-                "In {0} months"
-            },
-            {
-                "2140158773893396366",
-                "//ldml/dates/fields/field[@type=\"month\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"one\"]",
-                "In {0} month"
-            },
-            {
-                "8148799898514639013",
-                "//ldml/dates/fields/field[@type=\"month\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"other\"]",
-                "In {0} months"
-            },
-            {
-                "4793863909823854813",
-                "//ldml/dates/fields/field[@type=\"month\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"0\"]",
-                "{0} months ago"
-            },
-            {
-                "2668852507158191438",
-                "//ldml/dates/fields/field[@type=\"month\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"1\"]",
-                "{0} months ago"
-            },
-            {
-                "1576892507143142253",
-                "//ldml/dates/fields/field[@type=\"month\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"one\"]",
-                "{0} month ago"
-            },
-            {
-                "5980318059882971463",
-                "//ldml/dates/fields/field[@type=\"month\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"other\"]",
-                "{0} months ago"
-            },
-            {
-                "6992036171566290715",
-                "//ldml/dates/fields/field[@type=\"month\"]/relative[@type=\"-1\"]",
-                "last month"
-            },
-            {
-                "2255591396386115586",
-                "//ldml/dates/fields/field[@type=\"month\"]/relative[@type=\"0\"]",
-                "this month"
-            },
-            {
-                "3520996422206474894",
-                "//ldml/dates/fields/field[@type=\"month\"]/relative[@type=\"1\"]",
-                "next month"
-            },
-            {
-                "1025142018048587270",
-                "//ldml/dates/fields/field[@type=\"sat\"]/relative[@type=\"-1\"]",
-                "last Saturday"
-            },
-            {
-                "3872736291665737063",
-                "//ldml/dates/fields/field[@type=\"sat\"]/relative[@type=\"0\"]",
-                "this Saturday"
-            },
-            {
-                "1926107366339956318",
-                "//ldml/dates/fields/field[@type=\"sat\"]/relative[@type=\"1\"]",
-                "next Saturday"
-            },
-            {
-                "3656074245996838704",
-                "//ldml/dates/fields/field[@type=\"second\"]/displayName",
-                "Second"
-            },
-            {
-                "7294366567925863388",
-                "//ldml/dates/fields/field[@type=\"second\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"0\"]",
-                "In {0} seconds"
-            },
-            {
-                "5005806255068487247",
-                "//ldml/dates/fields/field[@type=\"second\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"1\"]",
-                "In {0} seconds"
-            },
-            {
-                "3566858925395698418",
-                "//ldml/dates/fields/field[@type=\"second\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"one\"]",
-                "In {0} second"
-            },
-            {
-                "2564107568397812650",
-                "//ldml/dates/fields/field[@type=\"second\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"other\"]",
-                "In {0} seconds"
-            },
-            {
-                "6179103175096689406",
-                "//ldml/dates/fields/field[@type=\"second\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"0\"]",
-                "{0} seconds ago"
-            },
-            {
-                "8926071153206369071",
-                "//ldml/dates/fields/field[@type=\"second\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"1\"]",
-                "{0} seconds ago"
-            },
-            {
-                "6961819591538933620",
-                "//ldml/dates/fields/field[@type=\"second\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"one\"]",
-                "{0} second ago"
-            },
-            {
-                "839726962851907657",
-                "//ldml/dates/fields/field[@type=\"second\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"other\"]",
-                "{0} seconds ago"
-            },
-            {
-                "8467107917683468953",
-                "//ldml/dates/fields/field[@type=\"sun\"]/relative[@type=\"-1\"]",
-                "last Sunday"
-            },
-            {
-                "3808375557103948751",
-                "//ldml/dates/fields/field[@type=\"sun\"]/relative[@type=\"0\"]",
-                "this Sunday"
-            },
-            {
-                "9074967422093827562",
-                "//ldml/dates/fields/field[@type=\"sun\"]/relative[@type=\"1\"]",
-                "next Sunday"
-            },
-            {
-                "3244404287416100580",
-                "//ldml/dates/fields/field[@type=\"thu\"]/relative[@type=\"-1\"]",
-                "last Thursday"
-            },
-            {
-                "7450433835219406661",
-                "//ldml/dates/fields/field[@type=\"thu\"]/relative[@type=\"0\"]",
-                "this Thursday"
-            },
-            {
-                "8869364589940951720",
-                "//ldml/dates/fields/field[@type=\"thu\"]/relative[@type=\"1\"]",
-                "next Thursday"
-            },
-            {
-                "6966767705374526591",
-                "//ldml/dates/fields/field[@type=\"tue\"]/relative[@type=\"-1\"]",
-                "last Tuesday"
-            },
-            {
-                "5636647835859220143",
-                "//ldml/dates/fields/field[@type=\"tue\"]/relative[@type=\"0\"]",
-                "this Tuesday"
-            },
-            {
-                "1285111684428275421",
-                "//ldml/dates/fields/field[@type=\"tue\"]/relative[@type=\"1\"]",
-                "next Tuesday"
-            },
-            {
-                "1010766311277533100",
-                "//ldml/dates/fields/field[@type=\"wed\"]/relative[@type=\"-1\"]",
-                "last Wednesday"
-            },
-            {
-                "6115983000780005851",
-                "//ldml/dates/fields/field[@type=\"wed\"]/relative[@type=\"0\"]",
-                "this Wednesday"
-            },
-            {
-                "8519320203561412913",
-                "//ldml/dates/fields/field[@type=\"wed\"]/relative[@type=\"1\"]",
-                "next Wednesday"
-            },
-            {
-                "6377233461749820655",
-                "//ldml/dates/fields/field[@type=\"week\"]/displayName",
-                "Week"
-            },
-            {
-                "526025963306174037",
-                "//ldml/dates/fields/field[@type=\"week\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"0\"]",
-                "In {0} weeks"
-            },
-            {
-                "2418082947976923030",
-                "//ldml/dates/fields/field[@type=\"week\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"1\"]",
-                "In {0} weeks"
-            },
-            {
-                "7762765335539743455",
-                "//ldml/dates/fields/field[@type=\"week\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"one\"]",
-                "In {0} week"
-            },
-            {
-                "5895926081789372392",
-                "//ldml/dates/fields/field[@type=\"week\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"other\"]",
-                "In {0} weeks"
-            },
-            {
-                "6402656652647465930",
-                "//ldml/dates/fields/field[@type=\"week\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"0\"]",
-                "{0} weeks ago"
-            },
-            {
-                "345786376296803388",
-                "//ldml/dates/fields/field[@type=\"week\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"1\"]",
-                "{0} weeks ago"
-            },
-            {
-                "7277834196655811897",
-                "//ldml/dates/fields/field[@type=\"week\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"one\"]",
-                "{0} week ago"
-            },
-            {
-                "7491925864212527594",
-                "//ldml/dates/fields/field[@type=\"week\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"other\"]",
-                "{0} weeks ago"
-            },
-            {
-                "4205613537609212087",
-                "//ldml/dates/fields/field[@type=\"week\"]/relative[@type=\"-1\"]",
-                "last week"
-            },
-            {
-                "2085470013372103609",
-                "//ldml/dates/fields/field[@type=\"week\"]/relative[@type=\"0\"]",
-                "this week"
-            },
-            {
-                "7211462045123431247",
-                "//ldml/dates/fields/field[@type=\"week\"]/relative[@type=\"1\"]",
-                "next week"
-            },
-            {
-                "5084042039168215242",
-                "//ldml/dates/fields/field[@type=\"weekday\"]/displayName",
-                "Day of the Week"
-            },
-            {
-                "1094738968484311026",
-                "//ldml/dates/fields/field[@type=\"year\"]/displayName",
-                "Year"
-            },
-            {
-                "7908110814130781043",
-                "//ldml/dates/fields/field[@type=\"year\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"0\"]",
-                "In {0} years"
-            },
-            {
-                "5516156103025797392",
-                "//ldml/dates/fields/field[@type=\"year\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"1\"]",
-                "In {0} years"
-            },
-            {
-                "6115732654118805630",
-                "//ldml/dates/fields/field[@type=\"year\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"one\"]",
-                "In {0} year"
-            },
-            {
-                "5816303495179366221",
-                "//ldml/dates/fields/field[@type=\"year\"]/relativeTime[@type=\"future\"]/relativeTimePattern[@count=\"other\"]",
-                "In {0} years"
-            },
-            {
-                "9180876819095021269",
-                "//ldml/dates/fields/field[@type=\"year\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"0\"]",
-                "{0} years ago"
-            },
-            {
-                "4879272367401062263",
-                "//ldml/dates/fields/field[@type=\"year\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"1\"]",
-                "{0} years ago"
-            },
-            {
-                "2134295444330208852",
-                "//ldml/dates/fields/field[@type=\"year\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"one\"]",
-                "{0} year ago"
-            },
-            {
-                "7013788582204614104",
-                "//ldml/dates/fields/field[@type=\"year\"]/relativeTime[@type=\"past\"]/relativeTimePattern[@count=\"other\"]",
-                "{0} years ago"
-            },
-            {
-                "3098224026124598775",
-                "//ldml/dates/fields/field[@type=\"year\"]/relative[@type=\"-1\"]",
-                "last year"
-            },
-            {
-                "6672241540598600977",
-                "//ldml/dates/fields/field[@type=\"year\"]/relative[@type=\"0\"]",
-                "this year"
-            },
-            {
-                "1290179867626936193",
-                "//ldml/dates/fields/field[@type=\"year\"]/relative[@type=\"1\"]",
-                "next year"
-            },
-            {
-                "7772063621377405772",
-                "//ldml/dates/fields/field[@type=\"zone\"]/displayName",
-                "Time Zone"
-            },
-            {"9168419341649544228", "//ldml/dates/timeZoneNames/fallbackFormat", "{1} ({0})"},
-            {"880820743874293293", "//ldml/dates/timeZoneNames/gmtFormat", "GMT{0}"},
-            {"5296122377365647058", "//ldml/dates/timeZoneNames/gmtZeroFormat", "GMT"},
-            {"2221584499142100820", "//ldml/dates/timeZoneNames/hourFormat", "+HH:mm;-HH:mm"},
-            {
-                "8233636920159066181",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Alaska\"]/long/daylight",
-                "Alaska Daylight Time"
-            },
-            {
-                "2954082422401518225",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Alaska\"]/long/generic",
-                "Alaska Time"
-            },
-            {
-                "9076450273803748262",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Alaska\"]/long/standard",
-                "Alaska Standard Time"
-            },
-            {
-                "46139888945574604",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Amazon\"]/long/generic",
-                "Amazon Time"
-            },
-            {
-                "6828708028949352351",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"America_Central\"]/long/daylight",
-                "Central Daylight Time"
-            },
-            {
-                "8433126477405929723",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"America_Central\"]/long/generic",
-                "Central Time"
-            },
-            {
-                "947797581859628059",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"America_Central\"]/long/standard",
-                "Central Standard Time"
-            },
-            {
-                "6745204869490908706",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"America_Eastern\"]/long/daylight",
-                "Eastern Daylight Time"
-            },
-            {
-                "5548697710960650005",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"America_Eastern\"]/long/generic",
-                "Eastern Time"
-            },
-            {
-                "4587943360378996198",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"America_Eastern\"]/long/standard",
-                "Eastern Standard Time"
-            },
-            {
-                "4755029713039962550",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"America_Mountain\"]/long/daylight",
-                "Mountain Daylight Time"
-            },
-            {
-                "7665213662687327122",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"America_Mountain\"]/long/generic",
-                "Mountain Time"
-            },
-            {
-                "5253039108411066488",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"America_Mountain\"]/long/standard",
-                "Mountain Standard Time"
-            },
-            {
-                "4146911398865463894",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"America_Pacific\"]/long/daylight",
-                "Pacific Daylight Time"
-            },
-            {
-                "981181411413690772",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"America_Pacific\"]/long/generic",
-                "Pacific Time"
-            },
-            {
-                "5349321216770284527",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"America_Pacific\"]/long/standard",
-                "Pacific Standard Time"
-            },
-            {
-                "5567423249181572792",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Argentina\"]/long/daylight",
-                "Argentina Summer Time"
-            },
-            {
-                "7759704457653345113",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Argentina\"]/long/generic",
-                "Argentina Time"
-            },
-            {
-                "4959831677348327095",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Argentina\"]/long/standard",
-                "Argentina Standard Time"
-            },
-            {
-                "6287742545495932856",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Argentina_Western\"]/long/daylight",
-                "Western Argentina Summer Time"
-            },
-            {
-                "1861585536346709288",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Argentina_Western\"]/long/generic",
-                "Western Argentina Time"
-            },
-            {
-                "5716009290655274935",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Argentina_Western\"]/long/standard",
-                "Western Argentina Standard Time"
-            },
-            {
-                "8693374120046360566",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Atlantic\"]/long/daylight",
-                "Atlantic Daylight Time"
-            },
-            {
-                "4423700353949287703",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Atlantic\"]/long/generic",
-                "Atlantic Time"
-            },
-            {
-                "3461511602298892000",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Atlantic\"]/long/standard",
-                "Atlantic Standard Time"
-            },
-            {
-                "229350868261769612",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Australia_Central\"]/long/daylight",
-                "Australian Central Daylight Time"
-            },
-            {
-                "8231560890639837256",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Australia_Central\"]/long/generic",
-                "Central Australia Time"
-            },
-            {
-                "8586052157796192769",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Australia_Central\"]/long/standard",
-                "Australian Central Standard Time"
-            },
-            {
-                "2784758051129297004",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Australia_CentralWestern\"]/long/daylight",
-                "Australian Central Western Daylight Time"
-            },
-            {
-                "4558951251438194305",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Australia_CentralWestern\"]/long/generic",
-                "Australian Central Western Time"
-            },
-            {
-                "5333193122716207560",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Australia_CentralWestern\"]/long/standard",
-                "Australian Central Western Standard Time"
-            },
-            {
-                "1423575306093236722",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Australia_Eastern\"]/long/daylight",
-                "Australian Eastern Daylight Time"
-            },
-            {
-                "8985452891036694214",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Australia_Eastern\"]/long/generic",
-                "Eastern Australia Time"
-            },
-            {
-                "9167921037320053086",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Australia_Eastern\"]/long/standard",
-                "Australian Eastern Standard Time"
-            },
-            {
-                "1121988796722500163",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Australia_Western\"]/long/daylight",
-                "Australian Western Daylight Time"
-            },
-            {
-                "1370068958075484322",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Australia_Western\"]/long/generic",
-                "Western Australia Time"
-            },
-            {
-                "7642243602221931589",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Australia_Western\"]/long/standard",
-                "Australian Western Standard Time"
-            },
-            {
-                "8570892053989528177",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Brasilia\"]/long/daylight",
-                "Brasilia Summer Time"
-            },
-            {
-                "7851143915079359312",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Brasilia\"]/long/generic",
-                "Brasilia Time"
-            },
-            {
-                "3496078394386285012",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Brasilia\"]/long/standard",
-                "Brasilia Standard Time"
-            },
-            {
-                "1884568467130053665",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Choibalsan\"]/long/daylight",
-                "Choibalsan Summer Time"
-            },
-            {
-                "4595044575363238001",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Choibalsan\"]/long/generic",
-                "Choibalsan Time"
-            },
-            {
-                "4285422742795840910",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Choibalsan\"]/long/standard",
-                "Choibalsan Standard Time"
-            },
-            {
-                "3752807334371872231",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Hawaii_Aleutian\"]/long/generic",
-                "Hawaii-Aleutian Time"
-            },
-            {
-                "513327638626373933",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Hovd\"]/long/daylight",
-                "Hovd Summer Time"
-            },
-            {
-                "4112404916126053177",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Hovd\"]/long/generic",
-                "Hovd Time"
-            },
-            {
-                "396545167403677212",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Hovd\"]/long/standard",
-                "Hovd Standard Time"
-            },
-            {
-                "1207287265085315658",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Irkutsk\"]/long/daylight",
-                "Irkutsk Summer Time"
-            },
-            {
-                "372898820616165758",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Irkutsk\"]/long/generic",
-                "Irkutsk Time"
-            },
-            {
-                "8597175693041491806",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Irkutsk\"]/long/standard",
-                "Irkutsk Standard Time"
-            },
-            {
-                "3876417813338575561",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Kazakhstan_Eastern\"]/long/standard",
-                "East Kazakhstan Time"
-            },
-            {
-                "2768931223846374849",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Kazakhstan_Western\"]/long/standard",
-                "West Kazakhstan Time"
-            },
-            {
-                "6139457834561958949",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Krasnoyarsk\"]/long/daylight",
-                "Krasnoyarsk Summer Time"
-            },
-            {
-                "1423308009209213929",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Krasnoyarsk\"]/long/generic",
-                "Krasnoyarsk Time"
-            },
-            {
-                "1969329842591949418",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Krasnoyarsk\"]/long/standard",
-                "Krasnoyarsk Standard Time"
-            },
-            {
-                "7033223591736812191",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Lord_Howe\"]/long/daylight",
-                "Lord Howe Daylight Time"
-            },
-            {
-                "6074407651021751505",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Lord_Howe\"]/long/generic",
-                "Lord Howe Time"
-            },
-            {
-                "768644551532868868",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Lord_Howe\"]/long/standard",
-                "Lord Howe Standard Time"
-            },
-            {
-                "7643049217099968343",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Macquarie\"]/long/standard",
-                "Macquarie Island Time"
-            },
-            {
-                "1316295498151456977",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Magadan\"]/long/daylight",
-                "Magadan Summer Time"
-            },
-            {
-                "1961923014872985593",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Magadan\"]/long/generic",
-                "Magadan Time"
-            },
-            {
-                "2565487516374769631",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Magadan\"]/long/standard",
-                "Magadan Standard Time"
-            },
-            {
-                "3564714316067077912",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Mongolia\"]/long/daylight",
-                "Ulan Bator Summer Time"
-            },
-            {
-                "4970903611796140987",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Mongolia\"]/long/generic",
-                "Ulan Bator Time"
-            },
-            {
-                "750457697445829986",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Mongolia\"]/long/standard",
-                "Ulan Bator Standard Time"
-            },
-            {
-                "208651473867778562",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Moscow\"]/long/daylight",
-                "Moscow Summer Time"
-            },
-            {
-                "371945671345565423",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Moscow\"]/long/generic",
-                "Moscow Time"
-            },
-            {
-                "2909400574741298781",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Moscow\"]/long/standard",
-                "Moscow Standard Time"
-            },
-            {
-                "4076292381707893366",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Newfoundland\"]/long/daylight",
-                "Newfoundland Daylight Time"
-            },
-            {
-                "227295192695781953",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Newfoundland\"]/long/generic",
-                "Newfoundland Time"
-            },
-            {
-                "5235076213031201235",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Newfoundland\"]/long/standard",
-                "Newfoundland Standard Time"
-            },
-            {
-                "8921462737288214407",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Noronha\"]/long/daylight",
-                "Fernando de Noronha Summer Time"
-            },
-            {
-                "7846390959503418053",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Noronha\"]/long/generic",
-                "Fernando de Noronha Time"
-            },
-            {
-                "2366003982051438282",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Noronha\"]/long/standard",
-                "Fernando de Noronha Standard Time"
-            },
-            {
-                "7241269578091645709",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Novosibirsk\"]/long/daylight",
-                "Novosibirsk Summer Time"
-            },
-            {
-                "6636851379407249431",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Novosibirsk\"]/long/generic",
-                "Novosibirsk Time"
-            },
-            {
-                "380861331262522441",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Novosibirsk\"]/long/standard",
-                "Novosibirsk Standard Time"
-            },
-            {
-                "863719245010896325",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Omsk\"]/long/daylight",
-                "Omsk Summer Time"
-            },
-            {
-                "1072071434648483244",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Omsk\"]/long/generic",
-                "Omsk Time"
-            },
-            {
-                "2836991393938646351",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Omsk\"]/long/standard",
-                "Omsk Standard Time"
-            },
-            {
-                "3151768400020642403",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Sakhalin\"]/long/daylight",
-                "Sakhalin Summer Time"
-            },
-            {
-                "5792162490119357908",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Sakhalin\"]/long/generic",
-                "Sakhalin Time"
-            },
-            {
-                "2665066509207184988",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Sakhalin\"]/long/standard",
-                "Sakhalin Standard Time"
-            },
-            {
-                "3743676871248589231",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Vladivostok\"]/long/daylight",
-                "Vladivostok Summer Time"
-            },
-            {
-                "4274508082112090244",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Vladivostok\"]/long/generic",
-                "Vladivostok Time"
-            },
-            {
-                "6484598014672750088",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Vladivostok\"]/long/standard",
-                "Vladivostok Standard Time"
-            },
-            {
-                "7266181889003185180",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Volgograd\"]/long/daylight",
-                "Volgograd Summer Time"
-            },
-            {
-                "3413167702160434665",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Volgograd\"]/long/generic",
-                "Volgograd Time"
-            },
-            {
-                "6810033772796358960",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Volgograd\"]/long/standard",
-                "Volgograd Standard Time"
-            },
-            {
-                "5079278006923092620",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Yakutsk\"]/long/daylight",
-                "Yakutsk Summer Time"
-            },
-            {
-                "5655091631019779058",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Yakutsk\"]/long/generic",
-                "Yakutsk Time"
-            },
-            {
-                "3329033568713382735",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Yakutsk\"]/long/standard",
-                "Yakutsk Standard Time"
-            },
-            {
-                "8569075448722425373",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Yekaterinburg\"]/long/daylight",
-                "Yekaterinburg Summer Time"
-            },
-            {
-                "341252263312983771",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Yekaterinburg\"]/long/generic",
-                "Yekaterinburg Time"
-            },
-            {
-                "1451032573592814485",
-                "//ldml/dates/timeZoneNames/metazone[@type=\"Yekaterinburg\"]/long/standard",
-                "Yekaterinburg Standard Time"
-            },
-            {"3491383557530666559", "//ldml/dates/timeZoneNames/regionFormat", "{0} Time"},
-            {
-                "5286310066506271644",
-                "//ldml/dates/timeZoneNames/regionFormat[@type=\"daylight\"]",
-                "{0} Daylight Time"
-            },
-            {
-                "2855224396679176027",
-                "//ldml/dates/timeZoneNames/regionFormat[@type=\"standard\"]",
-                "{0} Standard Time"
-            },
-            {
-                "4937143746716173346",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Abidjan\"]/exemplarCity",
-                "Abidjan"
-            },
-            {
-                "4405777128575547287",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Accra\"]/exemplarCity",
-                "Accra"
-            },
-            {
-                "2076476404327770164",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Addis_Ababa\"]/exemplarCity",
-                "Addis Ababa"
-            },
-            {
-                "3681248160563474079",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Algiers\"]/exemplarCity",
-                "Algiers"
-            },
-            {
-                "8098474764863455280",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Asmera\"]/exemplarCity",
-                "Asmara"
-            },
-            {
-                "1269346705397181591",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Bamako\"]/exemplarCity",
-                "Bamako"
-            },
-            {
-                "1531853639714970922",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Bangui\"]/exemplarCity",
-                "Bangui"
-            },
-            {
-                "4934400855922360155",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Banjul\"]/exemplarCity",
-                "Banjul"
-            },
-            {
-                "6841847332295762689",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Bissau\"]/exemplarCity",
-                "Bissau"
-            },
-            {
-                "5933281050377860302",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Blantyre\"]/exemplarCity",
-                "Blantyre"
-            },
-            {
-                "2753102388368852836",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Brazzaville\"]/exemplarCity",
-                "Brazzaville"
-            },
-            {
-                "5539023434209366173",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Bujumbura\"]/exemplarCity",
-                "Bujumbura"
-            },
-            {
-                "3847407790623092380",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Cairo\"]/exemplarCity",
-                "Cairo"
-            },
-            {
-                "1927139208996261483",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Casablanca\"]/exemplarCity",
-                "Casablanca"
-            },
-            {
-                "8431052360481174610",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Ceuta\"]/exemplarCity",
-                "Ceuta"
-            },
-            {
-                "3664248657480743517",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Conakry\"]/exemplarCity",
-                "Conakry"
-            },
-            {
-                "3750396497803846339",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Dakar\"]/exemplarCity",
-                "Dakar"
-            },
-            {
-                "3776380588854739711",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Dar_es_Salaam\"]/exemplarCity",
-                "Dar es Salaam"
-            },
-            {
-                "4033494096659334270",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Djibouti\"]/exemplarCity",
-                "Djibouti"
-            },
-            {
-                "9112735388746442775",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Douala\"]/exemplarCity",
-                "Douala"
-            },
-            {
-                "5172950362352072272",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/El_Aaiun\"]/exemplarCity",
-                "El Aaiun"
-            },
-            {
-                "3367512676492911449",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Freetown\"]/exemplarCity",
-                "Freetown"
-            },
-            {
-                "8169015635597872634",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Gaborone\"]/exemplarCity",
-                "Gaborone"
-            },
-            {
-                "2127047185568172219",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Harare\"]/exemplarCity",
-                "Harare"
-            },
-            {
-                "5201772982186962146",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Johannesburg\"]/exemplarCity",
-                "Johannesburg"
-            },
-            {
-                "548252631047440250",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Juba\"]/exemplarCity",
-                "Juba"
-            },
-            {
-                "874942036268036436",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Kampala\"]/exemplarCity",
-                "Kampala"
-            },
-            {
-                "5706815908728443059",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Khartoum\"]/exemplarCity",
-                "Khartoum"
-            },
-            {
-                "379802460561397056",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Kigali\"]/exemplarCity",
-                "Kigali"
-            },
-            {
-                "9000672341398407306",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Kinshasa\"]/exemplarCity",
-                "Kinshasa"
-            },
-            {
-                "35507980262816151",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Lagos\"]/exemplarCity",
-                "Lagos"
-            },
-            {
-                "6013711047436629533",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Libreville\"]/exemplarCity",
-                "Libreville"
-            },
-            {
-                "5694680004370215365",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Lome\"]/exemplarCity",
-                "Lome"
-            },
-            {
-                "268810566451249105",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Luanda\"]/exemplarCity",
-                "Luanda"
-            },
-            {
-                "6335946942165547367",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Lubumbashi\"]/exemplarCity",
-                "Lubumbashi"
-            },
-            {
-                "6314640856717358137",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Lusaka\"]/exemplarCity",
-                "Lusaka"
-            },
-            {
-                "8660408091790559412",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Malabo\"]/exemplarCity",
-                "Malabo"
-            },
-            {
-                "3117443059651818165",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Maputo\"]/exemplarCity",
-                "Maputo"
-            },
-            {
-                "3002354330393087570",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Maseru\"]/exemplarCity",
-                "Maseru"
-            },
-            {
-                "415985350417078677",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Mbabane\"]/exemplarCity",
-                "Mbabane"
-            },
-            {
-                "3580450265449302454",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Mogadishu\"]/exemplarCity",
-                "Mogadishu"
-            },
-            {
-                "1776513612142218539",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Monrovia\"]/exemplarCity",
-                "Monrovia"
-            },
-            {
-                "5876739924286408420",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Nairobi\"]/exemplarCity",
-                "Nairobi"
-            },
-            {
-                "6936527676273180145",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Ndjamena\"]/exemplarCity",
-                "Ndjamena"
-            },
-            {
-                "450982185481742752",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Niamey\"]/exemplarCity",
-                "Niamey"
-            },
-            {
-                "180159215670376299",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Nouakchott\"]/exemplarCity",
-                "Nouakchott"
-            },
-            {
-                "4818257789155640357",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Ouagadougou\"]/exemplarCity",
-                "Ouagadougou"
-            },
-            {
-                "4352919983110845828",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Porto-Novo\"]/exemplarCity",
-                "Porto-Novo"
-            },
-            {
-                "4188547507465180483",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Sao_Tome\"]/exemplarCity",
-                "São Tomé"
-            },
-            {
-                "5400493680902102969",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Tripoli\"]/exemplarCity",
-                "Tripoli"
-            },
-            {
-                "5437854658718893482",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Tunis\"]/exemplarCity",
-                "Tunis"
-            },
-            {
-                "1455314248473929277",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Africa/Windhoek\"]/exemplarCity",
-                "Windhoek"
-            },
-            {
-                "8553297104256937255",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Adak\"]/exemplarCity",
-                "Adak"
-            },
-            {
-                "3742609321816272504",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Anchorage\"]/exemplarCity",
-                "Anchorage"
-            },
-            {
-                "3111806221722013626",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Anguilla\"]/exemplarCity",
-                "Anguilla"
-            },
-            {
-                "5138508207183456950",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Antigua\"]/exemplarCity",
-                "Antigua"
-            },
-            {
-                "4762837031727812742",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Araguaina\"]/exemplarCity",
-                "Araguaina"
-            },
-            {
-                "1466971103664010603",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Argentina/La_Rioja\"]/exemplarCity",
-                "La Rioja"
-            },
-            {
-                "3512383313248028877",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Argentina/Rio_Gallegos\"]/exemplarCity",
-                "Rio Gallegos"
-            },
-            {
-                "4516933489364909302",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Argentina/Salta\"]/exemplarCity",
-                "Salta"
-            },
-            {
-                "952005812224687616",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Argentina/San_Juan\"]/exemplarCity",
-                "San Juan"
-            },
-            {
-                "1915637248295621746",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Argentina/San_Luis\"]/exemplarCity",
-                "San Luis"
-            },
-            {
-                "607526898959896958",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Argentina/Tucuman\"]/exemplarCity",
-                "Tucuman"
-            },
-            {
-                "4883211727215107278",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Argentina/Ushuaia\"]/exemplarCity",
-                "Ushuaia"
-            },
-            {
-                "8553438671289746331",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Aruba\"]/exemplarCity",
-                "Aruba"
-            },
-            {
-                "8480153598177625782",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Asuncion\"]/exemplarCity",
-                "Asunción"
-            },
-            {
-                "3591517821826143345",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Bahia\"]/exemplarCity",
-                "Bahia"
-            },
-            {
-                "7939122725013561772",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Bahia_Banderas\"]/exemplarCity",
-                "Bahia Banderas"
-            },
-            {
-                "7851188837420265354",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Barbados\"]/exemplarCity",
-                "Barbados"
-            },
-            {
-                "7000133186421445911",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Belem\"]/exemplarCity",
-                "Belem"
-            },
-            {
-                "2727520163713788115",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Belize\"]/exemplarCity",
-                "Belize"
-            },
-            {
-                "96792083730482568",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Blanc-Sablon\"]/exemplarCity",
-                "Blanc-Sablon"
-            },
-            {
-                "8455121674585800950",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Boa_Vista\"]/exemplarCity",
-                "Boa Vista"
-            },
-            {
-                "3718008383941137263",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Bogota\"]/exemplarCity",
-                "Bogota"
-            },
-            {
-                "7985355789788786337",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Boise\"]/exemplarCity",
-                "Boise"
-            },
-            {
-                "2675405970857653647",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Buenos_Aires\"]/exemplarCity",
-                "Buenos Aires"
-            },
-            {
-                "9134503329044682339",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Cambridge_Bay\"]/exemplarCity",
-                "Cambridge Bay"
-            },
-            {
-                "6665864620078039185",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Campo_Grande\"]/exemplarCity",
-                "Campo Grande"
-            },
-            {
-                "393287877494464904",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Cancun\"]/exemplarCity",
-                "Cancun"
-            },
-            {
-                "1788365300653424582",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Caracas\"]/exemplarCity",
-                "Caracas"
-            },
-            {
-                "3815738882397826637",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Catamarca\"]/exemplarCity",
-                "Catamarca"
-            },
-            {
-                "544330329152594865",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Cayenne\"]/exemplarCity",
-                "Cayenne"
-            },
-            {
-                "3735808205415350810",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Cayman\"]/exemplarCity",
-                "Cayman"
-            },
-            {
-                "8566206946356497516",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Chicago\"]/exemplarCity",
-                "Chicago"
-            },
-            {
-                "1893033409429104587",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Chihuahua\"]/exemplarCity",
-                "Chihuahua"
-            },
-            {
-                "4950327793411646941",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Coral_Harbour\"]/exemplarCity",
-                "Atikokan"
-            },
-            {
-                "2665921644040810695",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Cordoba\"]/exemplarCity",
-                "Cordoba"
-            },
-            {
-                "9168063757061858027",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Costa_Rica\"]/exemplarCity",
-                "Costa Rica"
-            },
-            {
-                "3104821317073633794",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Creston\"]/exemplarCity",
-                "Creston"
-            },
-            {
-                "8684805579824680806",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Cuiaba\"]/exemplarCity",
-                "Cuiaba"
-            },
-            {
-                "5657364324573188283",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Curacao\"]/exemplarCity",
-                "Curaçao"
-            },
-            {
-                "3956000109212913087",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Danmarkshavn\"]/exemplarCity",
-                "Danmarkshavn"
-            },
-            {
-                "620406641068800680",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Dawson\"]/exemplarCity",
-                "Dawson"
-            },
-            {
-                "2688514382254395523",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Dawson_Creek\"]/exemplarCity",
-                "Dawson Creek"
-            },
-            {
-                "4129272243525230809",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Denver\"]/exemplarCity",
-                "Denver"
-            },
-            {
-                "6363748072252011237",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Detroit\"]/exemplarCity",
-                "Detroit"
-            },
-            {
-                "7057996127591829345",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Dominica\"]/exemplarCity",
-                "Dominica"
-            },
-            {
-                "2019789003581218888",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Edmonton\"]/exemplarCity",
-                "Edmonton"
-            },
-            {
-                "8756522823121074480",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Eirunepe\"]/exemplarCity",
-                "Eirunepe"
-            },
-            {
-                "3460727947249650562",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/El_Salvador\"]/exemplarCity",
-                "El Salvador"
-            },
-            {
-                "2587558592511046451",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Fortaleza\"]/exemplarCity",
-                "Fortaleza"
-            },
-            {
-                "4740811066765744216",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Glace_Bay\"]/exemplarCity",
-                "Glace Bay"
-            },
-            {
-                "8138015182802646205",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Godthab\"]/exemplarCity",
-                "Nuuk"
-            },
-            {
-                "1804101433220388996",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Goose_Bay\"]/exemplarCity",
-                "Goose Bay"
-            },
-            {
-                "1161674944332447300",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Grand_Turk\"]/exemplarCity",
-                "Grand Turk"
-            },
-            {
-                "3772815805162937057",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Grenada\"]/exemplarCity",
-                "Grenada"
-            },
-            {
-                "6467740951737121879",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Guadeloupe\"]/exemplarCity",
-                "Guadeloupe"
-            },
-            {
-                "5851188442404848487",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Guatemala\"]/exemplarCity",
-                "Guatemala"
-            },
-            {
-                "7781877251425570469",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Guayaquil\"]/exemplarCity",
-                "Guayaquil"
-            },
-            {
-                "7283687174573004345",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Guyana\"]/exemplarCity",
-                "Guyana"
-            },
-            {
-                "2694845462585637298",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Halifax\"]/exemplarCity",
-                "Halifax"
-            },
-            {
-                "3342403245701706937",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Havana\"]/exemplarCity",
-                "Havana"
-            },
-            {
-                "1908674888165816251",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Hermosillo\"]/exemplarCity",
-                "Hermosillo"
-            },
-            {
-                "32040058187377434",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Indiana/Knox\"]/exemplarCity",
-                "Knox, Indiana"
-            },
-            {
-                "6257752782002915817",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Indiana/Marengo\"]/exemplarCity",
-                "Marengo, Indiana"
-            },
-            {
-                "1681091529242911664",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Indiana/Petersburg\"]/exemplarCity",
-                "Petersburg, Indiana"
-            },
-            {
-                "3071447540900607938",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Indiana/Tell_City\"]/exemplarCity",
-                "Tell City, Indiana"
-            },
-            {
-                "6591008239483332120",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Indiana/Vevay\"]/exemplarCity",
-                "Vevay, Indiana"
-            },
-            {
-                "3607904640425151682",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Indiana/Vincennes\"]/exemplarCity",
-                "Vincennes, Indiana"
-            },
-            {
-                "4750833843593337720",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Indiana/Winamac\"]/exemplarCity",
-                "Winamac, Indiana"
-            },
-            {
-                "1421099247371651672",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Indianapolis\"]/exemplarCity",
-                "Indianapolis"
-            },
-            {
-                "6688098582061133101",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Inuvik\"]/exemplarCity",
-                "Inuvik"
-            },
-            {
-                "2844274658083063760",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Iqaluit\"]/exemplarCity",
-                "Iqaluit"
-            },
-            {
-                "8360802596452734397",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Jamaica\"]/exemplarCity",
-                "Jamaica"
-            },
-            {
-                "3839718678051192658",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Jujuy\"]/exemplarCity",
-                "Jujuy"
-            },
-            {
-                "4461525864344915635",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Juneau\"]/exemplarCity",
-                "Juneau"
-            },
-            {
-                "1285152101048336039",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Kentucky/Monticello\"]/exemplarCity",
-                "Monticello, Kentucky"
-            },
-            {
-                "6342777793245909528",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Kralendijk\"]/exemplarCity",
-                "Kralendijk"
-            },
-            {
-                "5393360879768204285",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/La_Paz\"]/exemplarCity",
-                "La Paz"
-            },
-            {
-                "1470881086931692781",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Lima\"]/exemplarCity",
-                "Lima"
-            },
-            {
-                "2394167467437732087",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Los_Angeles\"]/exemplarCity",
-                "Los Angeles"
-            },
-            {
-                "8573886986307221889",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Louisville\"]/exemplarCity",
-                "Louisville"
-            },
-            {
-                "183250271119254034",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Lower_Princes\"]/exemplarCity",
-                "Lower Prince's Quarter"
-            },
-            {
-                "2242480448432010773",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Maceio\"]/exemplarCity",
-                "Maceio"
-            },
-            {
-                "4052632109444109138",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Managua\"]/exemplarCity",
-                "Managua"
-            },
-            {
-                "1402625413112346482",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Manaus\"]/exemplarCity",
-                "Manaus"
-            },
-            {
-                "5909948821769512867",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Marigot\"]/exemplarCity",
-                "Marigot"
-            },
-            {
-                "2456233847959884151",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Martinique\"]/exemplarCity",
-                "Martinique"
-            },
-            {
-                "4901785928818881446",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Matamoros\"]/exemplarCity",
-                "Matamoros"
-            },
-            {
-                "7911249539006042871",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Mazatlan\"]/exemplarCity",
-                "Mazatlan"
-            },
-            {
-                "7756708977997486825",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Mendoza\"]/exemplarCity",
-                "Mendoza"
-            },
-            {
-                "983499101315668766",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Menominee\"]/exemplarCity",
-                "Menominee"
-            },
-            {
-                "1908654404166019529",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Merida\"]/exemplarCity",
-                "Merida"
-            },
-            {
-                "5463491266236264730",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Metlakatla\"]/exemplarCity",
-                "Metlakatla"
-            },
-            {
-                "3288948871909033115",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Mexico_City\"]/exemplarCity",
-                "Mexico City"
-            },
-            {
-                "3761682154307599855",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Miquelon\"]/exemplarCity",
-                "Miquelon"
-            },
-            {
-                "222145918134721576",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Moncton\"]/exemplarCity",
-                "Moncton"
-            },
-            {
-                "1377196749194164746",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Monterrey\"]/exemplarCity",
-                "Monterrey"
-            },
-            {
-                "5316927827873880299",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Montevideo\"]/exemplarCity",
-                "Montevideo"
-            },
-            {
-                "2455762916356364368",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Montreal\"]/exemplarCity",
-                "Montreal"
-            },
-            {
-                "3723245731841167234",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Montserrat\"]/exemplarCity",
-                "Montserrat"
-            },
-            {
-                "6091164299290096858",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Nassau\"]/exemplarCity",
-                "Nassau"
-            },
-            {
-                "8939441403228388883",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/New_York\"]/exemplarCity",
-                "New York"
-            },
-            {
-                "5515391606981097736",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Nipigon\"]/exemplarCity",
-                "Nipigon"
-            },
-            {
-                "1148428323466766163",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Nome\"]/exemplarCity",
-                "Nome"
-            },
-            {
-                "3491293017460691388",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Noronha\"]/exemplarCity",
-                "Noronha"
-            },
-            {
-                "2981683822030895661",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/North_Dakota/Beulah\"]/exemplarCity",
-                "Beulah, North Dakota"
-            },
-            {
-                "6466505561365809159",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/North_Dakota/Center\"]/exemplarCity",
-                "Center, North Dakota"
-            },
-            {
-                "543355977205569794",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/North_Dakota/New_Salem\"]/exemplarCity",
-                "New Salem, North Dakota"
-            },
-            {
-                "5270859898477185072",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Ojinaga\"]/exemplarCity",
-                "Ojinaga"
-            },
-            {
-                "9001134365542939997",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Panama\"]/exemplarCity",
-                "Panama"
-            },
-            {
-                "1275405530108379780",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Pangnirtung\"]/exemplarCity",
-                "Pangnirtung"
-            },
-            {
-                "6306585179064259970",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Paramaribo\"]/exemplarCity",
-                "Paramaribo"
-            },
-            {
-                "6469158403937757140",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Phoenix\"]/exemplarCity",
-                "Phoenix"
-            },
-            {
-                "2617926570514890171",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Port-au-Prince\"]/exemplarCity",
-                "Port-au-Prince"
-            },
-            {
-                "2354236567435909543",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Port_of_Spain\"]/exemplarCity",
-                "Port of Spain"
-            },
-            {
-                "3783549319387638099",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Porto_Velho\"]/exemplarCity",
-                "Porto Velho"
-            },
-            {
-                "4891200552208870774",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Puerto_Rico\"]/exemplarCity",
-                "Puerto Rico"
-            },
-            {
-                "4434762410793308942",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Rainy_River\"]/exemplarCity",
-                "Rainy River"
-            },
-            {
-                "459660945989954492",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Rankin_Inlet\"]/exemplarCity",
-                "Rankin Inlet"
-            },
-            {
-                "6645914037024610492",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Recife\"]/exemplarCity",
-                "Recife"
-            },
-            {
-                "8493277817146553060",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Regina\"]/exemplarCity",
-                "Regina"
-            },
-            {
-                "5274112875141179804",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Resolute\"]/exemplarCity",
-                "Resolute"
-            },
-            {
-                "7420676036866347352",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Rio_Branco\"]/exemplarCity",
-                "Rio Branco"
-            },
-            {
-                "4532901530813036301",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Santa_Isabel\"]/exemplarCity",
-                "Santa Isabel"
-            },
-            {
-                "385748809945019146",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Santarem\"]/exemplarCity",
-                "Santarem"
-            },
-            {
-                "5331596448344426102",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Santiago\"]/exemplarCity",
-                "Santiago"
-            },
-            {
-                "8978064494626905950",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Santo_Domingo\"]/exemplarCity",
-                "Santo Domingo"
-            },
-            {
-                "4198257714476545965",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Sao_Paulo\"]/exemplarCity",
-                "Sao Paulo"
-            },
-            {
-                "5136572461292583790",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Scoresbysund\"]/exemplarCity",
-                "Ittoqqortoormiit"
-            },
-            {
-                "225401299979484003",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Shiprock\"]/exemplarCity",
-                "Shiprock"
-            },
-            {
-                "4601510779299213606",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Sitka\"]/exemplarCity",
-                "Sitka"
-            },
-            {
-                "3627473954424030233",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/St_Barthelemy\"]/exemplarCity",
-                "Saint Barthélemy"
-            },
-            {
-                "8275836634286006203",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/St_Johns\"]/exemplarCity",
-                "St. John’s"
-            },
-            {
-                "1950432544866702652",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/St_Kitts\"]/exemplarCity",
-                "St. Kitts"
-            },
-            {
-                "4545592785958097068",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/St_Lucia\"]/exemplarCity",
-                "St. Lucia"
-            },
-            {
-                "4703283057914182039",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/St_Thomas\"]/exemplarCity",
-                "St. Thomas"
-            },
-            {
-                "4986301412007015905",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/St_Vincent\"]/exemplarCity",
-                "St. Vincent"
-            },
-            {
-                "8311502057291946889",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Swift_Current\"]/exemplarCity",
-                "Swift Current"
-            },
-            {
-                "7998964706840152872",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Tegucigalpa\"]/exemplarCity",
-                "Tegucigalpa"
-            },
-            {
-                "4876142378967330922",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Thule\"]/exemplarCity",
-                "Thule"
-            },
-            {
-                "4164362850866895552",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Thunder_Bay\"]/exemplarCity",
-                "Thunder Bay"
-            },
-            {
-                "1767713770348989786",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Tijuana\"]/exemplarCity",
-                "Tijuana"
-            },
-            {
-                "4164526593378430143",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Toronto\"]/exemplarCity",
-                "Toronto"
-            },
-            {
-                "229173057021157855",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Tortola\"]/exemplarCity",
-                "Tortola"
-            },
-            {
-                "7513076190657853868",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Vancouver\"]/exemplarCity",
-                "Vancouver"
-            },
-            {
-                "1602669071335339538",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Whitehorse\"]/exemplarCity",
-                "Whitehorse"
-            },
-            {
-                "5547276650971753212",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Winnipeg\"]/exemplarCity",
-                "Winnipeg"
-            },
-            {
-                "554919698365354929",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Yakutat\"]/exemplarCity",
-                "Yakutat"
-            },
-            {
-                "340662549035713799",
-                "//ldml/dates/timeZoneNames/zone[@type=\"America/Yellowknife\"]/exemplarCity",
-                "Yellowknife"
-            },
-            {
-                "7233964889174800684",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Antarctica/Casey\"]/exemplarCity",
-                "Casey"
-            },
-            {
-                "2929611784658003463",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Antarctica/Davis\"]/exemplarCity",
-                "Davis"
-            },
-            {
-                "3108496852514078113",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Antarctica/DumontDUrville\"]/exemplarCity",
-                "Dumont d’Urville"
-            },
-            {
-                "8221042784186745909",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Antarctica/Macquarie\"]/exemplarCity",
-                "Macquarie"
-            },
-            {
-                "6382388617801714306",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Antarctica/Mawson\"]/exemplarCity",
-                "Mawson"
-            },
-            {
-                "1242727984132172232",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Antarctica/McMurdo\"]/exemplarCity",
-                "McMurdo"
-            },
-            {
-                "8229195434474545867",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Antarctica/Palmer\"]/exemplarCity",
-                "Palmer"
-            },
-            {
-                "1211146428209814811",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Antarctica/Rothera\"]/exemplarCity",
-                "Rothera"
-            },
-            {
-                "5236672441830780463",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Antarctica/South_Pole\"]/exemplarCity",
-                "South Pole"
-            },
-            {
-                "1293983806703043493",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Antarctica/Syowa\"]/exemplarCity",
-                "Syowa"
-            },
-            {
-                "986338819803299610",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Antarctica/Vostok\"]/exemplarCity",
-                "Vostok"
-            },
-            {
-                "7118231405705701292",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Arctic/Longyearbyen\"]/exemplarCity",
-                "Longyearbyen"
-            },
-            {
-                "7712971668700429524",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Aden\"]/exemplarCity",
-                "Aden"
-            },
-            {
-                "5793257552410443651",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Almaty\"]/exemplarCity",
-                "Almaty"
-            },
-            {
-                "6267821149586947006",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Amman\"]/exemplarCity",
-                "Amman"
-            },
-            {
-                "6111043246448839236",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Anadyr\"]/exemplarCity",
-                "Anadyr"
-            },
-            {
-                "7206951085765417872",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Aqtau\"]/exemplarCity",
-                "Aqtau"
-            },
-            {
-                "6522442654481069968",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Aqtobe\"]/exemplarCity",
-                "Aqtobe"
-            },
-            {
-                "940746752124746871",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Ashgabat\"]/exemplarCity",
-                "Ashgabat"
-            },
-            {
-                "4092732076839895227",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Baghdad\"]/exemplarCity",
-                "Baghdad"
-            },
-            {
-                "2723577726240617248",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Bahrain\"]/exemplarCity",
-                "Bahrain"
-            },
-            {
-                "8601869649866405855",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Baku\"]/exemplarCity",
-                "Baku"
-            },
-            {
-                "66544670275907781",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Bangkok\"]/exemplarCity",
-                "Bangkok"
-            },
-            {
-                "5949751018149265048",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Beirut\"]/exemplarCity",
-                "Beirut"
-            },
-            {
-                "1917936089115660105",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Bishkek\"]/exemplarCity",
-                "Bishkek"
-            },
-            {
-                "1479042522625353022",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Brunei\"]/exemplarCity",
-                "Brunei"
-            },
-            {
-                "2216189726116488407",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Calcutta\"]/exemplarCity",
-                "Kolkata"
-            },
-            {
-                "3054247703062477187",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Choibalsan\"]/exemplarCity",
-                "Choibalsan"
-            },
-            {
-                "234185454998365293",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Chongqing\"]/exemplarCity",
-                "Chongqing"
-            },
-            {
-                "1311304312659339069",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Colombo\"]/exemplarCity",
-                "Colombo"
-            },
-            {
-                "6667799651592050581",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Damascus\"]/exemplarCity",
-                "Damascus"
-            },
-            {
-                "4574728728288467571",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Dhaka\"]/exemplarCity",
-                "Dhaka"
-            },
-            {
-                "2297397731164050248",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Dili\"]/exemplarCity",
-                "Dili"
-            },
-            {
-                "8403982647204836321",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Dubai\"]/exemplarCity",
-                "Dubai"
-            },
-            {
-                "1250149717682842102",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Dushanbe\"]/exemplarCity",
-                "Dushanbe"
-            },
-            {
-                "876877319240226304",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Gaza\"]/exemplarCity",
-                "Gaza"
-            },
-            {
-                "9159032527857462679",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Harbin\"]/exemplarCity",
-                "Harbin"
-            },
-            {
-                "5415312135312842422",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Hebron\"]/exemplarCity",
-                "Hebron"
-            },
-            {
-                "4204291594775258196",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Hong_Kong\"]/exemplarCity",
-                "Hong Kong"
-            },
-            {
-                "2930992672647784664",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Hovd\"]/exemplarCity",
-                "Hovd"
-            },
-            {
-                "8730354801115774450",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Irkutsk\"]/exemplarCity",
-                "Irkutsk"
-            },
-            {
-                "3729203606820000283",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Jakarta\"]/exemplarCity",
-                "Jakarta"
-            },
-            {
-                "6385774463375114192",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Jayapura\"]/exemplarCity",
-                "Jayapura"
-            },
-            {
-                "6226847945975216489",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Jerusalem\"]/exemplarCity",
-                "Jerusalem"
-            },
-            {
-                "1254524138127915958",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Kabul\"]/exemplarCity",
-                "Kabul"
-            },
-            {
-                "4229521710840037477",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Kamchatka\"]/exemplarCity",
-                "Kamchatka"
-            },
-            {
-                "8578458712129596800",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Karachi\"]/exemplarCity",
-                "Karachi"
-            },
-            {
-                "666169902379354148",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Kashgar\"]/exemplarCity",
-                "Kashgar"
-            },
-            {
-                "4239969033940235536",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Katmandu\"]/exemplarCity",
-                "Kathmandu"
-            },
-            {
-                "1853324788207861896",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Khandyga\"]/exemplarCity",
-                "Khandyga"
-            },
-            {
-                "329759406792520461",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Krasnoyarsk\"]/exemplarCity",
-                "Krasnoyarsk"
-            },
-            {
-                "665972262770343175",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Kuala_Lumpur\"]/exemplarCity",
-                "Kuala Lumpur"
-            },
-            {
-                "2392082881273102314",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Kuching\"]/exemplarCity",
-                "Kuching"
-            },
-            {
-                "1085966148043633810",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Kuwait\"]/exemplarCity",
-                "Kuwait"
-            },
-            {
-                "8003031106603178940",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Macau\"]/exemplarCity",
-                "Macau"
-            },
-            {
-                "5824519960099996619",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Magadan\"]/exemplarCity",
-                "Magadan"
-            },
-            {
-                "6107856220976141809",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Makassar\"]/exemplarCity",
-                "Makassar"
-            },
-            {
-                "2244441465157704095",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Manila\"]/exemplarCity",
-                "Manila"
-            },
-            {
-                "258228732656684304",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Muscat\"]/exemplarCity",
-                "Muscat"
-            },
-            {
-                "1510092568842482911",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Nicosia\"]/exemplarCity",
-                "Nicosia"
-            },
-            {
-                "1640482433911419703",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Novokuznetsk\"]/exemplarCity",
-                "Novokuznetsk"
-            },
-            {
-                "5338907396089797722",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Novosibirsk\"]/exemplarCity",
-                "Novosibirsk"
-            },
-            {
-                "457388536131157975",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Omsk\"]/exemplarCity",
-                "Omsk"
-            },
-            {
-                "6599341174499328704",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Oral\"]/exemplarCity",
-                "Oral"
-            },
-            {
-                "3354088824768213731",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Phnom_Penh\"]/exemplarCity",
-                "Phnom Penh"
-            },
-            {
-                "3492622706480797436",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Pontianak\"]/exemplarCity",
-                "Pontianak"
-            },
-            {
-                "3069576735359397662",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Pyongyang\"]/exemplarCity",
-                "Pyongyang"
-            },
-            {
-                "5780486567114115392",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Qatar\"]/exemplarCity",
-                "Qatar"
-            },
-            {
-                "432620139212557083",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Qyzylorda\"]/exemplarCity",
-                "Qyzylorda"
-            },
-            {
-                "3852467386726173659",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Rangoon\"]/exemplarCity",
-                "Rangoon"
-            },
-            {
-                "2214340445659118722",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Riyadh\"]/exemplarCity",
-                "Riyadh"
-            },
-            {
-                "801072575743793779",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Saigon\"]/exemplarCity",
-                "Ho Chi Minh City"
-            },
-            {
-                "4963273388656584408",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Sakhalin\"]/exemplarCity",
-                "Sakhalin"
-            },
-            {
-                "9124538215106166955",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Samarkand\"]/exemplarCity",
-                "Samarkand"
-            },
-            {
-                "7510203178147278080",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Seoul\"]/exemplarCity",
-                "Seoul"
-            },
-            {
-                "7067763903360842593",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Shanghai\"]/exemplarCity",
-                "Shanghai"
-            },
-            {
-                "2810656609021745413",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Singapore\"]/exemplarCity",
-                "Singapore"
-            },
-            {
-                "2262866515935196584",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Taipei\"]/exemplarCity",
-                "Taipei"
-            },
-            {
-                "3375017400262847745",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Tashkent\"]/exemplarCity",
-                "Tashkent"
-            },
-            {
-                "8864256105964327676",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Tbilisi\"]/exemplarCity",
-                "Tbilisi"
-            },
-            {
-                "5250486530837750613",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Tehran\"]/exemplarCity",
-                "Tehran"
-            },
-            {
-                "3171832676744420140",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Thimphu\"]/exemplarCity",
-                "Thimphu"
-            },
-            {
-                "5107623232477393516",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Tokyo\"]/exemplarCity",
-                "Tokyo"
-            },
-            {
-                "3278132214531163947",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Ulaanbaatar\"]/exemplarCity",
-                "Ulaanbaatar"
-            },
-            {
-                "248813734913057351",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Urumqi\"]/exemplarCity",
-                "Urumqi"
-            },
-            {
-                "8136132035590216750",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Ust-Nera\"]/exemplarCity",
-                "Ust-Nera"
-            },
-            {
-                "4385110377842817000",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Vientiane\"]/exemplarCity",
-                "Vientiane"
-            },
-            {
-                "4461595313532693199",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Vladivostok\"]/exemplarCity",
-                "Vladivostok"
-            },
-            {
-                "1615965183671490313",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Yakutsk\"]/exemplarCity",
-                "Yakutsk"
-            },
-            {
-                "6482376622392162262",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Yekaterinburg\"]/exemplarCity",
-                "Yekaterinburg"
-            },
-            {
-                "456827916383968352",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Asia/Yerevan\"]/exemplarCity",
-                "Yerevan"
-            },
-            {
-                "3936406064445363340",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Atlantic/Azores\"]/exemplarCity",
-                "Azores"
-            },
-            {
-                "6548502962897544980",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Atlantic/Bermuda\"]/exemplarCity",
-                "Bermuda"
-            },
-            {
-                "5155447112115219885",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Atlantic/Canary\"]/exemplarCity",
-                "Canary"
-            },
-            {
-                "1307690189081787497",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Atlantic/Cape_Verde\"]/exemplarCity",
-                "Cape Verde"
-            },
-            {
-                "7629963434510850768",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Atlantic/Faeroe\"]/exemplarCity",
-                "Faroe"
-            },
-            {
-                "1398538203279808348",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Atlantic/Madeira\"]/exemplarCity",
-                "Madeira"
-            },
-            {
-                "6170640778803820751",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Atlantic/Reykjavik\"]/exemplarCity",
-                "Reykjavik"
-            },
-            {
-                "7589907658021532056",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Atlantic/South_Georgia\"]/exemplarCity",
-                "South Georgia"
-            },
-            {
-                "397408786819860447",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Atlantic/St_Helena\"]/exemplarCity",
-                "St. Helena"
-            },
-            {
-                "4035172180338205041",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Atlantic/Stanley\"]/exemplarCity",
-                "Stanley"
-            },
-            {
-                "5340125663924761285",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Australia/Adelaide\"]/exemplarCity",
-                "Adelaide"
-            },
-            {
-                "4604462152470803515",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Australia/Brisbane\"]/exemplarCity",
-                "Brisbane"
-            },
-            {
-                "8102579201303053315",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Australia/Broken_Hill\"]/exemplarCity",
-                "Broken Hill"
-            },
-            {
-                "4668033683545359604",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Australia/Currie\"]/exemplarCity",
-                "Currie"
-            },
-            {
-                "2400296783519840233",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Australia/Darwin\"]/exemplarCity",
-                "Darwin"
-            },
-            {
-                "8216983246347186328",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Australia/Eucla\"]/exemplarCity",
-                "Eucla"
-            },
-            {
-                "1910226673590426166",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Australia/Hobart\"]/exemplarCity",
-                "Hobart"
-            },
-            {
-                "6200577373273455728",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Australia/Lindeman\"]/exemplarCity",
-                "Lindeman"
-            },
-            {
-                "1872505770254482366",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Australia/Lord_Howe\"]/exemplarCity",
-                "Lord Howe"
-            },
-            {
-                "501240726435504389",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Australia/Melbourne\"]/exemplarCity",
-                "Melbourne"
-            },
-            {
-                "8751324757150489485",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Australia/Perth\"]/exemplarCity",
-                "Perth"
-            },
-            {
-                "1946588038085929249",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Australia/Sydney\"]/exemplarCity",
-                "Sydney"
-            },
-            {
-                "7703365267077362924",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Etc/Unknown\"]/exemplarCity",
-                "Unknown City"
-            },
-            {
-                "5544773620391781739",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Amsterdam\"]/exemplarCity",
-                "Amsterdam"
-            },
-            {
-                "9022432003501267338",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Andorra\"]/exemplarCity",
-                "Andorra"
-            },
-            {
-                "397977800529326740",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Athens\"]/exemplarCity",
-                "Athens"
-            },
-            {
-                "3984829436972478856",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Belgrade\"]/exemplarCity",
-                "Belgrade"
-            },
-            {
-                "5776626477330818389",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Berlin\"]/exemplarCity",
-                "Berlin"
-            },
-            {
-                "6085996068890438028",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Bratislava\"]/exemplarCity",
-                "Bratislava"
-            },
-            {
-                "5328438664670520369",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Brussels\"]/exemplarCity",
-                "Brussels"
-            },
-            {
-                "7863873258501828449",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Bucharest\"]/exemplarCity",
-                "Bucharest"
-            },
-            {
-                "5323950130410037687",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Budapest\"]/exemplarCity",
-                "Budapest"
-            },
-            {
-                "8713410073774477831",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Busingen\"]/exemplarCity",
-                "Busingen"
-            },
-            {
-                "4564618853845029870",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Chisinau\"]/exemplarCity",
-                "Chisinau"
-            },
-            {
-                "8780912674286977312",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Copenhagen\"]/exemplarCity",
-                "Copenhagen"
-            },
-            {
-                "5898144268103007337",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Dublin\"]/exemplarCity",
-                "Dublin"
-            },
-            {
-                "343111457692709679",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Gibraltar\"]/exemplarCity",
-                "Gibraltar"
-            },
-            {
-                "2516563734440438795",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Guernsey\"]/exemplarCity",
-                "Guernsey"
-            },
-            {
-                "9209449654803435582",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Helsinki\"]/exemplarCity",
-                "Helsinki"
-            },
-            {
-                "3032493161873757101",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Isle_of_Man\"]/exemplarCity",
-                "Isle of Man"
-            },
-            {
-                "2592507110352888542",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Istanbul\"]/exemplarCity",
-                "Istanbul"
-            },
-            {
-                "327611300360595307",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Jersey\"]/exemplarCity",
-                "Jersey"
-            },
-            {
-                "8181775238607547082",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Kaliningrad\"]/exemplarCity",
-                "Kaliningrad"
-            },
-            {
-                "7913110883647808056",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Kiev\"]/exemplarCity",
-                "Kiev"
-            },
-            {
-                "1392008863232612712",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Lisbon\"]/exemplarCity",
-                "Lisbon"
-            },
-            {
-                "6868822292237385063",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Ljubljana\"]/exemplarCity",
-                "Ljubljana"
-            },
-            {
-                "4913750323164536399",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/London\"]/exemplarCity",
-                "London"
-            },
-            {
-                "6555712109203778244",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Luxembourg\"]/exemplarCity",
-                "Luxembourg"
-            },
-            {
-                "2187451587348397529",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Madrid\"]/exemplarCity",
-                "Madrid"
-            },
-            {
-                "6534097977332325988",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Malta\"]/exemplarCity",
-                "Malta"
-            },
-            {
-                "8023531324508375541",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Mariehamn\"]/exemplarCity",
-                "Mariehamn"
-            },
-            {
-                "7766743097733910126",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Minsk\"]/exemplarCity",
-                "Minsk"
-            },
-            {
-                "2547495737261835220",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Monaco\"]/exemplarCity",
-                "Monaco"
-            },
-            {
-                "2268954548631513184",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Moscow\"]/exemplarCity",
-                "Moscow"
-            },
-            {
-                "2416048096860372555",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Oslo\"]/exemplarCity",
-                "Oslo"
-            },
-            {
-                "7152351939986454250",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Paris\"]/exemplarCity",
-                "Paris"
-            },
-            {
-                "7608655856443773206",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Podgorica\"]/exemplarCity",
-                "Podgorica"
-            },
-            {
-                "5443302705962706805",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Prague\"]/exemplarCity",
-                "Prague"
-            },
-            {
-                "7026651097888921371",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Riga\"]/exemplarCity",
-                "Riga"
-            },
-            {
-                "6180904170980862226",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Rome\"]/exemplarCity",
-                "Rome"
-            },
-            {
-                "1985027057144362848",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Samara\"]/exemplarCity",
-                "Samara"
-            },
-            {
-                "1722414312273988250",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/San_Marino\"]/exemplarCity",
-                "San Marino"
-            },
-            {
-                "6531855417788581538",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Sarajevo\"]/exemplarCity",
-                "Sarajevo"
-            },
-            {
-                "9094759543625901997",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Simferopol\"]/exemplarCity",
-                "Simferopol"
-            },
-            {
-                "3894952120544622831",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Skopje\"]/exemplarCity",
-                "Skopje"
-            },
-            {
-                "8771656834955497507",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Sofia\"]/exemplarCity",
-                "Sofia"
-            },
-            {
-                "9138361558708165162",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Stockholm\"]/exemplarCity",
-                "Stockholm"
-            },
-            {
-                "8427668050909481721",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Tallinn\"]/exemplarCity",
-                "Tallinn"
-            },
-            {
-                "6302403807762230587",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Tirane\"]/exemplarCity",
-                "Tirane"
-            },
-            {
-                "3386596531885005336",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Uzhgorod\"]/exemplarCity",
-                "Uzhgorod"
-            },
-            {
-                "27206410979980953",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Vaduz\"]/exemplarCity",
-                "Vaduz"
-            },
-            {
-                "8476527351671053891",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Vatican\"]/exemplarCity",
-                "Vatican"
-            },
-            {
-                "1067195254182779860",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Vienna\"]/exemplarCity",
-                "Vienna"
-            },
-            {
-                "4017756509131292127",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Vilnius\"]/exemplarCity",
-                "Vilnius"
-            },
-            {
-                "7620423786060941281",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Volgograd\"]/exemplarCity",
-                "Volgograd"
-            },
-            {
-                "5046045445134101892",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Warsaw\"]/exemplarCity",
-                "Warsaw"
-            },
-            {
-                "5069027697316043163",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Zagreb\"]/exemplarCity",
-                "Zagreb"
-            },
-            {
-                "8167301492804220968",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Zaporozhye\"]/exemplarCity",
-                "Zaporozhye"
-            },
-            {
-                "649500739998689953",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Zurich\"]/exemplarCity",
-                "Zurich"
-            },
-            {
-                "5672630093539236464",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Indian/Antananarivo\"]/exemplarCity",
-                "Antananarivo"
-            },
-            {
-                "2749773215625945864",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Indian/Chagos\"]/exemplarCity",
-                "Chagos"
-            },
-            {
-                "3019637728481766407",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Indian/Christmas\"]/exemplarCity",
-                "Christmas"
-            },
-            {
-                "6378191289154969269",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Indian/Cocos\"]/exemplarCity",
-                "Cocos"
-            },
-            {
-                "9140739560888652098",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Indian/Comoro\"]/exemplarCity",
-                "Comoro"
-            },
-            {
-                "675521348554230046",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Indian/Kerguelen\"]/exemplarCity",
-                "Kerguelen"
-            },
-            {
-                "9194505246309921854",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Indian/Mahe\"]/exemplarCity",
-                "Mahe"
-            },
-            {
-                "1528447325111053162",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Indian/Maldives\"]/exemplarCity",
-                "Maldives"
-            },
-            {
-                "7557640061621948932",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Indian/Mauritius\"]/exemplarCity",
-                "Mauritius"
-            },
-            {
-                "4344425082568338692",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Indian/Mayotte\"]/exemplarCity",
-                "Mayotte"
-            },
-            {
-                "4149156895076276642",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Indian/Reunion\"]/exemplarCity",
-                "Réunion"
-            },
-            {
-                "2379546712491326584",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Apia\"]/exemplarCity",
-                "Apia"
-            },
-            {
-                "7480467477013516192",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Auckland\"]/exemplarCity",
-                "Auckland"
-            },
-            {
-                "1979489220072448066",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Chatham\"]/exemplarCity",
-                "Chatham"
-            },
-            {
-                "5257091636013869411",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Easter\"]/exemplarCity",
-                "Easter"
-            },
-            {
-                "4475071138104018997",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Efate\"]/exemplarCity",
-                "Efate"
-            },
-            {
-                "4427845467092779242",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Enderbury\"]/exemplarCity",
-                "Enderbury"
-            },
-            {
-                "8583334243622496646",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Fakaofo\"]/exemplarCity",
-                "Fakaofo"
-            },
-            {
-                "1282269506575450795",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Fiji\"]/exemplarCity",
-                "Fiji"
-            },
-            {
-                "2510423198280554169",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Funafuti\"]/exemplarCity",
-                "Funafuti"
-            },
-            {
-                "7911468415196260933",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Galapagos\"]/exemplarCity",
-                "Galapagos"
-            },
-            {
-                "6600538577322944725",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Gambier\"]/exemplarCity",
-                "Gambier"
-            },
-            {
-                "6084148354079824154",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Guadalcanal\"]/exemplarCity",
-                "Guadalcanal"
-            },
-            {
-                "5577325100398556695",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Guam\"]/exemplarCity",
-                "Guam"
-            },
-            {
-                "243334635709362237",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Honolulu\"]/exemplarCity",
-                "Honolulu"
-            },
-            {
-                "4161959744774533537",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Johnston\"]/exemplarCity",
-                "Johnston"
-            },
-            {
-                "1395011785076774390",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Kiritimati\"]/exemplarCity",
-                "Kiritimati"
-            },
-            {
-                "1995863166961733881",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Kosrae\"]/exemplarCity",
-                "Kosrae"
-            },
-            {
-                "2048336673569289883",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Kwajalein\"]/exemplarCity",
-                "Kwajalein"
-            },
-            {
-                "7232570290194355980",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Majuro\"]/exemplarCity",
-                "Majuro"
-            },
-            {
-                "4502159008106100829",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Marquesas\"]/exemplarCity",
-                "Marquesas"
-            },
-            {
-                "7634013242615411343",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Midway\"]/exemplarCity",
-                "Midway"
-            },
-            {
-                "6639363581588688861",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Nauru\"]/exemplarCity",
-                "Nauru"
-            },
-            {
-                "4487603981609220924",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Niue\"]/exemplarCity",
-                "Niue"
-            },
-            {
-                "392870532298230574",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Norfolk\"]/exemplarCity",
-                "Norfolk"
-            },
-            {
-                "6851611561858046537",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Noumea\"]/exemplarCity",
-                "Noumea"
-            },
-            {
-                "8978234886913370922",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Pago_Pago\"]/exemplarCity",
-                "Pago Pago"
-            },
-            {
-                "6911587807368719715",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Palau\"]/exemplarCity",
-                "Palau"
-            },
-            {
-                "8589626635556429676",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Pitcairn\"]/exemplarCity",
-                "Pitcairn"
-            },
-            {
-                "9203265722471266578",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Ponape\"]/exemplarCity",
-                "Pohnpei"
-            },
-            {
-                "1240717663574684652",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Port_Moresby\"]/exemplarCity",
-                "Port Moresby"
-            },
-            {
-                "6580317824043511955",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Rarotonga\"]/exemplarCity",
-                "Rarotonga"
-            },
-            {
-                "8041699594593468997",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Saipan\"]/exemplarCity",
-                "Saipan"
-            },
-            {
-                "184105271342027596",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Tahiti\"]/exemplarCity",
-                "Tahiti"
-            },
-            {
-                "5991524608355651081",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Tarawa\"]/exemplarCity",
-                "Tarawa"
-            },
-            {
-                "8224233911607972079",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Tongatapu\"]/exemplarCity",
-                "Tongatapu"
-            },
-            {
-                "4638877615154098959",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Truk\"]/exemplarCity",
-                "Chuuk"
-            },
-            {
-                "7041973144457241462",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Wake\"]/exemplarCity",
-                "Wake"
-            },
-            {
-                "3833643633292706311",
-                "//ldml/dates/timeZoneNames/zone[@type=\"Pacific/Wallis\"]/exemplarCity",
-                "Wallis"
-            },
-            {"3970111286376009027", "//ldml/delimiters/alternateQuotationEnd", "’"},
-            {"2079535440030015191", "//ldml/delimiters/alternateQuotationStart", "‘"},
-            {"1160890260784436111", "//ldml/delimiters/quotationEnd", "”"},
-            {"6598675881556239061", "//ldml/delimiters/quotationStart", "“"},
-            {
-                "4936202362457568222",
-                "//ldml/listPatterns/listPattern/listPatternPart[@type=\"2\"]",
-                "{0} and {1}"
-            },
-            {
-                "5103380380282058648",
-                "//ldml/listPatterns/listPattern/listPatternPart[@type=\"end\"]",
-                "{0}, and {1}"
-            },
-            {
-                "5731616620056084282",
-                "//ldml/listPatterns/listPattern/listPatternPart[@type=\"middle\"]",
-                "{0}, {1}"
-            },
-            {
-                "4290360422310853603",
-                "//ldml/listPatterns/listPattern/listPatternPart[@type=\"start\"]",
-                "{0}, {1}"
-            },
-            {
-                "1271534920671108742",
-                "//ldml/localeDisplayNames/keys/key[@type=\"calendar\"]",
-                "Calendar"
-            },
-            {
-                "549726584768242715",
-                "//ldml/localeDisplayNames/keys/key[@type=\"collation\"]",
-                "Sort Order"
-            },
-            {
-                "2620660067000606113",
-                "//ldml/localeDisplayNames/keys/key[@type=\"currency\"]",
-                "Currency"
-            },
-            {
-                "1236878005668860126",
-                "//ldml/localeDisplayNames/keys/key[@type=\"numbers\"]",
-                "Numbers"
-            },
-            {
-                "1612365206259538668",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ach\"]",
-                "Acoli"
-            },
-            {
-                "681544291024384572",
-                "//ldml/localeDisplayNames/languages/language[@type=\"af\"]",
-                "Afrikaans"
-            },
-            {
-                "2742611637065260510",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ak\"]",
-                "Akan"
-            },
-            {
-                "654681147478261775",
-                "//ldml/localeDisplayNames/languages/language[@type=\"am\"]",
-                "Amharic"
-            },
-            {
-                "6289807795603559067",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ar\"]",
-                "Arabic"
-            },
-            {
-                "8595449180615167196",
-                "//ldml/localeDisplayNames/languages/language[@type=\"az\"]",
-                "Azerbaijani"
-            },
-            {
-                "8074808862785069979",
-                "//ldml/localeDisplayNames/languages/language[@type=\"az\"][@alt=\"short\"]",
-                "Azeri"
-            },
-            {
-                "4723764307866319957",
-                "//ldml/localeDisplayNames/languages/language[@type=\"be\"]",
-                "Belarusian"
-            },
-            {
-                "8652291692059007228",
-                "//ldml/localeDisplayNames/languages/language[@type=\"bem\"]",
-                "Bemba"
-            },
-            {
-                "4630819322671775651",
-                "//ldml/localeDisplayNames/languages/language[@type=\"bg\"]",
-                "Bulgarian"
-            },
-            {
-                "4436773130861765724",
-                "//ldml/localeDisplayNames/languages/language[@type=\"bh\"]",
-                "Bihari"
-            },
-            {
-                "4053606790251734408",
-                "//ldml/localeDisplayNames/languages/language[@type=\"bn\"]",
-                "Bengali"
-            },
-            {
-                "3944278773302403991",
-                "//ldml/localeDisplayNames/languages/language[@type=\"br\"]",
-                "Breton"
-            },
-            {
-                "7308740404801138110",
-                "//ldml/localeDisplayNames/languages/language[@type=\"bs\"]",
-                "Bosnian"
-            },
-            {
-                "2027690021933181118",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ca\"]",
-                "Catalan"
-            },
-            {
-                "6062551885221496122",
-                "//ldml/localeDisplayNames/languages/language[@type=\"chr\"]",
-                "Cherokee"
-            },
-            {
-                "5816852039637496090",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ckb\"]",
-                "Sorani Kurdish"
-            },
-            {
-                "7675915473319778710",
-                "//ldml/localeDisplayNames/languages/language[@type=\"co\"]",
-                "Corsican"
-            },
-            {
-                "24018486885560812",
-                "//ldml/localeDisplayNames/languages/language[@type=\"cs\"]",
-                "Czech"
-            },
-            {
-                "1788060972909850742",
-                "//ldml/localeDisplayNames/languages/language[@type=\"cy\"]",
-                "Welsh"
-            },
-            {
-                "7938924748712865237",
-                "//ldml/localeDisplayNames/languages/language[@type=\"da\"]",
-                "Danish"
-            },
-            {
-                "2518321138963333853",
-                "//ldml/localeDisplayNames/languages/language[@type=\"de\"]",
-                "German"
-            },
-            {
-                "720807906240724148",
-                "//ldml/localeDisplayNames/languages/language[@type=\"de_AT\"]",
-                "Austrian German"
-            },
-            {
-                "8331082136999924228",
-                "//ldml/localeDisplayNames/languages/language[@type=\"de_CH\"]",
-                "Swiss High German"
-            },
-            {
-                "7093532271455570797",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ee\"]",
-                "Ewe"
-            },
-            {
-                "6000600383373441848",
-                "//ldml/localeDisplayNames/languages/language[@type=\"el\"]",
-                "Greek"
-            },
-            {
-                "3649550197918892323",
-                "//ldml/localeDisplayNames/languages/language[@type=\"en\"]",
-                "English"
-            },
-            {
-                "6422005883575748157",
-                "//ldml/localeDisplayNames/languages/language[@type=\"en_AU\"]",
-                "Australian English"
-            },
-            {
-                "2756059324058806270",
-                "//ldml/localeDisplayNames/languages/language[@type=\"en_CA\"]",
-                "Canadian English"
-            },
-            {
-                "8285032827730918552",
-                "//ldml/localeDisplayNames/languages/language[@type=\"en_GB\"]",
-                "British English"
-            },
-            {
-                "2808290825800076683",
-                "//ldml/localeDisplayNames/languages/language[@type=\"en_GB\"][@alt=\"short\"]",
-                "U.K. English"
-            },
-            {
-                "8915735256232804041",
-                "//ldml/localeDisplayNames/languages/language[@type=\"en_US\"]",
-                "American English"
-            },
-            {
-                "8970664566264289918",
-                "//ldml/localeDisplayNames/languages/language[@type=\"en_US\"][@alt=\"short\"]",
-                "U.S. English"
-            },
-            {
-                "2192562239004776899",
-                "//ldml/localeDisplayNames/languages/language[@type=\"eo\"]",
-                "Esperanto"
-            },
-            {
-                "8685818340188116440",
-                "//ldml/localeDisplayNames/languages/language[@type=\"es\"]",
-                "Spanish"
-            },
-            {
-                "3701852154519831523",
-                "//ldml/localeDisplayNames/languages/language[@type=\"es_419\"]",
-                "Latin American Spanish"
-            },
-            {
-                "7774790281144780280",
-                "//ldml/localeDisplayNames/languages/language[@type=\"es_ES\"]",
-                "European Spanish"
-            },
-            {
-                "3024306450833322692",
-                "//ldml/localeDisplayNames/languages/language[@type=\"et\"]",
-                "Estonian"
-            },
-            {
-                "3418866703067477246",
-                "//ldml/localeDisplayNames/languages/language[@type=\"eu\"]",
-                "Basque"
-            },
-            {
-                "2859301398508162245",
-                "//ldml/localeDisplayNames/languages/language[@type=\"fa\"]",
-                "Persian"
-            },
-            {
-                "5382778046166060102",
-                "//ldml/localeDisplayNames/languages/language[@type=\"fi\"]",
-                "Finnish"
-            },
-            {
-                "891932167793374840",
-                "//ldml/localeDisplayNames/languages/language[@type=\"fil\"]",
-                "Filipino"
-            },
-            {
-                "1860292554937901026",
-                "//ldml/localeDisplayNames/languages/language[@type=\"fo\"]",
-                "Faroese"
-            },
-            {
-                "154778162251825274",
-                "//ldml/localeDisplayNames/languages/language[@type=\"fr\"]",
-                "French"
-            },
-            {
-                "4269505754824873382",
-                "//ldml/localeDisplayNames/languages/language[@type=\"fr_CA\"]",
-                "Canadian French"
-            },
-            {
-                "1633363787622255074",
-                "//ldml/localeDisplayNames/languages/language[@type=\"fr_CH\"]",
-                "Swiss French"
-            },
-            {
-                "6055997387031252192",
-                "//ldml/localeDisplayNames/languages/language[@type=\"fy\"]",
-                "Western Frisian"
-            },
-            {
-                "2511218904135777414",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ga\"]",
-                "Irish"
-            },
-            {
-                "4180044731008175327",
-                "//ldml/localeDisplayNames/languages/language[@type=\"gaa\"]",
-                "Ga"
-            },
-            {
-                "7049856016460493644",
-                "//ldml/localeDisplayNames/languages/language[@type=\"gd\"]",
-                "Scottish Gaelic"
-            },
-            {
-                "6412924126191403836",
-                "//ldml/localeDisplayNames/languages/language[@type=\"gl\"]",
-                "Galician"
-            },
-            {
-                "5275839173488983051",
-                "//ldml/localeDisplayNames/languages/language[@type=\"gn\"]",
-                "Guarani"
-            },
-            {
-                "154764751606498195",
-                "//ldml/localeDisplayNames/languages/language[@type=\"gsw\"]",
-                "Swiss German"
-            },
-            {
-                "7083389373075224272",
-                "//ldml/localeDisplayNames/languages/language[@type=\"gu\"]",
-                "Gujarati"
-            },
-            {
-                "2017287406418570663",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ha\"]",
-                "Hausa"
-            },
-            {
-                "735079608424766069",
-                "//ldml/localeDisplayNames/languages/language[@type=\"haw\"]",
-                "Hawaiian"
-            },
-            {
-                "1730956426850579730",
-                "//ldml/localeDisplayNames/languages/language[@type=\"he\"]",
-                "Hebrew"
-            },
-            {
-                "1748431843944237499",
-                "//ldml/localeDisplayNames/languages/language[@type=\"hi\"]",
-                "Hindi"
-            },
-            {
-                "7873416531047419529",
-                "//ldml/localeDisplayNames/languages/language[@type=\"hr\"]",
-                "Croatian"
-            },
-            {
-                "2823454794724033404",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ht\"]",
-                "Haitian"
-            },
-            {
-                "6767497437186516174",
-                "//ldml/localeDisplayNames/languages/language[@type=\"hu\"]",
-                "Hungarian"
-            },
-            {
-                "3676752541031513758",
-                "//ldml/localeDisplayNames/languages/language[@type=\"hy\"]",
-                "Armenian"
-            },
-            {
-                "5964296714872574475",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ia\"]",
-                "Interlingua"
-            },
-            {
-                "3218214870452767062",
-                "//ldml/localeDisplayNames/languages/language[@type=\"id\"]",
-                "Indonesian"
-            },
-            {
-                "5158921740397803966",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ig\"]",
-                "Igbo"
-            },
-            {
-                "3642595858516587050",
-                "//ldml/localeDisplayNames/languages/language[@type=\"is\"]",
-                "Icelandic"
-            },
-            {
-                "1114976204919818410",
-                "//ldml/localeDisplayNames/languages/language[@type=\"it\"]",
-                "Italian"
-            },
-            {
-                "6093687990465856368",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ja\"]",
-                "Japanese"
-            },
-            {
-                "853374362993454576",
-                "//ldml/localeDisplayNames/languages/language[@type=\"jv\"]",
-                "Javanese"
-            },
-            {
-                "4169403360066807705",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ka\"]",
-                "Georgian"
-            },
-            {
-                "3911482872782600797",
-                "//ldml/localeDisplayNames/languages/language[@type=\"kg\"]",
-                "Kongo"
-            },
-            {
-                "1238263198953181032",
-                "//ldml/localeDisplayNames/languages/language[@type=\"kk\"]",
-                "Kazakh"
-            },
-            {
-                "3439672239653728815",
-                "//ldml/localeDisplayNames/languages/language[@type=\"km\"]",
-                "Khmer"
-            },
-            {
-                "4510603685130398091",
-                "//ldml/localeDisplayNames/languages/language[@type=\"kn\"]",
-                "Kannada"
-            },
-            {
-                "585963431809261677",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ko\"]",
-                "Korean"
-            },
-            {
-                "7328451689970236016",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ku\"]",
-                "Kurdish"
-            },
-            {
-                "8279270897078902157",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ky\"]",
-                "Kyrgyz"
-            },
-            {
-                "7116506388204925048",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ky\"][@alt=\"variant\"]",
-                "Kirghiz"
-            },
-            {
-                "6133864512695254120",
-                "//ldml/localeDisplayNames/languages/language[@type=\"la\"]",
-                "Latin"
-            },
-            {
-                "8938569337494412138",
-                "//ldml/localeDisplayNames/languages/language[@type=\"lg\"]",
-                "Ganda"
-            },
-            {
-                "9024195691236451007",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ln\"]",
-                "Lingala"
-            },
-            {
-                "5307152379793758961",
-                "//ldml/localeDisplayNames/languages/language[@type=\"lo\"]",
-                "Lao"
-            },
-            {
-                "3115724297775998710",
-                "//ldml/localeDisplayNames/languages/language[@type=\"loz\"]",
-                "Lozi"
-            },
-            {
-                "2755151972620794605",
-                "//ldml/localeDisplayNames/languages/language[@type=\"lt\"]",
-                "Lithuanian"
-            },
-            {
-                "3615532145145152282",
-                "//ldml/localeDisplayNames/languages/language[@type=\"lua\"]",
-                "Luba-Lulua"
-            },
-            {
-                "8593484878256252238",
-                "//ldml/localeDisplayNames/languages/language[@type=\"lv\"]",
-                "Latvian"
-            },
-            {
-                "8788599523548685626",
-                "//ldml/localeDisplayNames/languages/language[@type=\"mfe\"]",
-                "Morisyen"
-            },
-            {
-                "683237429256079240",
-                "//ldml/localeDisplayNames/languages/language[@type=\"mg\"]",
-                "Malagasy"
-            },
-            {
-                "3083634935683991293",
-                "//ldml/localeDisplayNames/languages/language[@type=\"mi\"]",
-                "Maori"
-            },
-            {
-                "6725385173343245217",
-                "//ldml/localeDisplayNames/languages/language[@type=\"mk\"]",
-                "Macedonian"
-            },
-            {
-                "8715559329474066979",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ml\"]",
-                "Malayalam"
-            },
-            {
-                "7838440717172112091",
-                "//ldml/localeDisplayNames/languages/language[@type=\"mn\"]",
-                "Mongolian"
-            },
-            {
-                "1940306066126493331",
-                "//ldml/localeDisplayNames/languages/language[@type=\"mr\"]",
-                "Marathi"
-            },
-            {
-                "6975719401355475710",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ms\"]",
-                "Malay"
-            },
-            {
-                "1379022090747041849",
-                "//ldml/localeDisplayNames/languages/language[@type=\"mt\"]",
-                "Maltese"
-            },
-            {
-                "382298639414141611",
-                "//ldml/localeDisplayNames/languages/language[@type=\"my\"]",
-                "Burmese"
-            },
-            {
-                "2695122373745130774",
-                "//ldml/localeDisplayNames/languages/language[@type=\"nb\"]",
-                "Norwegian (Bokmål)"
-            },
-            {
-                "3652620070491093951",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ne\"]",
-                "Nepali"
-            },
-            {
-                "4723956394995438352",
-                "//ldml/localeDisplayNames/languages/language[@type=\"nl\"]",
-                "Dutch"
-            },
-            {
-                "4516896518115501034",
-                "//ldml/localeDisplayNames/languages/language[@type=\"nl_BE\"]",
-                "Flemish"
-            },
-            {
-                "8731872474299533171",
-                "//ldml/localeDisplayNames/languages/language[@type=\"nn\"]",
-                "Norwegian Nynorsk"
-            },
-            {
-                "2982319810769413689",
-                "//ldml/localeDisplayNames/languages/language[@type=\"nso\"]",
-                "Northern Sotho"
-            },
-            {
-                "5036439430684077599",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ny\"]",
-                "Nyanja"
-            },
-            {
-                "3137270946548402892",
-                "//ldml/localeDisplayNames/languages/language[@type=\"nyn\"]",
-                "Nyankole"
-            },
-            {
-                "2609417704929375313",
-                "//ldml/localeDisplayNames/languages/language[@type=\"oc\"]",
-                "Occitan"
-            },
-            {
-                "8731625798216114615",
-                "//ldml/localeDisplayNames/languages/language[@type=\"om\"]",
-                "Oromo"
-            },
-            {
-                "934331686963143862",
-                "//ldml/localeDisplayNames/languages/language[@type=\"or\"]",
-                "Oriya"
-            },
-            {
-                "8203677421823545325",
-                "//ldml/localeDisplayNames/languages/language[@type=\"pa\"]",
-                "Punjabi"
-            },
-            {
-                "4676530368020594879",
-                "//ldml/localeDisplayNames/languages/language[@type=\"pl\"]",
-                "Polish"
-            },
-            {
-                "6109503666619201223",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ps\"]",
-                "Pashto"
-            },
-            {
-                "4047028611253348410",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ps\"][@alt=\"variant\"]",
-                "Pushto"
-            },
-            {
-                "1922553178222141740",
-                "//ldml/localeDisplayNames/languages/language[@type=\"pt\"]",
-                "Portuguese"
-            },
-            {
-                "6358144509092586181",
-                "//ldml/localeDisplayNames/languages/language[@type=\"pt_BR\"]",
-                "Brazilian Portuguese"
-            },
-            {
-                "2161617336941776521",
-                "//ldml/localeDisplayNames/languages/language[@type=\"pt_PT\"]",
-                "European Portuguese"
-            },
-            {
-                "8836633124793936898",
-                "//ldml/localeDisplayNames/languages/language[@type=\"qu\"]",
-                "Quechua"
-            },
-            {
-                "326397255305659987",
-                "//ldml/localeDisplayNames/languages/language[@type=\"rm\"]",
-                "Romansh"
-            },
-            {
-                "8771876110279688542",
-                "//ldml/localeDisplayNames/languages/language[@type=\"rn\"]",
-                "Rundi"
-            },
-            {
-                "967814982581732877",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ro\"]",
-                "Romanian"
-            },
-            {
-                "6125235535008626064",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ru\"]",
-                "Russian"
-            },
-            {
-                "7357317523524498928",
-                "//ldml/localeDisplayNames/languages/language[@type=\"rw\"]",
-                "Kinyarwanda"
-            },
-            {
-                "1539648260235623490",
-                "//ldml/localeDisplayNames/languages/language[@type=\"sd\"]",
-                "Sindhi"
-            },
-            {
-                "7743723021300293062",
-                "//ldml/localeDisplayNames/languages/language[@type=\"si\"]",
-                "Sinhala"
-            },
-            {
-                "8989622226777611724",
-                "//ldml/localeDisplayNames/languages/language[@type=\"sk\"]",
-                "Slovak"
-            },
-            {
-                "5556819535897250089",
-                "//ldml/localeDisplayNames/languages/language[@type=\"sl\"]",
-                "Slovenian"
-            },
-            {
-                "6611749527874581429",
-                "//ldml/localeDisplayNames/languages/language[@type=\"sn\"]",
-                "Shona"
-            },
-            {
-                "1219089599147802749",
-                "//ldml/localeDisplayNames/languages/language[@type=\"so\"]",
-                "Somali"
-            },
-            {
-                "3433397345526645017",
-                "//ldml/localeDisplayNames/languages/language[@type=\"sq\"]",
-                "Albanian"
-            },
-            {
-                "5238151145595014717",
-                "//ldml/localeDisplayNames/languages/language[@type=\"sr\"]",
-                "Serbian"
-            },
-            {
-                "3385418462358253239",
-                "//ldml/localeDisplayNames/languages/language[@type=\"st\"]",
-                "Southern Sotho"
-            },
-            {
-                "7168994668816123174",
-                "//ldml/localeDisplayNames/languages/language[@type=\"su\"]",
-                "Sundanese"
-            },
-            {
-                "8973408968381971968",
-                "//ldml/localeDisplayNames/languages/language[@type=\"sv\"]",
-                "Swedish"
-            },
-            {
-                "8928494196342923417",
-                "//ldml/localeDisplayNames/languages/language[@type=\"sw\"]",
-                "Swahili"
-            },
-            {
-                "3253997646606713214",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ta\"]",
-                "Tamil"
-            },
-            {
-                "7769290174465198699",
-                "//ldml/localeDisplayNames/languages/language[@type=\"te\"]",
-                "Telugu"
-            },
-            {
-                "3506608570811649336",
-                "//ldml/localeDisplayNames/languages/language[@type=\"tg\"]",
-                "Tajik"
-            },
-            {
-                "2083278772581290018",
-                "//ldml/localeDisplayNames/languages/language[@type=\"th\"]",
-                "Thai"
-            },
-            {
-                "6500735449783635003",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ti\"]",
-                "Tigrinya"
-            },
-            {
-                "5198467204079340589",
-                "//ldml/localeDisplayNames/languages/language[@type=\"tk\"]",
-                "Turkmen"
-            },
-            {
-                "6927608953785936401",
-                "//ldml/localeDisplayNames/languages/language[@type=\"tlh\"]",
-                "Klingon"
-            },
-            {
-                "4501891720380035782",
-                "//ldml/localeDisplayNames/languages/language[@type=\"tn\"]",
-                "Tswana"
-            },
-            {
-                "1879707025828548376",
-                "//ldml/localeDisplayNames/languages/language[@type=\"to\"]",
-                "Tongan"
-            },
-            {
-                "7989805610361686871",
-                "//ldml/localeDisplayNames/languages/language[@type=\"tr\"]",
-                "Turkish"
-            },
-            {
-                "7766271461502480155",
-                "//ldml/localeDisplayNames/languages/language[@type=\"tt\"]",
-                "Tatar"
-            },
-            {
-                "1771778228566113401",
-                "//ldml/localeDisplayNames/languages/language[@type=\"tum\"]",
-                "Tumbuka"
-            },
-            {
-                "2476973076902758845",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ug\"]",
-                "Uyghur"
-            },
-            {
-                "795305211099103735",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ug\"][@alt=\"variant\"]",
-                "Uighur"
-            },
-            {
-                "8446837930506012832",
-                "//ldml/localeDisplayNames/languages/language[@type=\"uk\"]",
-                "Ukrainian"
-            },
-            {
-                "6418876446010605245",
-                "//ldml/localeDisplayNames/languages/language[@type=\"und\"]",
-                "Unknown Language"
-            },
-            {
-                "2011855112441852739",
-                "//ldml/localeDisplayNames/languages/language[@type=\"ur\"]",
-                "Urdu"
-            },
-            {
-                "3251389973152259358",
-                "//ldml/localeDisplayNames/languages/language[@type=\"uz\"]",
-                "Uzbek"
-            },
-            {
-                "7889231462685060386",
-                "//ldml/localeDisplayNames/languages/language[@type=\"vi\"]",
-                "Vietnamese"
-            },
-            {
-                "5534824951133210851",
-                "//ldml/localeDisplayNames/languages/language[@type=\"wo\"]",
-                "Wolof"
-            },
-            {
-                "9148747895828289365",
-                "//ldml/localeDisplayNames/languages/language[@type=\"xh\"]",
-                "Xhosa"
-            },
-            {
-                "4862819642738923209",
-                "//ldml/localeDisplayNames/languages/language[@type=\"yi\"]",
-                "Yiddish"
-            },
-            {
-                "8944441028842435094",
-                "//ldml/localeDisplayNames/languages/language[@type=\"yo\"]",
-                "Yoruba"
-            },
-            {
-                "3689942511083761629",
-                "//ldml/localeDisplayNames/languages/language[@type=\"zh\"]",
-                "Chinese"
-            },
-            {
-                "4546082042329086845",
-                "//ldml/localeDisplayNames/languages/language[@type=\"zh_Hans\"]",
-                "Simplified Chinese"
-            },
-            {
-                "5934185039086386751",
-                "//ldml/localeDisplayNames/languages/language[@type=\"zh_Hant\"]",
-                "Traditional Chinese"
-            },
-            {
-                "4975961011756120205",
-                "//ldml/localeDisplayNames/languages/language[@type=\"zu\"]",
-                "Zulu"
-            },
-            {
-                "5393584660051300540",
-                "//ldml/localeDisplayNames/languages/language[@type=\"zxx\"]",
-                "No linguistic content"
-            },
-            {
-                "4093916332634999886",
-                "//ldml/localeDisplayNames/localeDisplayPattern/localeKeyTypePattern",
-                "{0}: {1}"
-            },
-            {
-                "5490532103670534172",
-                "//ldml/localeDisplayNames/localeDisplayPattern/localePattern",
-                "{0} ({1})"
-            },
-            {
-                "2095348431152487079",
-                "//ldml/localeDisplayNames/localeDisplayPattern/localeSeparator",
-                "{0}, {1}"
-            },
-            {
-                "8547531102161456021",
-                "//ldml/localeDisplayNames/measurementSystemNames/measurementSystemName[@type=\"UK\"]",
-                "UK"
-            },
-            {
-                "6544750643238515296",
-                "//ldml/localeDisplayNames/measurementSystemNames/measurementSystemName[@type=\"US\"]",
-                "US"
-            },
-            {
-                "3597152232791259124",
-                "//ldml/localeDisplayNames/measurementSystemNames/measurementSystemName[@type=\"metric\"]",
-                "Metric"
-            },
-            {
-                "4880886797904017977",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Arab\"]",
-                "Arabic"
-            },
-            {
-                "4720379821934192758",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Arab\"][@alt=\"variant\"]",
-                "Perso-Arabic"
-            },
-            {
-                "2785988159894099669",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Armn\"]",
-                "Armenian"
-            },
-            {
-                "3468283420575443138",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Beng\"]",
-                "Bengali"
-            },
-            {
-                "5539669822205448072",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Bopo\"]",
-                "Bopomofo"
-            },
-            {
-                "2803046964087166116",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Brai\"]",
-                "Braille"
-            },
-            {
-                "7445160163674202910",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Cyrl\"]",
-                "Cyrillic"
-            },
-            {
-                "7856753802241241899",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Deva\"]",
-                "Devanagari"
-            },
-            {
-                "9095416724874961087",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Ethi\"]",
-                "Ethiopic"
-            },
-            {
-                "1190312790329351784",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Geor\"]",
-                "Georgian"
-            },
-            {
-                "828782261704721152",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Grek\"]",
-                "Greek"
-            },
-            {
-                "3431460548437164020",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Gujr\"]",
-                "Gujarati"
-            },
-            {
-                "8712572048789256511",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Guru\"]",
-                "Gurmukhi"
-            },
-            {
-                "553098980377494554",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Hang\"]",
-                "Hangul"
-            },
-            {
-                "6207449197323513404",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Hani\"]",
-                "Han"
-            },
-            {
-                "3681606882614159326",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Hans\"]",
-                "Simplified"
-            },
-            {
-                "4470312345442553749",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Hans\"][@alt=\"stand-alone\"]",
-                "Simplified Han"
-            },
-            {
-                "3787387911760496519",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Hant\"]",
-                "Traditional"
-            },
-            {
-                "899497185884565304",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Hant\"][@alt=\"stand-alone\"]",
-                "Traditional Han"
-            },
-            {
-                "7716371837084519802",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Hebr\"]",
-                "Hebrew"
-            },
-            {
-                "4541442241571520129",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Hira\"]",
-                "Hiragana"
-            },
-            {
-                "2346306467309149397",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Jpan\"]",
-                "Japanese"
-            },
-            {
-                "5474063389551226363",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Kana\"]",
-                "Katakana"
-            },
-            {
-                "3537753016021703653",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Khmr\"]",
-                "Khmer"
-            },
-            {
-                "8180167817709603574",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Knda\"]",
-                "Kannada"
-            },
-            {
-                "6676581034106285316",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Kore\"]",
-                "Korean"
-            },
-            {
-                "5820350269777131654",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Laoo\"]",
-                "Lao"
-            },
-            {
-                "1767834113366021016",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Latn\"]",
-                "Latin"
-            },
-            {
-                "6179968671223298091",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Mlym\"]",
-                "Malayalam"
-            },
-            {
-                "1326361532926174140",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Mong\"]",
-                "Mongolian"
-            },
-            {
-                "9175827028012912699",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Mymr\"]",
-                "Myanmar"
-            },
-            {
-                "8476978408731661321",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Orya\"]",
-                "Oriya"
-            },
-            {
-                "8383991186090167087",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Sinh\"]",
-                "Sinhala"
-            },
-            {
-                "4344211441509583722",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Taml\"]",
-                "Tamil"
-            },
-            {
-                "2044089162247862851",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Telu\"]",
-                "Telugu"
-            },
-            {
-                "8514902503600726159",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Thaa\"]",
-                "Thaana"
-            },
-            {
-                "3065009447214035008",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Thai\"]",
-                "Thai"
-            },
-            {
-                "4623642452321462641",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Tibt\"]",
-                "Tibetan"
-            },
-            {
-                "2867073501306508780",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Zsym\"]",
-                "Symbols"
-            },
-            {
-                "4959822429121658181",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Zxxx\"]",
-                "Unwritten"
-            },
-            {
-                "339095072467800529",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Zyyy\"]",
-                "Common"
-            },
-            {
-                "2848697337187564094",
-                "//ldml/localeDisplayNames/scripts/script[@type=\"Zzzz\"]",
-                "Unknown Script"
-            },
-            {
-                "32589252418281860",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"001\"]",
-                "World"
-            },
-            {
-                "2689646573944917229",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"002\"]",
-                "Africa"
-            },
-            {
-                "3712601847078871226",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"003\"]",
-                "North America"
-            },
-            {
-                "8965524633417607856",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"005\"]",
-                "South America"
-            },
-            {
-                "6720674345852023144",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"009\"]",
-                "Oceania"
-            },
-            {
-                "7411828652098958128",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"011\"]",
-                "Western Africa"
-            },
-            {
-                "8836886452546010808",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"013\"]",
-                "Central America"
-            },
-            {
-                "8051359500355209363",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"014\"]",
-                "Eastern Africa"
-            },
-            {
-                "7335774165242726514",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"015\"]",
-                "Northern Africa"
-            },
-            {
-                "1269558501271828652",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"017\"]",
-                "Middle Africa"
-            },
-            {
-                "6824704341300207518",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"018\"]",
-                "Southern Africa"
-            },
-            {
-                "4034022947467228398",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"019\"]",
-                "Americas"
-            },
-            {
-                "6493972332758019030",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"021\"]",
-                "Northern America"
-            },
-            {
-                "6498373449803417843",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"029\"]",
-                "Caribbean"
-            },
-            {
-                "6416031941400802758",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"030\"]",
-                "Eastern Asia"
-            },
-            {
-                "1295071389257742805",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"034\"]",
-                "Southern Asia"
-            },
-            {
-                "8120407343855906909",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"035\"]",
-                "South-Eastern Asia"
-            },
-            {
-                "795725355937705374",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"039\"]",
-                "Southern Europe"
-            },
-            {
-                "8071044517529763095",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"053\"]",
-                "Australasia"
-            },
-            {
-                "8210337220902757957",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"054\"]",
-                "Melanesia"
-            },
-            {
-                "71653067288089456",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"057\"]",
-                "Micronesian Region"
-            },
-            {
-                "4329631785533869123",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"061\"]",
-                "Polynesia"
-            },
-            {
-                "3037269957700531522",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"142\"]",
-                "Asia"
-            },
-            {
-                "2909155416453601246",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"143\"]",
-                "Central Asia"
-            },
-            {
-                "5360883049740686926",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"145\"]",
-                "Western Asia"
-            },
-            {
-                "6699975756379605865",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"150\"]",
-                "Europe"
-            },
-            {
-                "6399453690973557357",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"151\"]",
-                "Eastern Europe"
-            },
-            {
-                "6984229440001347810",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"154\"]",
-                "Northern Europe"
-            },
-            {
-                "534282731514039423",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"155\"]",
-                "Western Europe"
-            },
-            {
-                "6787206404422180858",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"419\"]",
-                "Latin America"
-            },
-            {
-                "3450623466666017667",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AC\"]",
-                "Ascension Island"
-            },
-            {
-                "3890566594600288607",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AD\"]",
-                "Andorra"
-            },
-            {
-                "453400942287906156",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AE\"]",
-                "United Arab Emirates"
-            },
-            {
-                "5256282556726485948",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AF\"]",
-                "Afghanistan"
-            },
-            {
-                "622187191476833560",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AG\"]",
-                "Antigua and Barbuda"
-            },
-            {
-                "4472996561837736039",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AI\"]",
-                "Anguilla"
-            },
-            {
-                "6620021246140467418",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AL\"]",
-                "Albania"
-            },
-            {
-                "556104157705049181",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AM\"]",
-                "Armenia"
-            },
-            {
-                "5713964950314025996",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AO\"]",
-                "Angola"
-            },
-            {
-                "2011500517610794478",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AQ\"]",
-                "Antarctica"
-            },
-            {
-                "2301630143071765132",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AR\"]",
-                "Argentina"
-            },
-            {
-                "2137036844750072888",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AS\"]",
-                "American Samoa"
-            },
-            {
-                "6132975417200285882",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AT\"]",
-                "Austria"
-            },
-            {
-                "4412897999402715338",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AU\"]",
-                "Australia"
-            },
-            {
-                "2054055307890842909",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AW\"]",
-                "Aruba"
-            },
-            {
-                "1267815679519464433",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AX\"]",
-                "Åland Islands"
-            },
-            {
-                "7832255852250768215",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"AZ\"]",
-                "Azerbaijan"
-            },
-            {
-                "544484859099648742",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BA\"]",
-                "Bosnia and Herzegovina"
-            },
-            {
-                "859340661092812801",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BB\"]",
-                "Barbados"
-            },
-            {
-                "7005125498886949972",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BD\"]",
-                "Bangladesh"
-            },
-            {
-                "2708432069949081398",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BE\"]",
-                "Belgium"
-            },
-            {
-                "343012209529274512",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BF\"]",
-                "Burkina Faso"
-            },
-            {
-                "5254063456457262178",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BG\"]",
-                "Bulgaria"
-            },
-            {
-                "2934057175353785733",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BH\"]",
-                "Bahrain"
-            },
-            {
-                "3275801099384376215",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BI\"]",
-                "Burundi"
-            },
-            {
-                "458906754497935295",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BJ\"]",
-                "Benin"
-            },
-            {
-                "3134429423425248924",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BL\"]",
-                "Saint Barthélemy"
-            },
-            {
-                "3979800460731100450",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BM\"]",
-                "Bermuda"
-            },
-            {
-                "5136432793792880496",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BN\"]",
-                "Brunei"
-            },
-            {
-                "3945072668051361026",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BO\"]",
-                "Bolivia"
-            },
-            {
-                "5705643371786476273",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BQ\"]",
-                "Caribbean Netherlands"
-            },
-            {
-                "3930713788691667889",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BR\"]",
-                "Brazil"
-            },
-            {
-                "1596867498550555776",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BS\"]",
-                "Bahamas"
-            },
-            {
-                "7025207222319564369",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BT\"]",
-                "Bhutan"
-            },
-            {
-                "3988002553443392012",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BV\"]",
-                "Bouvet Island"
-            },
-            {
-                "4559770134803291641",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BW\"]",
-                "Botswana"
-            },
-            {
-                "6667108739078723098",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BY\"]",
-                "Belarus"
-            },
-            {
-                "3906571348081716960",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"BZ\"]",
-                "Belize"
-            },
-            {
-                "3337572515584573138",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CA\"]",
-                "Canada"
-            },
-            {
-                "4197512936260303403",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CC\"]",
-                "Cocos (Keeling) Islands"
-            },
-            {
-                "6598694700291427839",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CD\"]",
-                "Congo - Kinshasa"
-            },
-            {
-                "8149938353401825940",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CD\"][@alt=\"variant\"]",
-                "Congo (DRC)"
-            },
-            {
-                "3060046833375023510",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CF\"]",
-                "Central African Republic"
-            },
-            {
-                "3760093344627003660",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CG\"]",
-                "Congo - Brazzaville"
-            },
-            {
-                "5355175176227953143",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CG\"][@alt=\"variant\"]",
-                "Congo (Republic)"
-            },
-            {
-                "4982784243615482999",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CH\"]",
-                "Switzerland"
-            },
-            {
-                "9054138034612578464",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CI\"]",
-                "Côte d’Ivoire"
-            },
-            {
-                "3689434656649657788",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CI\"][@alt=\"variant\"]",
-                "Ivory Coast"
-            },
-            {
-                "1966570769269118628",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CK\"]",
-                "Cook Islands"
-            },
-            {
-                "3261494269666416090",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CL\"]",
-                "Chile"
-            },
-            {
-                "5136905672624208471",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CM\"]",
-                "Cameroon"
-            },
-            {
-                "4952368377701465928",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CN\"]",
-                "China"
-            },
-            {
-                "7584482363097355108",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CO\"]",
-                "Colombia"
-            },
-            {
-                "4183852340140456125",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CP\"]",
-                "Clipperton Island"
-            },
-            {
-                "1662044681232937570",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CR\"]",
-                "Costa Rica"
-            },
-            {
-                "3195440000398590221",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CU\"]",
-                "Cuba"
-            },
-            {
-                "5739729147562844629",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CV\"]",
-                "Cape Verde"
-            },
-            {
-                "6562855168802823642",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CW\"]",
-                "Curaçao"
-            },
-            {
-                "2194565020255829943",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CX\"]",
-                "Christmas Island"
-            },
-            {
-                "403671719850818555",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CY\"]",
-                "Cyprus"
-            },
-            {
-                "340528683086115698",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"CZ\"]",
-                "Czech Republic"
-            },
-            {
-                "3929443768474419665",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"DE\"]",
-                "Germany"
-            },
-            {
-                "9031310054227816332",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"DG\"]",
-                "Diego Garcia"
-            },
-            {
-                "6355139663075269429",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"DJ\"]",
-                "Djibouti"
-            },
-            {
-                "5353115392654389722",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"DK\"]",
-                "Denmark"
-            },
-            {
-                "3534757574931081946",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"DM\"]",
-                "Dominica"
-            },
-            {
-                "8626423564731429694",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"DO\"]",
-                "Dominican Republic"
-            },
-            {
-                "5186982213394275878",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"DZ\"]",
-                "Algeria"
-            },
-            {
-                "6058026541459634210",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"EA\"]",
-                "Ceuta and Melilla"
-            },
-            {
-                "2185018524301188298",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"EC\"]",
-                "Ecuador"
-            },
-            {
-                "3564440666901587152",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"EE\"]",
-                "Estonia"
-            },
-            {
-                "8678397819908820798",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"EG\"]",
-                "Egypt"
-            },
-            {
-                "2662829506743104944",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"EH\"]",
-                "Western Sahara"
-            },
-            {
-                "2018536888639794871",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"ER\"]",
-                "Eritrea"
-            },
-            {
-                "5390795483101779179",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"ES\"]",
-                "Spain"
-            },
-            {
-                "6026374982308481227",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"ET\"]",
-                "Ethiopia"
-            },
-            {
-                "8656170859285072553",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"EU\"]",
-                "European Union"
-            },
-            {
-                "143906645463893110",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"FI\"]",
-                "Finland"
-            },
-            {
-                "3850681776426219634",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"FJ\"]",
-                "Fiji"
-            },
-            {
-                "7796174202515544368",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"FK\"]",
-                "Falkland Islands"
-            },
-            {
-                "737785835968010961",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"FK\"][@alt=\"variant\"]",
-                "Falkland Islands (Islas Malvinas)"
-            },
-            {
-                "460846653335417152",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"FM\"]",
-                "Micronesia"
-            },
-            {
-                "554550136892721718",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"FO\"]",
-                "Faroe Islands"
-            },
-            {
-                "6554801511818672934",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"FR\"]",
-                "France"
-            },
-            {
-                "3962301582419021718",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GA\"]",
-                "Gabon"
-            },
-            {
-                "3542428098945512354",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GB\"]",
-                "United Kingdom"
-            },
-            {
-                "1524798665182018152",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GB\"][@alt=\"short\"]",
-                "U.K."
-            },
-            {
-                "1924174563434022607",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GD\"]",
-                "Grenada"
-            },
-            {
-                "4969772289719799714",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GE\"]",
-                "Georgia"
-            },
-            {
-                "8149274791116189802",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GF\"]",
-                "French Guiana"
-            },
-            {
-                "4519157122469388186",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GG\"]",
-                "Guernsey"
-            },
-            {
-                "2465120232038822823",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GH\"]",
-                "Ghana"
-            },
-            {
-                "4268400776233857350",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GI\"]",
-                "Gibraltar"
-            },
-            {
-                "4809944319446565347",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GL\"]",
-                "Greenland"
-            },
-            {
-                "9010449725833612460",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GM\"]",
-                "Gambia"
-            },
-            {
-                "1553684619225678983",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GN\"]",
-                "Guinea"
-            },
-            {
-                "2097543403985495916",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GP\"]",
-                "Guadeloupe"
-            },
-            {
-                "1500204547774319929",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GQ\"]",
-                "Equatorial Guinea"
-            },
-            {
-                "6560715839145773154",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GR\"]",
-                "Greece"
-            },
-            {
-                "7621487153455536702",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GS\"]",
-                "South Georgia & South Sandwich Islands"
-            },
-            {
-                "3419461900641597138",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GT\"]",
-                "Guatemala"
-            },
-            {
-                "1594051834775250064",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GU\"]",
-                "Guam"
-            },
-            {
-                "5265899719708894255",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GW\"]",
-                "Guinea-Bissau"
-            },
-            {
-                "8809867567722830419",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"GY\"]",
-                "Guyana"
-            },
-            {
-                "1268208691779808412",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"HK\"]",
-                "Hong Kong SAR China"
-            },
-            {
-                "911116363961664302",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"HK\"][@alt=\"short\"]",
-                "Hong Kong"
-            },
-            {
-                "1396785133803734782",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"HM\"]",
-                "Heard & McDonald Islands"
-            },
-            {
-                "5496981022058998567",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"HN\"]",
-                "Honduras"
-            },
-            {
-                "6435162463655645553",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"HR\"]",
-                "Croatia"
-            },
-            {
-                "6244837840779554158",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"HT\"]",
-                "Haiti"
-            },
-            {
-                "3990674734861194607",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"HU\"]",
-                "Hungary"
-            },
-            {
-                "8398911040026299299",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"IC\"]",
-                "Canary Islands"
-            },
-            {
-                "9021399225906107740",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"ID\"]",
-                "Indonesia"
-            },
-            {
-                "6151889079344841455",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"IE\"]",
-                "Ireland"
-            },
-            {
-                "8859936863106369601",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"IL\"]",
-                "Israel"
-            },
-            {
-                "2528560312436781443",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"IM\"]",
-                "Isle of Man"
-            },
-            {
-                "2957660249137200211",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"IN\"]",
-                "India"
-            },
-            {
-                "3988048627450358888",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"IO\"]",
-                "British Indian Ocean Territory"
-            },
-            {
-                "7150964225618528512",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"IQ\"]",
-                "Iraq"
-            },
-            {
-                "5706939700795390990",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"IR\"]",
-                "Iran"
-            },
-            {
-                "3999984232446715368",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"IS\"]",
-                "Iceland"
-            },
-            {
-                "2657140164847466393",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"IT\"]",
-                "Italy"
-            },
-            {
-                "1524000909007531945",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"JE\"]",
-                "Jersey"
-            },
-            {
-                "5936246462499585820",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"JM\"]",
-                "Jamaica"
-            },
-            {
-                "8815012147423913471",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"JO\"]",
-                "Jordan"
-            },
-            {
-                "9034058796229229168",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"JP\"]",
-                "Japan"
-            },
-            {
-                "8954376075725624705",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"KE\"]",
-                "Kenya"
-            },
-            {
-                "8999690051347078020",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"KG\"]",
-                "Kyrgyzstan"
-            },
-            {
-                "286914488637590103",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"KH\"]",
-                "Cambodia"
-            },
-            {
-                "8534731883024818787",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"KI\"]",
-                "Kiribati"
-            },
-            {
-                "4471366469315487751",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"KM\"]",
-                "Comoros"
-            },
-            {
-                "4401798268769667173",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"KN\"]",
-                "Saint Kitts and Nevis"
-            },
-            {
-                "9124287201508228328",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"KP\"]",
-                "North Korea"
-            },
-            {
-                "7510389790146224068",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"KR\"]",
-                "South Korea"
-            },
-            {
-                "2398685078238083772",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"KW\"]",
-                "Kuwait"
-            },
-            {
-                "2209842293457923762",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"KY\"]",
-                "Cayman Islands"
-            },
-            {
-                "6804056088569949274",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"KZ\"]",
-                "Kazakhstan"
-            },
-            {
-                "1572192403346485524",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"LA\"]",
-                "Laos"
-            },
-            {
-                "423655023242940042",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"LB\"]",
-                "Lebanon"
-            },
-            {
-                "3230726504879628587",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"LC\"]",
-                "Saint Lucia"
-            },
-            {
-                "8823641659649974345",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"LI\"]",
-                "Liechtenstein"
-            },
-            {
-                "1372125443718034342",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"LK\"]",
-                "Sri Lanka"
-            },
-            {
-                "4562948815145864539",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"LR\"]",
-                "Liberia"
-            },
-            {
-                "7913245294972376802",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"LS\"]",
-                "Lesotho"
-            },
-            {
-                "4434041951485064910",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"LT\"]",
-                "Lithuania"
-            },
-            {
-                "3174042325618045565",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"LU\"]",
-                "Luxembourg"
-            },
-            {
-                "7992661217103009922",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"LV\"]",
-                "Latvia"
-            },
-            {
-                "70186314472454174",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"LY\"]",
-                "Libya"
-            },
-            {
-                "1673501426287764233",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MA\"]",
-                "Morocco"
-            },
-            {
-                "3469212170567014062",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MC\"]",
-                "Monaco"
-            },
-            {
-                "7395256469312837134",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MD\"]",
-                "Moldova"
-            },
-            {
-                "130743534842568807",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"ME\"]",
-                "Montenegro"
-            },
-            {
-                "6319888206574288923",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MF\"]",
-                "Saint Martin"
-            },
-            {
-                "3996930594671122944",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MG\"]",
-                "Madagascar"
-            },
-            {
-                "2917879130383149585",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MH\"]",
-                "Marshall Islands"
-            },
-            {
-                "2408494687909816115",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MK\"]",
-                "Macedonia"
-            },
-            {
-                "1529904903242542562",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MK\"][@alt=\"variant\"]",
-                "Macedonia (FYROM)"
-            },
-            {
-                "1832177518456624839",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"ML\"]",
-                "Mali"
-            },
-            {
-                "8092700269119908825",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MM\"]",
-                "Myanmar (Burma)"
-            },
-            {
-                "7962740694072435724",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MN\"]",
-                "Mongolia"
-            },
-            {
-                "7218536706994922100",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MO\"]",
-                "Macau SAR China"
-            },
-            {
-                "1232474326746796148",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MO\"][@alt=\"short\"]",
-                "Macau"
-            },
-            {
-                "2188861494785446966",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MP\"]",
-                "Northern Mariana Islands"
-            },
-            {
-                "5656116038540963886",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MQ\"]",
-                "Martinique"
-            },
-            {
-                "2074952009087099849",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MR\"]",
-                "Mauritania"
-            },
-            {
-                "8451136691466321946",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MS\"]",
-                "Montserrat"
-            },
-            {
-                "6580995881299320561",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MT\"]",
-                "Malta"
-            },
-            {
-                "7533894395855274310",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MU\"]",
-                "Mauritius"
-            },
-            {
-                "5478479141885561731",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MV\"]",
-                "Maldives"
-            },
-            {
-                "7538909427686472060",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MW\"]",
-                "Malawi"
-            },
-            {
-                "4991937286133728715",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MX\"]",
-                "Mexico"
-            },
-            {
-                "4504581601919330646",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MY\"]",
-                "Malaysia"
-            },
-            {
-                "7582706240153124985",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"MZ\"]",
-                "Mozambique"
-            },
-            {
-                "407207275633482090",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"NA\"]",
-                "Namibia"
-            },
-            {
-                "7264522168975100364",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"NC\"]",
-                "New Caledonia"
-            },
-            {
-                "4909167482234634902",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"NE\"]",
-                "Niger"
-            },
-            {
-                "1295540286565040868",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"NF\"]",
-                "Norfolk Island"
-            },
-            {
-                "3713271768893309364",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"NG\"]",
-                "Nigeria"
-            },
-            {
-                "1848287452552103088",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"NI\"]",
-                "Nicaragua"
-            },
-            {
-                "8418112851563174880",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"NL\"]",
-                "Netherlands"
-            },
-            {
-                "4693917850238033894",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"NO\"]",
-                "Norway"
-            },
-            {
-                "2653296102678696998",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"NP\"]",
-                "Nepal"
-            },
-            {
-                "9005552896535733218",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"NR\"]",
-                "Nauru"
-            },
-            {
-                "7547320136585360166",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"NU\"]",
-                "Niue"
-            },
-            {
-                "1027234533249422325",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"NZ\"]",
-                "New Zealand"
-            },
-            {
-                "4138873141806447755",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"OM\"]",
-                "Oman"
-            },
-            {
-                "1422278824455420019",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"PA\"]",
-                "Panama"
-            },
-            {
-                "4366620858490525823",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"PE\"]",
-                "Peru"
-            },
-            {
-                "5251353052348807470",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"PF\"]",
-                "French Polynesia"
-            },
-            {
-                "8692449852968868213",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"PG\"]",
-                "Papua New Guinea"
-            },
-            {
-                "3553955327586068827",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"PH\"]",
-                "Philippines"
-            },
-            {
-                "4407975296344000534",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"PK\"]",
-                "Pakistan"
-            },
-            {
-                "5483434290585520486",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"PL\"]",
-                "Poland"
-            },
-            {
-                "6300285751074103976",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"PM\"]",
-                "Saint Pierre and Miquelon"
-            },
-            {
-                "7742048602780881225",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"PN\"]",
-                "Pitcairn Islands"
-            },
-            {
-                "9209579244530418073",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"PR\"]",
-                "Puerto Rico"
-            },
-            {
-                "2031160622381561108",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"PS\"]",
-                "Palestinian Territories"
-            },
-            {
-                "2810987322842415386",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"PS\"][@alt=\"short\"]",
-                "Palestine"
-            },
-            {
-                "5214718398034831780",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"PT\"]",
-                "Portugal"
-            },
-            {
-                "1953044934176897428",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"PW\"]",
-                "Palau"
-            },
-            {
-                "6843309702838401843",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"PY\"]",
-                "Paraguay"
-            },
-            {
-                "1565113464112267195",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"QA\"]",
-                "Qatar"
-            },
-            {
-                "8380099980267177918",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"QO\"]",
-                "Outlying Oceania"
-            },
-            {
-                "6994627003105161603",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"RE\"]",
-                "Réunion"
-            },
-            {
-                "1110523492177481195",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"RO\"]",
-                "Romania"
-            },
-            {
-                "6189283676500093188",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"RS\"]",
-                "Serbia"
-            },
-            {
-                "352128444672538535",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"RU\"]",
-                "Russia"
-            },
-            {
-                "5381687985308694629",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"RW\"]",
-                "Rwanda"
-            },
-            {
-                "2082917962720367484",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SA\"]",
-                "Saudi Arabia"
-            },
-            {
-                "4353956366968685429",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SB\"]",
-                "Solomon Islands"
-            },
-            {
-                "5071278774188364602",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SC\"]",
-                "Seychelles"
-            },
-            {
-                "3823963499109932724",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SD\"]",
-                "Sudan"
-            },
-            {
-                "1796691245190953515",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SE\"]",
-                "Sweden"
-            },
-            {
-                "6325246109052023297",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SG\"]",
-                "Singapore"
-            },
-            {
-                "3223078902503144819",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SH\"]",
-                "Saint Helena"
-            },
-            {
-                "5416827943429866597",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SI\"]",
-                "Slovenia"
-            },
-            {
-                "4270544070493577396",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SJ\"]",
-                "Svalbard and Jan Mayen"
-            },
-            {
-                "2160408198135342116",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SK\"]",
-                "Slovakia"
-            },
-            {
-                "1143339353415507187",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SL\"]",
-                "Sierra Leone"
-            },
-            {
-                "6163019282251125585",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SM\"]",
-                "San Marino"
-            },
-            {
-                "2033456675693062086",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SN\"]",
-                "Senegal"
-            },
-            {
-                "4376045309873620965",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SO\"]",
-                "Somalia"
-            },
-            {
-                "6770680858753425332",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SR\"]",
-                "Suriname"
-            },
-            {
-                "3981180315242936917",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SS\"]",
-                "South Sudan"
-            },
-            {
-                "4952350321497581107",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"ST\"]",
-                "São Tomé and Príncipe"
-            },
-            {
-                "6965422272650857872",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SV\"]",
-                "El Salvador"
-            },
-            {
-                "5289958613249917076",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SX\"]",
-                "Sint Maarten"
-            },
-            {
-                "5198912502072906612",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SY\"]",
-                "Syria"
-            },
-            {
-                "7947070194741218761",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"SZ\"]",
-                "Swaziland"
-            },
-            {
-                "3195735367277633969",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TA\"]",
-                "Tristan da Cunha"
-            },
-            {
-                "9207814700223107975",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TC\"]",
-                "Turks and Caicos Islands"
-            },
-            {
-                "5056161091342347017",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TD\"]",
-                "Chad"
-            },
-            {
-                "8907409845944574442",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TF\"]",
-                "French Southern Territories"
-            },
-            {
-                "5077462374984963409",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TG\"]",
-                "Togo"
-            },
-            {
-                "7318940514454994171",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TH\"]",
-                "Thailand"
-            },
-            {
-                "5103975246787998989",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TJ\"]",
-                "Tajikistan"
-            },
-            {
-                "6789645654357370293",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TK\"]",
-                "Tokelau"
-            },
-            {
-                "3237416561085828696",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TL\"]",
-                "Timor-Leste"
-            },
-            {
-                "6131055613255345332",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TL\"][@alt=\"variant\"]",
-                "East Timor"
-            },
-            {
-                "2014017637618469792",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TM\"]",
-                "Turkmenistan"
-            },
-            {
-                "5065249477742450176",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TN\"]",
-                "Tunisia"
-            },
-            {
-                "1247058261794225330",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TO\"]",
-                "Tonga"
-            },
-            {
-                "2801550211549313773",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TR\"]",
-                "Turkey"
-            },
-            {
-                "812430717394593738",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TT\"]",
-                "Trinidad and Tobago"
-            },
-            {
-                "6111109714170357107",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TV\"]",
-                "Tuvalu"
-            },
-            {
-                "8337876426233699878",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TW\"]",
-                "Taiwan"
-            },
-            {
-                "8243137112515943174",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"TZ\"]",
-                "Tanzania"
-            },
-            {
-                "1076823665237265421",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"UA\"]",
-                "Ukraine"
-            },
-            {
-                "3603334294617470088",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"UG\"]",
-                "Uganda"
-            },
-            {
-                "8682105951607259199",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"UM\"]",
-                "U.S. Outlying Islands"
-            },
-            {
-                "4415296901311276275",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"US\"]",
-                "United States"
-            },
-            {
-                "8189496130182046797",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"US\"][@alt=\"short\"]",
-                "U.S."
-            },
-            {
-                "6491907410043802913",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"UY\"]",
-                "Uruguay"
-            },
-            {
-                "7016244730493636271",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"UZ\"]",
-                "Uzbekistan"
-            },
-            {
-                "5208315412092763859",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"VA\"]",
-                "Vatican City"
-            },
-            {
-                "6081135500223830232",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"VC\"]",
-                "St. Vincent & Grenadines"
-            },
-            {
-                "493324071578807360",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"VE\"]",
-                "Venezuela"
-            },
-            {
-                "5552134407909862230",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"VG\"]",
-                "British Virgin Islands"
-            },
-            {
-                "6030711859508472298",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"VI\"]",
-                "U.S. Virgin Islands"
-            },
-            {
-                "7056824095333971434",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"VN\"]",
-                "Vietnam"
-            },
-            {
-                "6724409338904016501",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"VU\"]",
-                "Vanuatu"
-            },
-            {
-                "3826739025204445550",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"WF\"]",
-                "Wallis and Futuna"
-            },
-            {
-                "3862735465637490085",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"WS\"]",
-                "Samoa"
-            },
-            {
-                "4852395389935219803",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"XK\"]",
-                "Kosovo"
-            },
-            {
-                "2207490276903959513",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"YE\"]",
-                "Yemen"
-            },
-            {
-                "8864572327085275399",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"YT\"]",
-                "Mayotte"
-            },
-            {
-                "8913165408947209237",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"ZA\"]",
-                "South Africa"
-            },
-            {
-                "666841066543478336",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"ZM\"]",
-                "Zambia"
-            },
-            {
-                "6487848168806813226",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"ZW\"]",
-                "Zimbabwe"
-            },
-            {
-                "26883473199025372",
-                "//ldml/localeDisplayNames/territories/territory[@type=\"ZZ\"]",
-                "Unknown Region"
-            },
-            {
-                "7253254256658934316",
-                "//ldml/localeDisplayNames/types/type[@type=\"arab\"][@key=\"numbers\"]",
-                "Arabic-Indic Digits"
-            },
-            {
-                "7448485371600716385",
-                "//ldml/localeDisplayNames/types/type[@type=\"arabext\"][@key=\"numbers\"]",
-                "Extended Arabic-Indic Digits"
-            },
-            {
-                "538889960783347330",
-                "//ldml/localeDisplayNames/types/type[@type=\"armn\"][@key=\"numbers\"]",
-                "Armenian Numerals"
-            },
-            {
-                "5818180527844440301",
-                "//ldml/localeDisplayNames/types/type[@type=\"armnlow\"][@key=\"numbers\"]",
-                "Armenian Lowercase Numerals"
-            },
-            {
-                "4825138864123810189",
-                "//ldml/localeDisplayNames/types/type[@type=\"beng\"][@key=\"numbers\"]",
-                "Bengali Digits"
-            },
-            {
-                "8183469251525711587",
-                "//ldml/localeDisplayNames/types/type[@type=\"chinese\"][@key=\"calendar\"]",
-                "Chinese Calendar"
-            },
-            {
-                "2668802383015426549",
-                "//ldml/localeDisplayNames/types/type[@type=\"deva\"][@key=\"numbers\"]",
-                "Devanagari Digits"
-            },
-            {
-                "5695521112255808452",
-                "//ldml/localeDisplayNames/types/type[@type=\"ducet\"][@key=\"collation\"]",
-                "Default Unicode Sort Order"
-            },
-            {
-                "8314425635638570742",
-                "//ldml/localeDisplayNames/types/type[@type=\"ethi\"][@key=\"numbers\"]",
-                "Ethiopic Numerals"
-            },
-            {
-                "2224400340321253204",
-                "//ldml/localeDisplayNames/types/type[@type=\"fullwide\"][@key=\"numbers\"]",
-                "Full Width Digits"
-            },
-            {
-                "8198946667608384690",
-                "//ldml/localeDisplayNames/types/type[@type=\"geor\"][@key=\"numbers\"]",
-                "Georgian Numerals"
-            },
-            {
-                "5350687300490209380",
-                "//ldml/localeDisplayNames/types/type[@type=\"gregorian\"][@key=\"calendar\"]",
-                "Gregorian Calendar"
-            },
-            {
-                "6809100101981940837",
-                "//ldml/localeDisplayNames/types/type[@type=\"grek\"][@key=\"numbers\"]",
-                "Greek Numerals"
-            },
-            {
-                "3388066672126006422",
-                "//ldml/localeDisplayNames/types/type[@type=\"greklow\"][@key=\"numbers\"]",
-                "Greek Lowercase Numerals"
-            },
-            {
-                "8298041076823797406",
-                "//ldml/localeDisplayNames/types/type[@type=\"gujr\"][@key=\"numbers\"]",
-                "Gujarati Digits"
-            },
-            {
-                "7594532652051805097",
-                "//ldml/localeDisplayNames/types/type[@type=\"guru\"][@key=\"numbers\"]",
-                "Gurmukhi Digits"
-            },
-            {
-                "739278473142976238",
-                "//ldml/localeDisplayNames/types/type[@type=\"hanidec\"][@key=\"numbers\"]",
-                "Chinese Decimal Numerals"
-            },
-            {
-                "2154008216038246103",
-                "//ldml/localeDisplayNames/types/type[@type=\"hans\"][@key=\"numbers\"]",
-                "Simplified Chinese Numerals"
-            },
-            {
-                "5474906974573511532",
-                "//ldml/localeDisplayNames/types/type[@type=\"hansfin\"][@key=\"numbers\"]",
-                "Simplified Chinese Financial Numerals"
-            },
-            {
-                "511726318160542100",
-                "//ldml/localeDisplayNames/types/type[@type=\"hant\"][@key=\"numbers\"]",
-                "Traditional Chinese Numerals"
-            },
-            {
-                "9081920247571645676",
-                "//ldml/localeDisplayNames/types/type[@type=\"hantfin\"][@key=\"numbers\"]",
-                "Traditional Chinese Financial Numerals"
-            },
-            {
-                "883295659645400772",
-                "//ldml/localeDisplayNames/types/type[@type=\"hebr\"][@key=\"numbers\"]",
-                "Hebrew Numerals"
-            },
-            {
-                "7515947229515454036",
-                "//ldml/localeDisplayNames/types/type[@type=\"indian\"][@key=\"calendar\"]",
-                "Indian National Calendar"
-            },
-            {
-                "4526775264082093982",
-                "//ldml/localeDisplayNames/types/type[@type=\"islamic\"][@key=\"calendar\"]",
-                "Islamic Calendar"
-            },
-            {
-                "4382867073393965281",
-                "//ldml/localeDisplayNames/types/type[@type=\"islamic-civil\"][@key=\"calendar\"]",
-                "Islamic Calendar (tabular, civil epoch)"
-            },
-            {
-                "1718660864468586070",
-                "//ldml/localeDisplayNames/types/type[@type=\"islamic-tbla\"][@key=\"calendar\"]",
-                "Islamic Calendar (tabular, astronomical epoch)"
-            },
-            {
-                "5471795031168442206",
-                "//ldml/localeDisplayNames/types/type[@type=\"jpan\"][@key=\"numbers\"]",
-                "Japanese Numerals"
-            },
-            {
-                "3815395666462935750",
-                "//ldml/localeDisplayNames/types/type[@type=\"jpanfin\"][@key=\"numbers\"]",
-                "Japanese Financial Numerals"
-            },
-            {
-                "5200005190296356879",
-                "//ldml/localeDisplayNames/types/type[@type=\"khmr\"][@key=\"numbers\"]",
-                "Khmer Digits"
-            },
-            {
-                "8289253944660020852",
-                "//ldml/localeDisplayNames/types/type[@type=\"knda\"][@key=\"numbers\"]",
-                "Kannada Digits"
-            },
-            {
-                "449230427601187954",
-                "//ldml/localeDisplayNames/types/type[@type=\"laoo\"][@key=\"numbers\"]",
-                "Lao Digits"
-            },
-            {
-                "444545421514905461",
-                "//ldml/localeDisplayNames/types/type[@type=\"latn\"][@key=\"numbers\"]",
-                "Western Digits"
-            },
-            {
-                "8883538452193872686",
-                "//ldml/localeDisplayNames/types/type[@type=\"mlym\"][@key=\"numbers\"]",
-                "Malayalam Digits"
-            },
-            {
-                "1460448419379592036",
-                "//ldml/localeDisplayNames/types/type[@type=\"mymr\"][@key=\"numbers\"]",
-                "Myanmar Digits"
-            },
-            {
-                "7427416389767683932",
-                "//ldml/localeDisplayNames/types/type[@type=\"orya\"][@key=\"numbers\"]",
-                "Oriya Digits"
-            },
-            {
-                "964029534973287342",
-                "//ldml/localeDisplayNames/types/type[@type=\"roman\"][@key=\"numbers\"]",
-                "Roman Numerals"
-            },
-            {
-                "8611981957705596091",
-                "//ldml/localeDisplayNames/types/type[@type=\"romanlow\"][@key=\"numbers\"]",
-                "Roman Lowercase Numerals"
-            },
-            {
-                "284730924198724129",
-                "//ldml/localeDisplayNames/types/type[@type=\"search\"][@key=\"collation\"]",
-                "General-Purpose Search"
-            },
-            {
-                "9111977039909468462",
-                "//ldml/localeDisplayNames/types/type[@type=\"standard\"][@key=\"collation\"]",
-                "Standard Sort Order"
-            },
-            {
-                "6889109748458528227",
-                "//ldml/localeDisplayNames/types/type[@type=\"telu\"][@key=\"numbers\"]",
-                "Telugu Digits"
-            },
-            {
-                "5891083997513918315",
-                "//ldml/localeDisplayNames/types/type[@type=\"thai\"][@key=\"numbers\"]",
-                "Thai Digits"
-            },
-            {
-                "6564676442216590091",
-                "//ldml/localeDisplayNames/types/type[@type=\"tibt\"][@key=\"numbers\"]",
-                "Tibetan Digits"
-            },
-            {
-                "107328206618510083",
-                "//ldml/numbers/currencies/currency[@type=\"AED\"]/displayName",
-                "United Arab Emirates Dirham"
-            },
-            {
-                "2396975436698785673",
-                "//ldml/numbers/currencies/currency[@type=\"AFN\"]/displayName",
-                "Afghan Afghani"
-            },
-            {
-                "2082507667429332622",
-                "//ldml/numbers/currencies/currency[@type=\"ALL\"]/displayName",
-                "Albanian Lek"
-            },
-            {
-                "1741047413657254350",
-                "//ldml/numbers/currencies/currency[@type=\"AMD\"]/displayName",
-                "Armenian Dram"
-            },
-            {
-                "8229510934086893304",
-                "//ldml/numbers/currencies/currency[@type=\"AOA\"]/displayName",
-                "Angolan Kwanza"
-            },
-            {
-                "3011853471996851581",
-                "//ldml/numbers/currencies/currency[@type=\"ARS\"]/displayName",
-                "Argentine Peso"
-            },
-            {
-                "8360591257182449812",
-                "//ldml/numbers/currencies/currency[@type=\"ARS\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "8184324634499992411",
-                "//ldml/numbers/currencies/currency[@type=\"AUD\"]/displayName",
-                "Australian Dollar"
-            },
-            {
-                "8247846773234707438",
-                "//ldml/numbers/currencies/currency[@type=\"AUD\"]/symbol",
-                "A$"
-            },
-            {
-                "5232463329388922930",
-                "//ldml/numbers/currencies/currency[@type=\"AUD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "4300652750054262419",
-                "//ldml/numbers/currencies/currency[@type=\"AWG\"]/displayName",
-                "Aruban Florin"
-            },
-            {
-                "8626860476026723833",
-                "//ldml/numbers/currencies/currency[@type=\"AZN\"]/displayName",
-                "Azerbaijani Manat"
-            },
-            {
-                "7390242055420289294",
-                "//ldml/numbers/currencies/currency[@type=\"BAM\"]/displayName",
-                "Bosnia-Herzegovina Convertible Mark"
-            },
-            {
-                "6760195859939348124",
-                "//ldml/numbers/currencies/currency[@type=\"BBD\"]/displayName",
-                "Barbadian Dollar"
-            },
-            {
-                "8708938377401829969",
-                "//ldml/numbers/currencies/currency[@type=\"BBD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "501937802887792249",
-                "//ldml/numbers/currencies/currency[@type=\"BDT\"]/displayName",
-                "Bangladeshi Taka"
-            },
-            {
-                "3559745623839738144",
-                "//ldml/numbers/currencies/currency[@type=\"BDT\"]/symbol[@alt=\"narrow\"]",
-                "৳"
-            },
-            {
-                "3050969534049082633",
-                "//ldml/numbers/currencies/currency[@type=\"BGN\"]/displayName",
-                "Bulgarian Lev"
-            },
-            {
-                "6949127193554037629",
-                "//ldml/numbers/currencies/currency[@type=\"BHD\"]/displayName",
-                "Bahraini Dinar"
-            },
-            {
-                "7131108820737532142",
-                "//ldml/numbers/currencies/currency[@type=\"BIF\"]/displayName",
-                "Burundian Franc"
-            },
-            {
-                "6264356148446158720",
-                "//ldml/numbers/currencies/currency[@type=\"BMD\"]/displayName",
-                "Bermudan Dollar"
-            },
-            {
-                "6925087581801710628",
-                "//ldml/numbers/currencies/currency[@type=\"BMD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "7342688653755882900",
-                "//ldml/numbers/currencies/currency[@type=\"BND\"]/displayName",
-                "Brunei Dollar"
-            },
-            {
-                "9001432339580984073",
-                "//ldml/numbers/currencies/currency[@type=\"BND\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "8955633241201808567",
-                "//ldml/numbers/currencies/currency[@type=\"BOB\"]/displayName",
-                "Bolivian Boliviano"
-            },
-            {
-                "4807923310349087194",
-                "//ldml/numbers/currencies/currency[@type=\"BRL\"]/displayName",
-                "Brazilian Real"
-            },
-            {
-                "9214679736319846567",
-                "//ldml/numbers/currencies/currency[@type=\"BRL\"]/symbol",
-                "R$"
-            },
-            {
-                "6294417837683615401",
-                "//ldml/numbers/currencies/currency[@type=\"BRL\"]/symbol[@alt=\"narrow\"]",
-                "R$"
-            },
-            {
-                "8092305623656815530",
-                "//ldml/numbers/currencies/currency[@type=\"BSD\"]/displayName",
-                "Bahamian Dollar"
-            },
-            {
-                "4908245548244791743",
-                "//ldml/numbers/currencies/currency[@type=\"BSD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "1035599600905213932",
-                "//ldml/numbers/currencies/currency[@type=\"BTN\"]/displayName",
-                "Bhutanese Ngultrum"
-            },
-            {
-                "2068783085710895801",
-                "//ldml/numbers/currencies/currency[@type=\"BWP\"]/displayName",
-                "Botswanan Pula"
-            },
-            {
-                "5427563614768499632",
-                "//ldml/numbers/currencies/currency[@type=\"BYR\"]/displayName",
-                "Belarusian Ruble"
-            },
-            {
-                "3336587217653165631",
-                "//ldml/numbers/currencies/currency[@type=\"BYR\"]/symbol[@alt=\"narrow\"]",
-                "р."
-            },
-            {
-                "2873594749272046288",
-                "//ldml/numbers/currencies/currency[@type=\"BZD\"]/displayName",
-                "Belize Dollar"
-            },
-            {
-                "9180429698362642505",
-                "//ldml/numbers/currencies/currency[@type=\"BZD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "33852420946234552",
-                "//ldml/numbers/currencies/currency[@type=\"CAD\"]/displayName",
-                "Canadian Dollar"
-            },
-            {
-                "1951007329555411670",
-                "//ldml/numbers/currencies/currency[@type=\"CAD\"]/symbol",
-                "CA$"
-            },
-            {
-                "8982207380231231241",
-                "//ldml/numbers/currencies/currency[@type=\"CAD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "5228962342696766569",
-                "//ldml/numbers/currencies/currency[@type=\"CDF\"]/displayName",
-                "Congolese Franc"
-            },
-            {
-                "3345152422604626136",
-                "//ldml/numbers/currencies/currency[@type=\"CHF\"]/displayName",
-                "Swiss Franc"
-            },
-            {
-                "7204141602396872239",
-                "//ldml/numbers/currencies/currency[@type=\"CLP\"]/displayName",
-                "Chilean Peso"
-            },
-            {
-                "4515591752416926606",
-                "//ldml/numbers/currencies/currency[@type=\"CLP\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "9143159957908261991",
-                "//ldml/numbers/currencies/currency[@type=\"CNY\"]/displayName",
-                "Chinese Yuan"
-            },
-            {
-                "5790104587328567230",
-                "//ldml/numbers/currencies/currency[@type=\"CNY\"]/symbol",
-                "CN¥"
-            },
-            {
-                "3457914745240803",
-                "//ldml/numbers/currencies/currency[@type=\"CNY\"]/symbol[@alt=\"narrow\"]",
-                "¥"
-            },
-            {
-                "4865155765136085731",
-                "//ldml/numbers/currencies/currency[@type=\"COP\"]/displayName",
-                "Colombian Peso"
-            },
-            {
-                "8155312413827635763",
-                "//ldml/numbers/currencies/currency[@type=\"COP\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "2094378546114440090",
-                "//ldml/numbers/currencies/currency[@type=\"CRC\"]/displayName",
-                "Costa Rican Colón"
-            },
-            {
-                "6418876325601417770",
-                "//ldml/numbers/currencies/currency[@type=\"CRC\"]/symbol[@alt=\"narrow\"]",
-                "₡"
-            },
-            {
-                "7424175430058228328",
-                "//ldml/numbers/currencies/currency[@type=\"CUC\"]/displayName",
-                "Cuban Convertible Peso"
-            },
-            {
-                "1070427192535321220",
-                "//ldml/numbers/currencies/currency[@type=\"CUP\"]/displayName",
-                "Cuban Peso"
-            },
-            {
-                "3432202040679572456",
-                "//ldml/numbers/currencies/currency[@type=\"CUP\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "2192039445957663143",
-                "//ldml/numbers/currencies/currency[@type=\"CVE\"]/displayName",
-                "Cape Verdean Escudo"
-            },
-            {
-                "4956437627217233758",
-                "//ldml/numbers/currencies/currency[@type=\"CZK\"]/displayName",
-                "Czech Republic Koruna"
-            },
-            {
-                "4942105476585363068",
-                "//ldml/numbers/currencies/currency[@type=\"DJF\"]/displayName",
-                "Djiboutian Franc"
-            },
-            {
-                "8479486126564223373",
-                "//ldml/numbers/currencies/currency[@type=\"DKK\"]/displayName",
-                "Danish Krone"
-            },
-            {
-                "8601713390667990770",
-                "//ldml/numbers/currencies/currency[@type=\"DOP\"]/displayName",
-                "Dominican Peso"
-            },
-            {
-                "1351442755505869599",
-                "//ldml/numbers/currencies/currency[@type=\"DOP\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "5042634668544362543",
-                "//ldml/numbers/currencies/currency[@type=\"DZD\"]/displayName",
-                "Algerian Dinar"
-            },
-            {
-                "8734730168632435456",
-                "//ldml/numbers/currencies/currency[@type=\"EGP\"]/displayName",
-                "Egyptian Pound"
-            },
-            {
-                "8664424585623328692",
-                "//ldml/numbers/currencies/currency[@type=\"ERN\"]/displayName",
-                "Eritrean Nakfa"
-            },
-            {
-                "6668234366791786235",
-                "//ldml/numbers/currencies/currency[@type=\"ETB\"]/displayName",
-                "Ethiopian Birr"
-            },
-            {
-                "4375430169498840378",
-                "//ldml/numbers/currencies/currency[@type=\"EUR\"]/displayName",
-                "Euro"
-            },
-            {
-                "3360122162250266497",
-                "//ldml/numbers/currencies/currency[@type=\"EUR\"]/symbol",
-                "€"
-            },
-            {
-                "2318501006630242407",
-                "//ldml/numbers/currencies/currency[@type=\"EUR\"]/symbol[@alt=\"narrow\"]",
-                "€"
-            },
-            {
-                "3826181076235904788",
-                "//ldml/numbers/currencies/currency[@type=\"FJD\"]/displayName",
-                "Fijian Dollar"
-            },
-            {
-                "5854414246814846134",
-                "//ldml/numbers/currencies/currency[@type=\"FJD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "7175980356316315599",
-                "//ldml/numbers/currencies/currency[@type=\"FKP\"]/displayName",
-                "Falkland Islands Pound"
-            },
-            {
-                "6175347122381904676",
-                "//ldml/numbers/currencies/currency[@type=\"GBP\"]/displayName",
-                "British Pound Sterling"
-            },
-            {
-                "2069828051513104319",
-                "//ldml/numbers/currencies/currency[@type=\"GBP\"]/symbol",
-                "£"
-            },
-            {
-                "7847676733495825109",
-                "//ldml/numbers/currencies/currency[@type=\"GBP\"]/symbol[@alt=\"narrow\"]",
-                "£"
-            },
-            {
-                "413064345497638320",
-                "//ldml/numbers/currencies/currency[@type=\"GEL\"]/displayName",
-                "Georgian Lari"
-            },
-            {
-                "5096174421824774558",
-                "//ldml/numbers/currencies/currency[@type=\"GHS\"]/displayName",
-                "Ghanaian Cedi"
-            },
-            {
-                "6565788045359905361",
-                "//ldml/numbers/currencies/currency[@type=\"GHS\"]/symbol[@alt=\"narrow\"]",
-                "₵"
-            },
-            {
-                "4203901879431639861",
-                "//ldml/numbers/currencies/currency[@type=\"GIP\"]/displayName",
-                "Gibraltar Pound"
-            },
-            {
-                "8259970433058983407",
-                "//ldml/numbers/currencies/currency[@type=\"GIP\"]/symbol[@alt=\"narrow\"]",
-                "£"
-            },
-            {
-                "4142012581915127690",
-                "//ldml/numbers/currencies/currency[@type=\"GMD\"]/displayName",
-                "Gambian Dalasi"
-            },
-            {
-                "6514872350786392865",
-                "//ldml/numbers/currencies/currency[@type=\"GNF\"]/displayName",
-                "Guinean Franc"
-            },
-            {
-                "2746423269742361905",
-                "//ldml/numbers/currencies/currency[@type=\"GTQ\"]/displayName",
-                "Guatemalan Quetzal"
-            },
-            {
-                "5888563750429312208",
-                "//ldml/numbers/currencies/currency[@type=\"GYD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "5756097190103495407",
-                "//ldml/numbers/currencies/currency[@type=\"HKD\"]/displayName",
-                "Hong Kong Dollar"
-            },
-            {
-                "2978684647580388156",
-                "//ldml/numbers/currencies/currency[@type=\"HKD\"]/symbol",
-                "HK$"
-            },
-            {
-                "8736047870444334976",
-                "//ldml/numbers/currencies/currency[@type=\"HKD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "708333590458222839",
-                "//ldml/numbers/currencies/currency[@type=\"HNL\"]/displayName",
-                "Honduran Lempira"
-            },
-            {
-                "5426046381327795080",
-                "//ldml/numbers/currencies/currency[@type=\"HRK\"]/displayName",
-                "Croatian Kuna"
-            },
-            {
-                "2217406749821769133",
-                "//ldml/numbers/currencies/currency[@type=\"HTG\"]/displayName",
-                "Haitian Gourde"
-            },
-            {
-                "6025262336939694198",
-                "//ldml/numbers/currencies/currency[@type=\"HUF\"]/displayName",
-                "Hungarian Forint"
-            },
-            {
-                "4156522323344750665",
-                "//ldml/numbers/currencies/currency[@type=\"IDR\"]/displayName",
-                "Indonesian Rupiah"
-            },
-            {
-                "2156540447497220311",
-                "//ldml/numbers/currencies/currency[@type=\"ILS\"]/displayName",
-                "Israeli New Sheqel"
-            },
-            {
-                "7847067713553194765",
-                "//ldml/numbers/currencies/currency[@type=\"ILS\"]/symbol",
-                "₪"
-            },
-            {
-                "4086428464827853124",
-                "//ldml/numbers/currencies/currency[@type=\"ILS\"]/symbol[@alt=\"narrow\"]",
-                "₪"
-            },
-            {
-                "4800717319757587328",
-                "//ldml/numbers/currencies/currency[@type=\"INR\"]/displayName",
-                "Indian Rupee"
-            },
-            {
-                "6106260232881122312",
-                "//ldml/numbers/currencies/currency[@type=\"INR\"]/symbol",
-                "₹"
-            },
-            {
-                "834842243762225957",
-                "//ldml/numbers/currencies/currency[@type=\"INR\"]/symbol[@alt=\"narrow\"]",
-                "₹"
-            },
-            {
-                "7008904446095985899",
-                "//ldml/numbers/currencies/currency[@type=\"IQD\"]/displayName",
-                "Iraqi Dinar"
-            },
-            {
-                "9013038982349452766",
-                "//ldml/numbers/currencies/currency[@type=\"IRR\"]/displayName",
-                "Iranian Rial"
-            },
-            {
-                "826361291694022079",
-                "//ldml/numbers/currencies/currency[@type=\"ISK\"]/displayName",
-                "Icelandic Króna"
-            },
-            {
-                "5495096252651129649",
-                "//ldml/numbers/currencies/currency[@type=\"JMD\"]/displayName",
-                "Jamaican Dollar"
-            },
-            {
-                "2603724639349947321",
-                "//ldml/numbers/currencies/currency[@type=\"JMD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "2570995754927701925",
-                "//ldml/numbers/currencies/currency[@type=\"JOD\"]/displayName",
-                "Jordanian Dinar"
-            },
-            {
-                "2884977514582659693",
-                "//ldml/numbers/currencies/currency[@type=\"JPY\"]/displayName",
-                "Japanese Yen"
-            },
-            {
-                "5434198241915938047",
-                "//ldml/numbers/currencies/currency[@type=\"JPY\"]/symbol",
-                "¥"
-            },
-            {
-                "9039773253710922514",
-                "//ldml/numbers/currencies/currency[@type=\"JPY\"]/symbol[@alt=\"narrow\"]",
-                "¥"
-            },
-            {
-                "7361362553468539439",
-                "//ldml/numbers/currencies/currency[@type=\"KES\"]/displayName",
-                "Kenyan Shilling"
-            },
-            {
-                "6417244494138322990",
-                "//ldml/numbers/currencies/currency[@type=\"KGS\"]/displayName",
-                "Kyrgystani Som"
-            },
-            {
-                "5758834193439546454",
-                "//ldml/numbers/currencies/currency[@type=\"KHR\"]/displayName",
-                "Cambodian Riel"
-            },
-            {
-                "706758457948283465",
-                "//ldml/numbers/currencies/currency[@type=\"KHR\"]/symbol[@alt=\"narrow\"]",
-                "៛"
-            },
-            {
-                "422532176202145606",
-                "//ldml/numbers/currencies/currency[@type=\"KMF\"]/displayName",
-                "Comorian Franc"
-            },
-            {
-                "647512561873371417",
-                "//ldml/numbers/currencies/currency[@type=\"KPW\"]/displayName",
-                "North Korean Won"
-            },
-            {
-                "8513122707023306975",
-                "//ldml/numbers/currencies/currency[@type=\"KRW\"]/displayName",
-                "South Korean Won"
-            },
-            {
-                "6991166013965056622",
-                "//ldml/numbers/currencies/currency[@type=\"KRW\"]/symbol",
-                "₩"
-            },
-            {
-                "6288325650073321641",
-                "//ldml/numbers/currencies/currency[@type=\"KRW\"]/symbol[@alt=\"narrow\"]",
-                "₩"
-            },
-            {
-                "1574953295232487512",
-                "//ldml/numbers/currencies/currency[@type=\"KWD\"]/displayName",
-                "Kuwaiti Dinar"
-            },
-            {
-                "743001428515912836",
-                "//ldml/numbers/currencies/currency[@type=\"KYD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "3038033266703318301",
-                "//ldml/numbers/currencies/currency[@type=\"KZT\"]/displayName",
-                "Kazakhstani Tenge"
-            },
-            {
-                "2742821701445738654",
-                "//ldml/numbers/currencies/currency[@type=\"KZT\"]/symbol[@alt=\"narrow\"]",
-                "₸"
-            },
-            {
-                "5282786362926246858",
-                "//ldml/numbers/currencies/currency[@type=\"LAK\"]/displayName",
-                "Laotian Kip"
-            },
-            {
-                "2794228674640860148",
-                "//ldml/numbers/currencies/currency[@type=\"LAK\"]/symbol[@alt=\"narrow\"]",
-                "₭"
-            },
-            {
-                "338749412363657077",
-                "//ldml/numbers/currencies/currency[@type=\"LBP\"]/displayName",
-                "Lebanese Pound"
-            },
-            {
-                "7880677965366041240",
-                "//ldml/numbers/currencies/currency[@type=\"LKR\"]/displayName",
-                "Sri Lankan Rupee"
-            },
-            {
-                "3183369411573086615",
-                "//ldml/numbers/currencies/currency[@type=\"LRD\"]/displayName",
-                "Liberian Dollar"
-            },
-            {
-                "3230128077290018317",
-                "//ldml/numbers/currencies/currency[@type=\"LRD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "8344513145008228305",
-                "//ldml/numbers/currencies/currency[@type=\"LSL\"]/displayName",
-                "Lesotho Loti"
-            },
-            {
-                "678046628379612937",
-                "//ldml/numbers/currencies/currency[@type=\"LTL\"]/displayName",
-                "Lithuanian Litas"
-            },
-            {
-                "2340102142582554171",
-                "//ldml/numbers/currencies/currency[@type=\"LVL\"]/displayName",
-                "Latvian Lats"
-            },
-            {
-                "8859115082374544664",
-                "//ldml/numbers/currencies/currency[@type=\"MAD\"]/displayName",
-                "Moroccan Dirham"
-            },
-            {
-                "1102258805960863168",
-                "//ldml/numbers/currencies/currency[@type=\"MDL\"]/displayName",
-                "Moldovan Leu"
-            },
-            {
-                "9069188211755686814",
-                "//ldml/numbers/currencies/currency[@type=\"MGA\"]/displayName",
-                "Malagasy Ariary"
-            },
-            {
-                "8024872367346239837",
-                "//ldml/numbers/currencies/currency[@type=\"MKD\"]/displayName",
-                "Macedonian Denar"
-            },
-            {
-                "5599275341926967524",
-                "//ldml/numbers/currencies/currency[@type=\"MMK\"]/displayName",
-                "Myanmar Kyat"
-            },
-            {
-                "1456150330136082381",
-                "//ldml/numbers/currencies/currency[@type=\"MNT\"]/symbol[@alt=\"narrow\"]",
-                "₮"
-            },
-            {
-                "1701521481029417056",
-                "//ldml/numbers/currencies/currency[@type=\"MOP\"]/displayName",
-                "Macanese Pataca"
-            },
-            {
-                "2832715991439199548",
-                "//ldml/numbers/currencies/currency[@type=\"MRO\"]/displayName",
-                "Mauritanian Ouguiya"
-            },
-            {
-                "4131335075861267933",
-                "//ldml/numbers/currencies/currency[@type=\"MUR\"]/displayName",
-                "Mauritian Rupee"
-            },
-            {
-                "1921233522155486328",
-                "//ldml/numbers/currencies/currency[@type=\"MVR\"]/displayName",
-                "Maldivian Rufiyaa"
-            },
-            {
-                "8867700779916663690",
-                "//ldml/numbers/currencies/currency[@type=\"MXN\"]/displayName",
-                "Mexican Peso"
-            },
-            {
-                "1198090792163074096",
-                "//ldml/numbers/currencies/currency[@type=\"MXN\"]/symbol",
-                "MX$"
-            },
-            {
-                "3291907079861892186",
-                "//ldml/numbers/currencies/currency[@type=\"MXN\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "4642255645232379965",
-                "//ldml/numbers/currencies/currency[@type=\"MYR\"]/displayName",
-                "Malaysian Ringgit"
-            },
-            {
-                "5575049092628683973",
-                "//ldml/numbers/currencies/currency[@type=\"MZN\"]/displayName",
-                "Mozambican Metical"
-            },
-            {
-                "4051952008843329754",
-                "//ldml/numbers/currencies/currency[@type=\"NAD\"]/displayName",
-                "Namibian Dollar"
-            },
-            {
-                "2512461895636460620",
-                "//ldml/numbers/currencies/currency[@type=\"NAD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "3108742190089274202",
-                "//ldml/numbers/currencies/currency[@type=\"NGN\"]/displayName",
-                "Nigerian Naira"
-            },
-            {
-                "6920360497665916612",
-                "//ldml/numbers/currencies/currency[@type=\"NGN\"]/symbol[@alt=\"narrow\"]",
-                "₦"
-            },
-            {
-                "1558596029691150844",
-                "//ldml/numbers/currencies/currency[@type=\"NIO\"]/displayName",
-                "Nicaraguan Córdoba"
-            },
-            {
-                "2538034340728253401",
-                "//ldml/numbers/currencies/currency[@type=\"NOK\"]/displayName",
-                "Norwegian Krone"
-            },
-            {
-                "4432978510160868537",
-                "//ldml/numbers/currencies/currency[@type=\"NPR\"]/displayName",
-                "Nepalese Rupee"
-            },
-            {
-                "5291366094720507952",
-                "//ldml/numbers/currencies/currency[@type=\"NZD\"]/displayName",
-                "New Zealand Dollar"
-            },
-            {
-                "2232844878792366330",
-                "//ldml/numbers/currencies/currency[@type=\"NZD\"]/symbol",
-                "NZ$"
-            },
-            {
-                "1613925348896921819",
-                "//ldml/numbers/currencies/currency[@type=\"NZD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "5512852970093297092",
-                "//ldml/numbers/currencies/currency[@type=\"OMR\"]/displayName",
-                "Omani Rial"
-            },
-            {
-                "2547277564236879279",
-                "//ldml/numbers/currencies/currency[@type=\"PAB\"]/displayName",
-                "Panamanian Balboa"
-            },
-            {
-                "4956062929295611107",
-                "//ldml/numbers/currencies/currency[@type=\"PEN\"]/displayName",
-                "Peruvian Nuevo Sol"
-            },
-            {
-                "2356688915142591829",
-                "//ldml/numbers/currencies/currency[@type=\"PGK\"]/displayName",
-                "Papua New Guinean Kina"
-            },
-            {
-                "3350984588189230415",
-                "//ldml/numbers/currencies/currency[@type=\"PHP\"]/displayName",
-                "Philippine Peso"
-            },
-            {
-                "8753134438149332982",
-                "//ldml/numbers/currencies/currency[@type=\"PHP\"]/symbol[@alt=\"narrow\"]",
-                "₱"
-            },
-            {
-                "1252551576243360532",
-                "//ldml/numbers/currencies/currency[@type=\"PKR\"]/displayName",
-                "Pakistani Rupee"
-            },
-            {
-                "2000842006500145445",
-                "//ldml/numbers/currencies/currency[@type=\"PLN\"]/displayName",
-                "Polish Zloty"
-            },
-            {
-                "3851490785014489218",
-                "//ldml/numbers/currencies/currency[@type=\"PYG\"]/displayName",
-                "Paraguayan Guarani"
-            },
-            {
-                "1899673719481528494",
-                "//ldml/numbers/currencies/currency[@type=\"PYG\"]/symbol[@alt=\"narrow\"]",
-                "₲"
-            },
-            {
-                "7340134300760832837",
-                "//ldml/numbers/currencies/currency[@type=\"QAR\"]/displayName",
-                "Qatari Rial"
-            },
-            {
-                "7936615753851329740",
-                "//ldml/numbers/currencies/currency[@type=\"RON\"]/displayName",
-                "Romanian Leu"
-            },
-            {
-                "5239261456077764737",
-                "//ldml/numbers/currencies/currency[@type=\"RSD\"]/displayName",
-                "Serbian Dinar"
-            },
-            {
-                "5909874304196248403",
-                "//ldml/numbers/currencies/currency[@type=\"RUB\"]/displayName",
-                "Russian Ruble"
-            },
-            {
-                "7349559274316557648",
-                "//ldml/numbers/currencies/currency[@type=\"RWF\"]/displayName",
-                "Rwandan Franc"
-            },
-            {
-                "3143597023721679193",
-                "//ldml/numbers/currencies/currency[@type=\"SAR\"]/displayName",
-                "Saudi Riyal"
-            },
-            {
-                "3835112185926536542",
-                "//ldml/numbers/currencies/currency[@type=\"SBD\"]/displayName",
-                "Solomon Islands Dollar"
-            },
-            {
-                "8172806034594952169",
-                "//ldml/numbers/currencies/currency[@type=\"SBD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "518713267846058259",
-                "//ldml/numbers/currencies/currency[@type=\"SCR\"]/displayName",
-                "Seychellois Rupee"
-            },
-            {
-                "6110656667483245665",
-                "//ldml/numbers/currencies/currency[@type=\"SDG\"]/displayName",
-                "Sudanese Pound"
-            },
-            {
-                "7966815862247847775",
-                "//ldml/numbers/currencies/currency[@type=\"SEK\"]/displayName",
-                "Swedish Krona"
-            },
-            {
-                "506708507311021493",
-                "//ldml/numbers/currencies/currency[@type=\"SGD\"]/displayName",
-                "Singapore Dollar"
-            },
-            {
-                "1418718310937387675",
-                "//ldml/numbers/currencies/currency[@type=\"SGD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "2888248314086379707",
-                "//ldml/numbers/currencies/currency[@type=\"SHP\"]/displayName",
-                "Saint Helena Pound"
-            },
-            {
-                "8578393031068938537",
-                "//ldml/numbers/currencies/currency[@type=\"SLL\"]/displayName",
-                "Sierra Leonean Leone"
-            },
-            {
-                "787583681364760482",
-                "//ldml/numbers/currencies/currency[@type=\"SOS\"]/displayName",
-                "Somali Shilling"
-            },
-            {
-                "3266906245700971111",
-                "//ldml/numbers/currencies/currency[@type=\"SRD\"]/displayName",
-                "Surinamese Dollar"
-            },
-            {
-                "2687806566780231364",
-                "//ldml/numbers/currencies/currency[@type=\"SRD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "2183290648213530644",
-                "//ldml/numbers/currencies/currency[@type=\"SSP\"]/displayName",
-                "South Sudanese Pound"
-            },
-            {
-                "1695125061729153885",
-                "//ldml/numbers/currencies/currency[@type=\"SSP\"]/symbol[@alt=\"narrow\"]",
-                "£"
-            },
-            {
-                "674831700704754733",
-                "//ldml/numbers/currencies/currency[@type=\"STD\"]/displayName",
-                "São Tomé and Príncipe Dobra"
-            },
-            {
-                "2047668402037164606",
-                "//ldml/numbers/currencies/currency[@type=\"SYP\"]/displayName",
-                "Syrian Pound"
-            },
-            {
-                "7266996072816650895",
-                "//ldml/numbers/currencies/currency[@type=\"SZL\"]/displayName",
-                "Swazi Lilangeni"
-            },
-            {
-                "8777123610696095071",
-                "//ldml/numbers/currencies/currency[@type=\"THB\"]/displayName",
-                "Thai Baht"
-            },
-            {
-                "1406773929676851930",
-                "//ldml/numbers/currencies/currency[@type=\"THB\"]/symbol",
-                "฿"
-            },
-            {
-                "8625790721688934801",
-                "//ldml/numbers/currencies/currency[@type=\"THB\"]/symbol[@alt=\"narrow\"]",
-                "฿"
-            },
-            {
-                "2076023082471496186",
-                "//ldml/numbers/currencies/currency[@type=\"TJS\"]/displayName",
-                "Tajikistani Somoni"
-            },
-            {
-                "8468456153228741378",
-                "//ldml/numbers/currencies/currency[@type=\"TMT\"]/displayName",
-                "Turkmenistani Manat"
-            },
-            {
-                "8333359555243077925",
-                "//ldml/numbers/currencies/currency[@type=\"TND\"]/displayName",
-                "Tunisian Dinar"
-            },
-            {
-                "4951596544327563448",
-                "//ldml/numbers/currencies/currency[@type=\"TOP\"]/displayName",
-                "Tongan Paʻanga"
-            },
-            {
-                "7210554906335090932",
-                "//ldml/numbers/currencies/currency[@type=\"TRY\"]/displayName",
-                "Turkish Lira"
-            },
-            {
-                "3958763707758788335",
-                "//ldml/numbers/currencies/currency[@type=\"TRY\"]/symbol[@alt=\"narrow\"]",
-                "₺"
-            },
-            {
-                "1960663831932446555",
-                "//ldml/numbers/currencies/currency[@type=\"TTD\"]/displayName",
-                "Trinidad and Tobago Dollar"
-            },
-            {
-                "2415063372494152155",
-                "//ldml/numbers/currencies/currency[@type=\"TTD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "6880037229293104980",
-                "//ldml/numbers/currencies/currency[@type=\"TWD\"]/displayName",
-                "New Taiwan Dollar"
-            },
-            {
-                "1968571990702221105",
-                "//ldml/numbers/currencies/currency[@type=\"TWD\"]/symbol",
-                "NT$"
-            },
-            {
-                "6836922152071564105",
-                "//ldml/numbers/currencies/currency[@type=\"TWD\"]/symbol[@alt=\"narrow\"]",
-                "NT$"
-            },
-            {
-                "866450468098157763",
-                "//ldml/numbers/currencies/currency[@type=\"TZS\"]/displayName",
-                "Tanzanian Shilling"
-            },
-            {
-                "6574627028978931797",
-                "//ldml/numbers/currencies/currency[@type=\"UAH\"]/displayName",
-                "Ukrainian Hryvnia"
-            },
-            {
-                "5476122126252951896",
-                "//ldml/numbers/currencies/currency[@type=\"UAH\"]/symbol[@alt=\"narrow\"]",
-                "₴"
-            },
-            {
-                "507447740558520516",
-                "//ldml/numbers/currencies/currency[@type=\"UGX\"]/displayName",
-                "Ugandan Shilling"
-            },
-            {
-                "3977951238272884837",
-                "//ldml/numbers/currencies/currency[@type=\"USD\"]/displayName",
-                "US Dollar"
-            },
-            {
-                "1831791143418456328",
-                "//ldml/numbers/currencies/currency[@type=\"USD\"]/symbol",
-                "$"
-            },
-            {
-                "3536206005226480675",
-                "//ldml/numbers/currencies/currency[@type=\"USD\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "5411161749475146035",
-                "//ldml/numbers/currencies/currency[@type=\"UYU\"]/displayName",
-                "Uruguayan Peso"
-            },
-            {
-                "1630900006287785680",
-                "//ldml/numbers/currencies/currency[@type=\"UYU\"]/symbol[@alt=\"narrow\"]",
-                "$"
-            },
-            {
-                "7939709126244219608",
-                "//ldml/numbers/currencies/currency[@type=\"UZS\"]/displayName",
-                "Uzbekistan Som"
-            },
-            {
-                "468674251405260214",
-                "//ldml/numbers/currencies/currency[@type=\"VEF\"]/displayName",
-                "Venezuelan Bolívar"
-            },
-            {
-                "2587659573202538218",
-                "//ldml/numbers/currencies/currency[@type=\"VND\"]/displayName",
-                "Vietnamese Dong"
-            },
-            {
-                "8873716734899729415",
-                "//ldml/numbers/currencies/currency[@type=\"VND\"]/symbol",
-                "₫"
-            },
-            {
-                "5207463953117160267",
-                "//ldml/numbers/currencies/currency[@type=\"VND\"]/symbol[@alt=\"narrow\"]",
-                "₫"
-            },
-            {
-                "7853802120864895851",
-                "//ldml/numbers/currencies/currency[@type=\"VUV\"]/displayName",
-                "Vanuatu Vatu"
-            },
-            {
-                "6281349857073319809",
-                "//ldml/numbers/currencies/currency[@type=\"WST\"]/displayName",
-                "Samoan Tala"
-            },
-            {
-                "6455082174453524369",
-                "//ldml/numbers/currencies/currency[@type=\"XAF\"]/displayName",
-                "CFA Franc BEAC"
-            },
-            {
-                "3882821362597233689",
-                "//ldml/numbers/currencies/currency[@type=\"XAF\"]/symbol",
-                "FCFA"
-            },
-            {
-                "5164981140082678852",
-                "//ldml/numbers/currencies/currency[@type=\"XCD\"]/displayName",
-                "East Caribbean Dollar"
-            },
-            {
-                "341706522157635187",
-                "//ldml/numbers/currencies/currency[@type=\"XCD\"]/symbol",
-                "EC$"
-            },
-            {
-                "5365139785985439608",
-                "//ldml/numbers/currencies/currency[@type=\"XOF\"]/displayName",
-                "CFA Franc BCEAO"
-            },
-            {
-                "7441741010095280916",
-                "//ldml/numbers/currencies/currency[@type=\"XOF\"]/symbol",
-                "CFA"
-            },
-            {
-                "6229334690374504108",
-                "//ldml/numbers/currencies/currency[@type=\"XPF\"]/displayName",
-                "CFP Franc"
-            },
-            {
-                "3831484367810902496",
-                "//ldml/numbers/currencies/currency[@type=\"XPF\"]/symbol",
-                "CFPF"
-            },
-            {
-                "5094421458199116585",
-                "//ldml/numbers/currencies/currency[@type=\"XXX\"]/displayName",
-                "Unknown Currency"
-            },
-            {
-                "8464959262830107626",
-                "//ldml/numbers/currencies/currency[@type=\"YER\"]/displayName",
-                "Yemeni Rial"
-            },
-            {
-                "6187620174365036837",
-                "//ldml/numbers/currencies/currency[@type=\"ZAR\"]/displayName",
-                "South African Rand"
-            },
-            {
-                "5217235090135542999",
-                "//ldml/numbers/currencies/currency[@type=\"ZMW\"]/displayName",
-                "Zambian Kwacha"
-            },
-            {
-                "6010188005306492033",
-                "//ldml/numbers/currencyFormats[@numberSystem=\"latn\"]/currencyFormatLength/currencyFormat[@type=\"standard\"]/pattern[@type=\"standard\"]",
-                "¤#,##0.00"
-            },
-            {
-                "2623581614411490905",
-                "//ldml/numbers/currencyFormats[@numberSystem=\"latn\"]/currencyFormatLength/currencyFormat[@type=\"standard\"]/pattern[@type=\"standard\"][@alt=\"accounting\"]",
-                "¤#,##0.00;(¤#,##0.00)"
-            },
-            {
-                "2641707789956290482",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength/decimalFormat[@type=\"standard\"]/pattern[@type=\"standard\"]",
-                "#,##0.###"
-            },
-            {
-                "5303749613114306391",
-                "//ldml/numbers/miscPatterns[@numberSystem=\"latn\"]/pattern[@type=\"atLeast\"]",
-                "{0}+"
-            },
-            {
-                "2921654213311767807",
-                "//ldml/numbers/miscPatterns[@numberSystem=\"latn\"]/pattern[@type=\"range\"]",
-                "{0}–{1}"
-            },
-            {"6930428081561529138", "//ldml/numbers/otherNumberingSystems/native", "latn"},
-            {
-                "1705968328479315062",
-                "//ldml/numbers/percentFormats[@numberSystem=\"latn\"]/percentFormatLength/percentFormat[@type=\"standard\"]/pattern[@type=\"standard\"]",
-                "#,##0%"
-            },
-            {
-                "7427998895714280947",
-                "//ldml/numbers/scientificFormats[@numberSystem=\"latn\"]/scientificFormatLength/scientificFormat[@type=\"standard\"]/pattern[@type=\"standard\"]",
-                "#E0"
-            },
-            {"5675610550469438727", "//ldml/numbers/symbols[@numberSystem=\"latn\"]/decimal", "."},
-            {
-                "670728378219291040",
-                "//ldml/numbers/symbols[@numberSystem=\"latn\"]/exponential",
-                "E"
-            },
-            {"729288602297997357", "//ldml/numbers/symbols[@numberSystem=\"latn\"]/group", ","},
-            {"2388076893092607050", "//ldml/numbers/symbols[@numberSystem=\"latn\"]/infinity", "∞"},
-            {
-                "3389158744685158027",
-                "//ldml/numbers/symbols[@numberSystem=\"latn\"]/minusSign",
-                "-"
-            },
-            {"3057113049849364597", "//ldml/numbers/symbols[@numberSystem=\"latn\"]/nan", "NaN"},
-            {"3310298385067569386", "//ldml/numbers/symbols[@numberSystem=\"latn\"]/perMille", "‰"},
-            {
-                "1026900459982131908",
-                "//ldml/numbers/symbols[@numberSystem=\"latn\"]/percentSign",
-                "%"
-            },
-            {"814892049057442326", "//ldml/numbers/symbols[@numberSystem=\"latn\"]/plusSign", "+"},
-            {
-                "2679339416400434015",
-                "//ldml/numbers/symbols[@numberSystem=\"latn\"]/superscriptingExponent",
-                "×"
-            },
-            {"461899641808021471", "//ldml/posix/messages/nostr", "no:n"},
-            {"2136678843618606015", "//ldml/posix/messages/yesstr", "yes:y"},
-            {
-                "6368821951930701171",
-                "//ldml/units/durationUnit[@type=\"hm\"]/durationUnitPattern",
-                "h:mm"
-            },
-            {
-                "2386639457215769250",
-                "//ldml/units/durationUnit[@type=\"hms\"]/durationUnitPattern",
-                "h:mm:ss"
-            },
-            {
-                "2693931781887572059",
-                "//ldml/units/durationUnit[@type=\"ms\"]/durationUnitPattern",
-                "m:ss"
-            },
-            {
-                "8976448390494103066",
-                "//ldml/units/unitLength[@type=\"long\"]/compoundUnit[@type=\"per\"]/compoundUnitPattern",
-                "{0} per {1}"
-            },
-            {
-                "487633689234748932",
-                "//ldml/units/unitLength[@type=\"narrow\"]/compoundUnit[@type=\"per\"]/compoundUnitPattern",
-                "{0}/{1}"
-            },
-            {
-                "2288443428574279084",
-                "//ldml/units/unitLength[@type=\"short\"]/compoundUnit[@type=\"per\"]/compoundUnitPattern",
-                "{0}/{1}"
-            },
-            {
-                "7998042149073490604",
-                "//ldml/numbers/currencyFormats[@numberSystem=\"latn\"]/unitPattern",
-                "{0} {1}"
-            },
-            {
-                "1687275791071613087",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"long\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"1000\"]",
-                "0 thousand"
-            },
-            {
-                "7155088120146135022",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"long\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"10000\"]",
-                "00 thousand"
-            },
-            {
-                "2154532173811137862",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"long\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"100000\"]",
-                "000 thousand"
-            },
-            {
-                "8177014691267688622",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"long\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"1000000\"]",
-                "0 million"
-            },
-            {
-                "6943248589499937315",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"long\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"10000000\"]",
-                "00 million"
-            },
-            {
-                "7708067433648106727",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"long\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"100000000\"]",
-                "000 million"
-            },
-            {
-                "3550344367564675068",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"long\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"1000000000\"]",
-                "0 billion"
-            },
-            {
-                "6947330898803562282",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"long\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"10000000000\"]",
-                "00 billion"
-            },
-            {
-                "7605384331422436562",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"long\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"100000000000\"]",
-                "000 billion"
-            },
-            {
-                "239670440749806538",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"long\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"1000000000000\"]",
-                "0 trillion"
-            },
-            {
-                "2531033391797835126",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"long\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"10000000000000\"]",
-                "00 trillion"
-            },
-            {
-                "7171640868173814561",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"long\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"100000000000000\"]",
-                "000 trillion"
-            },
-            {
-                "1714018208819382349",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"short\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"1000\"]",
-                "0K"
-            },
-            {
-                "3394406502206824931",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"short\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"10000\"]",
-                "00K"
-            },
-            {
-                "3937890344918089009",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"short\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"100000\"]",
-                "000K"
-            },
-            {
-                "8563323182243031013",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"short\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"1000000\"]",
-                "0M"
-            },
-            {
-                "564057847788200821",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"short\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"10000000\"]",
-                "00M"
-            },
-            {
-                "1772757815779316966",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"short\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"100000000\"]",
-                "000M"
-            },
-            {
-                "4421380897938528253",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"short\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"1000000000\"]",
-                "0B"
-            },
-            {
-                "3499927355444704761",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"short\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"10000000000\"]",
-                "00B"
-            },
-            {
-                "6908302573400123877",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"short\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"100000000000\"]",
-                "000B"
-            },
-            {
-                "5425103654626009707",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"short\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"1000000000000\"]",
-                "0T"
-            },
-            {
-                "5505038684164571677",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"short\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"10000000000000\"]",
-                "00T"
-            },
-            {
-                "2512802501767779991",
-                "//ldml/numbers/decimalFormats[@numberSystem=\"latn\"]/decimalFormatLength[@type=\"short\"]/decimalFormat[@type=\"standard\"]/pattern[@type=\"100000000000000\"]",
-                "000T"
-            },
-            {
-                "41066308227178212",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"acceleration-g-force\"]/unitPattern",
-                "{0} g-force"
-            },
-            {
-                "7442485284750237724",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"angle-degree\"]/unitPattern",
-                "{0} degrees"
-            },
-            {
-                "1847697718059398717",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"area-acre\"]/unitPattern",
-                "{0} acres"
-            },
-            {
-                "4655296067340155361",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"area-hectare\"]/unitPattern",
-                "{0} hectares"
-            },
-            {
-                "9038418611761669837",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"area-square-foot\"]/unitPattern",
-                "{0} square feet"
-            },
-            {
-                "1775471701595248918",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"area-square-kilometer\"]/unitPattern",
-                "{0} square kilometers"
-            },
-            {
-                "2824944974223703929",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"area-square-meter\"]/unitPattern",
-                "{0} square meters"
-            },
-            {
-                "6027454318501727108",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"area-square-mile\"]/unitPattern",
-                "{0} square miles"
-            },
-            {
-                "5434752386974918320",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"duration-day\"]/unitPattern",
-                "{0} days"
-            },
-            {
-                "6789766625502318032",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"duration-hour\"]/unitPattern",
-                "{0} hours"
-            },
-            {
-                "1465661624800834128",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"duration-millisecond\"]/unitPattern",
-                "{0} milliseconds"
-            },
-            {
-                "8561897341423816808",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"duration-minute\"]/unitPattern",
-                "{0} minutes"
-            },
-            {
-                "759251161746667357",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"duration-month\"]/unitPattern",
-                "{0} months"
-            },
-            {
-                "6463847352594343738",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"duration-second\"]/unitPattern",
-                "{0} seconds"
-            },
-            {
-                "4994136025425701087",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"duration-week\"]/unitPattern",
-                "{0} weeks"
-            },
-            {
-                "6837367560826103134",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"duration-year\"]/unitPattern",
-                "{0} years"
-            },
-            {
-                "2004664103438017080",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"length-centimeter\"]/unitPattern",
-                "{0} centimeters"
-            },
-            {
-                "4169947883325978393",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"length-foot\"]/unitPattern",
-                "{0} feet"
-            },
-            {
-                "8362311352736032865",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"length-inch\"]/unitPattern",
-                "{0} inches"
-            },
-            {
-                "5973453026590365416",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"length-kilometer\"]/unitPattern",
-                "{0} kilometers"
-            },
-            {
-                "6539608475668562432",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"length-light-year\"]/unitPattern",
-                "{0} light years"
-            },
-            {
-                "7298511865521587850",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"length-meter\"]/unitPattern",
-                "{0} meters"
-            },
-            {
-                "6907558832706757493",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"length-mile\"]/unitPattern",
-                "{0} miles"
-            },
-            {
-                "8607594786896521837",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"length-millimeter\"]/unitPattern",
-                "{0} millimeters"
-            },
-            {
-                "2512933565469846101",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"length-picometer\"]/unitPattern",
-                "{0} picometers"
-            },
-            {
-                "1919862730535583197",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"length-yard\"]/unitPattern",
-                "{0} yards"
-            },
-            {
-                "3465406162921554168",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"mass-gram\"]/unitPattern",
-                "{0} grams"
-            },
-            {
-                "2420024845223865243",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"mass-kilogram\"]/unitPattern",
-                "{0} kilograms"
-            },
-            {
-                "7023827907174526779",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"mass-ounce\"]/unitPattern",
-                "{0} ounces"
-            },
-            {
-                "6888796502372102911",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"mass-pound\"]/unitPattern",
-                "{0} pounds"
-            },
-            {
-                "2992489785872751258",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"power-horsepower\"]/unitPattern",
-                "{0} horsepower"
-            },
-            {
-                "7776906451936639769",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"power-kilowatt\"]/unitPattern",
-                "{0} kilowatts"
-            },
-            {
-                "1425041947804260336",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"power-watt\"]/unitPattern",
-                "{0} watts"
-            },
-            {
-                "879657229610499693",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"pressure-hectopascal\"]/unitPattern",
-                "{0} hectopascals"
-            },
-            {
-                "4825302634598929101",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"pressure-inch-ofhg\"]/unitPattern",
-                "{0} inches of mercury"
-            },
-            {
-                "1578723096519824917",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"pressure-millibar\"]/unitPattern",
-                "{0} millibars"
-            },
-            {
-                "143198155003474297",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"speed-kilometer-per-hour\"]/unitPattern",
-                "{0} kilometers per hour"
-            },
-            {
-                "3061759330027962162",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"speed-meter-per-second\"]/unitPattern",
-                "{0} meters per second"
-            },
-            {
-                "2861082896739781558",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"speed-mile-per-hour\"]/unitPattern",
-                "{0} miles per hour"
-            },
-            {
-                "5316457164432913569",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"temperature-celsius\"]/unitPattern",
-                "{0} degrees Celsius"
-            },
-            {
-                "9055713396764316898",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"temperature-fahrenheit\"]/unitPattern",
-                "{0} degrees Fahrenheit"
-            },
-            {
-                "6197992342042553127",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"volume-cubic-kilometer\"]/unitPattern",
-                "{0} cubic kilometers"
-            },
-            {
-                "4974989346578395361",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"volume-cubic-mile\"]/unitPattern",
-                "{0} cubic miles"
-            },
-            {
-                "1343790600350419043",
-                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"volume-liter\"]/unitPattern",
-                "{0} liters"
-            },
-            {
-                "5721858325623311447",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"acceleration-g-force\"]/unitPattern",
-                "{0}Gs"
-            },
-            {
-                "3155225842669396158",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"angle-degree\"]/unitPattern",
-                "{0}°"
-            },
-            {
-                "2348500768983463215",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"area-acre\"]/unitPattern",
-                "{0}ac"
-            },
-            {
-                "4227666078979100831",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"area-hectare\"]/unitPattern",
-                "{0}ha"
-            },
-            {
-                "8686752552315874080",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"area-square-foot\"]/unitPattern",
-                "{0}ft²"
-            },
-            {
-                "1596875194990452210",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"area-square-kilometer\"]/unitPattern",
-                "{0} km²"
-            },
-            {
-                "4021327687778633778",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"area-square-meter\"]/unitPattern",
-                "{0} m²"
-            },
-            {
-                "1660271321192736081",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"area-square-mile\"]/unitPattern",
-                "{0}mi²"
-            },
-            {
-                "5992728985256912753",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"duration-day\"]/unitPattern",
-                "{0}d"
-            },
-            {
-                "5965364573790058645",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"duration-hour\"]/unitPattern",
-                "{0}h"
-            },
-            {
-                "5061815512614507182",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"duration-millisecond\"]/unitPattern",
-                "{0}ms"
-            },
-            {
-                "709805638702656892",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"duration-minute\"]/unitPattern",
-                "{0}m"
-            },
-            {
-                "7296323228212446617",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"duration-month\"]/unitPattern",
-                "{0}m"
-            },
-            {
-                "4847909180776648323",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"duration-second\"]/unitPattern",
-                "{0}s"
-            },
-            {
-                "1330192650848136782",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"duration-week\"]/unitPattern",
-                "{0}w"
-            },
-            {
-                "4242013427975241232",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"duration-year\"]/unitPattern",
-                "{0}y"
-            },
-            {
-                "1196166166169359933",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"length-centimeter\"]/unitPattern",
-                "{0}cm"
-            },
-            {
-                "138262778660105175",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"length-foot\"]/unitPattern",
-                "{0}′"
-            },
-            {
-                "3669024421498494374",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"length-inch\"]/unitPattern",
-                "{0}″"
-            },
-            {
-                "4507001067392161555",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"length-kilometer\"]/unitPattern",
-                "{0}km"
-            },
-            {
-                "4341772788442102504",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"length-light-year\"]/unitPattern",
-                "{0}ly"
-            },
-            {
-                "3895846304341906889",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"length-meter\"]/unitPattern",
-                "{0}m"
-            },
-            {
-                "8196888502528514460",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"length-mile\"]/unitPattern",
-                "{0}mi"
-            },
-            {
-                "7050366771896681127",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"length-millimeter\"]/unitPattern",
-                "{0}mm"
-            },
-            {
-                "1602186336904386076",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"length-picometer\"]/unitPattern",
-                "{0}pm"
-            },
-            {
-                "7507767170604825113",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"length-yard\"]/unitPattern",
-                "{0}yd"
-            },
-            {
-                "6547442141899827422",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"mass-gram\"]/unitPattern",
-                "{0}g"
-            },
-            {
-                "82590720394897694",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"mass-kilogram\"]/unitPattern",
-                "{0}kg"
-            },
-            {
-                "3904268466496695828",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"mass-ounce\"]/unitPattern",
-                "{0}oz"
-            },
-            {
-                "4904810218626068422",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"mass-pound\"]/unitPattern",
-                "{0}#"
-            },
-            {
-                "8159607266888278438",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"power-horsepower\"]/unitPattern",
-                "{0}hp"
-            },
-            {
-                "703411355937731300",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"power-kilowatt\"]/unitPattern",
-                "{0}kW"
-            },
-            {
-                "4955201096551518495",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"power-watt\"]/unitPattern",
-                "{0}W"
-            },
-            {
-                "3237720444612413403",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"pressure-hectopascal\"]/unitPattern",
-                "{0}hPa"
-            },
-            {
-                "7257030169429694281",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"pressure-inch-ofhg\"]/unitPattern",
-                "{0}\" Hg"
-            },
-            {
-                "4668218627955712716",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"pressure-millibar\"]/unitPattern",
-                "{0}mb"
-            },
-            {
-                "5297327779142954786",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"speed-kilometer-per-hour\"]/unitPattern",
-                "{0}kph"
-            },
-            {
-                "6872142846522390504",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"speed-meter-per-second\"]/unitPattern",
-                "{0}m/s"
-            },
-            {
-                "7197430242652555942",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"speed-mile-per-hour\"]/unitPattern",
-                "{0}mph"
-            },
-            {
-                "4855899377081204739",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"temperature-celsius\"]/unitPattern",
-                "{0}°C"
-            },
-            {
-                "5023691630923340078",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"temperature-fahrenheit\"]/unitPattern",
-                "{0}°"
-            },
-            {
-                "3480230809647784459",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"volume-cubic-kilometer\"]/unitPattern",
-                "{0}km³"
-            },
-            {
-                "8252997303312393719",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"volume-cubic-mile\"]/unitPattern",
-                "{0}mi³"
-            },
-            {
-                "3688004714730682434",
-                "//ldml/units/unitLength[@type=\"narrow\"]/unit[@type=\"volume-liter\"]/unitPattern",
-                "{0}l"
-            },
-            {
-                "815248693241592283",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"acceleration-g-force\"]/unitPattern",
-                "{0} G"
-            },
-            {
-                "3207006491112175387",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"angle-degree\"]/unitPattern",
-                "{0} deg"
-            },
-            {
-                "7135921289824042794",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"area-acre\"]/unitPattern",
-                "{0} ac"
-            },
-            {
-                "1073921653625485590",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"area-hectare\"]/unitPattern",
-                "{0} ha"
-            },
-            {
-                "8561080532738776652",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"area-square-foot\"]/unitPattern",
-                "{0} sq ft"
-            },
-            {
-                "6672498683799191374",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"area-square-kilometer\"]/unitPattern",
-                "{0} km²"
-            },
-            {
-                "8296708455837972408",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"area-square-meter\"]/unitPattern",
-                "{0} m²"
-            },
-            {
-                "6116515983207728474",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"area-square-mile\"]/unitPattern",
-                "{0} sq mi"
-            },
-            {
-                "8976206074243555712",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"duration-day\"]/unitPattern",
-                "{0} days"
-            },
-            {
-                "1013008321426451630",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"duration-hour\"]/unitPattern",
-                "{0} hrs"
-            },
-            {
-                "315849163245055787",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"duration-millisecond\"]/unitPattern",
-                "{0} ms"
-            },
-            {
-                "5725445373646097963",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"duration-minute\"]/unitPattern",
-                "{0} mins"
-            },
-            {
-                "3524876978919446683",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"duration-month\"]/unitPattern",
-                "{0} mths"
-            },
-            {
-                "554449689410792579",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"duration-second\"]/unitPattern",
-                "{0} secs"
-            },
-            {
-                "4882917583739167832",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"duration-week\"]/unitPattern",
-                "{0} wks"
-            },
-            {
-                "472586723369834380",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"duration-year\"]/unitPattern",
-                "{0} yrs"
-            },
-            {
-                "2285422905436568924",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"length-centimeter\"]/unitPattern",
-                "{0} cm"
-            },
-            {
-                "3294843314278678466",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"length-foot\"]/unitPattern",
-                "{0} ft"
-            },
-            {
-                "3821750985615459474",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"length-inch\"]/unitPattern",
-                "{0} in"
-            },
-            {
-                "7990792530248711729",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"length-kilometer\"]/unitPattern",
-                "{0} km"
-            },
-            {
-                "3618286827065845044",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"length-light-year\"]/unitPattern",
-                "{0} ly"
-            },
-            {
-                "7391722380107405697",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"length-meter\"]/unitPattern",
-                "{0} m"
-            },
-            {
-                "8384818169426113087",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"length-mile\"]/unitPattern",
-                "{0} mi"
-            },
-            {
-                "8624225256024656025",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"length-millimeter\"]/unitPattern",
-                "{0} mm"
-            },
-            {
-                "3722348931860289945",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"length-picometer\"]/unitPattern",
-                "{0} pm"
-            },
-            {
-                "3063279905753640263",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"length-yard\"]/unitPattern",
-                "{0} yd"
-            },
-            {
-                "5458923988142490529",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"mass-gram\"]/unitPattern",
-                "{0} g"
-            },
-            {
-                "486238088722433797",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"mass-kilogram\"]/unitPattern",
-                "{0} kg"
-            },
-            {
-                "7667455564422560755",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"mass-ounce\"]/unitPattern",
-                "{0} oz"
-            },
-            {
-                "5381774480241007330",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"mass-pound\"]/unitPattern",
-                "{0} lb"
-            },
-            {
-                "8159008988661881306",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"power-horsepower\"]/unitPattern",
-                "{0} hp"
-            },
-            {
-                "6965678794161006202",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"power-kilowatt\"]/unitPattern",
-                "{0} kW"
-            },
-            {
-                "6030193940287398769",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"power-watt\"]/unitPattern",
-                "{0} W"
-            },
-            {
-                "4432467229223378824",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"pressure-hectopascal\"]/unitPattern",
-                "{0} hPa"
-            },
-            {
-                "8872276327365841823",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"pressure-inch-ofhg\"]/unitPattern",
-                "{0} inHg"
-            },
-            {
-                "1007131876340493048",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"pressure-millibar\"]/unitPattern",
-                "{0} mbar"
-            },
-            {
-                "1792382274299951330",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"speed-kilometer-per-hour\"]/unitPattern",
-                "{0} kph"
-            },
-            {
-                "678341565121186083",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"speed-meter-per-second\"]/unitPattern",
-                "{0} m/s"
-            },
-            {
-                "7248846721273325855",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"speed-mile-per-hour\"]/unitPattern",
-                "{0} mph"
-            },
-            {
-                "754781288889356689",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"temperature-celsius\"]/unitPattern",
-                "{0}°C"
-            },
-            {
-                "7114113645466503852",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"temperature-fahrenheit\"]/unitPattern",
-                "{0}°F"
-            },
-            {
-                "5631033805559719900",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"volume-cubic-kilometer\"]/unitPattern",
-                "{0} km³"
-            },
-            {
-                "836865631679100158",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"volume-cubic-mile\"]/unitPattern",
-                "{0} mi³"
-            },
-            {
-                "8915424922284415906",
-                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"volume-liter\"]/unitPattern",
-                "{0} l"
-            },
-        };
-        for (String[] pair : data) {
-            map.put(pair[0], pair[1]);
+    /** The table read from IdToPath.data */
+    static Table getTable() {
+        return Table.INSTANCE;
+    }
+
+    /**
+     * Write the table in the form read by this class, for the generator of the messages
+     *
+     * @param idToPathAndEnglish for each id, the path and the English value
+     * @param out the stream for IdToPath.data; not closed
+     */
+    public static void write(Map<Long, String[]> idToPathAndEnglish, OutputStream out)
+            throws IOException {
+        final TreeMap<Long, String[]> sorted = new TreeMap<>(idToPathAndEnglish);
+        final DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeUTF(FORMAT_KEY);
+        dataOut.writeInt(sorted.size());
+        for (Long id : sorted.keySet()) {
+            dataOut.writeLong(id);
+        }
+        final byte[][] strings = new byte[2 * sorted.size()][];
+        int i = 0;
+        for (Entry<Long, String[]> entry : sorted.entrySet()) {
+            strings[i++] = entry.getValue()[0].getBytes(StandardCharsets.UTF_8);
+            strings[i++] = entry.getValue()[1].getBytes(StandardCharsets.UTF_8);
+        }
+        int offset = 0;
+        for (byte[] s : strings) {
+            dataOut.writeInt(offset);
+            offset += s.length;
+        }
+        dataOut.writeInt(offset);
+        for (byte[] s : strings) {
+            dataOut.write(s);
         }
+        dataOut.flush();
     }
 }
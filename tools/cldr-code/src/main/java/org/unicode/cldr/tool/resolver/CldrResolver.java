@@ -8,14 +8,24 @@ import static org.unicode.cldr.util.XMLSource.CODE_FALLBACK_ID;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.TreeMultimap;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.PrintWriter;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
 import org.unicode.cldr.tool.FilterFactory;
 import org.unicode.cldr.tool.Option;
 import org.unicode.cldr.tool.Option.Options;
@@ -31,8 +41,11 @@ import org.unicode.cldr.util.SimpleXMLSource;
  * Class designed for the resolution of CLDR XML Files (e.g., removing aliases but leaving the
  * inheritance structure intact).
  *
- * <p>Instances of this class are not thread-safe. Any attempts to use an object of this class in
- * multiple threads must be externally synchronized.
+ * <p>Resolved files are cached and frozen, so that each locale is resolved at most once and can be
+ * shared with the resolution of its children. {@link #resolveLocale(String)} may be called from
+ * multiple threads, as long as the underlying {@link Factory} is thread-safe; {@link
+ * #resolveInParallel(String, File, int)} uses this to resolve independent subtrees of the locale
+ * tree concurrently.
  *
  * @author ryanmentley@google.com (Ryan Mentley), jchye@google.com (Jennifer Chye)
  */
@@ -69,7 +82,13 @@ public class CldrResolver {
                             'o',
                             ".*",
                             null,
-                            "Filter by this organization's coverage level");
+                            "Filter by this organization's coverage level")
+                    .add(
+                            "parallel",
+                            'p',
+                            "\\d+",
+                            String.valueOf(Runtime.getRuntime().availableProcessors()),
+                            "Resolve independent parts of the locale tree in parallel, with this many threads");
 
     /* Private instance variables */
     private Factory cldrFactory;
@@ -85,6 +104,10 @@ public class CldrResolver {
     private Cache<String, CLDRFile> resolvedCache =
             CacheBuilder.newBuilder().initialCapacity(INITIAL_RESOLVED_CACHE_SIZE).build();
 
+    // Cache for the paths of resolved CLDRFiles, used by children to add UNDEFINED values.
+    private Cache<String, Set<String>> resolvedPathsCache =
+            CacheBuilder.newBuilder().initialCapacity(INITIAL_RESOLVED_CACHE_SIZE).build();
+
     public static void main(String[] args) {
         options.parse(args, true);
 
@@ -146,7 +169,13 @@ public class CldrResolver {
 
         // Perform the resolution
         String localeRegex = options.get("locale").getValue();
-        resolver.resolve(localeRegex, destDir);
+        option = options.get("parallel");
+        if (option.doesOccur()) {
+            resolver.resolveInParallel(
+                    localeRegex, new File(destDir), Integer.parseInt(option.getValue()));
+        } else {
+            resolver.resolve(localeRegex, destDir);
+        }
         ResolverUtils.debugPrintln("Execution complete.", 3);
     }
 
@@ -190,6 +219,123 @@ public class CldrResolver {
         }
     }
 
+    /**
+     * Resolves all locales that match the given regular expression and outputs their XML files to
+     * the given directory, like {@link #resolve(String, File)}, but using multiple threads.
+     *
+     * <p>The locale tree is processed top-down: each parent is resolved once, before its
+     * children, and the frozen result is shared by all of them. Independent subtrees are resolved
+     * concurrently on a {@link ForkJoinPool}, and the output files are written asynchronously by
+     * a separate thread.
+     *
+     * @param localeRegex a regular expression that will be matched against the names of locales
+     * @param outputDir the directory to which to output the partially-resolved XML files
+     * @param parallelism the number of threads to use for resolution
+     * @throws IllegalArgumentException if outputDir is not a directory
+     */
+    public void resolveInParallel(String localeRegex, File outputDir, int parallelism) {
+        if (!outputDir.isDirectory()) {
+            throw new IllegalArgumentException(outputDir.getPath() + " is not a directory");
+        }
+        Set<String> locales = getLocaleNames(localeRegex);
+
+        // Build the tree of locales to process. For simple resolution, ancestors that don't match
+        // the regex are included, since they are needed to resolve their children anyway.
+        TreeMultimap<String, String> children = TreeMultimap.create();
+        Set<String> topLevel = new TreeSet<>();
+        for (String locale : locales) {
+            if (resolutionType != ResolutionType.SIMPLE) {
+                topLevel.add(locale);
+                continue;
+            }
+            String current = locale;
+            while (true) {
+                String parent = LocaleIDParser.getSimpleParent(current);
+                if (parent == null) {
+                    topLevel.add(current);
+                    break;
+                }
+                if (!children.put(parent, current)) {
+                    break; // the rest of the chain has already been added
+                }
+                current = parent;
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        List<Future<?>> writes = Collections.synchronizedList(new ArrayList<>());
+        try {
+            pool.invoke(new ResolveAction(topLevel, locales, children, outputDir, writer, writes));
+        } finally {
+            pool.shutdown();
+            writer.shutdown();
+        }
+        // Wait for all of the files to be written
+        for (Future<?> write : writes) {
+            try {
+                write.get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new IllegalStateException("Could not write resolved file", e);
+            }
+        }
+    }
+
+    /**
+     * Resolves a set of locales, and then their children, writing out those that were requested.
+     */
+    private class ResolveAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Collection<String> toResolve;
+        private final Set<String> toWrite;
+        private final TreeMultimap<String, String> children;
+        private final File outputDir;
+        private final ExecutorService writer;
+        private final List<Future<?>> writes;
+
+        ResolveAction(
+                Collection<String> toResolve,
+                Set<String> toWrite,
+                TreeMultimap<String, String> children,
+                File outputDir,
+                ExecutorService writer,
+                List<Future<?>> writes) {
+            this.toResolve = toResolve;
+            this.toWrite = toWrite;
+            this.children = children;
+            this.outputDir = outputDir;
+            this.writer = writer;
+            this.writes = writes;
+        }
+
+        @Override
+        protected void compute() {
+            if (toResolve.size() != 1) {
+                // Split into one independent subtree per locale
+                List<ResolveAction> subtrees = new ArrayList<>();
+                for (String locale : toResolve) {
+                    subtrees.add(child(Collections.singleton(locale)));
+                }
+                invokeAll(subtrees);
+                return;
+            }
+            String locale = toResolve.iterator().next();
+            CLDRFile resolved = resolveLocale(locale);
+            if (toWrite.contains(locale)) {
+                writes.add(writer.submit(() -> printToFile(resolved, outputDir)));
+            }
+            Set<String> localeChildren = children.get(locale);
+            if (!localeChildren.isEmpty()) {
+                child(localeChildren).compute();
+            }
+        }
+
+        private ResolveAction child(Collection<String> locales) {
+            return new ResolveAction(locales, toWrite, children, outputDir, writer, writes);
+        }
+    }
+
     /**
      * Returns the locale names from the resolver that match a given regular expression.
      *
@@ -219,19 +365,39 @@ public class CldrResolver {
      * Resolves a locale to a {@link CLDRFile} object
      *
      * @param locale the name of the locale to resolve
-     * @param resolutionType the type of resolution to perform
-     * @return a {@link CLDRFile} containing the resolved data
+     * @return a frozen {@link CLDRFile} containing the resolved data
      */
     public CLDRFile resolveLocale(String locale) {
-        // Create CLDRFile for current (base) locale
-        CLDRFile base = cldrFactory.make(locale, true);
-        CLDRFile resolved = resolvedCache.getIfPresent(locale);
-        if (resolved != null) return resolved;
-
-        ResolverUtils.debugPrintln("Processing " + locale + "...", 2);
-        resolved = resolveLocaleInternal(base, resolutionType);
-        resolvedCache.put(locale, resolved);
-        return resolved;
+        try {
+            // The cache makes sure that each locale is only resolved once, even if several
+            // threads ask for it (or for its children) at the same time.
+            return resolvedCache.get(
+                    locale,
+                    () -> {
+                        ResolverUtils.debugPrintln("Processing " + locale + "...", 2);
+                        // Create CLDRFile for current (base) locale
+                        CLDRFile base = cldrFactory.make(locale, true);
+                        return resolveLocaleInternal(base, resolutionType).freeze();
+                    });
+        } catch (ExecutionException e) {
+            throw new IllegalArgumentException("Could not resolve " + locale, e.getCause());
+        }
+    }
+
+    /**
+     * Returns the paths of a resolved locale, computing them only once per locale.
+     *
+     * @param locale the name of the resolved locale
+     * @return an immutable set of the distinguished paths in the resolved file
+     */
+    private Set<String> getResolvedPaths(String locale) {
+        try {
+            return resolvedPathsCache.get(
+                    locale,
+                    () -> ImmutableSet.copyOf(ResolverUtils.getAllPaths(resolveLocale(locale))));
+        } catch (ExecutionException e) {
+            throw new IllegalArgumentException("Could not resolve " + locale, e.getCause());
+        }
     }
 
     private CLDRFile resolveLocaleInternal(CLDRFile file, ResolutionType resolutionType) {
@@ -302,7 +468,7 @@ public class CldrResolver {
             CLDRFile ancestor = ancestors.get(0);
             ResolverUtils.debugPrintln(
                     "Adding UNDEFINED values based on ancestor: " + ancestor.getLocaleID(), 3);
-            for (String distinguishedPath : ResolverUtils.getAllPaths(ancestor)) {
+            for (String distinguishedPath : getResolvedPaths(ancestor.getLocaleID())) {
                 // Do the comparison with distinguished paths to prevent errors
                 // resulting from duplicate full paths but the same distinguished path
                 if (!basePaths.contains(distinguishedPath)
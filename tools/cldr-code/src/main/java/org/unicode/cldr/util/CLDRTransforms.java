@@ -20,6 +20,7 @@ import java.io.Writer;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -29,6 +30,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -102,11 +104,66 @@ public class CLDRTransforms {
         }
 
         // System.out.println(ordered);
-        for (String cldrFileName : ordered) {
-            r.registerTransliteratorsFromXML(
-                    dir, cldrFileName, Collections.emptySet(), keepDashTIds);
+        synchronized (CLDRTransforms.class) {
+            for (String cldrFileName : ordered) {
+                r.registerTransliteratorsFromXML(
+                        dir, cldrFileName, Collections.emptySet(), keepDashTIds);
+            }
+            if (dir.equals(TRANSFORM_DIR)) {
+                for (String file : ordered) {
+                    // the -t- aliases stay registered if an earlier call registered them
+                    registeredFiles.merge(file, keepDashTIds, Boolean::logicalOr);
+                }
+            }
+            Transliterator.registerAny(); // do this last!
         }
-        Transliterator.registerAny(); // do this last!
+    }
+
+    /**
+     * The files of TRANSFORM_DIR that have been registered, each with whether its -t- aliases
+     * were registered too
+     */
+    private static final Map<String, Boolean> registeredFiles = new HashMap<>();
+
+    /**
+     * Get a transliterator. The first time a CLDR transform is asked for, by its id or an alias,
+     * it is registered along with the CLDR transforms that its rules use; the other CLDR
+     * transforms are not compiled. This is much faster than {@link #registerCldrTransforms} when
+     * only a few transforms are needed.
+     *
+     * @param id the id or alias
+     * @return the CLDR transliterator, or ICU's if CLDR does not have one with this id
+     */
+    public static Transliterator getCldrTransliterator(String id) {
+        synchronized (CLDRTransforms.class) {
+            final TransformIndex index = getIndex(TRANSFORM_DIR);
+            final String file = index.idToFile.get(id);
+            if (file != null && registerWithDependencies(index, file, id.contains("-t-"))) {
+                Transliterator.registerAny(); // do this last!
+            }
+        }
+        return Transliterator.getInstance(id);
+    }
+
+    /**
+     * Register a file of TRANSFORM_DIR, with its -t- aliases, after the files that its rules use
+     *
+     * @param dashTIdNeeded if true, a file registered without its -t- aliases is registered again
+     * @return false if the file was registered already
+     */
+    private static boolean registerWithDependencies(
+            TransformIndex index, String file, boolean dashTIdNeeded) {
+        final Boolean withDashTIds = registeredFiles.put(file, true);
+        if (withDashTIds != null && (withDashTIds || !dashTIdNeeded)) {
+            registeredFiles.put(file, withDashTIds);
+            return false; // done already, or in progress
+        }
+        for (String dependency : index.fileToDependencies.get(file)) {
+            registerWithDependencies(index, dependency, false);
+        }
+        getInstance()
+                .registerTransliteratorsFromXML(TRANSFORM_DIR, file, Collections.emptySet(), true);
+        return true;
     }
 
     public static List<String> getAvailableIds() {
@@ -152,8 +209,17 @@ public class CLDRTransforms {
 
     public String registerTransliteratorsFromXML(
             String dir, String cldrFileName, Set<String> cantSkip, boolean keepDashTIds) {
-        ParsedTransformID directionInfo = new ParsedTransformID();
-        String ruleString = getIcuRulesFromXmlFile(dir, cldrFileName, directionInfo);
+        final TransformIndex index = INDEXES.get(dir);
+        final TransformFile parsed = index == null ? null : index.files.get(cldrFileName);
+        ParsedTransformID directionInfo;
+        String ruleString;
+        if (parsed != null) {
+            directionInfo = parsed.directionInfo;
+            ruleString = parsed.rules;
+        } else {
+            directionInfo = new ParsedTransformID();
+            ruleString = getIcuRulesFromXmlFile(dir, cldrFileName, directionInfo);
+        }
 
         String id = directionInfo.getId();
         addDisplayNameToId(displayNameToId, directionInfo);
@@ -985,7 +1051,7 @@ public class CLDRTransforms {
             default:
                 id = script + "-Latn";
         }
-        return Transliterator.getInstance(id);
+        return getCldrTransliterator(id);
     }
 
     /**
@@ -1002,6 +1068,40 @@ public class CLDRTransforms {
         if (dir == null) {
             dir = TRANSFORM_DIR;
         }
+        return getIndex(dir).order;
+    }
+
+    /** A transform file, as read */
+    private static final class TransformFile {
+        final ParsedTransformID directionInfo;
+        final String rules;
+
+        TransformFile(ParsedTransformID directionInfo, String rules) {
+            this.directionInfo = directionInfo;
+            this.rules = rules;
+        }
+    }
+
+    /**
+     * The transform files of a directory: their contents, the file of each id and alias, and the
+     * files that each one uses. Reading the files is much cheaper than compiling their rules.
+     */
+    private static final class TransformIndex {
+        final Map<String, TransformFile> files = new TreeMap<>();
+        final Map<String, String> idToFile = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        final Multimap<String, String> fileToDependencies = TreeMultimap.create();
+        Set<String> order;
+    }
+
+    /** The index of each directory, read once */
+    private static final Map<String, TransformIndex> INDEXES = new ConcurrentHashMap<>();
+
+    private static TransformIndex getIndex(String dir) {
+        return INDEXES.computeIfAbsent(dir, CLDRTransforms::readIndex);
+    }
+
+    private static TransformIndex readIndex(String dir) {
+        final TransformIndex index = new TransformIndex();
         List<String> files = getAvailableIds();
         Multimap<String, String> fileToAliases = HashMultimap.create();
         Multimap<String, String> fileToDependencies = TreeMultimap.create();
@@ -1016,6 +1116,7 @@ public class CLDRTransforms {
             //            ::NFC;
             ParsedTransformID directionInfo = new ParsedTransformID();
             String ruleString = getIcuRulesFromXmlFile(dir, file, directionInfo);
+            index.files.put(file, new TransformFile(directionInfo, ruleString));
             Set<String> others = new LinkedHashSet<>();
             Set<String> order =
                     ruleString
@@ -1056,7 +1157,10 @@ public class CLDRTransforms {
         }
         TreeMultimap<String, String> aliasesToFile =
                 Multimaps.invertFrom(fileToAliases, TreeMultimap.create());
-        Multimap<String, String> fileToDependentFiles = TreeMultimap.create();
+        Multimap<String, String> fileToDependentFiles = index.fileToDependencies;
+        for (Entry<String, String> entry : aliasesToFile.entries()) {
+            index.idToFile.putIfAbsent(entry.getKey(), entry.getValue());
+        }
 
         for (Entry<String, Collection<String>> entry : fileToDependencies.asMap().entrySet()) {
             Set<String> v =
@@ -1086,7 +1190,8 @@ public class CLDRTransforms {
         if (SHOW_FAILED_MATCHES) {
             System.out.println(orderedDependents);
         }
-        return ImmutableSet.copyOf(orderedDependents);
+        index.order = ImmutableSet.copyOf(orderedDependents);
+        return index;
     }
     // fails match: :: [:Latin:] fullwidth-halfwidth ();
 
@@ -1,6 +1,8 @@
 package org.unicode.cldr.util;
 
 import com.google.common.base.Splitter;
+import com.google.common.cache.AbstractCache;
+import com.google.common.cache.CacheStats;
 import com.ibm.icu.impl.Relation;
 import com.ibm.icu.impl.Row;
 import com.ibm.icu.lang.UCharacter;
@@ -24,6 +26,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -627,6 +630,91 @@ public class PathHeader implements Comparable<PathHeader> {
         return sectionId.hashCode() ^ pageId.hashCode() ^ header.hashCode() ^ code.hashCode();
     }
 
+    /**
+     * An immutable snapshot of the paths on each page, as known to the PathHeader cache when the
+     * snapshot was made. Get the current one with {@link Factory#getPageIndex()}; a new snapshot is
+     * only built after new paths have been added to the cache, so readers never lock or rescan.
+     */
+    public static class PageIndex {
+        private final long version;
+        private final Map<SectionId, Map<PageId, IndexedPage>> sectionToPageToPaths;
+
+        /** The paths of one page in PathHeader order, and their coverage counts per locale */
+        private static class IndexedPage {
+            private final List<String> paths;
+            private final Map<String, int[]> localeToLevelCounts = new ConcurrentHashMap<>();
+
+            private IndexedPage(String[] paths) {
+                this.paths = Collections.unmodifiableList(Arrays.asList(paths));
+            }
+
+            private int[] getLevelCounts(String localeId) {
+                return localeToLevelCounts.computeIfAbsent(
+                        localeId,
+                        loc -> {
+                            CoverageInfo coverageInfo = CLDRConfig.getInstance().getCoverageInfo();
+                            int[] counts = new int[Level.values().length];
+                            for (String path : paths) {
+                                ++counts[coverageInfo.getCoverageLevel(path, loc).ordinal()];
+                            }
+                            return counts;
+                        });
+            }
+        }
+
+        private PageIndex(
+                long version, Map<SectionId, Map<PageId, IndexedPage>> sectionToPageToPaths) {
+            this.version = version;
+            this.sectionToPageToPaths = sectionToPageToPaths;
+        }
+
+        private IndexedPage getPage(SectionId sectionId, PageId pageId) {
+            Map<PageId, IndexedPage> pageToPaths = sectionToPageToPaths.get(sectionId);
+            return pageToPaths == null ? null : pageToPaths.get(pageId);
+        }
+
+        /** The version of the PathHeader cache that this index was built from */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * Return the paths of the given section and page, in PathHeader order. The list is empty
+         * if the section/page aren't valid, and has the same caveats as {@link
+         * Factory#getCachedPaths(SectionId, PageId)}.
+         */
+        public List<String> getPaths(SectionId sectionId, PageId pageId) {
+            IndexedPage page = getPage(sectionId, pageId);
+            return page == null ? Collections.emptyList() : page.paths;
+        }
+
+        /**
+         * Return the number of paths of the given section and page that have exactly the given
+         * coverage level in the given locale. Computed once per locale and page.
+         */
+        public int getCount(SectionId sectionId, PageId pageId, String localeId, Level level) {
+            IndexedPage page = getPage(sectionId, pageId);
+            return page == null ? 0 : page.getLevelCounts(localeId)[level.ordinal()];
+        }
+
+        /**
+         * Return the lowest coverage level of any path of the given section and page in the given
+         * locale, or {@link Level#COMPREHENSIVE} if there are none.
+         */
+        public Level getMinimumLevel(SectionId sectionId, PageId pageId, String localeId) {
+            IndexedPage page = getPage(sectionId, pageId);
+            if (page != null) {
+                int[] counts = page.getLevelCounts(localeId);
+                for (Level level : Level.values()) {
+                    if (counts[level.ordinal()] != 0) {
+                        return level;
+                    }
+                }
+            }
+            return Level.COMPREHENSIVE;
+        }
+    }
+
     public static class Factory implements Transform<String, PathHeader> {
         static final RegexLookup<RawData> lookup =
                 RegexLookup.of(new PathHeaderTransform())
@@ -648,6 +736,14 @@ public class PathHeader implements Comparable<PathHeader> {
                 new EnumMap<>(SectionId.class);
         static final Relation<SectionPage, String> sectionPageToPaths =
                 Relation.of(new TreeMap<SectionPage, Set<String>>(), HashSet.class);
+        // changed with cache, whenever a path is added to sectionPageToPaths or the cache cleared
+        private static volatile long pathsVersion = 0;
+        // synchronized with cache: the pathsVersion when a path was last added to each page
+        private static final Map<SectionPage, Long> sectionPageToVersion = new HashMap<>();
+        // only replaced by a newer index, synchronized with PageIndex.class
+        private static volatile PageIndex pageIndex = null;
+        private static final AbstractCache.SimpleStatsCounter cacheStats =
+                new AbstractCache.SimpleStatsCounter();
         private static CLDRFile englishFile;
         private Set<String> matchersFound = new HashSet<>();
 
@@ -680,9 +776,19 @@ public class PathHeader implements Comparable<PathHeader> {
         public void clearCache() {
             synchronized (cache) {
                 cache.clear();
+                ++pathsVersion;
+                pageIndex = null; // the PathHeader order is gone, so rebuild every page
             }
         }
 
+        /**
+         * Hit and miss counts for the PathHeader cache. Nothing is ever evicted from it, and
+         * clearCache is not counted, so the eviction count is always 0.
+         */
+        public static CacheStats getCacheStats() {
+            return cacheStats.snapshot();
+        }
+
         /** Return the PathHeader for a given path. Thread-safe. */
         public PathHeader fromPath(String path) {
             return fromPath(path, null);
@@ -706,9 +812,11 @@ public class PathHeader implements Comparable<PathHeader> {
             synchronized (cache) {
                 PathHeader old = cache.get(path);
                 if (old != null) {
+                    cacheStats.recordHits(1);
                     return old;
                 }
             }
+            cacheStats.recordMisses(1);
             synchronized (lookup) {
                 String cleanPath = path;
                 // special handling for alt
@@ -774,7 +882,11 @@ public class PathHeader implements Comparable<PathHeader> {
                             sectionPage = new SectionPage(result.sectionId, result.pageId);
                             pageToPathHeaders.put(result.pageId, sectionPage);
                         }
-                        sectionPageToPaths.put(sectionPage, path);
+                        Set<String> paths = sectionPageToPaths.get(sectionPage);
+                        if (paths == null || !paths.contains(path)) {
+                            sectionPageToPaths.put(sectionPage, path);
+                            sectionPageToVersion.put(sectionPage, ++pathsVersion);
+                        }
                     }
                     return result;
                 } catch (Exception e) {
@@ -849,21 +961,70 @@ public class PathHeader implements Comparable<PathHeader> {
          * @target a collection where the paths are to be returned.
          */
         public static Set<String> getCachedPaths(SectionId sectionId, PageId page) {
-            Set<String> target = new HashSet<>();
+            return new HashSet<>(getPageIndex().getPaths(sectionId, page));
+        }
+
+        /** Order paths by their PathHeaders, as copied from the cache */
+        private static int comparePathHeaders(Map<String, PathHeader> headers, String a, String b) {
+            PathHeader pa = headers.get(a);
+            PathHeader pb = headers.get(b);
+            if (pa == null || pb == null) { // cleared from the cache: put them last
+                return pa != null ? -1 : pb != null ? 1 : a.compareTo(b);
+            }
+            int result = pa.compareTo(pb);
+            return result != 0 ? result : a.compareTo(b);
+        }
+
+        /**
+         * Return an index of the paths currently associated with each section and page. Only the
+         * pages to which paths have been added since the last index are rebuilt; the others, with
+         * their coverage counts, are shared with it. The paths of those pages are copied under the
+         * cache lock, but sorted outside of it. Thread-safe.
+         */
+        public static PageIndex getPageIndex() {
+            PageIndex base = pageIndex;
+            if (base != null && base.version == pathsVersion) {
+                return base;
+            }
+            final long version;
+            final Map<SectionPage, Map<String, PathHeader>> changedPages = new HashMap<>();
             synchronized (cache) {
-                Map<PageId, SectionPage> pageToSectionPage =
-                        sectionToPageToSectionPage.get(sectionId);
-                if (pageToSectionPage == null) {
-                    return target;
+                base = pageIndex;
+                version = pathsVersion;
+                for (Entry<SectionPage, Long> entry : sectionPageToVersion.entrySet()) {
+                    if (base == null || entry.getValue() > base.version) {
+                        Map<String, PathHeader> headers = new HashMap<>();
+                        for (String path : sectionPageToPaths.get(entry.getKey())) {
+                            headers.put(path, cache.get(path));
+                        }
+                        changedPages.put(entry.getKey(), headers);
+                    }
                 }
-                SectionPage sectionPage = pageToSectionPage.get(page);
-                if (sectionPage == null) {
-                    return target;
+            }
+            Map<SectionId, Map<PageId, PageIndex.IndexedPage>> sectionToPageToPaths =
+                    new EnumMap<>(SectionId.class);
+            if (base != null) {
+                base.sectionToPageToPaths.forEach(
+                        (sectionId, pages) ->
+                                sectionToPageToPaths.put(sectionId, new EnumMap<>(pages)));
+            }
+            for (Entry<SectionPage, Map<String, PathHeader>> entry : changedPages.entrySet()) {
+                SectionPage sectionPage = entry.getKey();
+                Map<String, PathHeader> headers = entry.getValue();
+                String[] paths = headers.keySet().toArray(new String[0]);
+                Arrays.sort(paths, (a, b) -> comparePathHeaders(headers, a, b));
+                sectionToPageToPaths
+                        .computeIfAbsent(sectionPage.sectionId, k -> new EnumMap<>(PageId.class))
+                        .put(sectionPage.pageId, new PageIndex.IndexedPage(paths));
+            }
+            PageIndex index = new PageIndex(version, sectionToPageToPaths);
+            synchronized (PageIndex.class) {
+                // another thread may have built a newer one meanwhile
+                if (pageIndex == null || pageIndex.version < version) {
+                    pageIndex = index;
                 }
-                Set<String> set = sectionPageToPaths.getAll(sectionPage);
-                target.addAll(set);
+                return pageIndex;
             }
-            return target;
         }
 
         /**
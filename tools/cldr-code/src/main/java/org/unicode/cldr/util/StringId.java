@@ -16,17 +16,18 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class StringId {
     private static final Map<String, Long> STRING_TO_ID = new ConcurrentHashMap<>();
     private static final Map<Long, String> ID_TO_STRING = new ConcurrentHashMap<>();
-    private static final MessageDigest digest;
+    /** One digest per thread, so that computing new ids does not contend for a lock */
+    private static final ThreadLocal<MessageDigest> digest =
+            ThreadLocal.withInitial(
+                    () -> {
+                        try {
+                            return MessageDigest.getInstance("SHA-1");
+                        } catch (Exception e) {
+                            throw new IllegalArgumentException(e); // darn'd checked exceptions
+                        }
+                    });
     private static final int RETRY_LIMIT = 9;
 
-    static {
-        try {
-            digest = MessageDigest.getInstance("SHA-1");
-        } catch (Exception e) {
-            throw new IllegalArgumentException(e); // darn'd checked exceptions
-        }
-    }
-
     /**
      * Get the ID for a string.
      *
@@ -42,19 +43,17 @@ public final class StringId {
         int retryCount = RETRY_LIMIT;
         while (true) {
             try {
-                synchronized (digest) {
-                    byte[] hash = digest.digest(string.getBytes(StandardCharsets.UTF_8));
-                    long result = 0;
-                    for (int i = 0; i < 8; ++i) {
-                        result <<= 8;
-                        result ^= hash[i];
-                    }
-                    // mash the top bit to make things easier
-                    result &= 0x7FFFFFFFFFFFFFFFL;
-                    STRING_TO_ID.put(string, result);
-                    ID_TO_STRING.put(result, string);
-                    return result;
+                byte[] hash = digest.get().digest(string.getBytes(StandardCharsets.UTF_8));
+                long result = 0;
+                for (int i = 0; i < 8; ++i) {
+                    result <<= 8;
+                    result ^= hash[i];
                 }
+                // mash the top bit to make things easier
+                result &= 0x7FFFFFFFFFFFFFFFL;
+                STRING_TO_ID.put(string, result);
+                ID_TO_STRING.put(result, string);
+                return result;
             } catch (RuntimeException e) {
                 if (--retryCount < 0) {
                     throw e;
@@ -4,6 +4,8 @@ import static org.unicode.cldr.util.PathUtilities.getNormalizedPathString;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.cache.AbstractCache;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
@@ -2624,6 +2626,8 @@ public class SupplementalDataInfo {
     private class CoverageCache {
         private final Deque<Node> localeList = new LinkedList<>();
         private final int MAX_LOCALES = 10;
+        private final AbstractCache.SimpleStatsCounter stats =
+                new AbstractCache.SimpleStatsCounter();
 
         /** Object to sync on for modifying the locale list */
         private final Object LOCALE_LIST_ITER_SYNC = new Object();
@@ -2654,11 +2658,17 @@ public class SupplementalDataInfo {
                         break;
                     }
                 }
+                Level result = null;
                 if (reAddNode != null) {
                     localeList.addFirst(reAddNode);
-                    return reAddNode.map.get(xpath);
+                    result = reAddNode.map.get(xpath);
                 }
-                return null;
+                if (result == null) {
+                    stats.recordMisses(1);
+                } else {
+                    stats.recordHits(1);
+                }
+                return result;
             }
         }
 
@@ -2688,6 +2698,7 @@ public class SupplementalDataInfo {
 
                 if (localeList.size() > MAX_LOCALES) {
                     localeList.removeLast();
+                    stats.recordEviction();
                 }
             }
         }
@@ -2707,6 +2718,11 @@ public class SupplementalDataInfo {
         }
     }
 
+    /** Hit, miss and eviction (of a whole locale) counts for the coverage level cache */
+    public CacheStats getCoverageCacheStats() {
+        return coverageCache.stats.snapshot();
+    }
+
     /**
      * Used to get the coverage value for a path. Note, it is more efficient to create a
      * CoverageLevel2 for a language, and keep it around.
@@ -1,5 +1,7 @@
 package org.unicode.cldr.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.ibm.icu.impl.Relation;
 import com.ibm.icu.impl.Row;
 import com.ibm.icu.impl.Row.R2;
@@ -23,9 +25,11 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
 import org.unicode.cldr.test.CheckCLDR;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus.Subtype;
@@ -274,6 +278,141 @@ public class VettingViewer<T> {
         }
     }
 
+    /** The organization-independent results of checking one path with one value. */
+    private static class PathErrorInfo {
+        private final String value;
+        private final ErrorChecker.Status status;
+        private final String statusMessage;
+        private final EnumSet<Subtype> subtypes;
+        private final Level pathLevel;
+
+        private PathErrorInfo(
+                String value,
+                ErrorChecker.Status status,
+                String statusMessage,
+                EnumSet<Subtype> subtypes,
+                Level pathLevel) {
+            this.value = value;
+            this.status = status;
+            this.statusMessage = statusMessage;
+            this.subtypes = subtypes;
+            this.pathLevel = pathLevel;
+        }
+    }
+
+    /**
+     * The organization-independent results for one locale: the error status and coverage level of
+     * each path. The CheckCLDR is set up once per CLDRFile, and a path is checked again only when
+     * its winning value has changed.
+     */
+    private static class LocaleErrorInfo {
+        private final String localeId;
+        private final DefaultErrorStatus errorChecker;
+        private final SupplementalDataInfo supplementalDataInfo;
+        private final Map<String, PathErrorInfo> pathToInfo = new ConcurrentHashMap<>();
+        private CLDRFile checkedFile = null;
+
+        private LocaleErrorInfo(
+                String localeId, Factory cldrFactory, SupplementalDataInfo supplementalDataInfo) {
+            this.localeId = localeId;
+            this.errorChecker = new DefaultErrorStatus(cldrFactory);
+            this.supplementalDataInfo = supplementalDataInfo;
+        }
+
+        private synchronized void init(CLDRFile sourceFile) {
+            if (checkedFile != sourceFile) {
+                errorChecker.initErrorStatus(sourceFile);
+                checkedFile = sourceFile;
+                pathToInfo.clear();
+            }
+        }
+
+        private PathErrorInfo get(String path, String value) {
+            PathErrorInfo info = pathToInfo.get(path);
+            if (info == null || !Objects.equals(info.value, value)) {
+                info = check(path, value);
+                pathToInfo.put(path, info);
+            }
+            return info;
+        }
+
+        /** CheckCLDR is not thread-safe, so only one organization may check at a time */
+        private synchronized PathErrorInfo check(String path, String value) {
+            StringBuilder statusMessage = new StringBuilder();
+            EnumSet<Subtype> subtypes = EnumSet.noneOf(Subtype.class);
+            ErrorChecker.Status status =
+                    errorChecker.getErrorStatus(path, value, statusMessage, subtypes);
+            Level pathLevel = supplementalDataInfo.getCoverageLevel(path, localeId);
+            return new PathErrorInfo(value, status, statusMessage.toString(), subtypes, pathLevel);
+        }
+    }
+
+    /**
+     * Per-locale results shared by all VettingViewer objects that use the same instance, so that
+     * summaries for several organizations, running at the same time or one after another, check
+     * each locale only once. Entries expire after the given number of seconds.
+     *
+     * <p>Add this as a listener to the locales' XMLSources, as for TestCache, so that the entries
+     * for a locale and its sublocales are removed when one of its values changes.
+     */
+    public static class SharedLocaleData implements XMLSource.Listener {
+        private final Factory cldrFactory;
+        private final SupplementalDataInfo supplementalDataInfo;
+        private final Cache<String, LocaleErrorInfo> localeToInfo;
+
+        public SharedLocaleData(
+                Factory cldrFactory,
+                SupplementalDataInfo supplementalDataInfo,
+                long expireSeconds) {
+            this.cldrFactory = cldrFactory;
+            this.supplementalDataInfo = supplementalDataInfo;
+            this.localeToInfo =
+                    CacheBuilder.newBuilder()
+                            .expireAfterWrite(expireSeconds, TimeUnit.SECONDS)
+                            .build();
+        }
+
+        private LocaleErrorInfo get(String localeId) {
+            return localeToInfo
+                    .asMap()
+                    .computeIfAbsent(
+                            localeId,
+                            k -> new LocaleErrorInfo(k, cldrFactory, supplementalDataInfo));
+        }
+
+        /** Forget everything, for example after a bulk change to the data */
+        public void clear() {
+            localeToInfo.invalidateAll();
+        }
+
+        @Override
+        public void valueChanged(String xpath, XMLSource source) {
+            invalidate(CLDRLocale.getInstance(source.getLocaleID()));
+        }
+
+        /** Forget the locale and its sublocales, whose checks may depend on its values */
+        private void invalidate(CLDRLocale locale) {
+            localeToInfo.invalidate(locale.getBaseName());
+            if (cldrFactory instanceof CLDRLocale.SublocaleProvider) {
+                for (CLDRLocale sub :
+                        ((CLDRLocale.SublocaleProvider) cldrFactory).subLocalesOf(locale)) {
+                    invalidate(sub);
+                }
+            }
+        }
+    }
+
+    private SharedLocaleData sharedLocaleData = null;
+
+    /**
+     * Share the per-locale check results with other VettingViewer objects
+     *
+     * @param sharedLocaleData the shared data, or null to check each locale independently
+     */
+    public void setSharedLocaleData(SharedLocaleData sharedLocaleData) {
+        this.sharedLocaleData = sharedLocaleData;
+    }
+
     private final Factory cldrFactory;
     private final CLDRFile englishFile;
     private final UsersChoice<T> userVoteStatus;
@@ -456,7 +595,9 @@ public class VettingViewer<T> {
         private final StringBuilder htmlMessage = new StringBuilder();
         private final StringBuilder statusMessage = new StringBuilder();
         private final EnumSet<Subtype> subtypes = EnumSet.noneOf(Subtype.class);
-        private final DefaultErrorStatus errorChecker = new DefaultErrorStatus(cldrFactory);
+        private final DefaultErrorStatus errorChecker =
+                (sharedLocaleData == null) ? new DefaultErrorStatus(cldrFactory) : null;
+        private LocaleErrorInfo sharedErrorInfo = null;
 
         /** If not null, getFileInfo will skip all paths except this one */
         private String specificSinglePath = null;
@@ -474,7 +615,12 @@ public class VettingViewer<T> {
             if (progressCallback.isStopped()) {
                 throw new RuntimeException("Requested to stop");
             }
-            errorChecker.initErrorStatus(sourceFile);
+            if (errorChecker != null) {
+                errorChecker.initErrorStatus(sourceFile);
+            } else {
+                sharedErrorInfo = sharedLocaleData.get(localeId);
+                sharedErrorInfo.init(sourceFile);
+            }
             if (specificSinglePath != null) {
                 handleOnePath(specificSinglePath);
                 return;
@@ -498,11 +644,19 @@ public class VettingViewer<T> {
             String value = sourceFile.getWinningValue(path);
             statusMessage.setLength(0);
             subtypes.clear();
-            ErrorChecker.Status errorStatus =
-                    errorChecker.getErrorStatus(path, value, statusMessage, subtypes);
-
-            // note that the value might be missing!
-            Level pathLevel = supplementalDataInfo.getCoverageLevel(path, localeId);
+            ErrorChecker.Status errorStatus;
+            Level pathLevel;
+            if (sharedErrorInfo != null) {
+                PathErrorInfo info = sharedErrorInfo.get(path, value);
+                errorStatus = info.status;
+                statusMessage.append(info.statusMessage);
+                subtypes.addAll(info.subtypes);
+                pathLevel = info.pathLevel;
+            } else {
+                errorStatus = errorChecker.getErrorStatus(path, value, statusMessage, subtypes);
+                // note that the value might be missing!
+                pathLevel = supplementalDataInfo.getCoverageLevel(path, localeId);
+            }
 
             // skip all but errors above the requested level
             boolean pathLevelIsTooHigh = pathLevel.compareTo(usersLevel) > 0;
@@ -828,6 +982,7 @@ public class VettingViewer<T> {
         private final Map<String, VettingViewer<T>.FileInfo> localeNameToFileInfo;
         private final String header;
         private final int configChunkSize; // Number of locales to process at once, minimum 1
+        private final int configParallel; // Number of threads, 1 means no ForkJoinPool
 
         private WriteContext(
                 Set<Entry<String, String>> entrySet,
@@ -878,13 +1033,7 @@ public class VettingViewer<T> {
             // setup env
             CLDRConfig config = CLDRConfig.getInstance();
 
-            // parallelism. 0 means "let Java decide"
-            int configParallel = Math.max(config.getProperty("CLDR_VETTINGVIEWER_PARALLEL", 0), 0);
-            if (configParallel < 1) {
-                configParallel =
-                        java.lang.Runtime.getRuntime()
-                                .availableProcessors(); // matches ForkJoinPool() behavior
-            }
+            this.configParallel = SummaryPool.PARALLEL;
             this.configChunkSize =
                     Math.max(config.getProperty("CLDR_VETTINGVIEWER_CHUNKSIZE", 1), 1);
             if (DEBUG) {
@@ -931,6 +1080,27 @@ public class VettingViewer<T> {
         }
     }
 
+    /**
+     * The pool for writing Priority Items Summaries concurrently, shared by the summaries of all
+     * organizations, so that idle workers steal locales from whichever summary still has work
+     * left. Only used if CLDR_VETTINGVIEWER_PARALLEL is more than 1.
+     */
+    private static final class SummaryPool {
+        /**
+         * Number of threads. The default is 1, so the locales are written one after another; 0 or
+         * less means one per processor.
+         */
+        static final int PARALLEL = getParallel();
+
+        static final ForkJoinPool INSTANCE = PARALLEL > 1 ? new ForkJoinPool(PARALLEL) : null;
+
+        private static int getParallel() {
+            final int configParallel =
+                    CLDRConfig.getInstance().getProperty("CLDR_VETTINGVIEWER_PARALLEL", 1);
+            return configParallel < 1 ? Runtime.getRuntime().availableProcessors() : configParallel;
+        }
+    }
+
     /**
      * Worker action to implement parallel Vetting Viewer writes. This takes a WriteContext as a
      * parameter, as well as a subset of the locales to operate on.
@@ -1038,7 +1208,9 @@ public class VettingViewer<T> {
                 context.localeNameToFileInfo.put(name, fileInfo);
             }
 
-            context.totals.addAll(fileInfo.vc);
+            synchronized (context.totals) {
+                context.totals.addAll(fileInfo.vc);
+            }
             if (DEBUG_THREADS) {
                 System.out.println(
                         "writeAction.compute(" + n + ") - got fileinfo " + name + ": " + localeID);
@@ -1086,7 +1258,8 @@ public class VettingViewer<T> {
         output.append("<table class='tvs-table'>\n");
 
         // Caution: localeNameToFileInfo, if not null, may lead to running out of memory
-        Map<String, FileInfo> localeNameToFileInfo = SHOW_SUBTYPES ? new TreeMap<>() : null;
+        Map<String, FileInfo> localeNameToFileInfo =
+                SHOW_SUBTYPES ? Collections.synchronizedMap(new TreeMap<>()) : null;
 
         VettingCounters totals = new VettingCounters();
 
@@ -1098,8 +1271,8 @@ public class VettingViewer<T> {
                         entrySet, choices, organization, totals, localeNameToFileInfo, header);
 
         WriteAction writeAction = this.new WriteAction(context);
-        if (USE_FORKJOIN) {
-            ForkJoinPool.commonPool().invoke(writeAction);
+        if (context.configParallel > 1) {
+            SummaryPool.INSTANCE.invoke(writeAction);
         } else {
             if (DEBUG) {
                 System.out.println(
@@ -1136,8 +1309,6 @@ public class VettingViewer<T> {
         return sortedNames;
     }
 
-    private final boolean USE_FORKJOIN = false;
-
     private void showSubtypes(
             Appendable output,
             Map<String, String> sortedNames,
@@ -1175,7 +1346,7 @@ public class VettingViewer<T> {
                 long count = counter.get(subtype);
                 output.append("<td class='tvs-count'>");
                 if (count != 0) {
-                    output.append(nf.format(count));
+                    output.append(formatCount(count));
                 }
                 output.append("</td>");
             }
@@ -1193,7 +1364,7 @@ public class VettingViewer<T> {
             long count = subtypeCounterTotals.get(subtype);
             output.append("<td class='tvs-count'>");
             if (count != 0) {
-                output.append("<b>").append(nf.format(count)).append("</b>");
+                output.append("<b>").append(formatCount(count)).append("</b>");
             }
             output.append("</td>");
         }
@@ -1283,7 +1454,7 @@ public class VettingViewer<T> {
             if (localeID == null) {
                 output.append("<b>");
             }
-            output.append(nf.format(count));
+            output.append(formatCount(count));
             if (localeID == null) {
                 output.append("</b>");
             }
@@ -1558,6 +1729,13 @@ public class VettingViewer<T> {
         nf.setGroupingUsed(true);
     }
 
+    /** NumberFormat is not thread-safe, and summary rows may be written by several threads */
+    private static String formatCount(long count) {
+        synchronized (nf) {
+            return nf.format(count);
+        }
+    }
+
     /**
      * Class that allows the relaying of progress information
      *
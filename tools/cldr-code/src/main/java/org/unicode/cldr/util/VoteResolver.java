@@ -1,6 +1,7 @@
 package org.unicode.cldr.util;
 
 import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.ibm.icu.text.Collator;
 import com.ibm.icu.util.Output;
@@ -212,14 +213,14 @@ public class VoteResolver<T> {
          * @return the Level corresponding to the integer
          */
         public static Level fromSTLevel(int stlevel) {
-            for (Level l : Level.values()) {
-                if (l.getSTLevel() == stlevel) {
-                    return l;
-                }
-            }
-            return null;
+            return BY_STLEVEL.get(stlevel);
         }
 
+        /** Called for every permission check on a user, so it is a lookup rather than a loop */
+        private static final ImmutableMap<Integer, Level> BY_STLEVEL =
+                Arrays.stream(values())
+                        .collect(ImmutableMap.toImmutableMap(Level::getSTLevel, l -> l));
+
         /**
          * Policy: can this user manage the "other" user's settings?
          *
@@ -543,14 +544,25 @@ public class VoteResolver<T> {
         }
     }
 
-    /** Internal class for getting from an organization to its vote. */
+    /**
+     * Internal class for getting from an organization to its vote.
+     *
+     * <p>It is kept for the life of the VoteResolver and cleared for each path. Only a few of the
+     * organizations vote on any one path, so only their counters are visited or cleared.
+     */
     private class OrganizationToValueAndVote<T> {
         private final Map<Organization, MaxCounter<T>> orgToVotes =
                 new EnumMap<>(Organization.class);
         private final Counter<T> totalVotes = new Counter<>();
-        private final Map<Organization, Integer> orgToMax = new EnumMap<>(Organization.class);
+
+        /** The organizations with votes on this path, in the same order as orgToVotes */
+        private final EnumSet<Organization> votingOrgs = EnumSet.noneOf(Organization.class);
+
+        /** The highest vote by each organization in votingOrgs, by ordinal */
+        private final int[] orgToMax = new int[Organization.values().length];
+
         private final Counter<T> totals = new Counter<>(true);
-        private Map<String, Long> nameTime = new LinkedHashMap<>();
+        private final Map<String, Long> nameTime = new LinkedHashMap<>();
         // map an organization to what it voted for.
         private final Map<Organization, T> orgToAdd = new EnumMap<>(Organization.class);
         private T baileyValue;
@@ -564,17 +576,16 @@ public class VoteResolver<T> {
 
         /** Call clear before considering each new path */
         public void clear() {
-            for (Map.Entry<Organization, MaxCounter<T>> entry : orgToVotes.entrySet()) {
-                entry.getValue().clear();
+            for (Organization org : votingOrgs) {
+                orgToVotes.get(org).clear();
+                orgToMax[org.ordinal()] = 0;
             }
+            votingOrgs.clear();
             orgToAdd.clear();
-            orgToMax.clear();
             totalVotes.clear();
+            nameTime.clear();
             baileyValue = null;
             baileySet = false;
-            if (transcript != null) {
-                transcript = new StringBuilder();
-            }
         }
 
         /**
@@ -654,9 +665,8 @@ public class VoteResolver<T> {
             }
 
             // add the new votes to orgToMax, if they are greater that what was there
-            Integer max = orgToMax.get(info.getOrganization());
-            if (max == null || max < votes) {
-                orgToMax.put(organization, votes);
+            if (votingOrgs.add(organization) || orgToMax[organization.ordinal()] < votes) {
+                orgToMax[organization.ordinal()] = votes;
             }
         }
 
@@ -675,8 +685,8 @@ public class VoteResolver<T> {
             totals.clear();
 
             annotateTranscript("- Getting all totals by organization:");
-            for (Map.Entry<Organization, MaxCounter<T>> entry : orgToVotes.entrySet()) {
-                Counter<T> items = entry.getValue();
+            for (Organization org : votingOrgs) {
+                Counter<T> items = orgToVotes.get(org);
                 if (items.size() == 0) {
                     continue;
                 }
@@ -688,8 +698,7 @@ public class VoteResolver<T> {
                 }
                 annotateTranscript(
                         "-- Considering %s which has %d item(s)",
-                        entry.getKey().getDisplayName(), items.size());
-                Organization org = entry.getKey();
+                        org.getDisplayName(), items.size());
                 if (DEBUG) {
                     System.out.println("sortedKeys?? " + value + " " + org.getDisplayName());
                 }
@@ -790,8 +799,8 @@ public class VoteResolver<T> {
 
         public int getOrgCount(T winningValue) {
             int orgCount = 0;
-            for (Map.Entry<Organization, MaxCounter<T>> entry : orgToVotes.entrySet()) {
-                Counter<T> counter = entry.getValue();
+            for (Organization org : votingOrgs) {
+                Counter<T> counter = orgToVotes.get(org);
                 long count = counter.getCount(winningValue);
                 if (count > 0) {
                     orgCount++;
@@ -802,8 +811,8 @@ public class VoteResolver<T> {
 
         private int getBestPossibleVote() {
             int total = 0;
-            for (Map.Entry<Organization, Integer> entry : orgToMax.entrySet()) {
-                total += entry.getValue();
+            for (Organization org : votingOrgs) {
+                total += orgToMax[org.ordinal()];
             }
             return total;
         }
@@ -811,13 +820,12 @@ public class VoteResolver<T> {
         @Override
         public String toString() {
             String orgToVotesString = "";
-            for (Entry<Organization, MaxCounter<T>> entry : orgToVotes.entrySet()) {
-                Counter<T> counter = entry.getValue();
+            for (Organization org : votingOrgs) {
+                Counter<T> counter = orgToVotes.get(org);
                 if (counter.size() != 0) {
                     if (orgToVotesString.length() != 0) {
                         orgToVotesString += ", ";
                     }
-                    Organization org = entry.getKey();
                     orgToVotesString += org.toString() + "=" + counter;
                 }
             }
@@ -951,11 +959,14 @@ public class VoteResolver<T> {
         resolved = valueIsLocked = false;
         values.clear();
 
-        // TODO: clear these out between reuse
-        // Are there other values that should be cleared?
         oValue = null;
         setWinningValue(null);
         nValue = null;
+        winningStatus = null;
+        totals = null;
+        valuesWithSameVotes.clear();
+        conflictedOrganizations.clear();
+        bothInheritanceAndBaileyHadVotes = false;
 
         if (transcript != null) {
             transcript.setLength(0);
@@ -9,19 +9,55 @@ import java.util.regex.Pattern;
 import org.unicode.cldr.util.VoteResolver.Level;
 import org.unicode.cldr.util.VoteResolver.VoterInfo;
 
+/**
+ * The voters known to a VoteResolver.
+ *
+ * <p>The voters and the values computed from them are held in one immutable snapshot, which
+ * setVoterToInfo replaces as a whole. Readers never lock, and a resolver that keeps a reference to
+ * this list sees the new voters as soon as they are set.
+ */
 public class VoterInfoList {
     /** Create a VoterInfoList with no users */
     public VoterInfoList() {
         clearVoterToInfo();
     }
 
-    /** Static info read from file */
-    private Map<Integer, VoterInfo> voterToInfo;
+    private static final class Snapshot {
+        /** Static info read from file */
+        private final Map<Integer, VoterInfo> voterToInfo;
 
-    private Map<String, Map<Organization, Level>> localeToOrganizationToMaxVote;
+        private final Map<String, Map<Organization, Level>> localeToOrganizationToMaxVote;
 
-    synchronized Map<Integer, VoterInfo> getVoterToInfo() {
-        return voterToInfo;
+        private final int version;
+
+        Snapshot(
+                Map<Integer, VoterInfo> voterToInfo,
+                Map<String, Map<Organization, Level>> localeToOrganizationToMaxVote,
+                int version) {
+            this.voterToInfo = voterToInfo;
+            this.localeToOrganizationToMaxVote = localeToOrganizationToMaxVote;
+            this.version = version;
+        }
+    }
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Get all the voters
+     *
+     * @return an unmodifiable map from voter id to info
+     */
+    public Map<Integer, VoterInfo> getVoterToInfo() {
+        return snapshot.voterToInfo;
+    }
+
+    /**
+     * Get the version of the voters, which changes every time they are set
+     *
+     * @return the version, starting from 0 for the empty list
+     */
+    public int getVersion() {
+        return snapshot.version;
     }
 
     /** Clear out all users. */
@@ -37,8 +73,8 @@ public class VoterInfoList {
     /**
      * Set the voter info.
      *
-     * <p>Synchronized, however, once this is called, you must NOT change the contents of your copy
-     * of newVoterToInfo. You can create a whole new one and set it.
+     * <p>Once this is called, you must NOT change the contents of your copy of newVoterToInfo. You
+     * can create a whole new one and set it.
      */
     public VoterInfoList setVoterToInfo(Map<Integer, VoterInfo> newVoterToInfo) {
         computeMaxVotesAndSet(newVoterToInfo);
@@ -79,11 +115,15 @@ public class VoterInfoList {
                 }
             }
         }
-        // setters
+        CldrUtility.protectCollection(newLocaleToOrganizationToMaxVote);
         synchronized (this) {
-            CldrUtility.protectCollection(newLocaleToOrganizationToMaxVote);
-            localeToOrganizationToMaxVote = newLocaleToOrganizationToMaxVote;
-            voterToInfo = Collections.unmodifiableMap(newVoterToInfo);
+            // only writers lock, so that the versions are distinct
+            final int version = snapshot == null ? 0 : snapshot.version + 1;
+            snapshot =
+                    new Snapshot(
+                            Collections.unmodifiableMap(newVoterToInfo),
+                            newLocaleToOrganizationToMaxVote,
+                            version);
         }
     }
 
@@ -176,7 +216,7 @@ public class VoterInfoList {
 
     public Map<Organization, Level> getOrganizationToMaxVote(String locale) {
         locale = locale.split("_")[0]; // take base language
-        Map<Organization, Level> result = localeToOrganizationToMaxVote.get(locale);
+        Map<Organization, Level> result = snapshot.localeToOrganizationToMaxVote.get(locale);
         if (result == null) {
             result = Collections.emptyMap();
         }
@@ -184,9 +224,10 @@ public class VoterInfoList {
     }
 
     public Map<Organization, Level> getOrganizationToMaxVote(Set<Integer> voters) {
+        final Map<Integer, VoterInfo> voterToInfo = getVoterToInfo(); // one snapshot throughout
         Map<Organization, Level> orgToMaxVoteHere = new TreeMap<>();
         for (int voter : voters) {
-            VoterInfo info = getInfoForVoter(voter);
+            VoterInfo info = voterToInfo.get(voter);
             if (info == null) {
                 continue; // skip unknown voter
             }
@@ -200,6 +241,6 @@ public class VoterInfoList {
     }
 
     public VoterInfo get(int voter) {
-        return voterToInfo.get(voter);
+        return getVoterToInfo().get(voter);
     }
 }
@@ -11,16 +11,22 @@ package org.unicode.cldr.util;
 import com.google.common.base.Function;
 import com.ibm.icu.util.ICUException;
 import com.ibm.icu.util.ICUUncheckedIOException;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 import org.xml.sax.Attributes;
 import org.xml.sax.ContentHandler;
+import org.xml.sax.EntityResolver;
 import org.xml.sax.ErrorHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.Locator;
@@ -31,6 +37,7 @@ import org.xml.sax.SAXParseException;
 import org.xml.sax.XMLReader;
 import org.xml.sax.ext.DeclHandler;
 import org.xml.sax.ext.LexicalHandler;
+import org.xml.sax.helpers.DefaultHandler;
 import org.xml.sax.helpers.XMLReaderFactory;
 
 /**
@@ -172,12 +179,13 @@ public class XMLFileReader {
             boolean validating,
             AllHandler allHandler) {
         try {
-            XMLReader xmlReader = createXMLReader(handlers, validating, allHandler);
+            XMLReader xmlReader = takeXMLReader(handlers, validating, allHandler);
             is.setSystemId(systemID);
             try {
                 xmlReader.parse(is);
             } catch (AbortException e) {
             } // ok
+            giveBackXMLReader(xmlReader, validating);
         } catch (SAXParseException e) {
             throw (IllegalArgumentException)
                     new IllegalArgumentException(
@@ -189,25 +197,75 @@ public class XMLFileReader {
         }
     }
 
-    private static final XMLReader createXMLReader(
-            int handlers, boolean validating, AllHandler allHandler)
+    /**
+     * Idle readers for this thread, non-validating at [0] and validating at [1]. A reader is
+     * taken out while it parses, so that a read started by a handler gets a reader of its own.
+     */
+    private static final ThreadLocal<XMLReader[]> IDLE_READERS =
+            ThreadLocal.withInitial(() -> new XMLReader[2]);
+
+    /** Handles nothing, for readers given handlers by an earlier read */
+    private static final DefaultHandler NO_HANDLER = new DefaultHandler();
+
+    /** Get a reader for this thread, set up with the given handlers */
+    private static XMLReader takeXMLReader(int handlers, boolean validating, AllHandler allHandler)
             throws SAXNotRecognizedException, SAXNotSupportedException {
-        XMLReader xmlReader = createXMLReader(validating);
-        if ((handlers & CONTENT_HANDLER) != 0) {
-            xmlReader.setContentHandler(allHandler);
-        }
-        if ((handlers & ERROR_HANDLER) != 0) {
-            xmlReader.setErrorHandler(allHandler);
-        }
-        if ((handlers & LEXICAL_HANDLER) != 0) {
-            xmlReader.setProperty("http://xml.org/sax/properties/lexical-handler", allHandler);
-        }
-        if ((handlers & DECLARATION_HANDLER) != 0) {
-            xmlReader.setProperty("http://xml.org/sax/properties/declaration-handler", allHandler);
-        }
+        final XMLReader[] idle = IDLE_READERS.get();
+        final int index = validating ? 1 : 0;
+        XMLReader xmlReader = idle[index];
+        if (xmlReader == null) {
+            xmlReader = createXMLReader(validating);
+        }
+        idle[index] = null;
+        xmlReader.setContentHandler((handlers & CONTENT_HANDLER) != 0 ? allHandler : NO_HANDLER);
+        xmlReader.setErrorHandler((handlers & ERROR_HANDLER) != 0 ? allHandler : NO_HANDLER);
+        xmlReader.setProperty(
+                "http://xml.org/sax/properties/lexical-handler",
+                (handlers & LEXICAL_HANDLER) != 0 ? allHandler : null);
+        xmlReader.setProperty(
+                "http://xml.org/sax/properties/declaration-handler",
+                (handlers & DECLARATION_HANDLER) != 0 ? allHandler : null);
         return xmlReader;
     }
 
+    /** Keep a reader that finished parsing for the next read on this thread */
+    private static void giveBackXMLReader(XMLReader xmlReader, boolean validating)
+            throws SAXNotRecognizedException, SAXNotSupportedException {
+        // don't keep the handlers, and whatever they hold, reachable
+        xmlReader.setContentHandler(NO_HANDLER);
+        xmlReader.setErrorHandler(NO_HANDLER);
+        xmlReader.setProperty("http://xml.org/sax/properties/lexical-handler", null);
+        xmlReader.setProperty("http://xml.org/sax/properties/declaration-handler", null);
+        IDLE_READERS.get()[validating ? 1 : 0] = xmlReader;
+    }
+
+    /**
+     * The contents of the DTDs read so far, by system id. The DTDs of each version are at
+     * different paths, so this also keeps versions apart.
+     */
+    private static final Map<String, byte[]> DTD_CACHE = new ConcurrentHashMap<>();
+
+    /** Reads each DTD once, rather than once per file. Other entities are read as usual. */
+    private static final EntityResolver CACHING_DTD_RESOLVER =
+            (publicId, systemId) -> {
+                if (systemId == null || !systemId.endsWith(".dtd")) {
+                    return null;
+                }
+                byte[] dtd = DTD_CACHE.get(systemId);
+                if (dtd == null) {
+                    try (InputStream in = new URL(systemId).openStream()) {
+                        dtd = in.readAllBytes();
+                    } catch (MalformedURLException e) {
+                        return null; // let the parser resolve it
+                    }
+                    DTD_CACHE.put(systemId, dtd);
+                }
+                final InputSource result = new InputSource(new ByteArrayInputStream(dtd));
+                result.setPublicId(publicId);
+                result.setSystemId(systemId);
+                return result;
+            };
+
     public interface AllHandler extends ContentHandler, LexicalHandler, DeclHandler, ErrorHandler {}
 
     /** Basis for handlers that provides for logging, with no actions on methods */
@@ -508,6 +566,7 @@ public class XMLFileReader {
                                 ? XMLReaderFactory.createXMLReader(testList[i])
                                 : XMLReaderFactory.createXMLReader();
                 result.setFeature("http://xml.org/sax/features/validation", validating);
+                result.setEntityResolver(CACHING_DTD_RESOLVER);
                 break;
             } catch (SAXException e1) {
             }
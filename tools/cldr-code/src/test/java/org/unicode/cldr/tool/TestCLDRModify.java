@@ -0,0 +1,142 @@
+package org.unicode.cldr.tool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.unicode.cldr.util.CLDRPaths;
+
+public class TestCLDRModify {
+    // each of these but root has a CZ territory name and its variant, swapped by -fg
+    private static final String LOCALES = "root|cs|de|en|es|fr|it|ja";
+
+    /** Fixing on several threads writes the same files and counts the same changes as on one */
+    @Test
+    void TestThreads() throws Exception {
+        final File oneThread = Files.createTempDirectory("cldrmodify-T1").toFile();
+        final File fourThreads = Files.createTempDirectory("cldrmodify-T4").toFile();
+        try {
+            final List<String> oneThreadLog = modify(oneThread, 1);
+            final List<String> fourThreadLog = modify(fourThreads, 4);
+
+            final List<String> total = lastTotal(oneThreadLog);
+            assertEquals(1, total.size(), oneThreadLog.toString());
+            assertFalse(total.get(0).endsWith(": 0"), "something changed");
+            assertEquals(total, lastTotal(fourThreadLog), fourThreadLog.toString());
+            assertEquals(localeChanges(oneThreadLog), localeChanges(fourThreadLog));
+
+            final Set<String> files = new TreeSet<>(Arrays.asList(oneThread.list()));
+            assertTrue(files.contains("en.xml"), files.toString());
+            assertEquals(files, new TreeSet<>(Arrays.asList(fourThreads.list())));
+            for (String name : files) {
+                assertEquals(
+                        Files.readString(new File(oneThread, name).toPath()),
+                        Files.readString(new File(fourThreads, name).toPath()),
+                        name);
+            }
+        } finally {
+            deleteDirectory(oneThread);
+            deleteDirectory(fourThreads);
+        }
+    }
+
+    @Test
+    void TestEqualsSkippingCopyright() throws IOException {
+        final File dir = Files.createTempDirectory("cldrmodify-copyright").toFile();
+        try {
+            final File file = new File(dir, "fr.xml");
+            Files.writeString(
+                    file.toPath(),
+                    "<ldml>\n<!-- Copyright © 1991-2023 Unicode, Inc. -->\n<a>x</a>\n</ldml>\n",
+                    StandardCharsets.UTF_8);
+            assertTrue(
+                    CLDRModify.equalsSkippingCopyright(
+                            file,
+                            "<ldml>\n<!-- Copyright © 1991-2023 Unicode, Inc. -->\n"
+                                    + "<a>x</a>\n</ldml>\n"),
+                    "same");
+            assertTrue(
+                    CLDRModify.equalsSkippingCopyright(
+                            file,
+                            "<ldml>\n<!-- Copyright © 1991-2024 Unicode, Inc. -->\n"
+                                    + "<a>x</a>\n</ldml>\n"),
+                    "only the copyright differs");
+            assertFalse(
+                    CLDRModify.equalsSkippingCopyright(
+                            file,
+                            "<ldml>\n<!-- Copyright © 1991-2023 Unicode, Inc. -->\n"
+                                    + "<a>y</a>\n</ldml>\n"),
+                    "a value differs");
+            assertFalse(
+                    CLDRModify.equalsSkippingCopyright(
+                            file,
+                            "<ldml>\n<!-- Copyright © 1991-2023 Unicode, Inc. -->\n<a>x</a>\n"),
+                    "shorter");
+            assertFalse(
+                    CLDRModify.equalsSkippingCopyright(
+                            file,
+                            "<ldml>\n<!-- Copyright © 1991-2023 Unicode, Inc. -->\n"
+                                    + "<a>x</a>\n</ldml>\n<b/>\n"),
+                    "longer");
+            assertFalse(
+                    CLDRModify.equalsSkippingCopyright(
+                            file, "<ldml>\n<!-- Other -->\n<a>x</a>\n</ldml>\n"),
+                    "not a copyright line");
+        } finally {
+            deleteDirectory(dir);
+        }
+    }
+
+    /** Run CLDRModify on the test locales, returning what it printed */
+    private static List<String> modify(File target, int threads) throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final PrintStream out = System.out;
+        System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+        try {
+            CLDRModify.main(
+                    new String[] {
+                        "-s" + CLDRPaths.MAIN_DIRECTORY,
+                        "-d" + target.getPath() + File.separator,
+                        "-m" + LOCALES,
+                        "-fg",
+                        "-T" + threads
+                    });
+        } finally {
+            System.setOut(out);
+        }
+        return output.toString(StandardCharsets.UTF_8).lines().collect(Collectors.toList());
+    }
+
+    /** The total, printed last; with one thread, it is printed after each locale */
+    private static List<String> lastTotal(List<String> log) {
+        final List<String> totals =
+                log.stream().filter(line -> line.startsWith("#TOTAL")).collect(Collectors.toList());
+        return totals.subList(Math.max(0, totals.size() - 1), totals.size());
+    }
+
+    /** The changes counted for each locale, in locale order */
+    private static Set<String> localeChanges(List<String> log) {
+        return log.stream()
+                .filter(line -> line.startsWith("#") && !line.startsWith("#TOTAL"))
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static void deleteDirectory(File dir) {
+        for (File file : dir.listFiles()) {
+            file.delete();
+        }
+        dir.delete();
+    }
+}
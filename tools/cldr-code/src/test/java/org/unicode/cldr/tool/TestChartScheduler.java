@@ -0,0 +1,110 @@
+package org.unicode.cldr.tool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.unicode.cldr.tool.GenerateAllCharts.ChartScheduler;
+
+public class TestChartScheduler {
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+    private final List<String> ran = Collections.synchronizedList(new ArrayList<>());
+
+    private String getOutput() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void TestOneThreadRunsInOrder() throws Exception {
+        final ChartScheduler charts = new ChartScheduler(1, out);
+        for (String name : Arrays.asList("c", "a", "b", "d")) {
+            charts.add(name, () -> ran.add(name));
+        }
+        charts.await();
+        assertEquals(Arrays.asList("c", "a", "b", "d"), ran);
+        assertTrue(getOutput().contains("Chart times:"), getOutput());
+    }
+
+    @Test
+    void TestDependencies() throws Exception {
+        final ChartScheduler charts = new ChartScheduler(4, out);
+        charts.add(
+                "slow",
+                () -> {
+                    Thread.sleep(100);
+                    ran.add("slow");
+                });
+        charts.add("other", () -> ran.add("other"));
+        charts.add("after slow", () -> ran.add("after slow"), "slow");
+        charts.add("after both", () -> ran.add("after both"), "after slow", "other");
+        charts.await();
+        assertEquals(4, ran.size());
+        assertTrue(ran.indexOf("slow") < ran.indexOf("after slow"), ran.toString());
+        assertTrue(ran.indexOf("after slow") < ran.indexOf("after both"), ran.toString());
+        assertTrue(ran.indexOf("other") < ran.indexOf("after both"), ran.toString());
+    }
+
+    @Test
+    void TestUnknownDependency() throws Exception {
+        final ChartScheduler charts = new ChartScheduler(1, out);
+        charts.add("a", () -> ran.add("a"));
+        assertThrows(IllegalArgumentException.class, () -> charts.add("b", () -> {}, "c"));
+        charts.await();
+        assertEquals(Arrays.asList("a"), ran);
+    }
+
+    @Test
+    void TestDependencyFails() throws Exception {
+        final IOException failure = new IOException("can't write chart");
+        final ChartScheduler charts = new ChartScheduler(2, out);
+        charts.add(
+                "failing",
+                () -> {
+                    throw failure;
+                });
+        charts.add("independent", () -> ran.add("independent"));
+        charts.add("dependent", () -> ran.add("dependent"), "failing");
+        charts.add("dependent of dependent", () -> ran.add("2nd"), "dependent");
+        final IOException thrown = assertThrows(IOException.class, charts::await);
+        assertSame(failure, thrown);
+        assertEquals(0, thrown.getSuppressed().length, "reported once");
+        assertEquals(Arrays.asList("independent"), ran);
+        final String report = getOutput();
+        assertTrue(report.contains("\tdependent\tnot run"), report);
+        assertTrue(report.contains("\tdependent of dependent\tnot run"), report);
+        assertTrue(report.contains("\tfailing\t"), report);
+        assertFalse(report.contains("\tfailing\tnot run"), report);
+    }
+
+    @Test
+    void TestSeveralFail() {
+        final IOException first = new IOException("first");
+        final IllegalStateException second = new IllegalStateException("second");
+        final ChartScheduler charts = new ChartScheduler(1, out);
+        charts.add(
+                "first",
+                () -> {
+                    throw first;
+                });
+        charts.add(
+                "second",
+                () -> {
+                    throw second;
+                });
+        final IOException thrown = assertThrows(IOException.class, charts::await);
+        assertSame(first, thrown);
+        assertEquals(Arrays.asList(second), Arrays.asList(thrown.getSuppressed()));
+    }
+}
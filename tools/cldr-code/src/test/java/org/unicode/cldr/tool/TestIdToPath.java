@@ -0,0 +1,87 @@
+package org.unicode.cldr.tool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class TestIdToPath {
+    @Test
+    void TestRoundTrip() throws IOException {
+        final Map<Long, String[]> idToPathAndEnglish = new LinkedHashMap<>();
+        // not in order, with negative ids, empty and non-ASCII values
+        idToPathAndEnglish.put(42L, new String[] {"//ldml/b", "B"});
+        idToPathAndEnglish.put(-7L, new String[] {"//ldml/a", ""});
+        idToPathAndEnglish.put(Long.MAX_VALUE, new String[] {"//ldml/c[@type=\"ä\"]", "{0}°C"});
+        idToPathAndEnglish.put(0L, new String[] {"", "[á à ă 𝒜]"});
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IdToPath.write(idToPathAndEnglish, out);
+        final IdToPath.Table table =
+                IdToPath.Table.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(idToPathAndEnglish.size(), table.size());
+        for (Map.Entry<Long, String[]> entry : idToPathAndEnglish.entrySet()) {
+            final String id = entry.getKey().toString();
+            assertEquals(entry.getValue()[0], table.get(id, 0), "path of " + id);
+            assertEquals(entry.getValue()[1], table.get(id, 1), "English of " + id);
+        }
+        assertNull(table.get("43", 0), "unknown id");
+        assertNull(table.get("not a number", 0), "not an id");
+    }
+
+    @Test
+    void TestEmpty() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IdToPath.write(Map.of(), out);
+        final IdToPath.Table table =
+                IdToPath.Table.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(0, table.size());
+        assertNull(table.get("42", 1));
+    }
+
+    @Test
+    void TestWrongFormat() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new DataOutputStream(out).writeUTF("itp-0");
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> IdToPath.Table.read(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    /** Spot checks of the resource, against the table it was converted from */
+    @Test
+    void TestResource() {
+        assertEquals(1852, IdToPath.getTable().size());
+        assertEquals(
+                "//ldml/characters/ellipsis[@type=\"final\"]",
+                IdToPath.getPath("8185172660664561036"));
+        assertEquals("{0}…", IdToPath.getEnglish("8185172660664561036"));
+        assertEquals(
+                "//ldml/characters/exemplarCharacters[@type=\"auxiliary\"]",
+                IdToPath.getPath("2811347674030337850"));
+        assertEquals(
+                "[á à ă â å ä ã ā æ ç é è ĕ ê ë ē í ì ĭ î ï ī ñ ó ò ŏ ô ö ø ō œ ú ù ŭ û ü ū ÿ]",
+                IdToPath.getEnglish("2811347674030337850"));
+        assertEquals(
+                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateFormats"
+                        + "/dateFormatLength[@type=\"full\"]/dateFormat[@type=\"standard\"]"
+                        + "/pattern[@type=\"standard\"]",
+                IdToPath.getPath("6210350382081827617"));
+        assertEquals("EEEE, MMMM d, y", IdToPath.getEnglish("6210350382081827617"));
+        assertEquals("?", IdToPath.getEnglish("421611067904725230"));
+        assertEquals(
+                "//ldml/units/unitLength[@type=\"short\"]/unit[@type=\"volume-liter\"]/unitPattern",
+                IdToPath.getPath("8915424922284415906"));
+        assertEquals("{0} l", IdToPath.getEnglish("8915424922284415906"));
+        assertNull(IdToPath.getPath("8915424922284415907"));
+        assertNull(IdToPath.getEnglish("x"));
+    }
+}
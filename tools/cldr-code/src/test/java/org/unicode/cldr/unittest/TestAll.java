@@ -10,6 +10,7 @@ import java.io.PrintWriter;
 import java.io.Writer;
 import java.util.Date;
 import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.PathHeader;
 
 /** Top level test used to run all other tests as a batch. */
 public class TestAll extends TestGroup {
@@ -235,5 +236,17 @@ public class TestAll extends TestGroup {
                 "All tests in CLDR");
     }
 
+    /** Load the data that most of the tests share, before they are run concurrently */
+    @Override
+    protected void warmUp() {
+        final CLDRConfig config = CLDRConfig.getInstance();
+        config.getSupplementalDataInfo();
+        config.getCoverageInfo();
+        config.getCldrFactory();
+        config.getEnglish();
+        config.getRoot();
+        PathHeader.getFactory(config.getEnglish());
+    }
+
     public static final String CLASS_TARGET_NAME = "CLDR";
 }
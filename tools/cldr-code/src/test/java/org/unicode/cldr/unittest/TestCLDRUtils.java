@@ -25,6 +25,9 @@ import org.unicode.cldr.util.SimpleFactory;
  */
 public class TestCLDRUtils extends TestFmwk {
 
+    /** Changes the default CLDRLocale formatter, so it isn't run at the same time as others */
+    public static final boolean RUN_SERIALLY = true;
+
     static Transform<String, String> SHORT_ALT_PICKER =
             new Transform<String, String>() {
                 @Override
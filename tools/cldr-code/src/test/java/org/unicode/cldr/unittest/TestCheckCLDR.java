@@ -18,6 +18,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import org.unicode.cldr.test.CheckCLDR;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus;
@@ -185,6 +186,25 @@ public class TestCheckCLDR extends TestFmwk {
         }
     }
 
+    /** Test the dependencies declared by the checks, used by TestCache to invalidate results */
+    public void TestCheckDependencies() {
+        CheckCLDR test = CheckCLDR.getCheckAll(factory, ".*");
+        final String french = "//ldml/localeDisplayNames/languages/language[@type=\"fr\"]";
+        final String german = "//ldml/localeDisplayNames/languages/language[@type=\"de\"]";
+        final String latin = "//ldml/localeDisplayNames/scripts/script[@type=\"Latn\"]";
+        final String exemplars = "//ldml/characters/exemplarCharacters";
+
+        assertEquals(
+                "Changing a language name", CheckCLDR.Dependency.PATHS, test.getDependency(french));
+        assertTrue("Language names collide", test.dependsOn(german, french));
+        assertFalse("Script names don't collide with languages", test.dependsOn(latin, french));
+        final Predicate<String> frenchDependents = test.getDependentPaths(french);
+        assertTrue("Dependents of a language name", frenchDependents.test(german));
+        assertFalse("Dependents of a language name", frenchDependents.test(latin));
+        assertEquals(
+                "Changing exemplars", CheckCLDR.Dependency.SETUP, test.getDependency(exemplars));
+    }
+
     /** Test the "collisionless" error/warning messages. */
     public static final String INDIVIDUAL_TESTS =
             ".*(CheckCasing|CheckCurrencies|CheckDates|CheckExemplars|CheckForCopy|CheckForExemplars|CheckMetazones|CheckNumbers)";
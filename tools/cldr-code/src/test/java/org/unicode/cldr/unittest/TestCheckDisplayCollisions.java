@@ -16,6 +16,7 @@ import org.unicode.cldr.test.CheckCLDR.Options;
 import org.unicode.cldr.test.CheckDisplayCollisions;
 import org.unicode.cldr.util.CLDRConfig;
 import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CldrUtility;
 import org.unicode.cldr.util.SimpleXMLSource;
 import org.unicode.cldr.util.XMLSource;
 
@@ -96,6 +97,60 @@ public class TestCheckDisplayCollisions extends TestFmwkPlus {
         checkFile(cdc, frCA, frCaResolved, scorpioEmoji, ukRegion);
     }
 
+    public void TestDependsOn() {
+        final String londonCity =
+                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/London\"]/exemplarCity";
+        CheckDisplayCollisions cdc = new CheckDisplayCollisions(new TestFactory());
+        assertTrue("same type", cdc.dependsOn(japanRegion, ukRegion));
+        assertTrue("territory on zone", cdc.dependsOn(ukRegion, londonCity));
+        assertTrue("zone on territory", cdc.dependsOn(londonCity, ukRegion));
+        assertFalse("zone on annotation", cdc.dependsOn(londonCity, japanMap));
+        assertFalse("unit on territory", cdc.dependsOn(milli, ukRegion));
+    }
+
+    public void TestCollisionIndexUpdates() {
+        final String franceRegion =
+                "//ldml/localeDisplayNames/territories/territory[@type=\"FR\"]";
+        XMLSource frSource = new SimpleXMLSource("fr");
+        frSource.putValueAtDPath(ukRegion, "Royaume-Uni");
+        frSource.putValueAtDPath(japanRegion, "Japon");
+        CLDRFile fr = new CLDRFile(frSource);
+
+        TestFactory factory = new TestFactory();
+        factory.addFile(new CLDRFile(new SimpleXMLSource("en")));
+        factory.addFile(fr);
+
+        CheckDisplayCollisions cdc = new CheckDisplayCollisions(factory);
+        cdc.setEnglishFile(CLDRConfig.getInstance().getEnglish());
+        Options options = new Options();
+        List<CheckStatus> possibleErrors = new ArrayList<>();
+        cdc.setCldrFileToCheck(fr, options, possibleErrors);
+        assertFalse("initially", hasCollision(cdc, ukRegion, "Royaume-Uni", options));
+
+        frSource.putValueAtDPath(japanRegion, "Royaume-Uni");
+        cdc.pathValueChanged(japanRegion);
+        assertTrue("updated", hasCollision(cdc, ukRegion, "Royaume-Uni", options));
+
+        frSource.putValueAtDPath(japanRegion, CldrUtility.INHERITANCE_MARKER);
+        cdc.pathValueChanged(japanRegion);
+        assertFalse("inheritance marker", hasCollision(cdc, ukRegion, "Royaume-Uni", options));
+
+        frSource.putValueAtDPath(franceRegion, "Royaume-Uni");
+        cdc.pathValueChanged(franceRegion);
+        assertTrue("added", hasCollision(cdc, ukRegion, "Royaume-Uni", options));
+
+        frSource.removeValueAtDPath(franceRegion);
+        cdc.pathValueChanged(franceRegion);
+        assertFalse("removed", hasCollision(cdc, ukRegion, "Royaume-Uni", options));
+    }
+
+    private boolean hasCollision(
+            CheckDisplayCollisions cdc, String path, String value, Options options) {
+        List<CheckStatus> result = new ArrayList<>();
+        cdc.check(path, path, value, options, result);
+        return !result.isEmpty();
+    }
+
     public void testUnitPatternCollisions() {
         final String unitPattern1 =
                 "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"graphics-dot\"]/unitPattern[@count=\"one\"]";
@@ -6,10 +6,15 @@ package org.unicode.cldr.unittest;
 
 import static org.unicode.cldr.util.XMLSource.CODE_FALLBACK_ID;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import org.unicode.cldr.tool.resolver.CldrResolver;
 import org.unicode.cldr.tool.resolver.ResolutionType;
 import org.unicode.cldr.tool.resolver.ResolverUtils;
@@ -52,6 +57,39 @@ public class TestCldrResolver extends TestFmwkPlus {
         }.testResolution();
     }
 
+    public void TestParallelResolution() throws IOException {
+        String localeRegex = "root|en|en_001|en_GB|fr|fr_CA|de|de_CH";
+        File serialDir = Files.createTempDirectory("resolver-serial").toFile();
+        File parallelDir = Files.createTempDirectory("resolver-parallel").toFile();
+        try {
+            // separate resolvers, so that the parallel run doesn't just reuse the serial results
+            new CldrResolver(testInfo.getCldrFactory(), ResolutionType.SIMPLE)
+                    .resolve(localeRegex, serialDir);
+            new CldrResolver(testInfo.getCldrFactory(), ResolutionType.SIMPLE)
+                    .resolveInParallel(localeRegex, parallelDir, 4);
+
+            Set<String> serialFiles = new TreeSet<>(Arrays.asList(serialDir.list()));
+            Set<String> parallelFiles = new TreeSet<>(Arrays.asList(parallelDir.list()));
+            assertEquals("Files written", serialFiles, parallelFiles);
+            for (String name : serialFiles) {
+                assertEquals(
+                        "Parallel output for " + name + " should match serial output",
+                        Files.readString(new File(serialDir, name).toPath()),
+                        Files.readString(new File(parallelDir, name).toPath()));
+            }
+        } finally {
+            deleteDirectory(serialDir);
+            deleteDirectory(parallelDir);
+        }
+    }
+
+    private static void deleteDirectory(File dir) {
+        for (File file : dir.listFiles()) {
+            file.delete();
+        }
+        dir.delete();
+    }
+
     /**
      * Main method that runs all CLDR Resolver tests
      *
@@ -4,7 +4,11 @@ import com.ibm.icu.dev.test.TestFmwk;
 import com.ibm.icu.lang.CharSequences;
 import com.ibm.icu.text.UnicodeSet;
 import com.ibm.icu.text.UnicodeSetIterator;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import org.unicode.cldr.test.DisplayAndInputProcessor;
 import org.unicode.cldr.test.DisplayAndInputProcessor.PathSpaceType;
 import org.unicode.cldr.util.CLDRConfig;
@@ -785,4 +789,24 @@ public class TestDisplayAndInputProcessor extends TestFmwk {
                     doubleInputProcessing);
         }
     }
+
+    public void TestProcessInputForLocales() {
+        Factory factory = info.getCldrFactory();
+        List<String> localeIds = Arrays.asList("de", "ml", "uk");
+        Map<String, Map<String, String>> changes =
+                DisplayAndInputProcessor.processInput(factory, localeIds, false);
+        assertEquals("locales", new TreeSet<>(localeIds), changes.keySet());
+        for (String localeId : localeIds) {
+            CLDRFile cldrFile = factory.make(localeId, false);
+            DisplayAndInputProcessor daip = new DisplayAndInputProcessor(cldrFile, true);
+            for (String path : cldrFile) {
+                String value = cldrFile.getStringValue(path);
+                String expected = daip.processInput(path, value, null);
+                assertEquals(
+                        localeId + " " + path,
+                        value.equals(expected) ? null : expected,
+                        changes.get(localeId).get(path));
+            }
+        }
+    }
 }
@@ -267,6 +267,36 @@ public class TestPathHeader extends TestFmwkPlus {
         // Code Lists Languages Arabic Script ug-variant
     }
 
+    public void TestPageIndex() {
+        String p1 = "//ldml/localeDisplayNames/languages/language[@type=\"fr\"]";
+        String p2 = "//ldml/localeDisplayNames/languages/language[@type=\"de\"]";
+        PathHeader ph1 = pathHeaderFactory.fromPath(p1);
+        PathHeader ph2 = pathHeaderFactory.fromPath(p2);
+        PathHeader.PageIndex index = PathHeader.Factory.getPageIndex();
+        assertSame("index reused", index, PathHeader.Factory.getPageIndex());
+
+        List<String> paths = index.getPaths(ph1.getSectionId(), ph1.getPageId());
+        assertTrue("fr in index", paths.contains(p1));
+        assertEquals(
+                "index matches cached paths",
+                PathHeader.Factory.getCachedPaths(ph1.getSectionId(), ph1.getPageId()),
+                new HashSet<>(paths));
+        assertEquals(
+                "PathHeader order",
+                Integer.signum(ph1.compareTo(ph2)),
+                Integer.signum(paths.indexOf(p1) - paths.indexOf(p2)));
+
+        int total = 0;
+        for (Level level : Level.values()) {
+            total += index.getCount(ph1.getSectionId(), ph1.getPageId(), "fr", level);
+        }
+        assertEquals("level counts", paths.size(), total);
+        assertEquals(
+                "unknown page",
+                0,
+                index.getPaths(SectionId.Special, PageId.Languages_A_D).size());
+    }
+
     public void Test4587() {
         String test =
                 "//ldml/dates/timeZoneNames/metazone[@type=\"Pacific/Wallis\"]/short/standard";
@@ -75,6 +75,12 @@ import org.unicode.cldr.util.personname.SimpleNameObject;
 
 public class TestPersonNameFormatter extends TestFmwk {
 
+    /**
+     * Registers CLDR transliterators with ICU (through CLDRTransforms.getCldrTransliterator),
+     * replacing the global ones, so it isn't run at the same time as others
+     */
+    public static final boolean RUN_SERIALLY = true;
+
     public static final boolean DEBUG = System.getProperty("TestPersonNameFormatter.DEBUG") != null;
     public static final boolean SHOW = System.getProperty("TestPersonNameFormatter.SHOW") != null;
 
@@ -1328,7 +1334,6 @@ public class TestPersonNameFormatter extends TestFmwk {
 
     public void testTransliteratorName() {
         boolean verbose = isVerbose();
-        CLDRTransforms.registerCldrTransforms(null, null, null, true);
 
         FormatParameters parameters = FormatParameters.from("length=long; formality=formal");
         LikelySubtags ls = new LikelySubtags();
@@ -1352,7 +1357,6 @@ public class TestPersonNameFormatter extends TestFmwk {
 
             boolean isLatin = script.equals("Latn");
 
-            // TODO use CLDR always (getTestingLatinScriptTransform doesn't)
             Transliterator translit =
                     isLatin ? null : CLDRTransforms.getTestingLatinScriptTransform(script);
 
@@ -51,6 +51,13 @@ import org.unicode.cldr.util.XMLFileReader;
 import org.unicode.cldr.util.XPathParts;
 
 public class TestTransforms extends TestFmwkPlus {
+
+    /**
+     * Registers the CLDR transliterators with ICU, replacing the global ones, so it isn't run at
+     * the same time as others
+     */
+    public static final boolean RUN_SERIALLY = true;
+
     private static final String GENERATE_FILE =
             null; // set to a filename like "und-Latn-t-und-mlym.txt" to regenerate it
 
@@ -785,6 +792,38 @@ public class TestTransforms extends TestFmwkPlus {
         assertEquals("賈 bug", "jiǎ", pinyin.transform("賈"));
     }
 
+    /** getCldrTransliterator registers the CLDR transforms that a transform calls before it */
+    public void TestGetCldrTransliterator() {
+        final Transliterator bengaliLatin = CLDRTransforms.getCldrTransliterator("Bengali-Latin");
+        for (String id : Arrays.asList("Bengali-InterIndic", "InterIndic-Latin")) {
+            checkSameAsCldrRules(id, Transliterator.getInstance(id));
+        }
+        // compiled now from the rules, it calls the registered transforms just checked
+        checkSameAsCldrRules("Bengali-Latin", bengaliLatin);
+    }
+
+    /** A -t- alias can be asked for after its file was registered without the -t- aliases */
+    public void TestGetCldrTransliteratorDashT() {
+        CLDRTransforms.registerCldrTransforms(null, "Bengali-Latin\\.xml", null, false);
+        checkSameAsCldrRules(
+                "Bengali-Latin", CLDRTransforms.getCldrTransliterator("und-Latn-t-und-beng"));
+    }
+
+    private void checkSameAsCldrRules(String id, Transliterator actual) {
+        final String rules =
+                CLDRTransforms.getIcuRulesFromXmlFile(
+                        CLDRTransforms.TRANSFORM_DIR,
+                        id + ".xml",
+                        new CLDRTransforms.ParsedTransformID());
+        final Transliterator expected =
+                Transliterator.createFromRules(id, rules, Transliterator.FORWARD);
+        // InterIndic is in the private use area
+        final UnicodeSet source = new UnicodeSet("[[:script=Bengali:][\\uE000-\\uE0FF]]");
+        for (String s : source.addAll(Arrays.asList("বাংলা", "লিপি"))) {
+            assertEquals(id + " " + s, expected.transform(s), actual.transform(s));
+        }
+    }
+
     public void TestHiraKata() { // for CLDR-13127 and ...
         register();
         Transliterator hiraKata = getTransliterator("Hiragana-Katakana");
@@ -2,9 +2,12 @@ package org.unicode.cldr.util;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.ibm.icu.util.Output;
+import java.util.Date;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 import org.unicode.cldr.unittest.TestUtilities;
 import org.unicode.cldr.util.VoteResolver.Status;
@@ -41,6 +44,92 @@ public class TestVoteResolver {
                 () -> "Transcript did not match expectations:\n" + transcriptText);
     }
 
+    @Test
+    void testVoterInfoListSwap() {
+        final VoterInfoList vil = new VoterInfoList();
+        final VoteResolver<String> vr = new VoteResolver<>(vil);
+        final int emptyVersion = vil.getVersion();
+        final int voter = TestUtilities.TestUser.appleV.voterId;
+        assertNull(vil.get(voter));
+        // a resolver holding the list sees the voters set later
+        vil.setVoterToInfo(TestUtilities.getTestVoterInfoList().getVoterToInfo());
+        assertTrue(vil.getVersion() > emptyVersion);
+        vr.setLocale(CLDRLocale.getInstance("fr"), null);
+        vr.setBaseline("bafut", Status.unconfirmed);
+        vr.add("bambara", voter);
+        assertEquals("bambara", vr.getWinningValue());
+    }
+
+    /** A resolver reused across paths must give the same results as a new one for each path */
+    @Test
+    void testReusedResolver() {
+        final TestUtilities.TestUser[] users = TestUtilities.TestUser.values();
+        final String[] values = {"a", "b", "c", CldrUtility.INHERITANCE_MARKER};
+        final Status[] statuses = {Status.missing, Status.unconfirmed, Status.approved};
+        final Random random = new Random(37);
+        final VoteResolver<String> reused = getStringResolver();
+        for (int i = 0; i < 500; i++) {
+            final long seed = random.nextLong();
+            final VoteResolver<String> fresh = getStringResolver();
+            reused.clear();
+            fillRandomVotes(fresh, new Random(seed), users, values, statuses);
+            fillRandomVotes(reused, new Random(seed), users, values, statuses);
+            final int path = i;
+            assertAll(
+                    "path " + path,
+                    () -> assertEquals(fresh.getWinningValue(), reused.getWinningValue()),
+                    () -> assertEquals(fresh.getWinningStatus(), reused.getWinningStatus()),
+                    () -> assertEquals(fresh.isDisputed(), reused.isDisputed()),
+                    () ->
+                            assertEquals(
+                                    fresh.getConflictedOrganizations(),
+                                    reused.getConflictedOrganizations()),
+                    () ->
+                            assertEquals(
+                                    fresh.getValuesWithSameVotes(),
+                                    reused.getValuesWithSameVotes()),
+                    () ->
+                            assertEquals(
+                                    fresh.getResolvedVoteCounts(),
+                                    reused.getResolvedVoteCounts()),
+                    () -> assertEquals(fresh.getNameTime(), reused.getNameTime()));
+        }
+    }
+
+    /** Usually a few voters, sometimes none, like the paths of a locale */
+    private static void fillRandomVotes(
+            VoteResolver<String> vr,
+            Random random,
+            TestUtilities.TestUser[] users,
+            String[] values,
+            Status[] statuses) {
+        vr.setLocale(CLDRLocale.getInstance("fr"), null);
+        final Status baselineStatus = statuses[random.nextInt(statuses.length)];
+        vr.setBaseline(
+                baselineStatus == Status.missing ? null : values[random.nextInt(3)],
+                baselineStatus);
+        vr.setBaileyValue("c");
+        final int voters = random.nextInt(4) == 0 ? 0 : 1 + random.nextInt(5);
+        for (int v = 0; v < voters; v++) {
+            vr.add(
+                    values[random.nextInt(values.length)],
+                    users[random.nextInt(users.length)].voterId,
+                    null,
+                    new Date(1000L * v));
+        }
+        if (voters == 0) {
+            vr.add(values[random.nextInt(3)]);
+        }
+    }
+
+    @Test
+    void testFromSTLevel() {
+        for (VoteResolver.Level l : VoteResolver.Level.values()) {
+            assertEquals(l, VoteResolver.Level.fromSTLevel(l.getSTLevel()));
+        }
+        assertNull(VoteResolver.Level.fromSTLevel(-42));
+    }
+
     private VoteResolver<String> getStringResolver() {
         return new VoteResolver<String>(TestUtilities.getTestVoterInfoList());
     }
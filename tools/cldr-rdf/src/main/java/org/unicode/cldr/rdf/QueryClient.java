@@ -3,29 +3,64 @@
 
 package org.unicode.cldr.rdf;
 
+import com.google.common.hash.Hashing;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Iterator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import org.apache.jena.ext.com.google.common.io.Resources;
+import org.apache.jena.query.Dataset;
 import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryExecution;
 import org.apache.jena.query.QueryExecutionFactory;
 import org.apache.jena.query.QueryFactory;
 import org.apache.jena.query.QuerySolution;
 import org.apache.jena.query.ResultSet;
+import org.apache.jena.query.ResultSetFactory;
+import org.apache.jena.query.ResultSetFormatter;
+import org.apache.jena.query.ResultSetRewindable;
 import org.apache.jena.rdf.model.Literal;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.riot.RDFDataMgr;
 import org.apache.jena.sparql.engine.http.QueryEngineHTTP;
+import org.apache.jena.system.Txn;
+import org.apache.jena.tdb.TDBFactory;
 import org.unicode.cldr.util.Timer;
 
 /**
  * Class to aid in SPARQL queries
  *
+ * <p>If {@link #SPARQL_CACHE_DIR} is set, query results are cached on disk, keyed by a hash of the
+ * server and the query text, so that repeated runs don't need the network. If {@link
+ * #SPARQL_LOCAL_STORE} is set, queries are run against that local RDF store (a TDB directory or an
+ * RDF file loaded into memory) instead of the remote server, and their results are cached under
+ * the name of the store rather than that of the server.
+ *
  * @author srl295
  */
 public class QueryClient {
+    // This is equivalent to SurveyLog.forClass()
+    static final Logger logger = Logger.getLogger(QueryClient.class.getName());
+
     static final class QueryClientHelper {
-        private static QueryClient INSTANCE = new QueryClient();
+        private static QueryClient INSTANCE =
+                SPARQL_LOCAL_STORE == null
+                        ? new QueryClient(getCacheDir(), null, null)
+                        : new QueryClient(
+                                getCacheDir(),
+                                loadStore(new File(SPARQL_LOCAL_STORE)),
+                                new File(SPARQL_LOCAL_STORE).getAbsolutePath());
+
+        private static File getCacheDir() {
+            return SPARQL_CACHE_DIR == null ? null : new File(SPARQL_CACHE_DIR);
+        }
     }
 
     public static final QueryClient getInstance() {
@@ -41,6 +76,50 @@ public class QueryClient {
     public static final String WIKIDATA_SPARQL_SERVER =
             System.getProperty("CLDR_WIKIDATA_SPARQL_SERVER", DEFAULT_CLDR_WIKIDATA_SPARQL_SERVER);
 
+    /** Directory for cached query results, or null for no caching */
+    public static final String SPARQL_CACHE_DIR = System.getProperty("CLDR_SPARQL_CACHE_DIR");
+
+    /** TDB directory or RDF file to query instead of the remote servers, or null */
+    public static final String SPARQL_LOCAL_STORE = System.getProperty("CLDR_SPARQL_LOCAL_STORE");
+
+    private static final String CACHED_RESULTS_SUFFIX = ".srj";
+
+    private final File cacheDir;
+    private final Dataset localStore;
+    private final String localStoreName;
+
+    /**
+     * Create a query client.
+     *
+     * @param cacheDir directory in which to cache query results, or null for no caching
+     * @param localStore local store to query instead of the remote servers, or null
+     * @param localStoreName name identifying the local store in the cache, such as its path
+     */
+    public QueryClient(File cacheDir, Dataset localStore, String localStoreName) {
+        if (localStore != null && localStoreName == null) {
+            throw new IllegalArgumentException("A local store must have a name");
+        }
+        this.cacheDir = cacheDir;
+        this.localStore = localStore;
+        this.localStoreName = localStoreName;
+    }
+
+    /**
+     * Load a local RDF store
+     *
+     * @param store a TDB directory, or an RDF file which will be loaded into memory
+     * @return the dataset, to be queried instead of the remote server
+     */
+    public static Dataset loadStore(File store) {
+        Timer t = new Timer();
+        final Dataset ds =
+                store.isDirectory()
+                        ? TDBFactory.createDataset(store.getAbsolutePath())
+                        : RDFDataMgr.loadDataset(store.getAbsolutePath());
+        logger.info("Loaded local store " + store.getAbsolutePath() + " in " + t);
+        return ds;
+    }
+
     public static final String PREFIX_PLG = "http://purl.org/linguistics/gold/";
     public static final String PREFIX_RDF = "http://www.w3.org/1999/02/22-rdf-syntax-ns#";
     public static final String PREFIX_DBO = "http://dbpedia.org/ontology/";
@@ -105,13 +184,74 @@ public class QueryClient {
 
     public ResultSet execSelect(Query q, final String server) {
         Timer t = new Timer();
-        QueryEngineHTTP qEngine = QueryExecutionFactory.createServiceRequest(server, q);
-        // qEngine.setHttpContext(httpContext);
-        ResultSet results = qEngine.execSelect();
-        System.out.println("SparQL query complete in " + t);
+        final String key = getCacheKey(q, localStore == null ? server : "local:" + localStoreName);
+        ResultSet cached = readCachedResults(key);
+        if (cached != null) {
+            System.out.println("SparQL query read from cache in " + t);
+            return cached;
+        }
+        final ResultSetRewindable results;
+        if (localStore != null) {
+            results =
+                    Txn.calculateRead(
+                            localStore,
+                            () -> {
+                                try (QueryExecution qExec =
+                                        QueryExecutionFactory.create(q, localStore)) {
+                                    return ResultSetFactory.copyResults(qExec.execSelect());
+                                }
+                            });
+            System.out.println("SparQL query complete (local store) in " + t);
+        } else {
+            QueryEngineHTTP qEngine = QueryExecutionFactory.createServiceRequest(server, q);
+            // qEngine.setHttpContext(httpContext);
+            results = ResultSetFactory.copyResults(qEngine.execSelect());
+            System.out.println("SparQL query complete in " + t);
+        }
+        writeCachedResults(key, results);
+        results.reset();
         return results;
     }
 
+    /**
+     * @param endpoint the server, or the local store, that the query is run against
+     * @return the key under which the results of this query are cached
+     */
+    static String getCacheKey(Query q, final String endpoint) {
+        return Hashing.sha256()
+                .hashString(endpoint + "\n" + q.serialize(), StandardCharsets.UTF_8)
+                .toString();
+    }
+
+    private ResultSet readCachedResults(final String key) {
+        if (cacheDir == null) return null;
+        final File f = new File(cacheDir, key + CACHED_RESULTS_SUFFIX);
+        if (!f.canRead()) return null;
+        try (InputStream in = Files.newInputStream(f.toPath())) {
+            return ResultSetFactory.copyResults(ResultSetFactory.fromJSON(in));
+        } catch (IOException ioe) {
+            logger.log(Level.WARNING, "Could not read cached results " + f.getAbsolutePath(), ioe);
+            return null;
+        }
+    }
+
+    private void writeCachedResults(final String key, ResultSetRewindable results) {
+        if (cacheDir == null) return;
+        cacheDir.mkdirs();
+        final File f = new File(cacheDir, key + CACHED_RESULTS_SUFFIX);
+        try {
+            // write to a temporary file first, so that a partial write is never read back
+            final File tmp = File.createTempFile(key, CACHED_RESULTS_SUFFIX, cacheDir);
+            try (OutputStream out = Files.newOutputStream(tmp.toPath())) {
+                ResultSetFormatter.outputAsJSON(out, results);
+            }
+            Files.move(tmp.toPath(), f.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ioe) {
+            logger.log(Level.WARNING, "Could not write cached results " + f.getAbsolutePath(), ioe);
+        }
+        results.reset();
+    }
+
     /**
      * @param resName resource such as "wikidata-childToParent.sparql"
      * @param server server name
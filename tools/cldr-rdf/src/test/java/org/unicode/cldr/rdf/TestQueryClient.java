@@ -0,0 +1,75 @@
+package org.unicode.cldr.rdf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import org.apache.jena.arq.querybuilder.SelectBuilder;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.ResultSet;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.vocabulary.RDF;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+
+@Testable
+public class TestQueryClient {
+    private static final String TEST_SERVER = "http://localhost.invalid/sparql";
+    private static final String FRENCH = QueryClient.PREFIX_DBR + "French_language";
+
+    @Test
+    void TestLocalStoreAndCache() throws IOException {
+        File cacheDir = Files.createTempDirectory("rdf_TestQueryClient").toFile();
+        try {
+            Model model = ModelFactory.createDefaultModel();
+            Resource language = model.createResource(QueryClient.PREFIX_DBO + "Language");
+            model.createResource(FRENCH).addProperty(RDF.type, language);
+            Dataset store = DatasetFactory.create(model);
+
+            final Query q =
+                    new SelectBuilder()
+                            .addPrefix("dbo", QueryClient.PREFIX_DBO)
+                            .addPrefix("rdf", QueryClient.PREFIX_RDF)
+                            .addVar("*")
+                            .addWhere("?language", "rdf:type", "dbo:Language")
+                            .build();
+
+            assertRows(new QueryClient(cacheDir, store, "test-store").execSelect(q, TEST_SERVER));
+            assertEquals(1, cacheDir.list().length, "expected one cached result");
+
+            // An empty store with the same name: must be answered from the cache
+            assertRows(
+                    new QueryClient(cacheDir, DatasetFactory.create(), "test-store")
+                            .execSelect(q, TEST_SERVER));
+
+            // An empty store with another name must not see the cached results
+            ResultSet other =
+                    new QueryClient(cacheDir, DatasetFactory.create(), "other-store")
+                            .execSelect(q, TEST_SERVER);
+            assertFalse(other.hasNext(), "expected no rows from the other store");
+            assertEquals(2, cacheDir.list().length, "expected a cached result per store");
+        } finally {
+            deleteDirectory(cacheDir);
+        }
+    }
+
+    private static void deleteDirectory(File dir) {
+        for (File file : dir.listFiles()) {
+            file.delete();
+        }
+        dir.delete();
+    }
+
+    void assertRows(ResultSet rs) {
+        assertTrue(rs.hasNext(), "expected a row");
+        assertEquals(FRENCH, QueryClient.getResourceOrNull(rs.next(), "language"));
+        assertFalse(rs.hasNext(), "expected only one row");
+    }
+}